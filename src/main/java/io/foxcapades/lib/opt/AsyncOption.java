@@ -0,0 +1,344 @@
+package io.foxcapades.lib.opt;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Async Option
+ * <p>
+ * Wrapper around a {@code CompletableFuture<Option<T>>} that applies option
+ * operations to the option once the future completes.
+ * <p>
+ * The {@code *Async} methods run their functions on this wrapper's executor
+ * rather than on the thread that completed the future.  When the completed
+ * option is empty, the function would not be called, so no task is scheduled
+ * at all and the empty option is passed through directly.
+ * <pre>{@code
+ * AsyncOption.of(fetchUser(id))
+ *   .mapAsync(this::loadProfile)
+ *   .flatMapAsync(profile -> fetchAvatar(profile.avatarId()))
+ *   .toFuture();
+ * }</pre>
+ *
+ * <h2>Executors</h2>
+ * Unless another executor is given, async work is run on a virtual thread per
+ * task executor when the runtime provides one (Java 21 and later), otherwise
+ * on the common fork/join pool.
+ *
+ * @param <T> Type of the value wrapped by the option.
+ *
+ * @since 1.2.0
+ */
+public final class AsyncOption<T> {
+  private static final Executor DefaultExecutor = defaultExecutorInstance();
+
+  private final CompletableFuture<Option<T>> future;
+
+  private final Executor executor;
+
+  private AsyncOption(CompletableFuture<Option<T>> future, Executor executor) {
+    this.future   = future;
+    this.executor = executor;
+  }
+
+  /**
+   * Wraps the given future, using the default executor for async work.
+   *
+   * @param future Future to wrap.
+   * @param <T>    Type of the value wrapped by the option.
+   *
+   * @return A new {@code AsyncOption} wrapping the given future.
+   *
+   * @throws NullPointerException if the given future is {@code null}.
+   */
+  @NotNull
+  public static <T> AsyncOption<T> of(@NotNull CompletableFuture<Option<T>> future) {
+    return of(future, DefaultExecutor);
+  }
+
+  /**
+   * Wraps the given future, using the given executor for async work.
+   *
+   * @param future   Future to wrap.
+   * @param executor Executor to run async work on.
+   * @param <T>      Type of the value wrapped by the option.
+   *
+   * @return A new {@code AsyncOption} wrapping the given future.
+   *
+   * @throws NullPointerException if either argument is {@code null}.
+   */
+  @NotNull
+  public static <T> AsyncOption<T> of(@NotNull CompletableFuture<Option<T>> future, @NotNull Executor executor) {
+    return new AsyncOption<>(Objects.requireNonNull(future), Objects.requireNonNull(executor));
+  }
+
+  /**
+   * Wraps an already completed future of the given option.
+   *
+   * @param option Option to wrap.
+   * @param <T>    Type of the value wrapped by the option.
+   *
+   * @return A new {@code AsyncOption} wrapping the given option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   */
+  @NotNull
+  public static <T> AsyncOption<T> completed(@NotNull Option<T> option) {
+    return of(CompletableFuture.completedFuture(Objects.requireNonNull(option)));
+  }
+
+  /**
+   * Returns the executor used for async work when no other executor is given.
+   *
+   * @return The default executor.
+   */
+  @NotNull
+  public static Executor defaultExecutor() {
+    return DefaultExecutor;
+  }
+
+  /**
+   * Combines the given async options into an async option wrapping a list of
+   * their values.
+   * <p>
+   * The returned async option follows the rules of
+   * {@link Opt#sequence(Collection)}.  It completes with an empty option as
+   * soon as any of the given async options completes with an empty option,
+   * without waiting for the rest.  If any of the given async options completes
+   * exceptionally first, the returned async option completes with the same
+   * exception.
+   * <p>
+   * The returned async option uses the default executor.
+   *
+   * @param options Async options to combine.
+   * @param <T>     Type of the values wrapped by the given options.
+   *
+   * @return A new {@code AsyncOption} wrapping the list of values.
+   *
+   * @throws NullPointerException if the given collection is {@code null} or
+   * contains {@code null}.
+   */
+  @NotNull
+  @SuppressWarnings("unchecked")
+  public static <T> AsyncOption<List<T>> sequenceAsync(@NotNull Collection<? extends AsyncOption<? extends T>> options) {
+    var inputs = options.toArray(new AsyncOption<?>[0]);
+    var result = new CompletableFuture<Option<List<T>>>();
+
+    if (inputs.length == 0) {
+      result.complete(Opt.nonNull(List.of()));
+      return of(result);
+    }
+
+    var values    = new Option<?>[inputs.length];
+    var remaining = new AtomicInteger(inputs.length);
+
+    for (var i = 0; i < inputs.length; i++) {
+      var index = i;
+
+      inputs[i].future.whenComplete((opt, err) -> {
+        if (err == null && opt == null)
+          err = new NullPointerException("AsyncOption future completed with null");
+
+        if (err != null) {
+          result.completeExceptionally(err);
+        } else if (opt.isEmpty()) {
+          result.complete(Opt.nonNull());
+        } else {
+          values[index] = opt;
+
+          // The decrement publishes the write to values, so the last thread
+          // to decrement sees every value.
+          if (remaining.decrementAndGet() == 0)
+            result.complete(Opt.sequence((Option<? extends T>[]) values));
+        }
+      });
+    }
+
+    return of(result);
+  }
+
+  /**
+   * Returns the executor this async option runs async work on.
+   *
+   * @return This async option's executor.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Executor executor() {
+    return executor;
+  }
+
+  /**
+   * Returns an async option wrapping the same future that runs async work on
+   * the given executor.
+   *
+   * @param executor Executor to run async work on.
+   *
+   * @return A new {@code AsyncOption} using the given executor.
+   *
+   * @throws NullPointerException if the given executor is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public AsyncOption<T> withExecutor(@NotNull Executor executor) {
+    return new AsyncOption<>(future, Objects.requireNonNull(executor));
+  }
+
+  /**
+   * Returns the wrapped future.
+   *
+   * @return The wrapped future.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public CompletableFuture<Option<T>> toFuture() {
+    return future;
+  }
+
+  /**
+   * Maps the option value with the given function, on the thread that
+   * completes the future.
+   * <p>
+   * This is meant for cheap functions.  Use {@link #mapAsync(Function)} for
+   * functions that block or take a while.
+   *
+   * @param fn  Function used to map the option value.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return A new async option wrapping the result of {@link Option#map(Function)}.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public <R> AsyncOption<R> map(@NotNull Function<? super T, ? extends R> fn) {
+    Objects.requireNonNull(fn);
+
+    return new AsyncOption<>(future.thenApply(opt -> opt.map(fn)), executor);
+  }
+
+  /**
+   * Maps the option value with the given function on this async option's
+   * executor.
+   * <p>
+   * If the option is empty, no task is scheduled and the empty option is
+   * passed through.
+   * <p>
+   * The task runs with the {@link Opt#runWith(Opt, Runnable) scoped binding}
+   * of the thread calling this method.
+   *
+   * @param fn  Function used to map the option value.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return A new async option wrapping the result of {@link Option#map(Function)}.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public <R> AsyncOption<R> mapAsync(@NotNull Function<? super T, ? extends R> fn) {
+    Objects.requireNonNull(fn);
+
+    var bound = Opt.wrap(executor);
+
+    return new AsyncOption<>(future.thenCompose(opt -> opt.isEmpty()
+      ? CompletableFuture.completedFuture(opt.map(fn))
+      : CompletableFuture.supplyAsync(() -> opt.map(fn), bound)
+    ), executor);
+  }
+
+  /**
+   * Maps the option value with the given asynchronous function, and flattens
+   * the option its result completes with.
+   * <p>
+   * The given function is called on the thread that completes the future and
+   * is expected to start its work and return without blocking.  If the option
+   * is empty, the function is not called and the empty option is passed
+   * through.
+   *
+   * @param fn  Function used to map the option value.
+   *            <p>
+   *            This function must not return {@code null}, and the stage it
+   *            returns must not complete with {@code null}.
+   * @param <R> Type of the value wrapped by the option returned by the given
+   *            function.
+   *
+   * @return A new async option wrapping the option returned by the given
+   * function.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  @SuppressWarnings("unchecked")
+  public <R> AsyncOption<R> flatMapAsync(
+    @NotNull Function<? super T, ? extends CompletionStage<? extends Option<? extends R>>> fn
+  ) {
+    Objects.requireNonNull(fn);
+
+    return new AsyncOption<>(future.thenCompose(opt -> {
+      // An empty option holds no value, so it is also a valid empty option of
+      // the result type.
+      if (opt.isEmpty())
+        return CompletableFuture.completedFuture((Option<R>) opt);
+
+      return Objects.requireNonNull(fn.apply(opt.unwrap()))
+        .thenApply(next -> (Option<R>) Objects.requireNonNull(next));
+    }), executor);
+  }
+
+  /**
+   * Returns a future of the option value, or of the value returned by the
+   * given supplier on this async option's executor if the option is empty.
+   * <p>
+   * If the option is non-empty, no task is scheduled.  The task runs with the
+   * {@link Opt#runWith(Opt, Runnable) scoped binding} of the thread calling
+   * this method.
+   *
+   * @param fn Supplier of the fallback value.
+   *
+   * @return A new future of the option value or the supplied value.
+   *
+   * @throws NullPointerException if the given supplier is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public CompletableFuture<T> orGetAsync(@NotNull Supplier<? extends T> fn) {
+    Objects.requireNonNull(fn);
+
+    var bound = Opt.wrap(executor);
+
+    return future.thenCompose(opt -> opt.isPresent()
+      ? CompletableFuture.completedFuture(opt.unwrap())
+      : CompletableFuture.<T>supplyAsync(fn::get, bound)
+    );
+  }
+
+  /**
+   * Creates the default executor, using a virtual thread per task executor if
+   * the runtime provides one.
+   * <p>
+   * Looked up reflectively as this library targets Java 16.
+   */
+  private static Executor defaultExecutorInstance() {
+    try {
+      return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Missing before Java 19, and a preview feature that throws
+      // UnsupportedOperationException on Java 19 and 20.
+      return ForkJoinPool.commonPool();
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package io.foxcapades.lib.opt;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Boolean Option
+ * <p>
+ * Specialization of {@link NullableOption} for {@code Boolean} values.
+ * <p>
+ * A {@code BooleanOption} has exactly 4 states: empty, {@code null},
+ * {@code true}, and {@code false}.  Implementations are expected to represent
+ * each state with a single preallocated instance so that creating and
+ * combining boolean options never allocates.
+ *
+ * <h2>Logic Operators</h2>
+ * The {@link #and(BooleanOption)}, {@link #or(BooleanOption)},
+ * {@link #xor(BooleanOption)} and {@link #not()} methods implement SQL/Kleene
+ * three-valued logic, where a {@code null} value means "unknown".
+ * <p>
+ * Empty options are also treated as unknown.  When the result of an operation
+ * is unknown, it will be empty if either operand was empty, otherwise it will
+ * be {@code null}.
+ *
+ * <table>
+ *   <caption>{@code a.and(b)}</caption>
+ *   <tr><th></th><th>true</th><th>false</th><th>null</th></tr>
+ *   <tr><th>true</th><td>true</td><td>false</td><td>null</td></tr>
+ *   <tr><th>false</th><td>false</td><td>false</td><td>false</td></tr>
+ *   <tr><th>null</th><td>null</td><td>false</td><td>null</td></tr>
+ * </table>
+ *
+ * <table>
+ *   <caption>{@code a.or(b)}</caption>
+ *   <tr><th></th><th>true</th><th>false</th><th>null</th></tr>
+ *   <tr><th>true</th><td>true</td><td>true</td><td>true</td></tr>
+ *   <tr><th>false</th><td>true</td><td>false</td><td>null</td></tr>
+ *   <tr><th>null</th><td>true</td><td>null</td><td>null</td></tr>
+ * </table>
+ *
+ * @since 1.2.0
+ */
+public interface BooleanOption extends NullableOption<Boolean> {
+
+  /**
+   * Tests whether this option is wrapping the value {@code true}.
+   *
+   * @return {@code true} if this option is wrapping {@code true}, otherwise
+   * {@code false}.
+   */
+  @Contract(pure = true)
+  boolean isTrue();
+
+  /**
+   * Tests whether this option is wrapping the value {@code false}.
+   *
+   * @return {@code true} if this option is wrapping {@code false}, otherwise
+   * {@code false}.
+   */
+  @Contract(pure = true)
+  boolean isFalse();
+
+  /**
+   * Unwraps the value of this option as a primitive {@code boolean}.
+   *
+   * @return The value wrapped by this option.
+   *
+   * @throws UnwrapException      If this option is empty.
+   * @throws NullPointerException If this option is wrapping {@code null}.
+   */
+  @Contract(pure = true)
+  boolean unwrapBoolean() throws UnwrapException;
+
+  /**
+   * Returns the three-valued logical conjunction of this option and the given
+   * option.
+   *
+   * @param other Right hand operand.
+   *              <p>
+   *              <b>This argument must not be null.</b>
+   *
+   * @return The result of {@code this AND other}.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  BooleanOption and(@NotNull BooleanOption other);
+
+  /**
+   * Returns the three-valued logical disjunction of this option and the given
+   * option.
+   *
+   * @param other Right hand operand.
+   *              <p>
+   *              <b>This argument must not be null.</b>
+   *
+   * @return The result of {@code this OR other}.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  BooleanOption or(@NotNull BooleanOption other);
+
+  /**
+   * Returns the three-valued exclusive disjunction of this option and the given
+   * option.
+   * <p>
+   * If either operand is unknown, the result is unknown.
+   *
+   * @param other Right hand operand.
+   *              <p>
+   *              <b>This argument must not be null.</b>
+   *
+   * @return The result of {@code this XOR other}.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  BooleanOption xor(@NotNull BooleanOption other);
+
+  /**
+   * Returns the three-valued logical negation of this option.
+   * <p>
+   * Empty and {@code null} options are returned as is.
+   *
+   * @return The result of {@code NOT this}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  BooleanOption not();
+
+  //
+  // Overrides
+  //
+
+  @NotNull
+  @Override
+  @Contract(value = "_ -> this", pure = true)
+  BooleanOption ifPresent(@NotNull Consumer<? super Boolean> fn);
+
+  @NotNull
+  @Override
+  @Contract(value = "_ -> this", pure = true)
+  BooleanOption ifEmpty(@NotNull Runnable fn);
+
+  @NotNull
+  @Override
+  @Contract(value = "_ -> this", pure = true)
+  BooleanOption ifNull(@NotNull Runnable fn);
+
+  @NotNull
+  @Override
+  @Contract(value = "_, _ -> this", pure = true)
+  BooleanOption with(@NotNull Consumer<? super Boolean> ifPresent, @NotNull Runnable ifEmpty);
+
+  @NotNull
+  @Override
+  @Contract(pure = true)
+  BooleanOption filter(@NotNull Predicate<? super Boolean> fn);
+}
@@ -0,0 +1,257 @@
+package io.foxcapades.lib.opt;
+
+import io.foxcapades.lib.opt.impl.FullIntOption;
+import io.foxcapades.lib.opt.impl.FullLongOption;
+import io.foxcapades.lib.opt.impl.FullNonNullOption;
+import io.foxcapades.lib.opt.impl.FullNullableOption;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Objects;
+
+/**
+ * Caching Option Factory
+ * <p>
+ * Extension of the {@link Opt} factory that returns preallocated, canonical
+ * options for commonly wrapped values rather than constructing a new option
+ * for every call.
+ * <p>
+ * The following values are cached:
+ * <ul>
+ *   <li>{@code Integer}, {@code Long}, {@code Short} and {@code Byte} values in
+ *   the range {@code -128} to {@code 127} (the range of the JDK's own box
+ *   caches)</li>
+ *   <li>{@code Character} values in the range {@code 0} to {@code 127}</li>
+ *   <li>{@code Boolean} values (nullable options for booleans are always the
+ *   preallocated {@link BooleanOption} instances)</li>
+ *   <li>Enum constants</li>
+ *   <li>The empty string</li>
+ *   <li>Any value registered with {@link #register(Object)}</li>
+ * </ul>
+ * <p>
+ * Primitive {@code int} and {@code long} options are additionally cached for
+ * values in the range {@code -128} to {@code 127}.
+ * <p>
+ * All other values are passed through to the standard {@code Opt}
+ * implementation.
+ * <p>
+ * This factory is opt-in, to use it as the standard factory:
+ * <pre>{@code
+ * Opt.setStandardInstance(new CachingOpt());
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public class CachingOpt extends Opt {
+  private static final int CacheLow = -128;
+
+  private static final int CacheHigh = 127;
+
+  private static final Cached[] integers = new Cached[CacheHigh - CacheLow + 1];
+
+  private static final Cached[] longs = new Cached[CacheHigh - CacheLow + 1];
+
+  private static final Cached[] shorts = new Cached[CacheHigh - CacheLow + 1];
+
+  private static final Cached[] bytes = new Cached[CacheHigh - CacheLow + 1];
+
+  private static final Cached[] chars = new Cached[CacheHigh + 1];
+
+  private static final IntOption[] intOptions = new IntOption[CacheHigh - CacheLow + 1];
+
+  private static final LongOption[] longOptions = new LongOption[CacheHigh - CacheLow + 1];
+
+  private static final Cached True = Cached.of(Boolean.TRUE);
+
+  private static final Cached False = Cached.of(Boolean.FALSE);
+
+  private static final Cached EmptyString = Cached.of("");
+
+  private static final ClassValue<Cached[]> enums = new ClassValue<>() {
+    @Override
+    protected Cached[] computeValue(Class<?> type) {
+      var constants = type.getEnumConstants();
+      var out       = new Cached[constants.length];
+
+      for (var i = 0; i < constants.length; i++)
+        out[i] = Cached.of(constants[i]);
+
+      return out;
+    }
+  };
+
+  static {
+    for (var i = CacheLow; i <= CacheHigh; i++) {
+      integers[i - CacheLow] = Cached.of(i);
+      longs[i - CacheLow]    = Cached.of((long) i);
+      shorts[i - CacheLow]   = Cached.of((short) i);
+      bytes[i - CacheLow]    = Cached.of((byte) i);
+
+      intOptions[i - CacheLow]  = new FullIntOption(i);
+      longOptions[i - CacheLow] = new FullLongOption(i);
+    }
+
+    for (var i = 0; i <= CacheHigh; i++)
+      chars[i] = Cached.of((char) i);
+  }
+
+  /**
+   * Guards registration of new constants.
+   */
+  private final Object registerLock = new Object();
+
+  /**
+   * User registered constants, keyed by identity.
+   * <p>
+   * Registration is rare, so the map is copied on every registration and
+   * lookups read the current copy without locking.
+   */
+  private volatile IdentityHashMap<Object, Cached> constants = new IdentityHashMap<>();
+
+  /**
+   * Constructs a new {@code CachingOpt} instance that creates fully diagnostic
+   * {@link UnwrapException}s.
+   */
+  public CachingOpt() {
+    this(false);
+  }
+
+  /**
+   * Constructs a new {@code CachingOpt} instance.
+   *
+   * @param stacklessUnwrapExceptions Whether the {@link UnwrapException}s
+   *                                  created by this instance should be
+   *                                  stackless.  See
+   *                                  {@link #newUnwrapException(Option)}.
+   */
+  public CachingOpt(boolean stacklessUnwrapExceptions) {
+    super(stacklessUnwrapExceptions);
+  }
+
+  /**
+   * Registers the given value as a constant that should have canonical,
+   * preallocated options.
+   * <p>
+   * Registered constants are matched by identity ({@code ==}), so only the
+   * registered instance itself is wrapped in the canonical options.  Equal but
+   * distinct instances, including mutable objects that happen to be equal to
+   * the constant, get new options wrapping the instance they were given.  Once
+   * a constant has been registered, every value passed to this factory that
+   * was not otherwise cached will be looked up in the registered constants, so
+   * only values that are wrapped frequently should be registered.
+   *
+   * @param value Value to register.
+   *
+   * @return This factory instance.
+   *
+   * @throws NullPointerException if the given value is {@code null}.
+   */
+  public @NotNull CachingOpt register(@NotNull Object value) {
+    Objects.requireNonNull(value);
+
+    synchronized (registerLock) {
+      if (!constants.containsKey(value)) {
+        var next = new IdentityHashMap<>(constants);
+        next.put(value, Cached.of(value));
+        constants = next;
+      }
+    }
+
+    return this;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull <T> NullableOption<T> newNullable(@Nullable T value) {
+    if (value == null || value instanceof Boolean)
+      return super.newNullable(value);
+
+    var out = lookup(value);
+
+    return out == null ? super.newNullable(value) : (NullableOption<T>) out.nullable;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull <T> NonNullOption<T> newNonNull(@NotNull T value) {
+    var out = lookup(Objects.requireNonNull(value));
+
+    return out == null ? super.newNonNull(value) : (NonNullOption<T>) out.nonNull;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull <T> NonNullOption<T> newNonNullOfNullable(@Nullable T value) {
+    if (value == null)
+      return super.newNonNullOfNullable(null);
+
+    var out = lookup(value);
+
+    return out == null ? super.newNonNullOfNullable(value) : (NonNullOption<T>) out.nonNull;
+  }
+
+  @Override
+  public @NotNull IntOption newNonNullInt(int value) {
+    return value >= CacheLow && value <= CacheHigh
+      ? intOptions[value - CacheLow]
+      : super.newNonNullInt(value);
+  }
+
+  @Override
+  public @NotNull LongOption newNonNullLong(long value) {
+    return value >= CacheLow && value <= CacheHigh
+      ? longOptions[(int) (value - CacheLow)]
+      : super.newNonNullLong(value);
+  }
+
+  /**
+   * Looks up the cached options for the given value.
+   *
+   * @param value Value to look up.  Must not be {@code null}.
+   *
+   * @return The cached options for the given value, or {@code null} if the
+   * given value is not cached.
+   */
+  private @Nullable Cached lookup(@NotNull Object value) {
+    if (value instanceof Integer i)
+      return i >= CacheLow && i <= CacheHigh ? integers[i - CacheLow] : fallback(value);
+
+    if (value instanceof Boolean b)
+      return b ? True : False;
+
+    if (value instanceof String s)
+      return s.isEmpty() ? EmptyString : fallback(value);
+
+    if (value instanceof Enum<?> e)
+      return enums.get(e.getDeclaringClass())[e.ordinal()];
+
+    if (value instanceof Long l)
+      return l >= CacheLow && l <= CacheHigh ? longs[(int) (l - CacheLow)] : fallback(value);
+
+    if (value instanceof Character c)
+      return c <= CacheHigh ? chars[c] : fallback(value);
+
+    if (value instanceof Short s)
+      return s >= CacheLow && s <= CacheHigh ? shorts[s - CacheLow] : fallback(value);
+
+    if (value instanceof Byte b)
+      return bytes[b - CacheLow];
+
+    return fallback(value);
+  }
+
+  private @Nullable Cached fallback(@NotNull Object value) {
+    var registered = constants;
+    return registered.isEmpty() ? null : registered.get(value);
+  }
+
+  /**
+   * Pair of canonical options wrapping the same value.
+   */
+  private record Cached(NullableOption<?> nullable, NonNullOption<?> nonNull) {
+    static Cached of(Object value) {
+      return new Cached(new FullNullableOption<>(value), new FullNonNullOption<>(value));
+    }
+  }
+}
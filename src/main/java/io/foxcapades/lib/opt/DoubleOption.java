@@ -0,0 +1,307 @@
+package io.foxcapades.lib.opt;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * Double Option
+ * <p>
+ * Primitive specialization of {@link NonNullOption} that wraps a {@code double}
+ * value without boxing it.
+ * <p>
+ * Like {@code NonNullOption}, a {@code DoubleOption} has 2 states: present,
+ * containing a value, and empty.
+ *
+ * @since 1.2.0
+ */
+public interface DoubleOption {
+
+  /**
+   * Tests whether this option contains a value.
+   *
+   * @return {@code true} if this option contains a value, otherwise
+   * {@code false}.
+   */
+  @Contract(pure = true)
+  boolean isPresent();
+
+  /**
+   * Tests whether this option does not contain a value.
+   *
+   * @return {@code true} if this option does not contain a value, otherwise
+   * {@code false}.
+   */
+  @Contract(pure = true)
+  boolean isEmpty();
+
+  /**
+   * Attempts to unwrap this option's value.  If this option is empty, this
+   * method throws an {@code UnwrapException}.
+   *
+   * @return The value wrapped by this option.
+   *
+   * @throws UnwrapException If this method is called on an empty option.
+   */
+  @Contract(pure = true)
+  double unwrap() throws UnwrapException;
+
+  /**
+   * Returns either the value wrapped by this option, if it is not empty, or the
+   * given value if this option is empty.
+   *
+   * @param other Fallback value to return if this option is empty.
+   *
+   * @return Either the value wrapped by this option, or the value of
+   * {@code other}.
+   */
+  @Contract(pure = true)
+  double or(double other);
+
+  /**
+   * Returns either the value wrapped by this option, if it is not empty, or the
+   * value returned by the given supplier.
+   * <p>
+   * The given supplier will not be called if this option is not empty.
+   *
+   * @param fn Supplier for the fallback value.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return Either the value wrapped by this option, or the value returned by
+   * the given supplier.
+   *
+   * @throws NullPointerException if the given supplier is {@code null}.
+   */
+  @Contract(pure = true)
+  double orGet(@NotNull DoubleSupplier fn);
+
+  /**
+   * Returns the value wrapped by this option if it is not empty, otherwise
+   * throws the given exception.
+   *
+   * @param err Exception to throw if this option is empty.
+   *            <p>
+   *            <b>This argument must not be null.</b>
+   * @param <E> Type of the exception that will be thrown if this option is
+   *            empty.
+   *
+   * @return The value wrapped by this option.
+   *
+   * @throws E                    If this option is empty.
+   * @throws NullPointerException If the given exception is {@code null}.
+   */
+  @Contract(pure = true)
+  <E extends Throwable> double orThrow(@NotNull E err) throws E;
+
+  /**
+   * Returns the value wrapped by this option if it is not empty, otherwise
+   * throws the exception returned by the given supplier.
+   * <p>
+   * The given supplier will not be called if this option is not empty.
+   *
+   * @param fn  Supplier for the exception to throw if this option is empty.
+   *            <p>
+   *            <b>This argument must not be null.</b>
+   *            <p>
+   *            <b>This supplier must not return null.</b>
+   * @param <E> Type of the exception that will be thrown if this option is
+   *            empty.
+   *
+   * @return The value wrapped by this option.
+   *
+   * @throws E                    If this option is empty.
+   * @throws NullPointerException If the given supplier is {@code null} or if
+   *                              it returns {@code null}.
+   */
+  @Contract(pure = true)
+  <E extends Throwable> double orElseThrow(@NotNull Supplier<? extends E> fn) throws E;
+
+  /**
+   * Returns either this option if it is non-empty, else returns the given
+   * alternate option.
+   *
+   * @param other Alternate option to return if this option is empty.
+   *              <p>
+   *              <b>This argument must not be null.</b>
+   *
+   * @return Either this option, or the given alternate option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  DoubleOption orOption(@NotNull DoubleOption other);
+
+  /**
+   * Calls the given function on the value wrapped by this option if and only if
+   * this option is not empty.
+   *
+   * @param fn Function to call on the value wrapped by this option.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return A new option wrapping the result of the given function, or an
+   * empty option if this option is empty.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  DoubleOption map(@NotNull DoubleUnaryOperator fn);
+
+  /**
+   * Calls the given function on the value wrapped by this option if and only if
+   * this option is not empty.
+   * <p>
+   * If the given function returns {@code null} an empty option will be
+   * returned.
+   *
+   * @param fn  Function to call on the value wrapped by this option.
+   *            <p>
+   *            <b>This argument must not be null.</b>
+   * @param <R> Return type of the given function.
+   *
+   * @return A new option wrapping the result of the given function, or an
+   * empty option if this option is empty or the given function returned
+   * {@code null}.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  <R> NonNullOption<R> mapToObj(@NotNull DoubleFunction<? extends R> fn);
+
+  /**
+   * Calls the given function on the value wrapped by this option if and only if
+   * this option is not empty, returning the option produced by the function.
+   *
+   * @param fn Function to call on the value wrapped by this option.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *           <p>
+   *           <b>This function must not return null.</b>
+   *
+   * @return The option returned by the given function, or an empty option if
+   * this option is empty.
+   *
+   * @throws NullPointerException if the given function is {@code null} or if
+   *                              the given function returns {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  DoubleOption flatMap(@NotNull DoubleFunction<? extends DoubleOption> fn);
+
+  /**
+   * Creates a new stream containing either the value wrapped by this option, if
+   * it is not empty, or containing zero values if this option is empty.
+   *
+   * @return A new stream that may contain the value wrapped by this option.
+   */
+  @NotNull
+  @Contract(pure = true)
+  DoubleStream stream();
+
+  /**
+   * Executes the given consumer with the value wrapped by this option if this
+   * option is not empty.
+   *
+   * @param fn Consumer to call on the wrapped value if this option is not
+   *           empty.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return This option.
+   *
+   * @throws NullPointerException if the given consumer is {@code null}.
+   */
+  @NotNull
+  @Contract(value = "_ -> this", pure = true)
+  DoubleOption ifPresent(@NotNull DoubleConsumer fn);
+
+  /**
+   * Executes the given {@code Runnable} if and only if this option is empty.
+   *
+   * @param fn {@code Runnable} to call if this option is empty.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return This option.
+   *
+   * @throws NullPointerException if the given {@code Runnable} is
+   *                              {@code null}.
+   */
+  @NotNull
+  @Contract(value = "_ -> this", pure = true)
+  DoubleOption ifEmpty(@NotNull Runnable fn);
+
+  /**
+   * Executes the given consumer {@code ifPresent} on the wrapped value if this
+   * option is not empty, otherwise calls the given {@code Runnable}
+   * {@code ifEmpty}.
+   *
+   * @param ifPresent Consumer to call with the value wrapped by this option if
+   *                  this option is not empty.
+   *                  <p>
+   *                  <b>This argument must not be null.</b>
+   * @param ifEmpty   {@code Runnable} to call if this option is empty.
+   *                  <p>
+   *                  <b>This argument must not be null.</b>
+   *
+   * @return This option.
+   *
+   * @throws NullPointerException if either argument is {@code null}.
+   */
+  @NotNull
+  @Contract(value = "_, _ -> this", pure = true)
+  DoubleOption with(@NotNull DoubleConsumer ifPresent, @NotNull Runnable ifEmpty);
+
+  /**
+   * Calls the given predicate on the value wrapped by this option, if this
+   * option is not empty.
+   * <p>
+   * If the given predicate returns {@code true}, this option will be returned,
+   * otherwise an empty option will be returned.
+   *
+   * @param fn Predicate to apply to the value wrapped by this option.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return This option if the given predicate returns {@code true}, otherwise
+   * an empty option.
+   *
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  DoubleOption filter(@NotNull DoublePredicate fn);
+
+  /**
+   * Returns whether the value wrapped by this option equals the given input
+   * value.
+   * <p>
+   * For empty options, this method will always return {@code false}.
+   *
+   * @param value Value to compare against the wrapped value.
+   *
+   * @return Whether the given value equals the value wrapped by this option.
+   */
+  @Contract(pure = true)
+  boolean valueEquals(double value);
+
+  /**
+   * Converts this option into a boxed {@link NonNullOption}.
+   *
+   * @return A {@code NonNullOption} in the same state as this option.
+   */
+  @NotNull
+  @Contract(pure = true)
+  NonNullOption<Double> boxed();
+}
@@ -0,0 +1,374 @@
+package io.foxcapades.lib.opt;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Nullable Int Option
+ * <p>
+ * Primitive specialization of {@link NullableOption} that wraps an
+ * {@code int} value without boxing it.
+ *
+ * <h2>Nullability</h2>
+ * Like {@code NullableOption}, this option type has 3 states.
+ * <ul>
+ *   <li>Value is present and not {@code null}.</li>
+ *   <li>Value is present and {@code null}.</li>
+ *   <li>Value is absent.</li>
+ * </ul>
+ * <p>
+ * As a primitive {@code int} cannot represent {@code null}, the functions
+ * passed to the methods of this interface are only ever called with a
+ * non-{@code null} wrapped value.  Methods that extract a primitive value treat
+ * the {@code null} state as having no value, except for {@link #unwrap()}
+ * which mirrors auto-unboxing and throws a {@code NullPointerException}.
+ *
+ * @since 1.2.0
+ */
+public interface NullableIntOption {
+
+  /**
+   * Tests whether this option is wrapping {@code null}.
+   *
+   * @return {@code true} if this option is both non-empty and wrapping
+   * {@code null}, otherwise {@code false}.
+   */
+  @Contract(pure = true)
+  boolean isNull();
+
+  /**
+   * Tests whether this option contains a value.
+   * <p>
+   * The return value of this method does not indicate whether the wrapped value
+   * is {@code null}.  To check whether the wrapped value is {@code null}, use
+   * {@link #isNull()}.
+   *
+   * @return {@code true} if this option contains a value, including
+   * {@code null}, otherwise {@code false}.
+   */
+  @Contract(pure = true)
+  boolean isPresent();
+
+  /**
+   * Tests whether this option does not contain a value.
+   *
+   * @return {@code true} if this option does not contain a value, otherwise
+   * {@code false}.
+   */
+  @Contract(pure = true)
+  boolean isEmpty();
+
+  /**
+   * Attempts to unwrap this option's value.
+   *
+   * @return The value wrapped by this option.
+   *
+   * @throws UnwrapException      If this method is called on an empty option.
+   * @throws NullPointerException If this method is called on an option wrapping
+   *                              {@code null}.
+   */
+  @Contract(pure = true)
+  int unwrap() throws UnwrapException;
+
+  /**
+   * Returns either the value wrapped by this option, if it is present and not
+   * {@code null}, or the given fallback value.
+   *
+   * @param other Fallback value to return if this option is empty or wrapping
+   *              {@code null}.
+   *
+   * @return Either the value wrapped by this option, or the value of
+   * {@code other}.
+   */
+  @Contract(pure = true)
+  int or(int other);
+
+  /**
+   * Returns either the value wrapped by this option, if it is present and not
+   * {@code null}, or the value returned by the given supplier.
+   * <p>
+   * The given supplier will not be called if this option is wrapping a
+   * non-{@code null} value.
+   *
+   * @param fn Supplier for the fallback value.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return Either the value wrapped by this option, or the value returned by
+   * the given supplier.
+   *
+   * @throws NullPointerException if the given supplier is {@code null}.
+   */
+  @Contract(pure = true)
+  int orGet(@NotNull IntSupplier fn);
+
+  /**
+   * Returns the value wrapped by this option if it is present and not
+   * {@code null}, otherwise throws the given exception.
+   *
+   * @param err Exception to throw if this option is empty or wrapping
+   *            {@code null}.
+   *            <p>
+   *            <b>This argument must not be null.</b>
+   * @param <E> Type of the exception that may be thrown.
+   *
+   * @return The value wrapped by this option.
+   *
+   * @throws E                    If this option is empty or wrapping
+   *                              {@code null}.
+   * @throws NullPointerException If the given exception is {@code null}.
+   */
+  @Contract(pure = true)
+  <E extends Throwable> int orThrow(@NotNull E err) throws E;
+
+  /**
+   * Returns the value wrapped by this option if it is present and not
+   * {@code null}, otherwise throws the exception returned by the given
+   * supplier.
+   *
+   * @param fn  Supplier for the exception to throw.
+   *            <p>
+   *            <b>This argument must not be null.</b>
+   *            <p>
+   *            <b>This supplier must not return null.</b>
+   * @param <E> Type of the exception that may be thrown.
+   *
+   * @return The value wrapped by this option.
+   *
+   * @throws E                    If this option is empty or wrapping
+   *                              {@code null}.
+   * @throws NullPointerException If the given supplier is {@code null} or if
+   *                              it returns {@code null}.
+   */
+  @Contract(pure = true)
+  <E extends Throwable> int orElseThrow(@NotNull Supplier<? extends E> fn) throws E;
+
+  /**
+   * Returns either this option if it is non-empty, else returns the given
+   * alternate option.
+   *
+   * @param other Alternate option to return if this option is empty.
+   *              <p>
+   *              <b>This argument must not be null.</b>
+   *
+   * @return Either this option, or the given alternate option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  NullableIntOption orOption(@NotNull NullableIntOption other);
+
+  /**
+   * Calls the given function on the value wrapped by this option if this
+   * option is wrapping a non-{@code null} value.
+   * <p>
+   * Empty options and options wrapping {@code null} are returned as is.
+   *
+   * @param fn Function to call on the value wrapped by this option.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return A new option wrapping the result of the given function, or this
+   * option if it is empty or wrapping {@code null}.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  NullableIntOption map(@NotNull IntUnaryOperator fn);
+
+  /**
+   * Calls the given function on the value wrapped by this option if this
+   * option is wrapping a non-{@code null} value.
+   * <p>
+   * Empty options map to an empty {@code NullableOption}, options wrapping
+   * {@code null} map to a {@code NullableOption} wrapping {@code null}.
+   *
+   * @param fn  Function to call on the value wrapped by this option.
+   *            <p>
+   *            <b>This argument must not be null.</b>
+   * @param <R> Return type of the given function.
+   *
+   * @return A new option wrapping the result of the given function.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  <R> NullableOption<R> mapToObj(@NotNull IntFunction<? extends R> fn);
+
+  /**
+   * Calls the given function on the value wrapped by this option if this
+   * option is wrapping a non-{@code null} value, returning the option produced
+   * by the function.
+   * <p>
+   * Empty options and options wrapping {@code null} are returned as is.
+   *
+   * @param fn Function to call on the value wrapped by this option.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *           <p>
+   *           <b>This function must not return null.</b>
+   *
+   * @return The option returned by the given function, or this option.
+   *
+   * @throws NullPointerException if the given function is {@code null} or if
+   *                              the given function returns {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  NullableIntOption flatMap(@NotNull IntFunction<? extends NullableIntOption> fn);
+
+  /**
+   * Creates a new stream containing the value wrapped by this option if it is
+   * wrapping a non-{@code null} value, otherwise an empty stream.
+   *
+   * @return A new stream that may contain the value wrapped by this option.
+   */
+  @NotNull
+  @Contract(pure = true)
+  IntStream stream();
+
+  /**
+   * Executes the given consumer with the value wrapped by this option if this
+   * option is wrapping a non-{@code null} value.
+   *
+   * @param fn Consumer to call on the wrapped value.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return This option.
+   *
+   * @throws NullPointerException if the given consumer is {@code null}.
+   */
+  @NotNull
+  @Contract(value = "_ -> this", pure = true)
+  NullableIntOption ifPresent(@NotNull IntConsumer fn);
+
+  /**
+   * Executes the given {@code Runnable} if and only if this option is wrapping
+   * {@code null}.
+   *
+   * @param fn {@code Runnable} to call if this option is wrapping
+   *           {@code null}.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return This option.
+   *
+   * @throws NullPointerException if the given {@code Runnable} is
+   *                              {@code null}.
+   */
+  @NotNull
+  @Contract(value = "_ -> this", pure = true)
+  NullableIntOption ifNull(@NotNull Runnable fn);
+
+  /**
+   * Executes the given {@code Runnable} if and only if this option is empty.
+   *
+   * @param fn {@code Runnable} to call if this option is empty.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return This option.
+   *
+   * @throws NullPointerException if the given {@code Runnable} is
+   *                              {@code null}.
+   */
+  @NotNull
+  @Contract(value = "_ -> this", pure = true)
+  NullableIntOption ifEmpty(@NotNull Runnable fn);
+
+  /**
+   * Executes exactly one of the given functions based on the state of this
+   * option.
+   *
+   * @param ifPresent Consumer to call with the wrapped value if this option is
+   *                  wrapping a non-{@code null} value.
+   *                  <p>
+   *                  <b>This argument must not be null.</b>
+   * @param ifNull    {@code Runnable} to call if this option is wrapping
+   *                  {@code null}.
+   *                  <p>
+   *                  <b>This argument must not be null.</b>
+   * @param ifEmpty   {@code Runnable} to call if this option is empty.
+   *                  <p>
+   *                  <b>This argument must not be null.</b>
+   *
+   * @return This option.
+   *
+   * @throws NullPointerException if any of the given arguments is
+   *                              {@code null}.
+   */
+  @NotNull
+  @Contract(value = "_, _, _ -> this", pure = true)
+  NullableIntOption with(
+    @NotNull IntConsumer ifPresent,
+    @NotNull Runnable ifNull,
+    @NotNull Runnable ifEmpty
+  );
+
+  /**
+   * Calls the given predicate on the value wrapped by this option if this
+   * option is wrapping a non-{@code null} value.
+   * <p>
+   * If the given predicate returns {@code false}, an empty option will be
+   * returned.  Empty options and options wrapping {@code null} are returned as
+   * is.
+   *
+   * @param fn Predicate to apply to the value wrapped by this option.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @return This option, or an empty option if the given predicate returned
+   * {@code false}.
+   *
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  NullableIntOption filter(@NotNull IntPredicate fn);
+
+  /**
+   * Returns whether the value wrapped by this option equals the given input
+   * value.
+   *
+   * @param value Value to compare against the wrapped value.
+   *
+   * @return Whether this option is wrapping a non-{@code null} value equal to
+   * the given value.
+   */
+  @Contract(pure = true)
+  boolean valueEquals(int value);
+
+  /**
+   * Converts this option to a {@link IntOption}.
+   * <p>
+   * Options wrapping {@code null} and empty options both convert to an empty
+   * {@code IntOption}.
+   *
+   * @return An {@code IntOption} which may be empty or non-empty based on the
+   * rules detailed above.
+   */
+  @NotNull
+  @Contract(pure = true)
+  IntOption toNonNullable();
+
+  /**
+   * Converts this option into a boxed {@link NullableOption}.
+   *
+   * @return A {@code NullableOption} in the same state as this option.
+   */
+  @NotNull
+  @Contract(pure = true)
+  NullableOption<Integer> boxed();
+}
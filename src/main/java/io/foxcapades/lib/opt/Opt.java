@@ -4,17 +4,87 @@ import io.foxcapades.lib.opt.impl.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * Option factory.
  */
 public class Opt {
-  private static final ReadWriteLock lock = new ReentrantReadWriteLock();
+  /**
+   * Standard/singleton instance used by the static convenience methods.
+   * <p>
+   * This field is volatile rather than lock guarded as it is read on every
+   * option construction and transformation.  A volatile read is a plain load
+   * on most platforms, while a shared read lock causes every reader thread to
+   * write to the same lock state.
+   */
+  private static volatile Opt defaultInstance = new Opt();
+
+  /**
+   * Number of scoped bindings currently active across all threads.
+   * <p>
+   * While this value is zero, {@link #standard()} skips the thread local
+   * lookup entirely, so code that never uses scoped bindings only pays for a
+   * volatile read.
+   */
+  private static final AtomicInteger activeScopes = new AtomicInteger();
+
+  /**
+   * Instance bound by the innermost scoped call running on the current thread,
+   * or {@code null} if there is none.
+   * <p>
+   * This is deliberately not an inheritable thread local: pool threads
+   * created during a scoped call would otherwise keep that call's binding for
+   * their whole lifetime and hand it to unrelated tasks.  Bindings are carried
+   * to other threads per task by {@link #wrap(Runnable)},
+   * {@link #wrap(Executor)} and {@link #propagating(Executor)}.
+   */
+  private static final ThreadLocal<Opt> scope = new ThreadLocal<>();
+
+  /**
+   * Whether every {@code Opt} instance should create stackless
+   * {@link UnwrapException}s, regardless of its own setting.
+   */
+  private static volatile boolean stacklessUnwrapAll;
+
+  /**
+   * Whether this instance creates stackless {@link UnwrapException}s.
+   */
+  private final boolean stacklessUnwrap;
+
+  /**
+   * Constructs a new {@code Opt} instance that creates fully diagnostic
+   * {@link UnwrapException}s.
+   */
+  public Opt() {
+    this(false);
+  }
 
-  private static Opt defaultInstance = new Opt();
+  /**
+   * Constructs a new {@code Opt} instance.
+   *
+   * @param stacklessUnwrapExceptions Whether the {@link UnwrapException}s
+   *                                  created by this instance should be
+   *                                  stackless.  See
+   *                                  {@link #newUnwrapException(Option)}.
+   *
+   * @since 1.2.0
+   */
+  public Opt(boolean stacklessUnwrapExceptions) {
+    this.stacklessUnwrap = stacklessUnwrapExceptions;
+  }
 
   /**
    * Constructs a new, non-empty option wrapping the given nullable value.
@@ -34,6 +104,10 @@ public class Opt {
 
   /**
    * Constructs a new, non-empty option wrapping the given nullable value.
+   * <p>
+   * {@code Boolean} values are wrapped in the preallocated
+   * {@link BooleanOption} instance returned by
+   * {@link #newNullableBoolean(boolean)}.
    *
    * @param value Nullable value to wrap.
    * @param <T>   Generic type of the input value and returned option.
@@ -41,8 +115,15 @@ public class Opt {
    * @return A new, non-empty option wrapping the given value.
    */
   @NotNull
+  @SuppressWarnings("unchecked")
   public <T> NullableOption<T> newNullable(@Nullable T value) {
-    return value == null ? NullOption.instance() : new FullNullableOption<>(value);
+    if (value == null)
+      return NullOption.instance();
+
+    if (value instanceof Boolean b)
+      return (NullableOption<T>) newNullableBoolean(b);
+
+    return new FullNullableOption<>(value);
   }
 
   /**
@@ -170,30 +251,1841 @@ public class Opt {
   }
 
   /**
-   * Returns the currently set standard/singleton instance that will be used by
-   * the static convenience methods.
+   * Constructs a new, non-empty option wrapping the given int value.
    *
-   * @return The currently set standard/singleton instance of this class.
+   * @param value Value to wrap.
+   *
+   * @return A new, non-empty option wrapping the given value.
+   *
+   * @since 1.2.0
    */
   @NotNull
-  public static Opt standard() {
-    lock.readLock().lock();
-    var out = defaultInstance;
-    lock.readLock().unlock();
-    return out;
+  public IntOption newNonNullInt(int value) {
+    return new FullIntOption(value);
   }
 
   /**
-   * Sets the standard/singleton instance that will be used by the static
-   * convenience methods.
+   * Constructs a new, non-empty option wrapping the given int value.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNonNullInt(int)}.
    *
-   * @param inst New opt instance to use as the standard implementation.
+   * @param value Value to wrap.
    *
-   * @throws NullPointerException if the input value is {@code null}.
+   * @return A new, non-empty option wrapping the given value.
+   *
+   * @since 1.2.0
    */
-  public static void setStandardInstance(@NotNull Opt inst) {
-    lock.writeLock().lock();
-    defaultInstance = Objects.requireNonNull(inst);
-    lock.writeLock().unlock();
+  @NotNull
+  public static IntOption nonNullInt(int value) {
+    return standard().newNonNullInt(value);
+  }
+
+  /**
+   * Constructs a new, empty int option.
+   *
+   * @return An empty int option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public IntOption newNonNullInt() {
+    return EmptyIntOption.instance();
+  }
+
+  /**
+   * Constructs a new, empty int option.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNonNullInt()}.
+   *
+   * @return An empty int option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static IntOption nonNullInt() {
+    return standard().newNonNullInt();
+  }
+
+  /**
+   * Constructs a new, non-empty option wrapping the given long value.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A new, non-empty option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public LongOption newNonNullLong(long value) {
+    return new FullLongOption(value);
+  }
+
+  /**
+   * Constructs a new, non-empty option wrapping the given long value.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNonNullLong(long)}.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A new, non-empty option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static LongOption nonNullLong(long value) {
+    return standard().newNonNullLong(value);
+  }
+
+  /**
+   * Constructs a new, empty long option.
+   *
+   * @return An empty long option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public LongOption newNonNullLong() {
+    return EmptyLongOption.instance();
+  }
+
+  /**
+   * Constructs a new, empty long option.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNonNullLong()}.
+   *
+   * @return An empty long option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static LongOption nonNullLong() {
+    return standard().newNonNullLong();
+  }
+
+  /**
+   * Constructs a new, non-empty option wrapping the given double value.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A new, non-empty option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public DoubleOption newNonNullDouble(double value) {
+    return new FullDoubleOption(value);
+  }
+
+  /**
+   * Constructs a new, non-empty option wrapping the given double value.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNonNullDouble(double)}.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A new, non-empty option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static DoubleOption nonNullDouble(double value) {
+    return standard().newNonNullDouble(value);
+  }
+
+  /**
+   * Constructs a new, empty double option.
+   *
+   * @return An empty double option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public DoubleOption newNonNullDouble() {
+    return EmptyDoubleOption.instance();
+  }
+
+  /**
+   * Constructs a new, empty double option.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNonNullDouble()}.
+   *
+   * @return An empty double option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static DoubleOption nonNullDouble() {
+    return standard().newNonNullDouble();
+  }
+
+  /**
+   * Constructs a new, non-empty, non-null option wrapping the given int value.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A new option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableIntOption newNullableInt(int value) {
+    return new FullNullableIntOption(value);
+  }
+
+  /**
+   * Constructs a new, non-empty, non-null option wrapping the given int value.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableInt(int)}.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A new option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableIntOption nullableInt(int value) {
+    return standard().newNullableInt(value);
+  }
+
+  /**
+   * Constructs a new, empty nullable int option.
+   *
+   * @return An empty nullable int option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableIntOption newNullableInt() {
+    return EmptyNullableIntOption.instance();
+  }
+
+  /**
+   * Constructs a new, empty nullable int option.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableInt()}.
+   *
+   * @return An empty nullable int option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableIntOption nullableInt() {
+    return standard().newNullableInt();
+  }
+
+  /**
+   * Constructs a new nullable int option wrapping {@code null}.
+   *
+   * @return A nullable int option wrapping {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableIntOption newNullInt() {
+    return NullIntOption.instance();
+  }
+
+  /**
+   * Constructs a new nullable int option wrapping {@code null}.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullInt()}.
+   *
+   * @return A nullable int option wrapping {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableIntOption nullInt() {
+    return standard().newNullInt();
+  }
+
+  /**
+   * Converts the given boxed option into a nullable int option in the same
+   * state.
+   *
+   * @param boxed Boxed option to convert.
+   *
+   * @return A nullable int option in the same state as the given option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableIntOption newNullableInt(@NotNull NullableOption<? extends Integer> boxed) {
+    if (boxed.isEmpty())
+      return newNullableInt();
+
+    var value = boxed.unwrap();
+
+    return value == null ? newNullInt() : newNullableInt((int) value);
+  }
+
+  /**
+   * Converts the given boxed option into a nullable int option in the same
+   * state.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableInt(NullableOption)}.
+   *
+   * @param boxed Boxed option to convert.
+   *
+   * @return A nullable int option in the same state as the given option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableIntOption nullableInt(@NotNull NullableOption<? extends Integer> boxed) {
+    return standard().newNullableInt(boxed);
+  }
+
+  /**
+   * Constructs a new, non-empty, non-null option wrapping the given long value.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A new option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableLongOption newNullableLong(long value) {
+    return new FullNullableLongOption(value);
+  }
+
+  /**
+   * Constructs a new, non-empty, non-null option wrapping the given long value.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableLong(long)}.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A new option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableLongOption nullableLong(long value) {
+    return standard().newNullableLong(value);
+  }
+
+  /**
+   * Constructs a new, empty nullable long option.
+   *
+   * @return An empty nullable long option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableLongOption newNullableLong() {
+    return EmptyNullableLongOption.instance();
+  }
+
+  /**
+   * Constructs a new, empty nullable long option.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableLong()}.
+   *
+   * @return An empty nullable long option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableLongOption nullableLong() {
+    return standard().newNullableLong();
+  }
+
+  /**
+   * Constructs a new nullable long option wrapping {@code null}.
+   *
+   * @return A nullable long option wrapping {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableLongOption newNullLong() {
+    return NullLongOption.instance();
+  }
+
+  /**
+   * Constructs a new nullable long option wrapping {@code null}.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullLong()}.
+   *
+   * @return A nullable long option wrapping {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableLongOption nullLong() {
+    return standard().newNullLong();
+  }
+
+  /**
+   * Converts the given boxed option into a nullable long option in the same
+   * state.
+   *
+   * @param boxed Boxed option to convert.
+   *
+   * @return A nullable long option in the same state as the given option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableLongOption newNullableLong(@NotNull NullableOption<? extends Long> boxed) {
+    if (boxed.isEmpty())
+      return newNullableLong();
+
+    var value = boxed.unwrap();
+
+    return value == null ? newNullLong() : newNullableLong((long) value);
+  }
+
+  /**
+   * Converts the given boxed option into a nullable long option in the same
+   * state.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableLong(NullableOption)}.
+   *
+   * @param boxed Boxed option to convert.
+   *
+   * @return A nullable long option in the same state as the given option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableLongOption nullableLong(@NotNull NullableOption<? extends Long> boxed) {
+    return standard().newNullableLong(boxed);
+  }
+
+  /**
+   * Constructs a new, non-empty, non-null option wrapping the given double value.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A new option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableDoubleOption newNullableDouble(double value) {
+    return new FullNullableDoubleOption(value);
+  }
+
+  /**
+   * Constructs a new, non-empty, non-null option wrapping the given double value.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableDouble(double)}.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A new option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableDoubleOption nullableDouble(double value) {
+    return standard().newNullableDouble(value);
+  }
+
+  /**
+   * Constructs a new, empty nullable double option.
+   *
+   * @return An empty nullable double option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableDoubleOption newNullableDouble() {
+    return EmptyNullableDoubleOption.instance();
+  }
+
+  /**
+   * Constructs a new, empty nullable double option.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableDouble()}.
+   *
+   * @return An empty nullable double option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableDoubleOption nullableDouble() {
+    return standard().newNullableDouble();
+  }
+
+  /**
+   * Constructs a new nullable double option wrapping {@code null}.
+   *
+   * @return A nullable double option wrapping {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableDoubleOption newNullDouble() {
+    return NullDoubleOption.instance();
+  }
+
+  /**
+   * Constructs a new nullable double option wrapping {@code null}.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullDouble()}.
+   *
+   * @return A nullable double option wrapping {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableDoubleOption nullDouble() {
+    return standard().newNullDouble();
+  }
+
+  /**
+   * Converts the given boxed option into a nullable double option in the same
+   * state.
+   *
+   * @param boxed Boxed option to convert.
+   *
+   * @return A nullable double option in the same state as the given option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public NullableDoubleOption newNullableDouble(@NotNull NullableOption<? extends Double> boxed) {
+    if (boxed.isEmpty())
+      return newNullableDouble();
+
+    var value = boxed.unwrap();
+
+    return value == null ? newNullDouble() : newNullableDouble((double) value);
+  }
+
+  /**
+   * Converts the given boxed option into a nullable double option in the same
+   * state.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableDouble(NullableOption)}.
+   *
+   * @param boxed Boxed option to convert.
+   *
+   * @return A nullable double option in the same state as the given option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static NullableDoubleOption nullableDouble(@NotNull NullableOption<? extends Double> boxed) {
+    return standard().newNullableDouble(boxed);
+  }
+
+  /**
+   * Returns the boolean option wrapping the given value.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A boolean option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public BooleanOption newNullableBoolean(boolean value) {
+    return FullBooleanOption.of(value);
+  }
+
+  /**
+   * Returns the boolean option wrapping the given value.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableBoolean(boolean)}.
+   *
+   * @param value Value to wrap.
+   *
+   * @return A boolean option wrapping the given value.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static BooleanOption nullableBoolean(boolean value) {
+    return standard().newNullableBoolean(value);
+  }
+
+  /**
+   * Returns the empty boolean option.
+   *
+   * @return An empty boolean option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public BooleanOption newNullableBoolean() {
+    return EmptyBooleanOption.instance();
+  }
+
+  /**
+   * Returns the empty boolean option.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableBoolean()}.
+   *
+   * @return An empty boolean option.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static BooleanOption nullableBoolean() {
+    return standard().newNullableBoolean();
+  }
+
+  /**
+   * Returns the boolean option wrapping {@code null}.
+   *
+   * @return A boolean option wrapping {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public BooleanOption newNullBoolean() {
+    return NullBooleanOption.instance();
+  }
+
+  /**
+   * Returns the boolean option wrapping {@code null}.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullBoolean()}.
+   *
+   * @return A boolean option wrapping {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static BooleanOption nullBoolean() {
+    return standard().newNullBoolean();
+  }
+
+  /**
+   * Converts the given option into a boolean option in the same state.
+   *
+   * @param option Option to convert.
+   *
+   * @return A boolean option in the same state as the given option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public BooleanOption newNullableBoolean(@NotNull NullableOption<? extends Boolean> option) {
+    if (option instanceof BooleanOption b)
+      return b;
+
+    if (option.isEmpty())
+      return newNullableBoolean();
+
+    var value = option.unwrap();
+
+    return value == null ? newNullBoolean() : newNullableBoolean((boolean) value);
+  }
+
+  /**
+   * Converts the given option into a boolean option in the same state.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newNullableBoolean(NullableOption)}.
+   *
+   * @param option Option to convert.
+   *
+   * @return A boolean option in the same state as the given option.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static BooleanOption nullableBoolean(@NotNull NullableOption<? extends Boolean> option) {
+    return standard().newNullableBoolean(option);
+  }
+
+  /**
+   * Returns a new lazily evaluated {@code NullableOption} that will resolve to
+   * the option returned by the given supplier.
+   * <p>
+   * The given supplier is called at most once, the first time the state or
+   * value of the returned option is needed, even if the option is shared
+   * between threads.  The {@code map}, {@code filter} and {@code flatMap}
+   * methods of the returned option do not force evaluation.
+   * <p>
+   * If the given supplier returns an option that is not a
+   * {@code NullableOption}, it will be converted to one in the same state.
+   *
+   * @param supplier Supplier of the option to resolve to.
+   * @param <T>      Type of the value wrapped by the option.
+   *
+   * @return A new lazy {@code NullableOption}.
+   *
+   * @throws NullPointerException if the given supplier is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public <T> NullableOption<T> newLazyNullable(@NotNull Supplier<? extends Option<T>> supplier) {
+    return new LazyNullableOption<>(supplier);
+  }
+
+  /**
+   * Returns a new lazily evaluated {@code NullableOption} that will resolve to
+   * the option returned by the given supplier.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newLazyNullable(Supplier)}.
+   *
+   * @param supplier Supplier of the option to resolve to.
+   * @param <T>      Type of the value wrapped by the option.
+   *
+   * @return A new lazy {@code NullableOption}.
+   *
+   * @throws NullPointerException if the given supplier is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <T> NullableOption<T> lazyNullable(@NotNull Supplier<? extends Option<T>> supplier) {
+    return standard().newLazyNullable(supplier);
+  }
+
+  /**
+   * Returns a new lazily evaluated {@code NonNullOption} that will resolve to
+   * the option returned by the given supplier.
+   * <p>
+   * The given supplier is called at most once, the first time the state or
+   * value of the returned option is needed, even if the option is shared
+   * between threads.  The {@code map}, {@code filter} and {@code flatMap}
+   * methods of the returned option do not force evaluation.
+   * <p>
+   * If the given supplier returns an option that is not a
+   * {@code NonNullOption}, it will be converted to one, with an option wrapping
+   * {@code null} becoming empty.
+   *
+   * @param supplier Supplier of the option to resolve to.
+   * @param <T>      Type of the value wrapped by the option.
+   *
+   * @return A new lazy {@code NonNullOption}.
+   *
+   * @throws NullPointerException if the given supplier is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public <T> NonNullOption<T> newLazyNonNull(@NotNull Supplier<? extends Option<T>> supplier) {
+    return new LazyNonNullOption<>(supplier);
+  }
+
+  /**
+   * Returns a new lazily evaluated {@code NonNullOption} that will resolve to
+   * the option returned by the given supplier.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newLazyNonNull(Supplier)}.
+   *
+   * @param supplier Supplier of the option to resolve to.
+   * @param <T>      Type of the value wrapped by the option.
+   *
+   * @return A new lazy {@code NonNullOption}.
+   *
+   * @throws NullPointerException if the given supplier is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <T> NonNullOption<T> lazyNonNull(@NotNull Supplier<? extends Option<T>> supplier) {
+    return standard().newLazyNonNull(supplier);
+  }
+
+  /**
+   * Combines the values of the given options with the given function.
+   * <p>
+   * The states of both options are checked before the given function is
+   * called, and the function is called at most once.  If either option is
+   * empty, the returned option is empty and the function is not called.
+   * Options wrapping {@code null} are non-empty, and their {@code null} value
+   * is passed to the function.
+   * <p>
+   * If both options are {@link NonNullOption} instances, the returned option is
+   * a {@code NonNullOption} and a {@code null} function result becomes empty.
+   * Otherwise the returned option is a {@link NullableOption} and a
+   * {@code null} function result is wrapped.
+   *
+   * @param a   First option.
+   * @param b   Second option.
+   * @param fn  Function used to combine the option values.
+   * @param <A> Type of the value wrapped by the first option.
+   * @param <B> Type of the value wrapped by the second option.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return An option wrapping the result of the given function, or an empty
+   * option.
+   *
+   * @throws NullPointerException if any of the given arguments are
+   * {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B, R> Option<R> zip(
+    @NotNull Option<? extends A> a,
+    @NotNull Option<? extends B> b,
+    @NotNull BiFunction<? super A, ? super B, ? extends R> fn
+  ) {
+    Objects.requireNonNull(fn);
+
+    var nonNull = OptionKinds.isNonNull(a) && OptionKinds.isNonNull(b);
+
+    if (a.isEmpty() || b.isEmpty())
+      return zipEmpty(nonNull);
+
+    return zipResult(nonNull, fn.apply(a.unwrap(), b.unwrap()));
+  }
+
+  /**
+   * Combines the values of the given non-null options with the given function.
+   * <p>
+   * See {@link #zip(Option, Option, BiFunction)}.
+   *
+   * @param a   First option.
+   * @param b   Second option.
+   * @param fn  Function used to combine the option values.
+   * @param <A> Type of the value wrapped by the first option.
+   * @param <B> Type of the value wrapped by the second option.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return An option wrapping the non-null result of the given function, or
+   * an empty option.
+   *
+   * @throws NullPointerException if any of the given arguments are
+   * {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B, R> NonNullOption<R> zip(
+    @NotNull NonNullOption<? extends A> a,
+    @NotNull NonNullOption<? extends B> b,
+    @NotNull BiFunction<? super A, ? super B, ? extends R> fn
+  ) {
+    return (NonNullOption<R>) Opt.<A, B, R>zip((Option<? extends A>) a, b, fn);
+  }
+
+  /**
+   * Combines the values of the given nullable options with the given function.
+   * <p>
+   * See {@link #zip(Option, Option, BiFunction)}.
+   *
+   * @param a   First option.
+   * @param b   Second option.
+   * @param fn  Function used to combine the option values.
+   * @param <A> Type of the value wrapped by the first option.
+   * @param <B> Type of the value wrapped by the second option.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return An option wrapping the result of the given function, or an empty
+   * option.
+   *
+   * @throws NullPointerException if any of the given arguments are
+   * {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B, R> NullableOption<R> zip(
+    @NotNull NullableOption<? extends A> a,
+    @NotNull NullableOption<? extends B> b,
+    @NotNull BiFunction<? super A, ? super B, ? extends R> fn
+  ) {
+    return (NullableOption<R>) Opt.<A, B, R>zip((Option<? extends A>) a, b, fn);
+  }
+
+  /**
+   * Combines the values of the given options with the given function.
+   * <p>
+   * Follows the same rules as {@link #zip(Option, Option, BiFunction)}.
+   *
+   * @param a   First option.
+   * @param b   Second option.
+   * @param c   Third option.
+   * @param fn  Function used to combine the option values.
+   * @param <A> Type of the value wrapped by the first option.
+   * @param <B> Type of the value wrapped by the second option.
+   * @param <C> Type of the value wrapped by the third option.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return An option wrapping the result of the given function, or an empty
+   * option.
+   *
+   * @throws NullPointerException if any of the given arguments are
+   * {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B, C, R> Option<R> zip3(
+    @NotNull Option<? extends A> a,
+    @NotNull Option<? extends B> b,
+    @NotNull Option<? extends C> c,
+    @NotNull Function3<? super A, ? super B, ? super C, ? extends R> fn
+  ) {
+    Objects.requireNonNull(fn);
+
+    var nonNull = OptionKinds.isNonNull(a) && OptionKinds.isNonNull(b) && OptionKinds.isNonNull(c);
+
+    if (a.isEmpty() || b.isEmpty() || c.isEmpty())
+      return zipEmpty(nonNull);
+
+    return zipResult(nonNull, fn.apply(a.unwrap(), b.unwrap(), c.unwrap()));
+  }
+
+  /**
+   * Combines the values of the given non-null options with the given function.
+   * <p>
+   * See {@link #zip3(Option, Option, Option, Function3)}.
+   *
+   * @param a   First option.
+   * @param b   Second option.
+   * @param c   Third option.
+   * @param fn  Function used to combine the option values.
+   * @param <A> Type of the value wrapped by the first option.
+   * @param <B> Type of the value wrapped by the second option.
+   * @param <C> Type of the value wrapped by the third option.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return An option wrapping the non-null result of the given function, or
+   * an empty option.
+   *
+   * @throws NullPointerException if any of the given arguments are
+   * {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B, C, R> NonNullOption<R> zip3(
+    @NotNull NonNullOption<? extends A> a,
+    @NotNull NonNullOption<? extends B> b,
+    @NotNull NonNullOption<? extends C> c,
+    @NotNull Function3<? super A, ? super B, ? super C, ? extends R> fn
+  ) {
+    return (NonNullOption<R>) Opt.<A, B, C, R>zip3((Option<? extends A>) a, b, c, fn);
+  }
+
+  /**
+   * Combines the values of the given nullable options with the given function.
+   * <p>
+   * See {@link #zip3(Option, Option, Option, Function3)}.
+   *
+   * @param a   First option.
+   * @param b   Second option.
+   * @param c   Third option.
+   * @param fn  Function used to combine the option values.
+   * @param <A> Type of the value wrapped by the first option.
+   * @param <B> Type of the value wrapped by the second option.
+   * @param <C> Type of the value wrapped by the third option.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return An option wrapping the result of the given function, or an empty
+   * option.
+   *
+   * @throws NullPointerException if any of the given arguments are
+   * {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B, C, R> NullableOption<R> zip3(
+    @NotNull NullableOption<? extends A> a,
+    @NotNull NullableOption<? extends B> b,
+    @NotNull NullableOption<? extends C> c,
+    @NotNull Function3<? super A, ? super B, ? super C, ? extends R> fn
+  ) {
+    return (NullableOption<R>) Opt.<A, B, C, R>zip3((Option<? extends A>) a, b, c, fn);
+  }
+
+  /**
+   * Combines the values of the given options with the given function.
+   * <p>
+   * Follows the same rules as {@link #zip(Option, Option, BiFunction)}.
+   *
+   * @param a   First option.
+   * @param b   Second option.
+   * @param c   Third option.
+   * @param d   Fourth option.
+   * @param fn  Function used to combine the option values.
+   * @param <A> Type of the value wrapped by the first option.
+   * @param <B> Type of the value wrapped by the second option.
+   * @param <C> Type of the value wrapped by the third option.
+   * @param <D> Type of the value wrapped by the fourth option.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return An option wrapping the result of the given function, or an empty
+   * option.
+   *
+   * @throws NullPointerException if any of the given arguments are
+   * {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B, C, D, R> Option<R> zip4(
+    @NotNull Option<? extends A> a,
+    @NotNull Option<? extends B> b,
+    @NotNull Option<? extends C> c,
+    @NotNull Option<? extends D> d,
+    @NotNull Function4<? super A, ? super B, ? super C, ? super D, ? extends R> fn
+  ) {
+    Objects.requireNonNull(fn);
+
+    var nonNull = OptionKinds.isNonNull(a)
+      && OptionKinds.isNonNull(b)
+      && OptionKinds.isNonNull(c)
+      && OptionKinds.isNonNull(d);
+
+    if (a.isEmpty() || b.isEmpty() || c.isEmpty() || d.isEmpty())
+      return zipEmpty(nonNull);
+
+    return zipResult(nonNull, fn.apply(a.unwrap(), b.unwrap(), c.unwrap(), d.unwrap()));
+  }
+
+  /**
+   * Combines the values of the given non-null options with the given function.
+   * <p>
+   * See {@link #zip4(Option, Option, Option, Option, Function4)}.
+   *
+   * @param a   First option.
+   * @param b   Second option.
+   * @param c   Third option.
+   * @param d   Fourth option.
+   * @param fn  Function used to combine the option values.
+   * @param <A> Type of the value wrapped by the first option.
+   * @param <B> Type of the value wrapped by the second option.
+   * @param <C> Type of the value wrapped by the third option.
+   * @param <D> Type of the value wrapped by the fourth option.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return An option wrapping the non-null result of the given function, or
+   * an empty option.
+   *
+   * @throws NullPointerException if any of the given arguments are
+   * {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B, C, D, R> NonNullOption<R> zip4(
+    @NotNull NonNullOption<? extends A> a,
+    @NotNull NonNullOption<? extends B> b,
+    @NotNull NonNullOption<? extends C> c,
+    @NotNull NonNullOption<? extends D> d,
+    @NotNull Function4<? super A, ? super B, ? super C, ? super D, ? extends R> fn
+  ) {
+    return (NonNullOption<R>) Opt.<A, B, C, D, R>zip4((Option<? extends A>) a, b, c, d, fn);
+  }
+
+  /**
+   * Combines the values of the given nullable options with the given function.
+   * <p>
+   * See {@link #zip4(Option, Option, Option, Option, Function4)}.
+   *
+   * @param a   First option.
+   * @param b   Second option.
+   * @param c   Third option.
+   * @param d   Fourth option.
+   * @param fn  Function used to combine the option values.
+   * @param <A> Type of the value wrapped by the first option.
+   * @param <B> Type of the value wrapped by the second option.
+   * @param <C> Type of the value wrapped by the third option.
+   * @param <D> Type of the value wrapped by the fourth option.
+   * @param <R> Type of the value returned by the given function.
+   *
+   * @return An option wrapping the result of the given function, or an empty
+   * option.
+   *
+   * @throws NullPointerException if any of the given arguments are
+   * {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B, C, D, R> NullableOption<R> zip4(
+    @NotNull NullableOption<? extends A> a,
+    @NotNull NullableOption<? extends B> b,
+    @NotNull NullableOption<? extends C> c,
+    @NotNull NullableOption<? extends D> d,
+    @NotNull Function4<? super A, ? super B, ? super C, ? super D, ? extends R> fn
+  ) {
+    return (NullableOption<R>) Opt.<A, B, C, D, R>zip4((Option<? extends A>) a, b, c, d, fn);
+  }
+
+  /**
+   * Combines the values of any number of options with the given function.
+   * <p>
+   * Follows the same rules as {@link #zip(Option, Option, BiFunction)}.  The
+   * given function is passed a new array holding the values of the given
+   * options, in the same order.  If the given array is empty, the function is
+   * called with an empty array.
+   *
+   * @param options Options to combine.
+   * @param fn      Function used to combine the option values.
+   * @param <R>     Type of the value returned by the given function.
+   *
+   * @return An option wrapping the result of the given function, or an empty
+   * option.
+   *
+   * @throws NullPointerException if either argument is {@code null}, or if the
+   * given array contains {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <R> Option<R> combine(
+    @NotNull Option<?>[] options,
+    @NotNull Function<? super Object[], ? extends R> fn
+  ) {
+    Objects.requireNonNull(fn);
+
+    var nonNull = true;
+    var empty   = false;
+
+    for (var opt : options) {
+      nonNull &= OptionKinds.isNonNull(opt);
+      empty   |= opt.isEmpty();
+    }
+
+    if (empty)
+      return zipEmpty(nonNull);
+
+    var values = new Object[options.length];
+    for (var i = 0; i < options.length; i++)
+      values[i] = options[i].unwrap();
+
+    return zipResult(nonNull, fn.apply(values));
+  }
+
+  /**
+   * Combines the values of any number of non-null options with the given
+   * function.
+   * <p>
+   * See {@link #combine(Option[], Function)}.
+   *
+   * @param options Options to combine.
+   * @param fn      Function used to combine the option values.
+   * @param <R>     Type of the value returned by the given function.
+   *
+   * @return An option wrapping the non-null result of the given function, or
+   * an empty option.
+   *
+   * @throws NullPointerException if either argument is {@code null}, or if the
+   * given array contains {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <R> NonNullOption<R> combine(
+    @NotNull NonNullOption<?>[] options,
+    @NotNull Function<? super Object[], ? extends R> fn
+  ) {
+    return (NonNullOption<R>) Opt.<R>combine((Option<?>[]) options, fn);
+  }
+
+  /**
+   * Combines the values of any number of nullable options with the given
+   * function.
+   * <p>
+   * See {@link #combine(Option[], Function)}.
+   *
+   * @param options Options to combine.
+   * @param fn      Function used to combine the option values.
+   * @param <R>     Type of the value returned by the given function.
+   *
+   * @return An option wrapping the result of the given function, or an empty
+   * option.
+   *
+   * @throws NullPointerException if either argument is {@code null}, or if the
+   * given array contains {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <R> NullableOption<R> combine(
+    @NotNull NullableOption<?>[] options,
+    @NotNull Function<? super Object[], ? extends R> fn
+  ) {
+    // An empty array holds no non-null options, so it still gets a nullable
+    // result.
+    if (options.length == 0) {
+      Objects.requireNonNull(fn);
+      return standard().newNullable(fn.apply(new Object[0]));
+    }
+
+    return (NullableOption<R>) Opt.<R>combine((Option<?>[]) options, fn);
+  }
+
+  private static <R> Option<R> zipEmpty(boolean nonNull) {
+    return nonNull ? standard().newNonNull() : standard().newNullable();
+  }
+
+  private static <R> Option<R> zipResult(boolean nonNull, R value) {
+    return nonNull ? standard().newNonNullOfNullable(value) : standard().newNullable(value);
+  }
+
+  /**
+   * Converts the given collection of options into an option wrapping a list
+   * of their values.
+   * <p>
+   * If any of the given options is empty, the returned option is empty.
+   * Options are tested in iteration order, and the first empty option stops
+   * the iteration.  Options wrapping {@code null} add a {@code null} value to
+   * the list.
+   * <p>
+   * The returned list is sized from the collection's {@code size()}, so it is
+   * never resized.
+   *
+   * @param options Options to convert.
+   * @param <T>     Type of the values wrapped by the given options.
+   *
+   * @return An option wrapping a new, mutable list of the values of the given
+   * options, or an empty option.
+   *
+   * @throws NullPointerException if the given collection is {@code null} or
+   * contains {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <T> NonNullOption<List<T>> sequence(@NotNull Collection<? extends Option<? extends T>> options) {
+    return traverse(options, Function.identity());
+  }
+
+  /**
+   * Converts the given array of options into an option wrapping a list of
+   * their values.
+   * <p>
+   * See {@link #sequence(Collection)}.
+   *
+   * @param options Options to convert.
+   * @param <T>     Type of the values wrapped by the given options.
+   *
+   * @return An option wrapping a new, mutable list of the values of the given
+   * options, or an empty option.
+   *
+   * @throws NullPointerException if the given array is {@code null} or
+   * contains {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <T> NonNullOption<List<T>> sequence(@NotNull Option<? extends T>[] options) {
+    return traverse(options, Function.identity());
+  }
+
+  /**
+   * Maps every element of the given collection to an option with the given
+   * function, and returns an option wrapping a list of the option values.
+   * <p>
+   * If the given function returns an empty option for any element, the
+   * returned option is empty.  Elements are mapped in iteration order, and the
+   * function is not called for any elements after the first one it returns an
+   * empty option for.  Options wrapping {@code null} add a {@code null} value
+   * to the list.
+   * <p>
+   * The returned list is sized from the collection's {@code size()}, so it is
+   * never resized.
+   *
+   * @param values Values to map.
+   * @param fn     Function used to map the given values to options.
+   *               <p>
+   *               This function must not return {@code null}.
+   * @param <A>    Type of the given values.
+   * @param <B>    Type of the values wrapped by the mapped options.
+   *
+   * @return An option wrapping a new, mutable list of the mapped option values,
+   * or an empty option.
+   *
+   * @throws NullPointerException if either argument is {@code null}, or if the
+   * given function returns {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B> NonNullOption<List<B>> traverse(
+    @NotNull Collection<? extends A> values,
+    @NotNull Function<? super A, ? extends Option<? extends B>> fn
+  ) {
+    Objects.requireNonNull(fn);
+
+    var out = new ArrayList<B>(values.size());
+
+    if (values instanceof List<? extends A> list && values instanceof RandomAccess) {
+      for (var i = 0; i < list.size(); i++)
+        if (!traverseInto(out, fn.apply(list.get(i))))
+          return standard().newNonNull();
+    } else {
+      for (var value : values)
+        if (!traverseInto(out, fn.apply(value)))
+          return standard().newNonNull();
+    }
+
+    return standard().newNonNull(out);
+  }
+
+  /**
+   * Maps every element of the given array to an option with the given
+   * function, and returns an option wrapping a list of the option values.
+   * <p>
+   * See {@link #traverse(Collection, Function)}.
+   *
+   * @param values Values to map.
+   * @param fn     Function used to map the given values to options.
+   *               <p>
+   *               This function must not return {@code null}.
+   * @param <A>    Type of the given values.
+   * @param <B>    Type of the values wrapped by the mapped options.
+   *
+   * @return An option wrapping a new, mutable list of the mapped option values,
+   * or an empty option.
+   *
+   * @throws NullPointerException if either argument is {@code null}, or if the
+   * given function returns {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <A, B> NonNullOption<List<B>> traverse(
+    @NotNull A[] values,
+    @NotNull Function<? super A, ? extends Option<? extends B>> fn
+  ) {
+    Objects.requireNonNull(fn);
+
+    var out = new ArrayList<B>(values.length);
+
+    for (var value : values)
+      if (!traverseInto(out, fn.apply(value)))
+        return standard().newNonNull();
+
+    return standard().newNonNull(out);
+  }
+
+  /**
+   * Converts the given collection of options into an option wrapping a list
+   * of their values, testing the options in parallel.
+   * <p>
+   * Follows the same rules as {@link #sequence(Collection)}, except that the
+   * options are tested on the common fork/join pool, and the options after the
+   * first empty option are not necessarily skipped.
+   *
+   * @param options Options to convert.
+   * @param <T>     Type of the values wrapped by the given options.
+   *
+   * @return An option wrapping a new, mutable list of the values of the given
+   * options, or an empty option.
+   *
+   * @throws NullPointerException if the given collection is {@code null} or
+   * contains {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <T> NonNullOption<List<T>> parallelSequence(
+    @NotNull Collection<? extends Option<? extends T>> options
+  ) {
+    return parallelTraverse(options, Function.identity());
+  }
+
+  /**
+   * Maps every element of the given collection to an option with the given
+   * function in parallel, and returns an option wrapping a list of the option
+   * values.
+   * <p>
+   * Follows the same rules as {@link #traverse(Collection, Function)}, except
+   * that the given function is called on the common fork/join pool.  Once the
+   * function has returned an empty option, workers stop calling it for the
+   * elements they have not reached yet, but elements after the first empty one
+   * may still have been mapped.
+   *
+   * @param values Values to map.
+   * @param fn     Function used to map the given values to options.
+   *               <p>
+   *               This function must not return {@code null}, and must be safe
+   *               to call from multiple threads.
+   * @param <A>    Type of the given values.
+   * @param <B>    Type of the values wrapped by the mapped options.
+   *
+   * @return An option wrapping a new, mutable list of the mapped option values,
+   * or an empty option.
+   *
+   * @throws NullPointerException if either argument is {@code null}, or if the
+   * given function returns {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  @SuppressWarnings("unchecked")
+  public static <A, B> NonNullOption<List<B>> parallelTraverse(
+    @NotNull Collection<? extends A> values,
+    @NotNull Function<? super A, ? extends Option<? extends B>> fn
+  ) {
+    Objects.requireNonNull(fn);
+
+    // Copied into an array so that workers can index into it, and to hold the
+    // mapped values in place.
+    var buffer = values.toArray();
+
+    // Workers don't see the caller's scoped binding on their own.  The
+    // caller's own binding keeps activeScopes above zero until this method
+    // returns, so workers set the thread local without touching the shared
+    // counter.
+    var bound = scope.get();
+
+    var present = IntStream.range(0, buffer.length).parallel().allMatch(i -> {
+      Option<? extends B> opt;
+
+      if (bound == null) {
+        opt = fn.apply((A) buffer[i]);
+      } else {
+        var parent = scope.get();
+        scope.set(bound);
+
+        try {
+          opt = fn.apply((A) buffer[i]);
+        } finally {
+          if (parent == null)
+            scope.remove();
+          else
+            scope.set(parent);
+        }
+      }
+
+      if (opt.isEmpty())
+        return false;
+
+      buffer[i] = opt.unwrap();
+      return true;
+    });
+
+    return present
+      ? standard().newNonNull(new ArrayList<>((List<B>) Arrays.asList(buffer)))
+      : standard().newNonNull();
+  }
+
+  /**
+   * Appends the value of the given option to the given list.
+   *
+   * @return {@code false} if the given option was empty.
+   */
+  private static <B> boolean traverseInto(List<B> out, Option<? extends B> option) {
+    if (option.isEmpty())
+      return false;
+
+    out.add(option.unwrap());
+    return true;
+  }
+
+  /**
+   * Creates the exception thrown when unwrapping the given empty option.
+   * <p>
+   * By default, this returns a new, fully diagnostic {@link UnwrapException}.
+   * If this instance was constructed with stackless unwrap exceptions enabled,
+   * or they have been enabled globally with
+   * {@link #setStacklessUnwrapExceptions(boolean)}, this instead returns an
+   * exception without a stack trace, which is much cheaper to create and
+   * throw.  For the standard empty singleton options, the stackless exception
+   * is preallocated and reused.
+   *
+   * @param option Empty option that was unwrapped.
+   *
+   * @return An exception to throw.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public UnwrapException newUnwrapException(@NotNull Option<?> option) {
+    if (!stacklessUnwrap && !stacklessUnwrapAll)
+      return new UnwrapException(option);
+
+    if (option == EmptyNullable.instance())
+      return PreallocatedUnwrap.Nullable;
+
+    if (option == EmptyNonNull.instance())
+      return PreallocatedUnwrap.NonNull;
+
+    if (option == EmptyBooleanOption.instance())
+      return PreallocatedUnwrap.Boolean;
+
+    return new UnwrapException(option, false);
+  }
+
+  /**
+   * Creates the exception thrown when unwrapping the given empty option.
+   * <p>
+   * This method is a static convenience wrapper around the instance method
+   * {@link #newUnwrapException(Option)}.
+   *
+   * @param option Empty option that was unwrapped.
+   *
+   * @return An exception to throw.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static UnwrapException unwrapException(@NotNull Option<?> option) {
+    return standard().newUnwrapException(option);
+  }
+
+  /**
+   * Enables or disables stackless {@link UnwrapException}s for every
+   * {@code Opt} instance.
+   * <p>
+   * While enabled, {@link #newUnwrapException(Option)} creates stackless
+   * exceptions even for instances constructed without stackless exceptions.
+   * While disabled, each instance uses its own setting.  Disabled by default.
+   *
+   * @param enabled Whether stackless unwrap exceptions should be used by every
+   *                instance.
+   *
+   * @since 1.2.0
+   */
+  public static void setStacklessUnwrapExceptions(boolean enabled) {
+    stacklessUnwrapAll = enabled;
+  }
+
+  /**
+   * Returns the currently set standard/singleton instance that will be used by
+   * the static convenience methods.
+   * <p>
+   * If the current thread is running inside a call to
+   * {@link #runWith(Opt, Runnable)} or {@link #callWith(Opt, Supplier)}, the
+   * instance bound by the innermost such call is returned instead.
+   *
+   * @return The currently set standard/singleton instance of this class.
+   */
+  @NotNull
+  public static Opt standard() {
+    if (activeScopes.get() == 0)
+      return defaultInstance;
+
+    var cur = scope.get();
+    return cur == null ? defaultInstance : cur;
+  }
+
+  /**
+   * Runs the given task with the given {@code Opt} instance bound as the
+   * standard instance for the current thread.
+   * <p>
+   * For the duration of the task, {@link #standard()} and every static
+   * convenience method will use the given instance on the current thread
+   * instead of the global standard instance.  The global standard instance is
+   * not modified.
+   * <p>
+   * Scoped calls may be nested; the innermost binding wins.
+   * <p>
+   * The binding is not inherited by other threads, as pooled threads would
+   * keep it for their whole lifetime.  Instead it is carried to other threads
+   * per task:
+   * <ul>
+   *   <li>{@link #wrap(Runnable)} and {@link #wrap(Callable)} wrap a single
+   *   task, for example to start a virtual thread with
+   *   {@code Thread.startVirtualThread(Opt.wrap(task))}.</li>
+   *   <li>{@link #propagating(Executor)} wraps an executor, including a
+   *   virtual thread per task executor, so that every task runs with the
+   *   binding of the thread that submitted it.</li>
+   *   <li>{@link #parallelSequence(Collection)},
+   *   {@link #parallelTraverse(Collection, Function)} and
+   *   {@link AsyncOption} carry the binding to their workers themselves.</li>
+   * </ul>
+   * Other tasks handed to other threads use the global standard instance.
+   *
+   * @param inst Opt instance to bind for the duration of the task.
+   * @param task Task to run.
+   *
+   * @throws NullPointerException if either argument is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  public static void runWith(@NotNull Opt inst, @NotNull Runnable task) {
+    Objects.requireNonNull(task);
+    callWith(inst, () -> {
+      task.run();
+      return null;
+    });
+  }
+
+  /**
+   * Calls the given supplier with the given {@code Opt} instance bound as the
+   * standard instance for the current thread, and returns its result.
+   * <p>
+   * See {@link #runWith(Opt, Runnable)} for the scoping rules.
+   *
+   * @param inst Opt instance to bind for the duration of the call.
+   * @param task Supplier to call.
+   * @param <R>  Type of the value returned by the given supplier.
+   *
+   * @return The value returned by the given supplier.
+   *
+   * @throws NullPointerException if either argument is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  public static <R> R callWith(@NotNull Opt inst, @NotNull Supplier<? extends R> task) {
+    Objects.requireNonNull(task);
+
+    var parent = bind(Objects.requireNonNull(inst));
+
+    try {
+      return task.get();
+    } finally {
+      restore(parent);
+    }
+  }
+
+  /**
+   * Returns a task that runs the given task with the calling thread's current
+   * scoped binding, for handing work to other threads from inside
+   * {@link #runWith(Opt, Runnable)}.
+   * <pre>{@code
+   * Opt.runWith(tenantOpt, () -> executor.execute(Opt.wrap(() -> {
+   *   // Opt.standard() is tenantOpt here.
+   * })));
+   * }</pre>
+   * <p>
+   * If no binding is active on the calling thread, the given task is returned
+   * as is.
+   *
+   * @param task Task to wrap.
+   *
+   * @return A task that binds the current scoped instance while running the
+   * given task.
+   *
+   * @throws NullPointerException if the given task is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static Runnable wrap(@NotNull Runnable task) {
+    Objects.requireNonNull(task);
+
+    var bound = scope.get();
+
+    return bound == null ? task : bindTo(bound, task);
+  }
+
+  /**
+   * Returns a task that calls the given task with the calling thread's current
+   * scoped binding.
+   * <p>
+   * See {@link #wrap(Runnable)}.
+   *
+   * @param task Task to wrap.
+   * @param <R>  Type of the value returned by the given task.
+   *
+   * @return A task that binds the current scoped instance while calling the
+   * given task.
+   *
+   * @throws NullPointerException if the given task is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static <R> Callable<R> wrap(@NotNull Callable<R> task) {
+    Objects.requireNonNull(task);
+
+    var bound = scope.get();
+
+    if (bound == null)
+      return task;
+
+    return () -> {
+      var parent = bind(bound);
+
+      try {
+        return task.call();
+      } finally {
+        restore(parent);
+      }
+    };
+  }
+
+  /**
+   * Returns an executor that runs every task with the calling thread's current
+   * scoped binding, the one active when this method was called.
+   * <p>
+   * If no binding is active on the calling thread, the given executor is
+   * returned as is.
+   *
+   * @param executor Executor to wrap.
+   *
+   * @return An executor that binds the current scoped instance while running
+   * each task on the given executor.
+   *
+   * @throws NullPointerException if the given executor is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static Executor wrap(@NotNull Executor executor) {
+    Objects.requireNonNull(executor);
+
+    var bound = scope.get();
+
+    if (bound == null)
+      return executor;
+
+    return task -> executor.execute(bindTo(bound, Objects.requireNonNull(task)));
+  }
+
+  /**
+   * Returns an executor that runs every task with the scoped binding of the
+   * thread that submitted it, as if each task had been passed through
+   * {@link #wrap(Runnable)}.
+   * <pre>{@code
+   * var executor = Opt.propagating(Executors.newVirtualThreadPerTaskExecutor());
+   *
+   * Opt.runWith(tenantOpt, () -> executor.execute(() -> {
+   *   // Opt.standard() is tenantOpt here.
+   * }));
+   * }</pre>
+   *
+   * @param executor Executor to wrap.
+   *
+   * @return An executor that propagates scoped bindings to the given
+   * executor.
+   *
+   * @throws NullPointerException if the given executor is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  public static Executor propagating(@NotNull Executor executor) {
+    Objects.requireNonNull(executor);
+    return task -> executor.execute(wrap(task));
+  }
+
+  private static Runnable bindTo(Opt bound, Runnable task) {
+    return () -> {
+      var parent = bind(bound);
+
+      try {
+        task.run();
+      } finally {
+        restore(parent);
+      }
+    };
+  }
+
+  /**
+   * Binds the given instance on the current thread.
+   *
+   * @return The previous binding, to be passed to {@link #restore(Opt)}.
+   */
+  private static Opt bind(Opt inst) {
+    activeScopes.incrementAndGet();
+
+    var parent = scope.get();
+    scope.set(inst);
+    return parent;
+  }
+
+  private static void restore(Opt parent) {
+    if (parent == null)
+      scope.remove();
+    else
+      scope.set(parent);
+
+    activeScopes.decrementAndGet();
+  }
+
+  /**
+   * Sets the standard/singleton instance that will be used by the static
+   * convenience methods.
+   *
+   * @param inst New opt instance to use as the standard implementation.
+   *
+   * @throws NullPointerException if the input value is {@code null}.
+   */
+  public static void setStandardInstance(@NotNull Opt inst) {
+    defaultInstance = Objects.requireNonNull(inst);
+  }
+
+  /**
+   * Preallocated stackless exceptions for the empty singleton options.
+   * <p>
+   * Held in their own class so they are only created once stackless
+   * exceptions are first used.
+   */
+  private static final class PreallocatedUnwrap {
+    private static final UnwrapException Nullable = new UnwrapException(EmptyNullable.instance(), false);
+
+    private static final UnwrapException NonNull = new UnwrapException(EmptyNonNull.instance(), false);
+
+    private static final UnwrapException Boolean = new UnwrapException(EmptyBooleanOption.instance(), false);
+  }
+
+  /**
+   * Function accepting 3 arguments, used by
+   * {@link #zip3(Option, Option, Option, Function3)}.
+   *
+   * @param <A> Type of the first argument.
+   * @param <B> Type of the second argument.
+   * @param <C> Type of the third argument.
+   * @param <R> Type of the result.
+   *
+   * @since 1.2.0
+   */
+  @FunctionalInterface
+  public interface Function3<A, B, C, R> {
+    R apply(A a, B b, C c);
+  }
+
+  /**
+   * Function accepting 4 arguments, used by
+   * {@link #zip4(Option, Option, Option, Option, Function4)}.
+   *
+   * @param <A> Type of the first argument.
+   * @param <B> Type of the second argument.
+   * @param <C> Type of the third argument.
+   * @param <D> Type of the fourth argument.
+   * @param <R> Type of the result.
+   *
+   * @since 1.2.0
+   */
+  @FunctionalInterface
+  public interface Function4<A, B, C, D, R> {
+    R apply(A a, B b, C c, D d);
   }
 }
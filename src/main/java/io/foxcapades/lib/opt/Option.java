@@ -1,10 +1,16 @@
 package io.foxcapades.lib.opt;
 
+import io.foxcapades.lib.opt.impl.SingletonSpliterator;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -26,9 +32,17 @@ import java.util.stream.Stream;
  * For these implementations there are 3 states.  Present containing a
  * non-{@code null} value, present containing a {@code null} value, and empty.
  *
+ * <h2>Iteration</h2>
+ * Every {@code Option} is an {@link Iterable} of zero or one values, and may be
+ * used in an enhanced {@code for} loop:
+ * <pre>{@code
+ * for (var value : option)
+ *   System.out.println(value);
+ * }</pre>
+ *
  * @param <T> Type of the represented/wrapped value.
  */
-public interface Option<T> {
+public interface Option<T> extends Iterable<T> {
 
   /**
    * Tests whether this {@code Option} contains a value.
@@ -161,6 +175,33 @@ public interface Option<T> {
     return this;
   }
 
+  /**
+   * Combines the value of this option with the value of the given option.
+   * <p>
+   * This method is equivalent to
+   * {@link Opt#zip(Option, Option, BiFunction) Opt.zip(this, other, fn)}.
+   *
+   * @param other Option to combine with this option.
+   * @param fn    Function used to combine the option values.
+   * @param <U>   Type of the value wrapped by the given option.
+   * @param <R>   Type of the value returned by the given function.
+   *
+   * @return An option wrapping the result of the given function, or an empty
+   * option if either option is empty.
+   *
+   * @throws NullPointerException if either argument is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  default <U, R> Option<R> zipWith(
+    @NotNull Option<? extends U> other,
+    @NotNull BiFunction<? super T, ? super U, ? extends R> fn
+  ) {
+    return Opt.zip(this, other, fn);
+  }
+
   /**
    * Returns either the value wrapped by this {@code Option}, if it is not
    * empty, or the value returned by the given {@code Supplier}.
@@ -415,6 +456,72 @@ public interface Option<T> {
   @Contract(pure = true)
   Stream<T> stream();
 
+  /**
+   * Returns an {@code Iterator} over either one value, if this {@code Option}
+   * is not empty, or zero values if this {@code Option} is empty.
+   * <p>
+   * <b>IMPORTANT</b>: Individual implementations of {@code Option} decide
+   * whether a {@code null} value may be wrapped.
+   * This means, for those implementations, the single value returned by the
+   * iterator for non-empty {@code Option}s may be {@code null}.
+   *
+   * @return An {@code Iterator} that may return the value wrapped by this
+   * {@code Option}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  @Override
+  @Contract(pure = true)
+  default Iterator<T> iterator() {
+    return isPresent() ? new SingletonSpliterator<>(unwrap()) : Collections.emptyIterator();
+  }
+
+  /**
+   * Returns a {@code Spliterator} over either one value, if this
+   * {@code Option} is not empty, or zero values if this {@code Option} is
+   * empty.
+   * <p>
+   * The returned {@code Spliterator} reports {@link Spliterator#SIZED},
+   * {@link Spliterator#SUBSIZED}, and {@link Spliterator#IMMUTABLE}.
+   *
+   * @return A {@code Spliterator} that may contain the value wrapped by this
+   * {@code Option}.
+   *
+   * @since 1.2.0
+   */
+  @NotNull
+  @Override
+  @Contract(pure = true)
+  default Spliterator<T> spliterator() {
+    return isPresent() ? new SingletonSpliterator<>(unwrap()) : Spliterators.emptySpliterator();
+  }
+
+  /**
+   * Executes the given {@code Consumer} with the value wrapped by this
+   * {@code Option} if this {@code Option} is not empty.
+   * <p>
+   * This method behaves the same as {@link #ifPresent(Consumer)}, but does not
+   * return a value.
+   *
+   * @param fn {@code Consumer} to call on the wrapped value if this
+   *           {@code Option} is not empty.
+   *           <p>
+   *           <b>This argument must not be null.</b>
+   *
+   * @throws NullPointerException If the given {@code Consumer} value is
+   *                              {@code null}.
+   *
+   * @since 1.2.0
+   */
+  @Override
+  default void forEach(@NotNull Consumer<? super T> fn) {
+    Objects.requireNonNull(fn);
+
+    if (isPresent())
+      fn.accept(unwrap());
+  }
+
   /**
    * Executes the given {@code Consumer} with the value wrapped by this
    * {@code Option} if this {@code Option} is not empty.
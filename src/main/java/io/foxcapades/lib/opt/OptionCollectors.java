@@ -0,0 +1,255 @@
+package io.foxcapades.lib.opt;
+
+import io.foxcapades.lib.opt.collection.NullableOptionArray;
+import io.foxcapades.lib.opt.collection.OptionArray;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+/**
+ * Option Collectors
+ * <p>
+ * {@link Collector} implementations for streams of {@link Option}s.
+ * <p>
+ * The collectors provided by this class inspect each option directly rather
+ * than going through {@link Option#stream()}, so collecting a stream of options
+ * never creates a stream per element.
+ *
+ * @since 1.2.0
+ */
+public final class OptionCollectors {
+  private OptionCollectors() {}
+
+  /**
+   * Returns a {@code BiConsumer} that may be passed to
+   * {@link java.util.stream.Stream#mapMulti(BiConsumer)} to flatten a stream
+   * of options into a stream of the values of its non-empty options.
+   * <p>
+   * This is equivalent to {@code stream.flatMap(Option::stream)} without
+   * creating a stream per element.
+   * <pre>{@code
+   * Stream<String> values = options.stream().mapMulti(OptionCollectors.flatten());
+   * }</pre>
+   * <p>
+   * As with {@link Option#stream()}, options wrapping {@code null} will
+   * produce a {@code null} value.
+   *
+   * @param <T> Type of the values wrapped by the options.
+   *
+   * @return A flattening function for use with {@code Stream#mapMulti}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> BiConsumer<Option<? extends T>, Consumer<T>> flatten() {
+    return (option, sink) -> {
+      if (option.isPresent())
+        sink.accept(option.unwrap());
+    };
+  }
+
+  /**
+   * Returns a {@code Collector} that collects the values of the non-empty
+   * options in a stream into a {@code List}, in encounter order.
+   * <p>
+   * As with {@link Option#stream()}, options wrapping {@code null} will add a
+   * {@code null} value to the list.
+   *
+   * @param <T> Type of the values wrapped by the options.
+   *
+   * @return A {@code Collector} that collects non-empty values into a list.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> Collector<Option<? extends T>, ?, List<T>> presentValues() {
+    return Collector.of(
+      ArrayList::new,
+      (list, option) -> {
+        if (option.isPresent())
+          list.add(option.unwrap());
+      },
+      (left, right) -> {
+        left.addAll(right);
+        return left;
+      }
+    );
+  }
+
+  /**
+   * Returns a {@code Collector} that partitions a stream of options by state
+   * in a single pass.
+   * <p>
+   * The resulting {@link Partition} holds the number of empty options, the
+   * number of options wrapping {@code null}, and the values of the remaining
+   * options, in encounter order.
+   *
+   * @param <T> Type of the values wrapped by the options.
+   *
+   * @return A {@code Collector} that partitions options by state.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> Collector<Option<? extends T>, ?, Partition<T>> partitionByState() {
+    return Collector.of(
+      PartitionBuilder<T>::new,
+      PartitionBuilder::accept,
+      PartitionBuilder::merge,
+      PartitionBuilder::build
+    );
+  }
+
+  /**
+   * Returns a {@code Collector} that collects a stream of options into an
+   * {@link OptionArray}, in encounter order.
+   * <p>
+   * Empty options and options wrapping {@code null} both become empty
+   * elements of the resulting array.
+   *
+   * @param <T> Type of the values wrapped by the options.
+   *
+   * @return A {@code Collector} that collects options into an
+   * {@code OptionArray}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> Collector<Option<? extends T>, ?, OptionArray<T>> toOptionArray() {
+    return Collector.of(
+      OptionArray<T>::new,
+      (array, option) -> array.add(option.isPresent() ? option.unwrap() : null),
+      (left, right) -> {
+        left.ensureCapacity(left.size() + right.size());
+
+        for (var i = 0; i < right.size(); i++)
+          left.add(right.or(i, null));
+
+        return left;
+      }
+    );
+  }
+
+  /**
+   * Returns a {@code Collector} that collects a stream of options into a
+   * {@link NullableOptionArray}, in encounter order, preserving the empty,
+   * {@code null}, and present states of each option.
+   *
+   * @param <T> Type of the values wrapped by the options.
+   *
+   * @return A {@code Collector} that collects options into a
+   * {@code NullableOptionArray}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> Collector<Option<? extends T>, ?, NullableOptionArray<T>> toNullableOptionArray() {
+    return Collector.of(
+      NullableOptionArray<T>::new,
+      (array, option) -> {
+        if (option.isPresent())
+          array.add(option.unwrap());
+        else
+          array.addEmpty();
+      },
+      (left, right) -> {
+        left.ensureCapacity(left.size() + right.size());
+
+        for (var i = 0; i < right.size(); i++) {
+          if (right.isPresent(i))
+            left.add(right.unwrap(i));
+          else
+            left.addEmpty();
+        }
+
+        return left;
+      }
+    );
+  }
+
+  /**
+   * Returns a {@code Collector} that finds the first non-empty option in a
+   * stream, in encounter order.
+   * <p>
+   * The result is a {@link NullableOption} in the same state as the first
+   * non-empty option in the stream, or an empty option if the stream contained
+   * no non-empty options.
+   * <p>
+   * Unlike {@link java.util.stream.Stream#findFirst()}, collectors cannot
+   * short-circuit, so the whole stream will be consumed.
+   *
+   * @param <T> Type of the values wrapped by the options.
+   *
+   * @return A {@code Collector} that finds the first non-empty option.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> Collector<Option<? extends T>, ?, NullableOption<T>> firstPresent() {
+    return Collector.of(
+      First<T>::new,
+      First::accept,
+      (left, right) -> left.found ? left : right,
+      first -> first.found
+        ? Opt.standard().newNullable(first.value)
+        : Opt.standard().newNullable()
+    );
+  }
+
+  /**
+   * Result of the {@link #partitionByState()} collector.
+   *
+   * @param empty  Number of empty options.
+   * @param nulls  Number of options wrapping {@code null}.
+   * @param values Values of the options that were neither empty nor wrapping
+   *               {@code null}, in encounter order.
+   *
+   * @param <T> Type of the values wrapped by the options.
+   */
+  public record Partition<T>(long empty, long nulls, @NotNull List<T> values) {}
+
+  private static final class PartitionBuilder<T> {
+    long empty;
+
+    long nulls;
+
+    final ArrayList<T> values = new ArrayList<>();
+
+    void accept(Option<? extends T> option) {
+      if (option.isEmpty()) {
+        empty++;
+        return;
+      }
+
+      var value = option.unwrap();
+
+      if (value == null)
+        nulls++;
+      else
+        values.add(value);
+    }
+
+    PartitionBuilder<T> merge(PartitionBuilder<T> other) {
+      empty += other.empty;
+      nulls += other.nulls;
+      values.addAll(other.values);
+      return this;
+    }
+
+    Partition<T> build() {
+      return new Partition<>(empty, nulls, values);
+    }
+  }
+
+  private static final class First<T> {
+    boolean found;
+
+    T value;
+
+    void accept(Option<? extends T> option) {
+      if (!found && option.isPresent()) {
+        found = true;
+        value = option.unwrap();
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package io.foxcapades.lib.opt;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Option Comparators
+ * <p>
+ * {@link Comparator} implementations that order options by their state first,
+ * and then order the values of present options with a given value comparator.
+ * <p>
+ * The state of each option is checked once per comparison, and the value
+ * comparator is only called when both options are in a state that holds a
+ * value.
+ * <pre>{@code
+ * // null values first, then "a", "b", ..., then empty options.
+ * rows.sort(Comparator.comparing(Row::name, OptionComparators.nullFirst(String::compareTo)));
+ * }</pre>
+ * <p>
+ * The {@code sort*} methods of the option arrays and columns in
+ * {@link io.foxcapades.lib.opt.collection} sort their elements in the same
+ * orders without comparing options at all.
+ *
+ * @since 1.2.0
+ */
+public final class OptionComparators {
+  private OptionComparators() {}
+
+  /**
+   * Returns a comparator that orders empty options before present options,
+   * and orders present options by their values.
+   * <p>
+   * Values, including {@code null} values, are passed directly to the given
+   * comparator.
+   *
+   * @param values Comparator used to order the values of present options.
+   * @param <T>    Type of the values wrapped by the options.
+   *
+   * @return A comparator ordering empty options first.
+   *
+   * @throws NullPointerException if the given comparator is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> Comparator<Option<? extends T>> emptyFirst(@NotNull Comparator<? super T> values) {
+    return new StateOrder<>(StateOrder.First, StateOrder.Value, values);
+  }
+
+  /**
+   * Returns a comparator that orders present options by their values, followed
+   * by empty options.
+   * <p>
+   * Values, including {@code null} values, are passed directly to the given
+   * comparator.
+   *
+   * @param values Comparator used to order the values of present options.
+   * @param <T>    Type of the values wrapped by the options.
+   *
+   * @return A comparator ordering empty options last.
+   *
+   * @throws NullPointerException if the given comparator is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> Comparator<Option<? extends T>> emptyLast(@NotNull Comparator<? super T> values) {
+    return new StateOrder<>(StateOrder.Last, StateOrder.Value, values);
+  }
+
+  /**
+   * Returns a comparator that orders options wrapping {@code null} first,
+   * followed by options wrapping a value ordered by their values, followed by
+   * empty options.
+   * <p>
+   * The given comparator is never called with a {@code null} value.
+   *
+   * @param values Comparator used to order the non-{@code null} values of
+   *               present options.
+   * @param <T>    Type of the values wrapped by the options.
+   *
+   * @return A comparator ordering {@code null} options first and empty options
+   * last.
+   *
+   * @throws NullPointerException if the given comparator is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> Comparator<Option<? extends T>> nullFirst(@NotNull Comparator<? super T> values) {
+    return new StateOrder<>(StateOrder.Last, StateOrder.First, values);
+  }
+
+  /**
+   * Returns a comparator that orders options wrapping a value by their values,
+   * followed by options wrapping {@code null}, followed by empty options.
+   * <p>
+   * The given comparator is never called with a {@code null} value.
+   *
+   * @param values Comparator used to order the non-{@code null} values of
+   *               present options.
+   * @param <T>    Type of the values wrapped by the options.
+   *
+   * @return A comparator ordering {@code null} options and then empty options
+   * last.
+   *
+   * @throws NullPointerException if the given comparator is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> Comparator<Option<? extends T>> nullLast(@NotNull Comparator<? super T> values) {
+    return new StateOrder<>(StateOrder.Last + 1, StateOrder.Last, values);
+  }
+
+  /**
+   * Comparator ordering options by the rank of their state.
+   *
+   * @param emptyRank Rank of empty options.
+   * @param nullRank  Rank of options wrapping {@code null}, or {@link #Value} if
+   *                  {@code null} values should be passed to the value
+   *                  comparator.
+   * @param values    Comparator for options ranked {@link #Value}.
+   */
+  private record StateOrder<T>(int emptyRank, int nullRank, Comparator<? super T> values)
+    implements Comparator<Option<? extends T>>
+  {
+    static final int First = 0;
+
+    static final int Value = 1;
+
+    static final int Last = 2;
+
+    StateOrder {
+      Objects.requireNonNull(values);
+    }
+
+    @Override
+    public int compare(Option<? extends T> a, Option<? extends T> b) {
+      var rankA = rank(a);
+      var rankB = rank(b);
+
+      if (rankA != rankB)
+        return Integer.compare(rankA, rankB);
+
+      return rankA == Value ? values.compare(a.unwrap(), b.unwrap()) : 0;
+    }
+
+    private int rank(Option<? extends T> option) {
+      if (option.isEmpty())
+        return emptyRank;
+
+      return nullRank != Value && option.unwrap() == null ? nullRank : Value;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package io.foxcapades.lib.opt;
+
+import io.foxcapades.lib.opt.impl.EmptyNonNull;
+import io.foxcapades.lib.opt.impl.EmptyNullable;
+import io.foxcapades.lib.opt.impl.FullNonNullOption;
+import io.foxcapades.lib.opt.impl.FullNullableOption;
+import io.foxcapades.lib.opt.impl.NullOption;
+
+/**
+ * Cached lookup of whether an option type is a {@link NullableOption}, a
+ * {@link NonNullOption}, or neither.
+ * <p>
+ * A failing {@code instanceof} test against an interface is a linear scan of
+ * the class's secondary supertypes that is not cached by the JVM, and measured
+ * roughly 40 ns per test.  Code that has to tell the two option kinds apart
+ * always fails one of the two tests for one of the kinds, so it uses this
+ * per-class lookup instead.
+ * <p>
+ * Tests against classes rather than interfaces are constant time, so the
+ * standard implementations are checked directly before the lookup.
+ */
+final class OptionKinds {
+  /**
+   * Option type that is neither a {@code NullableOption} nor a
+   * {@code NonNullOption}.
+   */
+  static final byte Other = 0;
+
+  static final byte Nullable = 1;
+
+  static final byte NonNull = 2;
+
+  private static final ClassValue<Byte> kinds = new ClassValue<>() {
+    @Override
+    protected Byte computeValue(Class<?> type) {
+      if (NullableOption.class.isAssignableFrom(type))
+        return Nullable;
+
+      if (NonNullOption.class.isAssignableFrom(type))
+        return NonNull;
+
+      return Other;
+    }
+  };
+
+  private OptionKinds() {}
+
+  /**
+   * Returns the kind of the given option.
+   *
+   * @param option Option to test.  Must not be {@code null}.
+   *
+   * @return One of {@link #Other}, {@link #Nullable} or {@link #NonNull}.
+   */
+  static byte of(Option<?> option) {
+    if (option instanceof FullNonNullOption || option instanceof EmptyNonNull)
+      return NonNull;
+
+    if (option instanceof FullNullableOption || option instanceof NullOption || option instanceof EmptyNullable)
+      return Nullable;
+
+    return kinds.get(option.getClass());
+  }
+
+  /**
+   * Tests whether the given option is a {@code NonNullOption}.
+   *
+   * @param option Option to test.  Must not be {@code null}.
+   *
+   * @return {@code true} if the given option is a {@code NonNullOption}.
+   */
+  static boolean isNonNull(Option<?> option) {
+    return of(option) == NonNull;
+  }
+}
@@ -0,0 +1,295 @@
+package io.foxcapades.lib.opt;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Option Pipeline
+ * <p>
+ * Reusable, immutable chain of {@code map}, {@code filter}, and
+ * {@code flatMap} stages that can be applied to many inputs.
+ * <p>
+ * Applying a pipeline produces the same result as calling the same chain of
+ * methods on an option, with the same rules for empty and {@code null} values,
+ * but evaluates the whole chain in a single pass without creating an
+ * intermediate option for each stage.  Only the final option is created.
+ * <pre>{@code
+ * var pipeline = OptionPipeline.<String>nullable()
+ *   .map(String::trim)
+ *   .filter(s -> !s.isEmpty())
+ *   .map(Integer::parseInt);
+ *
+ * for (var input : inputs)
+ *   results.add(pipeline.apply(input));
+ * }</pre>
+ *
+ * <h2>Option Kinds</h2>
+ * As with the step-by-step chain, whether a stage treats {@code null} as a
+ * value or as empty depends on the kind of option the previous stage produced.
+ * Raw input values are treated as {@link NullableOption}s or
+ * {@link NonNullOption}s depending on which factory method created the
+ * pipeline.  Option inputs keep their own kind, and each {@code flatMap} stage
+ * switches to the kind of the option returned by its function.
+ * <p>
+ * When an option that is neither a {@code NullableOption} nor a
+ * {@code NonNullOption} is encountered, the remaining stages are applied to it
+ * by calling its own {@code map}, {@code filter}, and {@code flatMap} methods.
+ *
+ * @param <T> Type of the pipeline input values.
+ * @param <R> Type of the pipeline output values.
+ *
+ * @since 1.2.0
+ */
+public final class OptionPipeline<T, R> {
+  private static final byte Map = 0;
+
+  private static final byte Filter = 1;
+
+  private static final byte FlatMap = 2;
+
+  private static final OptionPipeline<?, ?> NullableRoot = new OptionPipeline<>(true, new byte[0], new Object[0]);
+
+  private static final OptionPipeline<?, ?> NonNullRoot = new OptionPipeline<>(false, new byte[0], new Object[0]);
+
+  /**
+   * Whether raw input values are treated as nullable.
+   */
+  private final boolean nullableInput;
+
+  private final byte[] ops;
+
+  private final Object[] fns;
+
+  private OptionPipeline(boolean nullableInput, byte[] ops, Object[] fns) {
+    this.nullableInput = nullableInput;
+    this.ops           = ops;
+    this.fns           = fns;
+  }
+
+  /**
+   * Returns an empty pipeline that treats raw input values as
+   * {@link NullableOption}s, meaning a {@code null} input is a present
+   * {@code null} value.
+   *
+   * @param <T> Type of the pipeline input values.
+   *
+   * @return An empty pipeline.
+   */
+  @NotNull
+  @Contract(pure = true)
+  @SuppressWarnings("unchecked")
+  public static <T> OptionPipeline<T, T> nullable() {
+    return (OptionPipeline<T, T>) NullableRoot;
+  }
+
+  /**
+   * Returns an empty pipeline that treats raw input values as
+   * {@link NonNullOption}s, meaning a {@code null} input is empty.
+   *
+   * @param <T> Type of the pipeline input values.
+   *
+   * @return An empty pipeline.
+   */
+  @NotNull
+  @Contract(pure = true)
+  @SuppressWarnings("unchecked")
+  public static <T> OptionPipeline<T, T> nonNull() {
+    return (OptionPipeline<T, T>) NonNullRoot;
+  }
+
+  /**
+   * Returns a new pipeline with a {@code map} stage appended.
+   *
+   * @param fn  Mapping function.
+   * @param <V> Type of the mapped values.
+   *
+   * @return A new pipeline.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   *
+   * @see Option#map(Function)
+   */
+  @NotNull
+  @Contract(pure = true)
+  public <V> OptionPipeline<T, V> map(@NotNull Function<? super R, ? extends V> fn) {
+    return append(Map, fn);
+  }
+
+  /**
+   * Returns a new pipeline with a {@code filter} stage appended.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new pipeline.
+   *
+   * @throws NullPointerException if the given predicate is {@code null}.
+   *
+   * @see Option#filter(Predicate)
+   */
+  @NotNull
+  @Contract(pure = true)
+  public OptionPipeline<T, R> filter(@NotNull Predicate<? super R> fn) {
+    return append(Filter, fn);
+  }
+
+  /**
+   * Returns a new pipeline with a {@code flatMap} stage appended.
+   *
+   * @param fn  Mapping function.
+   * @param <V> Type of the values wrapped by the options returned by the
+   *            given function.
+   *
+   * @return A new pipeline.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   *
+   * @see Option#flatMap(Function)
+   */
+  @NotNull
+  @Contract(pure = true)
+  public <V> OptionPipeline<T, V> flatMap(@NotNull Function<? super R, ? extends Option<? extends V>> fn) {
+    return append(FlatMap, fn);
+  }
+
+  /**
+   * Returns the number of stages in this pipeline.
+   *
+   * @return The number of stages in this pipeline.
+   */
+  @Contract(pure = true)
+  public int size() {
+    return ops.length;
+  }
+
+  /**
+   * Applies this pipeline to the given raw input value.
+   * <p>
+   * The value is treated as the value of a {@link NullableOption} or
+   * {@link NonNullOption} depending on how this pipeline was created.
+   *
+   * @param value Input value.
+   *
+   * @return The result of the pipeline.
+   */
+  @NotNull
+  public Option<R> apply(@Nullable T value) {
+    return run(value != null || nullableInput, nullableInput, value, null, 0);
+  }
+
+  /**
+   * Applies this pipeline to the given option.
+   *
+   * @param option Input option.
+   *
+   * @return The result of the pipeline.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   */
+  @NotNull
+  @SuppressWarnings("unchecked")
+  public Option<R> applyTo(@NotNull Option<? extends T> option) {
+    var kind = OptionKinds.of(option);
+
+    if (kind == OptionKinds.Other)
+      return fallback((Option<Object>) option, 0);
+
+    var present = option.isPresent();
+
+    return run(present, kind == OptionKinds.Nullable, present ? option.unwrap() : null, option, 0);
+  }
+
+  /**
+   * Evaluates the stages from {@code start} onward.
+   *
+   * @param present  Whether the current state is non-empty.
+   * @param nullable Whether the current state is of a nullable option.
+   * @param value    Current value.
+   * @param current  An existing option that exactly represents the current
+   *                 state, if there is one.  Returned as is when no later
+   *                 stage changes the state.
+   * @param start    Index of the first stage to evaluate.
+   */
+  @SuppressWarnings("unchecked")
+  private Option<R> run(boolean present, boolean nullable, Object value, Option<?> current, int start) {
+    for (var i = start; i < ops.length; i++) {
+      if (!present)
+        break;
+
+      switch (ops[i]) {
+        case Map -> {
+          value   = ((Function<Object, Object>) fns[i]).apply(value);
+          present = value != null || nullable;
+          current = null;
+        }
+
+        case Filter -> {
+          if (!((Predicate<Object>) fns[i]).test(value)) {
+            present = false;
+            current = null;
+          }
+        }
+
+        default -> {
+          var next = Objects.requireNonNull(((Function<Object, Option<?>>) fns[i]).apply(value));
+
+          var kind = OptionKinds.of(next);
+
+          if (kind == OptionKinds.Other)
+            return fallback((Option<Object>) next, i + 1);
+
+          nullable = kind == OptionKinds.Nullable;
+
+          present = next.isPresent();
+          value   = present ? next.unwrap() : null;
+          current = next;
+        }
+      }
+    }
+
+    if (current != null)
+      return (Option<R>) current;
+
+    var opt = Opt.standard();
+
+    if (nullable)
+      return present ? opt.newNullable((R) value) : opt.newNullable();
+    else
+      return present ? opt.newNonNull((R) value) : opt.newNonNull();
+  }
+
+  /**
+   * Applies the stages from {@code start} onward by calling the given option's
+   * own methods.
+   */
+  @SuppressWarnings("unchecked")
+  private Option<R> fallback(Option<Object> option, int start) {
+    for (var i = start; i < ops.length; i++) {
+      option = switch (ops[i]) {
+        case Map    -> option.map((Function<Object, Object>) fns[i]);
+        case Filter -> option.filter((Predicate<Object>) fns[i]);
+        default     -> option.flatMap((Function<Object, Option<?>>) fns[i]);
+      };
+    }
+
+    return (Option<R>) option;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <V> OptionPipeline<T, V> append(byte op, Object fn) {
+    Objects.requireNonNull(fn);
+
+    var newOps = Arrays.copyOf(ops, ops.length + 1);
+    var newFns = Arrays.copyOf(fns, fns.length + 1);
+
+    newOps[ops.length] = op;
+    newFns[fns.length] = fn;
+
+    return new OptionPipeline<>(nullableInput, newOps, newFns);
+  }
+}
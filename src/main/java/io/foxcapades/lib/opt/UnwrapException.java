@@ -28,6 +28,31 @@ public class UnwrapException extends RuntimeException {
     this.option = Objects.requireNonNull(option);
   }
 
+  /**
+   * Constructs a new {@code UnwrapException} with the given source
+   * {@code Option}, optionally without a stack trace.
+   * <p>
+   * An exception constructed without a writable stack trace does not capture
+   * the stack when constructed, which makes it much cheaper to construct and
+   * throw.  Such an exception also has suppression disabled, and like every
+   * exception constructed with this constructor, its cause is fixed to
+   * {@code null}.  This means a single stackless instance can be safely thrown
+   * from any number of places and threads.
+   *
+   * @param option             Source {@code Option} from where this exception
+   *                           was thrown.
+   * @param writableStackTrace Whether the exception should capture a stack
+   *                           trace.
+   *
+   * @throws NullPointerException if the given option is {@code null}.
+   *
+   * @since 1.2.0
+   */
+  public UnwrapException(@NotNull Option<?> option, boolean writableStackTrace) {
+    super("Attempted to unwrap the value of an empty Option.", null, writableStackTrace, writableStackTrace);
+    this.option = Objects.requireNonNull(option);
+  }
+
   /**
    * Returns the {@code Option} instance where the exception originated.
    *
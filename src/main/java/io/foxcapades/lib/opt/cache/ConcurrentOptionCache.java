@@ -0,0 +1,476 @@
+package io.foxcapades.lib.opt.cache;
+
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.Option;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrent Option Cache
+ * <p>
+ * Size bounded, thread safe cache that stores the result of its loader
+ * function as a {@link NullableOption}, so that all three option states are
+ * cached:
+ * <ul>
+ *   <li>Non-{@code null} values</li>
+ *   <li>{@code null} values</li>
+ *   <li>Absent ("not found") results, also called negative entries</li>
+ * </ul>
+ * <p>
+ * Present entries (including {@code null} values) and negative entries have
+ * separate time to live durations, so that "not found" results can be
+ * rechecked sooner than found values.
+ *
+ * <h2>Concurrency</h2>
+ * Entries are split across a power of two number of segments by key hash.
+ * Each segment is an access ordered {@code LinkedHashMap} guarded by its own
+ * lock, and evicts its least recently used entry once it holds more than its
+ * share of the maximum size.
+ * <p>
+ * Loader functions are called without holding any segment lock.  Threads that
+ * ask for a key that is already being loaded wait for that load instead of
+ * starting another one, so each key is loaded at most once at a time unless it
+ * is invalidated while loading.  Entries that are still loading are never
+ * evicted; a segment whose entries are all loading may briefly hold more than
+ * its share of the maximum size.
+ *
+ * @param <K> Type of the cache keys.
+ * @param <V> Type of the cached values.
+ *
+ * @since 1.2.0
+ */
+public class ConcurrentOptionCache<K, V> {
+  private static final long NoExpiry = -1L;
+
+  private static final int MaxSegments = 64;
+
+  private final Segment<K, V>[] segments;
+
+  private final int mask;
+
+  private final long presentTtl;
+
+  private final long negativeTtl;
+
+  private final LongSupplier ticker;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructs a new cache whose entries never expire.
+   *
+   * @param maximumSize Maximum number of entries to hold.
+   *
+   * @throws IllegalArgumentException if the given maximum size is less than
+   * {@code 1}.
+   */
+  public ConcurrentOptionCache(int maximumSize) {
+    this(maximumSize, null, null);
+  }
+
+  /**
+   * Constructs a new cache.
+   *
+   * @param maximumSize Maximum number of entries to hold.
+   * @param presentTtl  How long entries holding a value (including
+   *                    {@code null}) stay cached, or {@code null} if they
+   *                    should not expire.
+   * @param negativeTtl How long entries for absent results stay cached, or
+   *                    {@code null} if they should not expire.
+   *
+   * @throws IllegalArgumentException if the given maximum size is less than
+   * {@code 1}, or either duration is negative.
+   */
+  public ConcurrentOptionCache(int maximumSize, @Nullable Duration presentTtl, @Nullable Duration negativeTtl) {
+    this(maximumSize, presentTtl, negativeTtl, defaultConcurrency(), System::nanoTime);
+  }
+
+  /**
+   * Constructs a new cache.
+   *
+   * @param maximumSize      Maximum number of entries to hold.
+   * @param presentTtl       How long entries holding a value (including
+   *                         {@code null}) stay cached, or {@code null} if they
+   *                         should not expire.
+   * @param negativeTtl      How long entries for absent results stay cached, or
+   *                         {@code null} if they should not expire.
+   * @param concurrencyLevel Expected number of threads using the cache at the
+   *                         same time.  Used to pick the number of segments,
+   *                         which is at most {@code 64} and never more than the
+   *                         maximum size.
+   * @param ticker           Source of the current time in nanoseconds, such as
+   *                         {@code System::nanoTime}.
+   *
+   * @throws IllegalArgumentException if the given maximum size or concurrency
+   * level is less than {@code 1}, or either duration is negative.
+   * @throws NullPointerException     if the given ticker is {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public ConcurrentOptionCache(
+    int maximumSize,
+    @Nullable Duration presentTtl,
+    @Nullable Duration negativeTtl,
+    int concurrencyLevel,
+    @NotNull LongSupplier ticker
+  ) {
+    if (maximumSize < 1)
+      throw new IllegalArgumentException("maximum size must be at least 1, was " + maximumSize);
+    if (concurrencyLevel < 1)
+      throw new IllegalArgumentException("concurrency level must be at least 1, was " + concurrencyLevel);
+
+    this.presentTtl  = toNanos(presentTtl);
+    this.negativeTtl = toNanos(negativeTtl);
+    this.ticker      = Objects.requireNonNull(ticker);
+
+    var count = Integer.highestOneBit(Math.min(Math.min(concurrencyLevel, MaxSegments), maximumSize));
+
+    // Never round the combined capacity below the requested maximum size.
+    var perSegment = (maximumSize + count - 1) / count;
+
+    segments = (Segment<K, V>[]) new Segment<?, ?>[count];
+    mask     = count - 1;
+
+    for (var i = 0; i < count; i++)
+      segments[i] = new Segment<>(perSegment, evictions);
+  }
+
+  /**
+   * Returns the cached option for the given key, loading and caching it with
+   * the given function if it is not cached or has expired.
+   * <p>
+   * The loader's result is cached as follows:
+   * <ul>
+   *   <li>A non-empty option is cached as a {@code NullableOption} wrapping
+   *   the same value, which may be {@code null}.</li>
+   *   <li>An empty option is cached as an empty {@code NullableOption}, a
+   *   negative entry.</li>
+   * </ul>
+   * <p>
+   * If the loader throws, nothing is cached, and the exception is rethrown to
+   * this caller and to any threads that were waiting for the same load.
+   *
+   * @param key    Key to look up.
+   * @param loader Function used to load the option for the key if it is not
+   *               cached.
+   *               <p>
+   *               This function must not return {@code null}.
+   *
+   * @return The cached option for the given key.
+   *
+   * @throws NullPointerException if either argument is {@code null}, or if
+   * the loader returns {@code null}.
+   */
+  @NotNull
+  public NullableOption<V> get(@NotNull K key, @NotNull Function<? super K, ? extends Option<? extends V>> loader) {
+    Objects.requireNonNull(loader);
+
+    var seg = segmentFor(Objects.requireNonNull(key));
+    var now = ticker.getAsLong();
+
+    Node<V> node;
+    boolean owner = false;
+
+    seg.lock.lock();
+    try {
+      node = seg.map.get(key);
+
+      if (node != null && node.pending == null && !isExpired(node, now)) {
+        hits.increment();
+        return node.value;
+      }
+
+      if (node == null || node.pending == null) {
+        node = new Node<>(null, 0L, new CompletableFuture<>());
+        seg.map.put(key, node);
+        owner = true;
+      }
+    } finally {
+      seg.lock.unlock();
+    }
+
+    if (owner) {
+      misses.increment();
+      return load(seg, key, node, loader);
+    }
+
+    // Another thread is already loading this key.
+    hits.increment();
+    return await(node.pending);
+  }
+
+  /**
+   * Caches the given option for the given key, replacing any existing entry.
+   *
+   * @param key    Key to cache the option under.
+   * @param option Option to cache.  An empty option is cached as a negative
+   *               entry.
+   *
+   * @throws NullPointerException if either argument is {@code null}.
+   */
+  public void put(@NotNull K key, @NotNull Option<? extends V> option) {
+    var seg = segmentFor(Objects.requireNonNull(key));
+    var now = ticker.getAsLong();
+
+    NullableOption<V> value = toNullable(option);
+
+    seg.lock.lock();
+    try {
+      seg.map.put(key, new Node<>(value, now, null));
+    } finally {
+      seg.lock.unlock();
+    }
+  }
+
+  /**
+   * Removes the entry for the given key, if there is one.
+   * <p>
+   * A load of the key that is already running is not cancelled, but its result
+   * is not cached.
+   *
+   * @param key Key of the entry to remove.
+   *
+   * @throws NullPointerException if the given key is {@code null}.
+   */
+  public void invalidate(@NotNull K key) {
+    var seg = segmentFor(Objects.requireNonNull(key));
+
+    seg.lock.lock();
+    try {
+      seg.map.remove(key);
+    } finally {
+      seg.lock.unlock();
+    }
+  }
+
+  /**
+   * Removes every entry from this cache.
+   */
+  public void invalidateAll() {
+    for (var seg : segments) {
+      seg.lock.lock();
+      try {
+        seg.map.clear();
+      } finally {
+        seg.lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Returns the number of entries in this cache, including expired entries
+   * that have not been removed yet and loads that are running.
+   *
+   * @return The number of entries in this cache.
+   */
+  public int size() {
+    var out = 0;
+
+    for (var seg : segments) {
+      seg.lock.lock();
+      try {
+        out += seg.map.size();
+      } finally {
+        seg.lock.unlock();
+      }
+    }
+
+    return out;
+  }
+
+  /**
+   * Returns a snapshot of this cache's counters.
+   *
+   * @return The current cache statistics.
+   */
+  @NotNull
+  public Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum());
+  }
+
+  /**
+   * Cache statistics snapshot.
+   *
+   * @param hits      Number of lookups answered by a cached entry or a load
+   *                  that was already running.
+   * @param misses    Number of lookups that called the loader.
+   * @param evictions Number of entries removed to stay within the maximum
+   *                  size.
+   */
+  public record Stats(long hits, long misses, long evictions) {}
+
+  /**
+   * Runs the loader for the given pending node and caches its result.
+   */
+  private NullableOption<V> load(
+    Segment<K, V> seg,
+    K key,
+    Node<V> node,
+    Function<? super K, ? extends Option<? extends V>> loader
+  ) {
+    NullableOption<V> value;
+
+    try {
+      value = toNullable(loader.apply(key));
+    } catch (Throwable e) {
+      seg.lock.lock();
+      try {
+        seg.map.remove(key, node);
+      } finally {
+        seg.lock.unlock();
+      }
+
+      node.pending.completeExceptionally(e);
+      throw e;
+    }
+
+    var loaded = new Node<>(value, ticker.getAsLong(), null);
+
+    seg.lock.lock();
+    try {
+      // Only cache the result if the pending entry wasn't invalidated or
+      // evicted while loading.
+      if (seg.map.replace(key, node, loaded))
+        seg.trim();
+    } finally {
+      seg.lock.unlock();
+    }
+
+    node.pending.complete(value);
+    return value;
+  }
+
+  private boolean isExpired(Node<V> node, long now) {
+    var ttl = node.value.isEmpty() ? negativeTtl : presentTtl;
+
+    return ttl != NoExpiry && now - node.loadedAt >= ttl;
+  }
+
+  private Segment<K, V> segmentFor(Object key) {
+    var h = key.hashCode();
+    return segments[(h ^ (h >>> 16)) & mask];
+  }
+
+  private static <V> NullableOption<V> toNullable(Option<? extends V> option) {
+    Objects.requireNonNull(option);
+
+    return option.isPresent() ? Opt.nullable(option.unwrap()) : Opt.nullable();
+  }
+
+  private static <V> NullableOption<V> await(CompletableFuture<NullableOption<V>> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      var cause = e.getCause();
+
+      if (cause instanceof RuntimeException re)
+        throw re;
+      if (cause instanceof Error err)
+        throw err;
+
+      throw e;
+    }
+  }
+
+  private static long toNanos(Duration ttl) {
+    if (ttl == null)
+      return NoExpiry;
+
+    if (ttl.isNegative())
+      throw new IllegalArgumentException("time to live must not be negative, was " + ttl);
+
+    return ttl.toNanos();
+  }
+
+  private static int defaultConcurrency() {
+    return Runtime.getRuntime().availableProcessors() * 4;
+  }
+
+  /**
+   * Cache entry.  Either a loaded value or a load that is still running.
+   * <p>
+   * Compared by identity, so that a finished load only replaces its own
+   * pending entry.
+   */
+  private static final class Node<V> {
+    /**
+     * Cached option, {@code null} while loading.
+     */
+    private final NullableOption<V> value;
+
+    /**
+     * Ticker time the value was loaded at.
+     */
+    private final long loadedAt;
+
+    /**
+     * Future of the running load, {@code null} once loaded.
+     */
+    private final CompletableFuture<NullableOption<V>> pending;
+
+    private Node(NullableOption<V> value, long loadedAt, CompletableFuture<NullableOption<V>> pending) {
+      this.value    = value;
+      this.loadedAt = loadedAt;
+      this.pending  = pending;
+    }
+  }
+
+  private static final class Segment<K, V> {
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<K, Node<V>> map;
+
+    private final int capacity;
+
+    private final LongAdder evictions;
+
+    private Segment(int capacity, LongAdder evictions) {
+      this.capacity  = capacity;
+      this.evictions = evictions;
+
+      map = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Node<V>> eldest) {
+          trim();
+          return false;
+        }
+      };
+    }
+
+    /**
+     * Evicts least recently used entries until this segment is back within its
+     * capacity.
+     * <p>
+     * Entries that are still loading are skipped, as evicting one would let
+     * the next get for its key start a second load.  If too many entries are
+     * loading, the segment stays over capacity until a load finishes.
+     * <p>
+     * Must be called while holding the segment lock.
+     */
+    private void trim() {
+      var it = map.values().iterator();
+
+      while (map.size() > capacity && it.hasNext()) {
+        if (it.next().pending == null) {
+          it.remove();
+          evictions.increment();
+        }
+      }
+    }
+  }
+}
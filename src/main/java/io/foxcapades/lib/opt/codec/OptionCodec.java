@@ -0,0 +1,581 @@
+package io.foxcapades.lib.opt.codec;
+
+import io.foxcapades.lib.opt.DoubleOption;
+import io.foxcapades.lib.opt.IntOption;
+import io.foxcapades.lib.opt.LongOption;
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.NullableDoubleOption;
+import io.foxcapades.lib.opt.NullableIntOption;
+import io.foxcapades.lib.opt.NullableLongOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.Option;
+import io.foxcapades.lib.opt.collection.AbstractOptionArray;
+import io.foxcapades.lib.opt.collection.NullableOptionArray;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Option Codec
+ * <p>
+ * Compact binary encoder and decoder for options over {@link ByteBuffer}s.
+ * <p>
+ * Each option is written as a single state tag byte, {@link #Absent},
+ * {@link #Null} or {@link #Present}, and present options are followed by
+ * their value as written by this codec's {@link ValueCodec}.  Empty and
+ * {@code null} options take a single byte.
+ * <pre>{@code
+ * var codec = OptionCodec.of(ValueCodecs.strings());
+ *
+ * codec.encode(Opt.nullable("hello"), buffer);
+ * buffer.flip();
+ *
+ * NullableOption<String> opt = codec.decode(buffer);
+ * }</pre>
+ * <p>
+ * Option codecs are value codecs themselves, so options may be nested:
+ * {@code OptionCodec.of(OptionCodec.of(ValueCodecs.ints()))}.
+ * <p>
+ * Options are read and written directly at the current position of the given
+ * buffer, which may be a heap or a direct buffer.  If a write does not fit in
+ * the buffer, or a read runs past the end of the buffer, the buffer position
+ * is reset to where it was before the call and the buffer exception is
+ * rethrown.
+ *
+ * <h2>Bulk Encoding</h2>
+ * The bulk methods write a 4 byte element count followed by each element as
+ * above, so option arrays and {@code AbstractOptionArray}s share a single
+ * format and may be decoded as either.
+ *
+ * <h2>Primitive Options</h2>
+ * The static {@code encodeInt}, {@code encodeLong} and {@code encodeDouble}
+ * methods and their {@code decode*} counterparts write primitive options in
+ * the same format as {@code OptionCodec.of(ValueCodecs.ints())} and friends,
+ * without boxing their values.
+ *
+ * @param <T> Type of the values wrapped by the options.
+ *
+ * @since 1.2.0
+ */
+public final class OptionCodec<T> implements ValueCodec<Option<T>> {
+  /**
+   * Tag of an empty option.
+   */
+  public static final byte Absent = 0;
+
+  /**
+   * Tag of an option wrapping {@code null}.
+   */
+  public static final byte Null = 1;
+
+  /**
+   * Tag of an option wrapping a value.  Followed by the encoded value.
+   */
+  public static final byte Present = 2;
+
+  private final ValueCodec<T> values;
+
+  private OptionCodec(ValueCodec<T> values) {
+    this.values = values;
+  }
+
+  /**
+   * Returns a codec for options whose values are encoded by the given codec.
+   *
+   * @param values Codec for the values of present options.
+   * @param <T>    Type of the values wrapped by the options.
+   *
+   * @return A new {@code OptionCodec}.
+   *
+   * @throws NullPointerException if the given codec is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> OptionCodec<T> of(@NotNull ValueCodec<T> values) {
+    return new OptionCodec<>(Objects.requireNonNull(values));
+  }
+
+  /**
+   * Returns the codec used for the values of present options.
+   *
+   * @return This codec's value codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public ValueCodec<T> valueCodec() {
+    return values;
+  }
+
+  @Override
+  public int encodedSize(@NotNull Option<T> option) {
+    if (option.isEmpty())
+      return 1;
+
+    var value = option.unwrap();
+
+    return value == null ? 1 : 1 + values.encodedSize(value);
+  }
+
+  @Override
+  public void encode(@NotNull Option<T> option, @NotNull ByteBuffer out) {
+    var start = out.position();
+
+    try {
+      write(option, out);
+    } catch (BufferOverflowException e) {
+      out.position(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Reads an option from the given buffer.
+   *
+   * @param in Buffer to read from.
+   *
+   * @return A {@code NullableOption} in the state that was read.
+   *
+   * @throws BufferUnderflowException if the given buffer ends before the end
+   *                                  of the option.
+   * @throws IllegalArgumentException if the buffer does not hold a valid state
+   *                                  tag.
+   */
+  @Override
+  public @NotNull NullableOption<T> decode(@NotNull ByteBuffer in) {
+    var start = in.position();
+
+    try {
+      return read(in);
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      in.position(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Reads an option that must not wrap {@code null} from the given buffer.
+   *
+   * @param in Buffer to read from.
+   *
+   * @return A {@code NonNullOption} in the state that was read.
+   *
+   * @throws BufferUnderflowException if the given buffer ends before the end
+   *                                  of the option.
+   * @throws IllegalArgumentException if the buffer does not hold a valid state
+   *                                  tag, or holds a {@code null} option.
+   */
+  public @NotNull NonNullOption<T> decodeNonNull(@NotNull ByteBuffer in) {
+    var start = in.position();
+
+    try {
+      var tag = in.get();
+
+      if (tag == Absent)
+        return Opt.standard().newNonNull();
+
+      if (tag == Present)
+        return Opt.standard().newNonNull(values.decode(in));
+
+      throw tag == Null
+        ? new IllegalArgumentException("expected a non-null option, found a null option")
+        : invalidTag(tag);
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      in.position(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Writes the given options to the given buffer, preceded by their count.
+   *
+   * @param options Options to write.  Must not contain {@code null}.
+   * @param out     Buffer to write to.
+   *
+   * @throws BufferOverflowException if the given buffer does not have enough
+   *                                 space remaining.
+   */
+  public void encodeAll(@NotNull Option<T>[] options, @NotNull ByteBuffer out) {
+    var start = out.position();
+
+    try {
+      out.putInt(options.length);
+
+      for (var option : options)
+        write(option, out);
+    } catch (BufferOverflowException e) {
+      out.position(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Reads options written by {@link #encodeAll(Option[], ByteBuffer)} or
+   * {@link #encodeArray(AbstractOptionArray, ByteBuffer)}.
+   *
+   * @param in Buffer to read from.
+   *
+   * @return An array of the options that were read.
+   *
+   * @throws BufferUnderflowException if the given buffer ends before the last
+   *                                  option, or holds a count larger than its
+   *                                  remaining bytes.
+   * @throws IllegalArgumentException if the buffer holds a negative count or
+   *                                  an invalid state tag.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull NullableOption<T>[] decodeAll(@NotNull ByteBuffer in) {
+    var start = in.position();
+
+    try {
+      var out = (NullableOption<T>[]) new NullableOption<?>[readCount(in)];
+
+      for (var i = 0; i < out.length; i++)
+        out[i] = read(in);
+
+      return out;
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      in.position(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Writes the elements of the given option array to the given buffer,
+   * preceded by their count.
+   * <p>
+   * Elements are read from the array directly, without creating option
+   * views.
+   *
+   * @param array Array to write.
+   * @param out   Buffer to write to.
+   *
+   * @throws BufferOverflowException if the given buffer does not have enough
+   *                                 space remaining.
+   */
+  public void encodeArray(@NotNull AbstractOptionArray<? extends T, ?> array, @NotNull ByteBuffer out) {
+    var start = out.position();
+    var size  = array.size();
+
+    try {
+      out.putInt(size);
+
+      for (var i = 0; i < size; i++) {
+        if (array.isEmpty(i)) {
+          out.put(Absent);
+        } else {
+          var value = array.unwrap(i);
+
+          if (value == null) {
+            out.put(Null);
+          } else {
+            out.put(Present);
+            values.encode(value, out);
+          }
+        }
+      }
+    } catch (BufferOverflowException e) {
+      out.position(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Reads options written by {@link #encodeAll(Option[], ByteBuffer)} or
+   * {@link #encodeArray(AbstractOptionArray, ByteBuffer)} into a new
+   * {@code NullableOptionArray}.
+   * <p>
+   * Values are stored into the array directly, without creating options.
+   *
+   * @param in Buffer to read from.
+   *
+   * @return A new array of the options that were read.
+   *
+   * @throws BufferUnderflowException if the given buffer ends before the last
+   *                                  option, or holds a count larger than its
+   *                                  remaining bytes.
+   * @throws IllegalArgumentException if the buffer holds a negative count or
+   *                                  an invalid state tag.
+   */
+  public @NotNull NullableOptionArray<T> decodeArray(@NotNull ByteBuffer in) {
+    var start = in.position();
+
+    try {
+      var size = readCount(in);
+      var out  = new NullableOptionArray<T>(size);
+
+      for (var i = 0; i < size; i++) {
+        var tag = in.get();
+
+        switch (tag) {
+          case Absent  -> out.addEmpty();
+          case Null    -> out.add(null);
+          case Present -> out.add(values.decode(in));
+          default      -> throw invalidTag(tag);
+        }
+      }
+
+      return out;
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      in.position(start);
+      throw e;
+    }
+  }
+
+  /**
+   * Writes the given option to the given buffer without boxing its value.
+   *
+   * @param option Option to write.
+   * @param out    Buffer to write to.
+   *
+   * @throws BufferOverflowException if the given buffer does not have enough
+   *                                 space remaining.
+   */
+  public static void encodeInt(@NotNull IntOption option, @NotNull ByteBuffer out) {
+    if (option.isEmpty()) {
+      out.put(Absent);
+    } else {
+      checkRemaining(out, 1 + Integer.BYTES);
+      out.put(Present).putInt(option.unwrap());
+    }
+  }
+
+  /**
+   * Writes the given option to the given buffer without boxing its value.
+   *
+   * @param option Option to write.
+   * @param out    Buffer to write to.
+   *
+   * @throws BufferOverflowException if the given buffer does not have enough
+   *                                 space remaining.
+   */
+  public static void encodeInt(@NotNull NullableIntOption option, @NotNull ByteBuffer out) {
+    if (option.isEmpty()) {
+      out.put(Absent);
+    } else if (option.isNull()) {
+      out.put(Null);
+    } else {
+      checkRemaining(out, 1 + Integer.BYTES);
+      out.put(Present).putInt(option.unwrap());
+    }
+  }
+
+  /**
+   * Reads an {@code int} option from the given buffer without boxing its
+   * value.
+   *
+   * @param in Buffer to read from.
+   *
+   * @return A {@code NullableIntOption} in the state that was read.
+   *
+   * @throws BufferUnderflowException if the given buffer ends before the end
+   *                                  of the option.
+   * @throws IllegalArgumentException if the buffer does not hold a valid state
+   *                                  tag.
+   */
+  public static @NotNull NullableIntOption decodeInt(@NotNull ByteBuffer in) {
+    return switch (readTag(in, Integer.BYTES)) {
+      case Absent -> Opt.standard().newNullableInt();
+      case Null   -> Opt.standard().newNullInt();
+      default     -> Opt.standard().newNullableInt(in.getInt());
+    };
+  }
+
+  /**
+   * Writes the given option to the given buffer without boxing its value.
+   *
+   * @param option Option to write.
+   * @param out    Buffer to write to.
+   *
+   * @throws BufferOverflowException if the given buffer does not have enough
+   *                                 space remaining.
+   */
+  public static void encodeLong(@NotNull LongOption option, @NotNull ByteBuffer out) {
+    if (option.isEmpty()) {
+      out.put(Absent);
+    } else {
+      checkRemaining(out, 1 + Long.BYTES);
+      out.put(Present).putLong(option.unwrap());
+    }
+  }
+
+  /**
+   * Writes the given option to the given buffer without boxing its value.
+   *
+   * @param option Option to write.
+   * @param out    Buffer to write to.
+   *
+   * @throws BufferOverflowException if the given buffer does not have enough
+   *                                 space remaining.
+   */
+  public static void encodeLong(@NotNull NullableLongOption option, @NotNull ByteBuffer out) {
+    if (option.isEmpty()) {
+      out.put(Absent);
+    } else if (option.isNull()) {
+      out.put(Null);
+    } else {
+      checkRemaining(out, 1 + Long.BYTES);
+      out.put(Present).putLong(option.unwrap());
+    }
+  }
+
+  /**
+   * Reads a {@code long} option from the given buffer without boxing its
+   * value.
+   *
+   * @param in Buffer to read from.
+   *
+   * @return A {@code NullableLongOption} in the state that was read.
+   *
+   * @throws BufferUnderflowException if the given buffer ends before the end
+   *                                  of the option.
+   * @throws IllegalArgumentException if the buffer does not hold a valid state
+   *                                  tag.
+   */
+  public static @NotNull NullableLongOption decodeLong(@NotNull ByteBuffer in) {
+    return switch (readTag(in, Long.BYTES)) {
+      case Absent -> Opt.standard().newNullableLong();
+      case Null   -> Opt.standard().newNullLong();
+      default     -> Opt.standard().newNullableLong(in.getLong());
+    };
+  }
+
+  /**
+   * Writes the given option to the given buffer without boxing its value.
+   *
+   * @param option Option to write.
+   * @param out    Buffer to write to.
+   *
+   * @throws BufferOverflowException if the given buffer does not have enough
+   *                                 space remaining.
+   */
+  public static void encodeDouble(@NotNull DoubleOption option, @NotNull ByteBuffer out) {
+    if (option.isEmpty()) {
+      out.put(Absent);
+    } else {
+      checkRemaining(out, 1 + Double.BYTES);
+      out.put(Present).putDouble(option.unwrap());
+    }
+  }
+
+  /**
+   * Writes the given option to the given buffer without boxing its value.
+   *
+   * @param option Option to write.
+   * @param out    Buffer to write to.
+   *
+   * @throws BufferOverflowException if the given buffer does not have enough
+   *                                 space remaining.
+   */
+  public static void encodeDouble(@NotNull NullableDoubleOption option, @NotNull ByteBuffer out) {
+    if (option.isEmpty()) {
+      out.put(Absent);
+    } else if (option.isNull()) {
+      out.put(Null);
+    } else {
+      checkRemaining(out, 1 + Double.BYTES);
+      out.put(Present).putDouble(option.unwrap());
+    }
+  }
+
+  /**
+   * Reads a {@code double} option from the given buffer without boxing its
+   * value.
+   *
+   * @param in Buffer to read from.
+   *
+   * @return A {@code NullableDoubleOption} in the state that was read.
+   *
+   * @throws BufferUnderflowException if the given buffer ends before the end
+   *                                  of the option.
+   * @throws IllegalArgumentException if the buffer does not hold a valid state
+   *                                  tag.
+   */
+  public static @NotNull NullableDoubleOption decodeDouble(@NotNull ByteBuffer in) {
+    return switch (readTag(in, Double.BYTES)) {
+      case Absent -> Opt.standard().newNullableDouble();
+      case Null   -> Opt.standard().newNullDouble();
+      default     -> Opt.standard().newNullableDouble(in.getDouble());
+    };
+  }
+
+  private void write(Option<T> option, ByteBuffer out) {
+    if (option.isEmpty()) {
+      out.put(Absent);
+      return;
+    }
+
+    var value = option.unwrap();
+
+    if (value == null) {
+      out.put(Null);
+    } else {
+      out.put(Present);
+      values.encode(value, out);
+    }
+  }
+
+  private NullableOption<T> read(ByteBuffer in) {
+    var tag = in.get();
+
+    return switch (tag) {
+      case Absent  -> Opt.standard().newNullable();
+      case Null    -> Opt.standard().newNullable(null);
+      case Present -> Opt.standard().newNullable(values.decode(in));
+      default      -> throw invalidTag(tag);
+    };
+  }
+
+  private static int readCount(ByteBuffer in) {
+    var count = in.getInt();
+
+    if (count < 0)
+      throw new IllegalArgumentException("invalid option count " + count);
+
+    // Every option takes at least its tag byte, so a count larger than the
+    // remaining bytes cannot be valid; checking before allocating keeps a
+    // corrupt count from exhausting the heap.
+    if (count > in.remaining())
+      throw new BufferUnderflowException();
+
+    return count;
+  }
+
+  /**
+   * Reads the tag of a primitive option, checking up front that the value of
+   * a present option is also in the buffer so that a failed read consumes
+   * nothing.
+   */
+  private static byte readTag(ByteBuffer in, int width) {
+    if (!in.hasRemaining())
+      throw new BufferUnderflowException();
+
+    var tag = in.get(in.position());
+
+    if (tag != Absent && tag != Null && tag != Present)
+      throw invalidTag(tag);
+
+    if (tag == Present && in.remaining() < 1 + width)
+      throw new BufferUnderflowException();
+
+    in.position(in.position() + 1);
+    return tag;
+  }
+
+  /**
+   * Checks that the given buffer has room for a present primitive option so
+   * that a failed write writes nothing.
+   */
+  private static void checkRemaining(ByteBuffer out, int size) {
+    if (out.remaining() < size)
+      throw new BufferOverflowException();
+  }
+
+  private static IllegalArgumentException invalidTag(byte tag) {
+    return new IllegalArgumentException("invalid option state tag " + tag);
+  }
+}
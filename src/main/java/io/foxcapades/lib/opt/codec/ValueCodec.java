@@ -0,0 +1,61 @@
+package io.foxcapades.lib.opt.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Value Codec
+ * <p>
+ * Binary encoder and decoder for non-{@code null} values of a single type,
+ * used by {@link OptionCodec} to encode the values of present options.
+ * <p>
+ * Codecs read and write at the current position of the given buffer and
+ * advance it past the encoded value.  Multi-byte numbers are written in the
+ * byte order of the buffer.  Codecs must work with both heap and direct
+ * buffers.
+ * <p>
+ * Built-in codecs are provided by {@link ValueCodecs}.
+ *
+ * @param <T> Type of the values encoded by this codec.
+ *
+ * @since 1.2.0
+ */
+public interface ValueCodec<T> {
+
+  /**
+   * Returns the number of bytes {@link #encode(Object, ByteBuffer)} will write
+   * for the given value.
+   *
+   * @param value Value to measure.
+   *
+   * @return The encoded size of the given value in bytes.
+   */
+  int encodedSize(@NotNull T value);
+
+  /**
+   * Writes the given value to the given buffer.
+   *
+   * @param value Value to write.
+   * @param out   Buffer to write to.
+   *
+   * @throws BufferOverflowException if the given buffer does not have enough
+   *                                 space remaining.
+   */
+  void encode(@NotNull T value, @NotNull ByteBuffer out);
+
+  /**
+   * Reads a value from the given buffer.
+   *
+   * @param in Buffer to read from.
+   *
+   * @return The value that was read.
+   *
+   * @throws BufferUnderflowException if the given buffer ends before the end
+   *                                  of the value.
+   */
+  @NotNull
+  T decode(@NotNull ByteBuffer in);
+}
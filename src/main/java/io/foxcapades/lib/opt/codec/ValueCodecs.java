@@ -0,0 +1,424 @@
+package io.foxcapades.lib.opt.codec;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Value Codecs
+ * <p>
+ * Built-in {@link ValueCodec} implementations.
+ * <p>
+ * Primitive wrapper values are written at their natural width using the byte
+ * order of the buffer, and booleans are written as a single byte.  Options may
+ * be nested by passing an {@link OptionCodec} wherever a value codec is
+ * expected.
+ *
+ * @since 1.2.0
+ */
+public final class ValueCodecs {
+  private ValueCodecs() {}
+
+  /**
+   * Returns a codec that writes booleans as a single byte, {@code 1} for
+   * {@code true} and {@code 0} for {@code false}.
+   * <p>
+   * Any non-zero byte decodes as {@code true}.
+   *
+   * @return A boolean codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ValueCodec<Boolean> booleans() {
+    return Booleans.Instance;
+  }
+
+  /**
+   * Returns a codec that writes bytes as-is.
+   *
+   * @return A byte codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ValueCodec<Byte> bytes() {
+    return Bytes.Instance;
+  }
+
+  /**
+   * Returns a codec that writes shorts as 2 bytes.
+   *
+   * @return A short codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ValueCodec<Short> shorts() {
+    return Shorts.Instance;
+  }
+
+  /**
+   * Returns a codec that writes ints as 4 bytes.
+   *
+   * @return An int codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ValueCodec<Integer> ints() {
+    return Ints.Instance;
+  }
+
+  /**
+   * Returns a codec that writes longs as 8 bytes.
+   *
+   * @return A long codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ValueCodec<Long> longs() {
+    return Longs.Instance;
+  }
+
+  /**
+   * Returns a codec that writes floats as their 4 byte IEEE 754 bits.
+   *
+   * @return A float codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ValueCodec<Float> floats() {
+    return Floats.Instance;
+  }
+
+  /**
+   * Returns a codec that writes doubles as their 8 byte IEEE 754 bits.
+   *
+   * @return A double codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ValueCodec<Double> doubles() {
+    return Doubles.Instance;
+  }
+
+  /**
+   * Returns a codec that writes strings as a 4 byte length followed by that
+   * many bytes of UTF-8.
+   * <p>
+   * Strings are encoded directly into the buffer without creating a byte
+   * array.  As with {@link String#getBytes(java.nio.charset.Charset)},
+   * unpaired surrogates are written as {@code '?'}, and malformed input is
+   * decoded as {@code U+FFFD}.
+   *
+   * @return A UTF-8 string codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ValueCodec<String> strings() {
+    return Strings.Instance;
+  }
+
+  private enum Booleans implements ValueCodec<Boolean> {
+    Instance;
+
+    @Override
+    public int encodedSize(@NotNull Boolean value) {
+      return 1;
+    }
+
+    @Override
+    public void encode(@NotNull Boolean value, @NotNull ByteBuffer out) {
+      out.put(value ? (byte) 1 : (byte) 0);
+    }
+
+    @Override
+    public @NotNull Boolean decode(@NotNull ByteBuffer in) {
+      return in.get() != 0;
+    }
+  }
+
+  private enum Bytes implements ValueCodec<Byte> {
+    Instance;
+
+    @Override
+    public int encodedSize(@NotNull Byte value) {
+      return Byte.BYTES;
+    }
+
+    @Override
+    public void encode(@NotNull Byte value, @NotNull ByteBuffer out) {
+      out.put(value);
+    }
+
+    @Override
+    public @NotNull Byte decode(@NotNull ByteBuffer in) {
+      return in.get();
+    }
+  }
+
+  private enum Shorts implements ValueCodec<Short> {
+    Instance;
+
+    @Override
+    public int encodedSize(@NotNull Short value) {
+      return Short.BYTES;
+    }
+
+    @Override
+    public void encode(@NotNull Short value, @NotNull ByteBuffer out) {
+      out.putShort(value);
+    }
+
+    @Override
+    public @NotNull Short decode(@NotNull ByteBuffer in) {
+      return in.getShort();
+    }
+  }
+
+  private enum Ints implements ValueCodec<Integer> {
+    Instance;
+
+    @Override
+    public int encodedSize(@NotNull Integer value) {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public void encode(@NotNull Integer value, @NotNull ByteBuffer out) {
+      out.putInt(value);
+    }
+
+    @Override
+    public @NotNull Integer decode(@NotNull ByteBuffer in) {
+      return in.getInt();
+    }
+  }
+
+  private enum Longs implements ValueCodec<Long> {
+    Instance;
+
+    @Override
+    public int encodedSize(@NotNull Long value) {
+      return Long.BYTES;
+    }
+
+    @Override
+    public void encode(@NotNull Long value, @NotNull ByteBuffer out) {
+      out.putLong(value);
+    }
+
+    @Override
+    public @NotNull Long decode(@NotNull ByteBuffer in) {
+      return in.getLong();
+    }
+  }
+
+  private enum Floats implements ValueCodec<Float> {
+    Instance;
+
+    @Override
+    public int encodedSize(@NotNull Float value) {
+      return Float.BYTES;
+    }
+
+    @Override
+    public void encode(@NotNull Float value, @NotNull ByteBuffer out) {
+      out.putFloat(value);
+    }
+
+    @Override
+    public @NotNull Float decode(@NotNull ByteBuffer in) {
+      return in.getFloat();
+    }
+  }
+
+  private enum Doubles implements ValueCodec<Double> {
+    Instance;
+
+    @Override
+    public int encodedSize(@NotNull Double value) {
+      return Double.BYTES;
+    }
+
+    @Override
+    public void encode(@NotNull Double value, @NotNull ByteBuffer out) {
+      out.putDouble(value);
+    }
+
+    @Override
+    public @NotNull Double decode(@NotNull ByteBuffer in) {
+      return in.getDouble();
+    }
+  }
+
+  private enum Strings implements ValueCodec<String> {
+    Instance;
+
+    private static final char Replacement = '\uFFFD';
+
+    @Override
+    public int encodedSize(@NotNull String value) {
+      return Integer.BYTES + utf8Length(value);
+    }
+
+    @Override
+    public void encode(@NotNull String value, @NotNull ByteBuffer out) {
+      var len = utf8Length(value);
+
+      // Checked up front so that nothing is written if the string won't fit.
+      if (out.remaining() < Integer.BYTES + len)
+        throw new BufferOverflowException();
+
+      out.putInt(len);
+
+      var pos = out.position();
+      var n   = value.length();
+
+      for (var i = 0; i < n; i++) {
+        var c = value.charAt(i);
+
+        if (c < 0x80) {
+          out.put(pos++, (byte) c);
+        } else if (c < 0x800) {
+          out.put(pos++, (byte) (0xC0 | (c >> 6)));
+          out.put(pos++, (byte) (0x80 | (c & 0x3F)));
+        } else if (!Character.isSurrogate(c)) {
+          out.put(pos++, (byte) (0xE0 | (c >> 12)));
+          out.put(pos++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+          out.put(pos++, (byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+          var cp = Character.toCodePoint(c, value.charAt(++i));
+          out.put(pos++, (byte) (0xF0 | (cp >> 18)));
+          out.put(pos++, (byte) (0x80 | ((cp >> 12) & 0x3F)));
+          out.put(pos++, (byte) (0x80 | ((cp >> 6) & 0x3F)));
+          out.put(pos++, (byte) (0x80 | (cp & 0x3F)));
+        } else {
+          out.put(pos++, (byte) '?');
+        }
+      }
+
+      out.position(pos);
+    }
+
+    @Override
+    public @NotNull String decode(@NotNull ByteBuffer in) {
+      var start = in.position();
+      var len   = in.getInt();
+
+      if (len < 0) {
+        in.position(start);
+        throw new IllegalArgumentException("invalid string length " + len);
+      }
+
+      if (in.remaining() < len) {
+        in.position(start);
+        throw new BufferUnderflowException();
+      }
+
+      var pos = in.position();
+      in.position(pos + len);
+
+      // Heap buffers are decoded straight from their backing array.
+      if (in.hasArray())
+        return new String(in.array(), in.arrayOffset() + pos, len, StandardCharsets.UTF_8);
+
+      return decodeDirect(in, pos, pos + len);
+    }
+
+    /**
+     * Decodes UTF-8 from a direct buffer.
+     * <p>
+     * Malformed sequences are replaced the same way as the JDK decoder does:
+     * each maximal prefix of a valid sequence becomes one {@code U+FFFD}.
+     */
+    private static String decodeDirect(ByteBuffer in, int pos, int end) {
+      var chars = new char[end - pos];
+      var n     = 0;
+
+      while (pos < end) {
+        int b = in.get(pos++);
+
+        if (b >= 0) {
+          chars[n++] = (char) b;
+          continue;
+        }
+
+        var lead = b & 0xFF;
+        int need, cp, lo, hi;
+
+        // Valid byte ranges per Unicode table 3-7, which excludes overlong
+        // forms and code points past U+10FFFF.  Encoded surrogates are only
+        // rejected once the whole sequence is read, as the JDK does.
+        if (lead >= 0xC2 && lead <= 0xDF) {
+          need = 1;
+          cp   = lead & 0x1F;
+          lo   = 0x80;
+          hi   = 0xBF;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+          need = 2;
+          cp   = lead & 0x0F;
+          lo   = lead == 0xE0 ? 0xA0 : 0x80;
+          hi   = 0xBF;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+          need = 3;
+          cp   = lead & 0x07;
+          lo   = lead == 0xF0 ? 0x90 : 0x80;
+          hi   = lead == 0xF4 ? 0x8F : 0xBF;
+        } else {
+          chars[n++] = Replacement;
+          continue;
+        }
+
+        for (; need > 0 && pos < end; need--, pos++) {
+          var c = in.get(pos) & 0xFF;
+
+          if (c < lo || c > hi)
+            break;
+
+          cp = (cp << 6) | (c & 0x3F);
+          lo = 0x80;
+          hi = 0xBF;
+        }
+
+        if (need > 0 || (cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE)) {
+          chars[n++] = Replacement;
+        } else if (cp >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+          chars[n++] = Character.highSurrogate(cp);
+          chars[n++] = Character.lowSurrogate(cp);
+        } else {
+          chars[n++] = (char) cp;
+        }
+      }
+
+      return new String(chars, 0, n);
+    }
+
+    private static int utf8Length(String value) {
+      var n   = value.length();
+      var out = n;
+
+      for (var i = 0; i < n; i++) {
+        var c = value.charAt(i);
+
+        if (c < 0x80)
+          continue;
+
+        if (c < 0x800) {
+          out += 1;
+        } else if (!Character.isSurrogate(c)) {
+          out += 2;
+        } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+          // Two chars become four bytes.
+          out += 2;
+          i++;
+        }
+
+        // Unpaired surrogates are written as a single '?'.
+      }
+
+      return out;
+    }
+  }
+}
@@ -0,0 +1,479 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.Option;
+import io.foxcapades.lib.opt.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Base implementation of a growable, columnar array of options.
+ * <p>
+ * Rather than holding an {@link Option} instance per element, option arrays
+ * store the wrapped values in a single {@code Object[]} alongside a presence
+ * bitmap.  {@code Option} instances are only created when requested through
+ * {@link #get(int)}.
+ *
+ * <h2>Parallel Operations</h2>
+ * The {@code parallel*} bulk operations split the array into ranges that are
+ * processed by a {@link java.util.concurrent.ForkJoinPool}: the pool of the
+ * calling task if called from within one, otherwise the common pool.  Ranges
+ * are always split on multiples of 512 elements, so each worker touches its
+ * own 64 byte lines of the presence bitmap and no two workers ever write the
+ * same bitmap word.
+ * <p>
+ * The array must not be modified while a parallel operation is running.
+ *
+ * @param <T> Type of the values in the array.
+ * @param <O> Type of the option views handed out by this array.
+ *
+ * @since 1.2.0
+ */
+public abstract class AbstractOptionArray<T, O extends Option<T>> {
+  /**
+   * Capacity used when no initial capacity is given.
+   */
+  protected static final int DefaultCapacity = 10;
+
+  /**
+   * Largest capacity that is requested, leaving room for VM array headers.
+   */
+  private static final int MaxCapacity = Integer.MAX_VALUE - 8;
+
+  /**
+   * Element values.  Slots for empty elements always hold {@code null}.
+   */
+  protected Object[] values;
+
+  /**
+   * Presence bitmap.  A set bit means the element at that index is not empty.
+   */
+  protected long[] present;
+
+  /**
+   * Number of elements in this array.
+   */
+  protected int size;
+
+  /**
+   * Constructs a new, empty option array with the given initial capacity.
+   *
+   * @param capacity Initial capacity.
+   *
+   * @throws IllegalArgumentException if the given capacity is negative.
+   */
+  protected AbstractOptionArray(int capacity) {
+    if (capacity < 0)
+      throw new IllegalArgumentException("Illegal capacity: " + capacity);
+
+    this.values  = new Object[capacity];
+    this.present = new long[Bits.words(capacity)];
+  }
+
+  /**
+   * Constructs a new option array around the given backing arrays.
+   *
+   * @param values  Element values.
+   * @param present Presence bitmap.
+   * @param size    Number of elements.
+   */
+  protected AbstractOptionArray(Object[] values, long[] present, int size) {
+    this.values  = values;
+    this.present = present;
+    this.size    = size;
+  }
+
+  /**
+   * Returns the number of elements in this array.
+   *
+   * @return The number of elements in this array.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Tests whether the element at the given index is not empty.
+   *
+   * @param index Index of the element to test.
+   *
+   * @return {@code true} if the element at the given index is not empty.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public boolean isPresent(int index) {
+    return Bits.get(present, Objects.checkIndex(index, size));
+  }
+
+  /**
+   * Tests whether the element at the given index is empty.
+   *
+   * @param index Index of the element to test.
+   *
+   * @return {@code true} if the element at the given index is empty.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public boolean isEmpty(int index) {
+    return !isPresent(index);
+  }
+
+  /**
+   * Returns an option view of the element at the given index.
+   *
+   * @param index Index of the element to retrieve.
+   *
+   * @return An option in the same state as the element at the given index.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public abstract @NotNull O get(int index);
+
+  /**
+   * Unwraps the value of the element at the given index.
+   *
+   * @param index Index of the element to unwrap.
+   *
+   * @return The value of the element at the given index.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws UnwrapException           if the element at the given index is
+   *                                   empty.
+   */
+  @SuppressWarnings("unchecked")
+  public T unwrap(int index) throws UnwrapException {
+    if (!isPresent(index))
+      throw Opt.standard().newUnwrapException(get(index));
+
+    return (T) values[index];
+  }
+
+  /**
+   * Returns the value of the element at the given index if it is not empty,
+   * otherwise returns the given fallback value.
+   *
+   * @param index Index of the element.
+   * @param other Fallback value.
+   *
+   * @return The value of the element at the given index or {@code other}.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable T or(int index, @Nullable T other) {
+    return isPresent(index) ? (T) values[index] : other;
+  }
+
+  /**
+   * Sets the element at the given index to empty.
+   *
+   * @param index Index of the element to clear.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public void clear(int index) {
+    Objects.checkIndex(index, size);
+    values[index] = null;
+    Bits.clear(present, index);
+  }
+
+  /**
+   * Appends an empty element to the end of this array.
+   */
+  public void addEmpty() {
+    ensureCapacity(size + 1);
+    size++;
+  }
+
+  /**
+   * Counts the non-empty elements in this array.
+   *
+   * @return The number of non-empty elements in this array.
+   */
+  public int countPresent() {
+    return Bits.count(present, 0, size);
+  }
+
+  /**
+   * Counts the empty elements in this array.
+   *
+   * @return The number of empty elements in this array.
+   */
+  public int countEmpty() {
+    return size - countPresent();
+  }
+
+  /**
+   * Counts the non-empty elements in this array whose values pass the given
+   * predicate.
+   * <p>
+   * The given predicate is not called for empty elements.
+   *
+   * @param fn Predicate to test the non-empty values with.
+   *
+   * @return The number of non-empty values that passed the given predicate.
+   *
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  public int count(@NotNull Predicate<? super T> fn) {
+    Objects.requireNonNull(fn);
+    return countRange(fn, 0, size);
+  }
+
+  /**
+   * Counts the non-empty elements in this array, in parallel.
+   *
+   * @return The number of non-empty elements in this array.
+   */
+  public int parallelCountPresent() {
+    return Parallel.reduce(size, (from, to) -> Bits.count(present, (int) from, (int) to), Integer::sum);
+  }
+
+  /**
+   * Counts the non-empty elements in this array whose values pass the given
+   * predicate, in parallel.
+   * <p>
+   * The given predicate is not called for empty elements, and may be called
+   * concurrently from multiple threads.
+   *
+   * @param fn Predicate to test the non-empty values with.
+   *
+   * @return The number of non-empty values that passed the given predicate.
+   *
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  public int parallelCount(@NotNull Predicate<? super T> fn) {
+    Objects.requireNonNull(fn);
+    return Parallel.reduce(size, (from, to) -> countRange(fn, (int) from, (int) to), Integer::sum);
+  }
+
+  /**
+   * Reduces the values of the non-empty elements of this array, in parallel.
+   * <p>
+   * Each worker folds the values in its range into a copy of the identity
+   * value with the given accumulator, and the partial results are merged in
+   * index order with the given combiner.  As with
+   * {@link java.util.stream.Stream#reduce(Object, BiFunction, BinaryOperator)},
+   * the identity value must be an identity for the combiner, and the
+   * accumulator and combiner must be associative, non-interfering and
+   * stateless.
+   *
+   * @param identity    Identity value.
+   * @param accumulator Function that folds a value into a partial result.
+   * @param combiner    Function that merges two partial results.
+   *
+   * @param <R> Type of the result.
+   *
+   * @return The result of the reduction.
+   *
+   * @throws NullPointerException if the given accumulator or combiner is
+   *                              {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public <R> R parallelReduce(
+    R identity,
+    @NotNull BiFunction<R, ? super T, R> accumulator,
+    @NotNull BinaryOperator<R> combiner
+  ) {
+    Objects.requireNonNull(accumulator);
+    Objects.requireNonNull(combiner);
+
+    return Parallel.reduce(size, (from, to) -> {
+      var out = identity;
+      var end = (int) to;
+
+      for (var i = Bits.next(present, (int) from, end); i > -1; i = Bits.next(present, i + 1, end))
+        out = accumulator.apply(out, (T) values[i]);
+
+      return out;
+    }, combiner);
+  }
+
+  /**
+   * Sorts this array so that empty elements come first, followed by the
+   * non-empty elements ordered by the given comparator.
+   * <p>
+   * See {@link #sortEmptyLast(Comparator)} for how the sort is performed.
+   *
+   * @param cmp Comparator used to order the values of non-empty elements.
+   *
+   * @throws NullPointerException if the given comparator is {@code null}.
+   */
+  public void sortEmptyFirst(@NotNull Comparator<? super T> cmp) {
+    sort(Objects.requireNonNull(cmp), true);
+  }
+
+  /**
+   * Sorts this array so that the non-empty elements come first, ordered by the
+   * given comparator, followed by the empty elements.
+   * <p>
+   * Elements are partitioned by state using the bitmaps, so the given
+   * comparator is only ever called with values and no options are created.
+   * The values are sorted with a stable sort.
+   * <p>
+   * {@link NullableOptionArray}s place {@code null} elements directly before
+   * the elements holding a value, and never pass {@code null} to the given
+   * comparator.
+   *
+   * @param cmp Comparator used to order the values of non-empty elements.
+   *
+   * @throws NullPointerException if the given comparator is {@code null}.
+   */
+  public void sortEmptyLast(@NotNull Comparator<? super T> cmp) {
+    sort(Objects.requireNonNull(cmp), false);
+  }
+
+  /**
+   * Returns a {@code Spliterator} over the values of the non-empty elements of
+   * this array, in index order.
+   * <p>
+   * The returned spliterator reports exact sizes, and splits on the same
+   * boundaries as the {@code parallel*} operations, making it suitable for
+   * parallel streams:
+   * <pre>{@code
+   * StreamSupport.stream(array.spliterator(), true)
+   * }</pre>
+   *
+   * @return A {@code Spliterator} over the non-empty values of this array.
+   */
+  public @NotNull Spliterator<T> spliterator() {
+    return new PresentSpliterator<>(values, present, 0, size);
+  }
+
+  /**
+   * Calls the given function with the value and index of every non-empty
+   * element in this array, in index order.
+   *
+   * @param fn Function to call.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachPresent(@NotNull ObjIntConsumer<? super T> fn) {
+    Objects.requireNonNull(fn);
+
+    for (var i = Bits.next(present, 0, size); i > -1; i = Bits.next(present, i + 1, size))
+      fn.accept((T) values[i], i);
+  }
+
+  /**
+   * Increases the capacity of this array, if necessary, to hold at least the
+   * given number of elements.
+   * <p>
+   * When growing, the capacity is increased by at least half of the current
+   * capacity so that repeated appends run in amortized constant time, up to a
+   * maximum of {@code Integer.MAX_VALUE - 8} elements.
+   *
+   * @param minCapacity Desired minimum capacity.
+   *
+   * @throws OutOfMemoryError if the given capacity is greater than the maximum
+   *                          capacity.
+   */
+  public void ensureCapacity(int minCapacity) {
+    if (minCapacity <= values.length)
+      return;
+
+    if (minCapacity > MaxCapacity)
+      throw new OutOfMemoryError("required option array capacity " + minCapacity + " exceeds the maximum of " + MaxCapacity);
+
+    // Grow in long arithmetic so that capacities near the maximum can't
+    // overflow.
+    var grown = values.length + ((long) values.length >> 1);
+
+    resize((int) Math.min(MaxCapacity, Math.max(minCapacity, grown)));
+  }
+
+  /**
+   * Trims the capacity of this array to its current size.
+   */
+  public void trimToSize() {
+    if (values.length > size)
+      resize(size);
+  }
+
+  /**
+   * Resizes the backing arrays of this option array to the given capacity.
+   * <p>
+   * Implementations with additional backing arrays should override this
+   * method to resize them as well.
+   *
+   * @param capacity New capacity.
+   */
+  protected void resize(int capacity) {
+    values  = Arrays.copyOf(values, capacity);
+    present = Arrays.copyOf(present, Bits.words(capacity));
+  }
+
+  /**
+   * Sorts this array by state, then sorts the non-empty values with the given
+   * comparator.
+   * <p>
+   * Implementations with additional state bitmaps should override this method
+   * to partition by those states as well.
+   *
+   * @param cmp        Comparator used to order the values of non-empty
+   *                   elements.
+   * @param emptyFirst Whether empty elements should be placed before the
+   *                   non-empty elements.
+   */
+  @SuppressWarnings("unchecked")
+  protected void sort(Comparator<? super T> cmp, boolean emptyFirst) {
+    var count = countPresent();
+    var buf   = new Object[count];
+    var n     = 0;
+
+    for (var i = Bits.next(present, 0, size); i > -1; i = Bits.next(present, i + 1, size))
+      buf[n++] = values[i];
+
+    Arrays.sort((T[]) buf, cmp);
+
+    var start = emptyFirst ? size - count : 0;
+
+    Arrays.fill(values, 0, size, null);
+    System.arraycopy(buf, 0, values, start, count);
+
+    Bits.fill(present, 0, size, false);
+    Bits.fill(present, start, start + count, true);
+  }
+
+  /**
+   * Counts the non-empty elements in the given range whose values pass the
+   * given predicate.
+   *
+   * @param fn   Predicate to test the non-empty values with.
+   * @param from Start of the range, inclusive.
+   * @param to   End of the range, exclusive.
+   *
+   * @return The number of non-empty values in the range that passed the given
+   * predicate.
+   */
+  @SuppressWarnings("unchecked")
+  protected int countRange(Predicate<? super T> fn, int from, int to) {
+    var out = 0;
+
+    for (var i = Bits.next(present, from, to); i > -1; i = Bits.next(present, i + 1, to))
+      if (fn.test((T) values[i]))
+        out++;
+
+    return out;
+  }
+
+  /**
+   * Reserves the next slot at the end of this array and returns its index.
+   *
+   * @return The index of the newly appended slot.
+   */
+  protected int append() {
+    ensureCapacity(size + 1);
+    return size++;
+  }
+}
@@ -0,0 +1,602 @@
+package io.foxcapades.lib.opt.collection;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Base implementation of an off-heap column of primitive options.
+ * <p>
+ * Option columns store their values, presence bitmap and null bitmap in
+ * direct memory, allocated in fixed size chunks of {@link #ChunkSize}
+ * elements.  Appending to a column never copies existing data, and columns may
+ * hold more than {@code Integer.MAX_VALUE} elements.
+ * <p>
+ * Columns hold native memory and should be closed when no longer needed.  Once
+ * a column has been closed, any further access will throw an
+ * {@link IllegalStateException}.
+ * <p>
+ * Columns are not thread safe.  The {@code parallel*} bulk operations split a
+ * column on multiples of 512 elements and process the ranges in a
+ * {@link java.util.concurrent.ForkJoinPool}; the column must not be modified
+ * or closed while they run.
+ *
+ * @since 1.2.0
+ */
+public abstract class AbstractOptionColumn implements AutoCloseable {
+  /**
+   * Log2 of the number of elements per chunk.
+   */
+  protected static final int ChunkShift = 16;
+
+  /**
+   * Number of elements per chunk.
+   */
+  protected static final int ChunkSize = 1 << ChunkShift;
+
+  /**
+   * Mask used to get the position of an element within its chunk.
+   */
+  protected static final int ChunkMask = ChunkSize - 1;
+
+  private static final int BitmapBytes = ChunkSize >>> 3;
+
+  /**
+   * Largest number of values that can be sorted, limited by the heap array the
+   * values are sorted in.
+   */
+  private static final int MaxSortValues = Integer.MAX_VALUE - 8;
+
+  /**
+   * Size in bytes of a single element.
+   */
+  private final int width;
+
+  /**
+   * Value chunks.
+   */
+  protected ByteBuffer[] data;
+
+  /**
+   * Presence bitmap chunks.  A set bit means the element at that index is not
+   * empty.
+   */
+  protected ByteBuffer[] present;
+
+  /**
+   * Null bitmap chunks.  A set bit means the element at that index is
+   * {@code null}.
+   */
+  protected ByteBuffer[] nulls;
+
+  /**
+   * Number of allocated chunks.
+   */
+  protected int chunks;
+
+  /**
+   * Number of elements in this column.
+   */
+  protected long size;
+
+  /**
+   * Constructs a new, empty column.
+   *
+   * @param width Size in bytes of a single element.
+   */
+  protected AbstractOptionColumn(int width) {
+    this.width   = width;
+    this.data    = new ByteBuffer[4];
+    this.present = new ByteBuffer[4];
+    this.nulls   = new ByteBuffer[4];
+  }
+
+  /**
+   * Returns the number of elements in this column.
+   *
+   * @return The number of elements in this column.
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Tests whether the element at the given index is not empty.
+   *
+   * @param index Index of the element to test.
+   *
+   * @return {@code true} if the element at the given index is not empty.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public boolean isPresent(long index) {
+    return bit(present, checkIndex(index));
+  }
+
+  /**
+   * Tests whether the element at the given index is empty.
+   *
+   * @param index Index of the element to test.
+   *
+   * @return {@code true} if the element at the given index is empty.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public boolean isEmpty(long index) {
+    return !isPresent(index);
+  }
+
+  /**
+   * Tests whether the element at the given index is {@code null}.
+   *
+   * @param index Index of the element to test.
+   *
+   * @return {@code true} if the element at the given index is {@code null}.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public boolean isNull(long index) {
+    return bit(nulls, checkIndex(index));
+  }
+
+  /**
+   * Sets the element at the given index to {@code null}.
+   *
+   * @param index Index of the element to set.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public void setNull(long index) {
+    checkIndex(index);
+    setBit(present, index);
+    setBit(nulls, index);
+  }
+
+  /**
+   * Sets the element at the given index to empty.
+   *
+   * @param index Index of the element to clear.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public void clear(long index) {
+    checkIndex(index);
+    clearBit(present, index);
+    clearBit(nulls, index);
+  }
+
+  /**
+   * Appends a {@code null} element to the end of this column.
+   *
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public void addNull() {
+    var index = append();
+    setBit(present, index);
+    setBit(nulls, index);
+  }
+
+  /**
+   * Appends an empty element to the end of this column.
+   *
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public void addEmpty() {
+    append();
+  }
+
+  /**
+   * Counts the non-empty elements in this column.
+   * <p>
+   * As with {@code NullableOption}, {@code null} elements are considered to be
+   * present.
+   *
+   * @return The number of non-empty elements in this column.
+   *
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public long countPresent() {
+    return count(present);
+  }
+
+  /**
+   * Counts the {@code null} elements in this column.
+   *
+   * @return The number of {@code null} elements in this column.
+   *
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public long countNull() {
+    return count(nulls);
+  }
+
+  /**
+   * Counts the non-empty elements in this column, in parallel.
+   *
+   * @return The number of non-empty elements in this column.
+   *
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public long parallelCountPresent() {
+    checkOpen();
+    return Parallel.reduce(size, (from, to) -> countRange(present, from, to), Long::sum);
+  }
+
+  /**
+   * Sorts this column so that empty elements come first, followed by
+   * {@code null} elements, followed by the remaining values in ascending
+   * order.
+   * <p>
+   * This is the order of
+   * {@code OptionComparators.emptyFirst(Comparator.nullsFirst(Comparator.naturalOrder()))}.
+   * See {@link #sortEmptyLast()} for how the sort is performed.
+   *
+   * @throws IllegalStateException if this column has been closed, or holds
+   *                               more values than fit in a Java array.
+   */
+  public void sortEmptyFirst() {
+    sort(true);
+  }
+
+  /**
+   * Sorts this column so that {@code null} elements come first, followed by
+   * the remaining values in ascending order, followed by empty elements.
+   * <p>
+   * This is the order of
+   * {@code OptionComparators.nullFirst(Comparator.naturalOrder())}.
+   * <p>
+   * Elements are partitioned by state using the bitmaps alone: the state
+   * counts are taken with bit counts, and the bitmaps are rewritten a word at
+   * a time.  Only the values themselves are copied to the heap, radix sorted,
+   * and written back.
+   *
+   * @throws IllegalStateException if this column has been closed, or holds
+   *                               more values than fit in a Java array.
+   */
+  public void sortEmptyLast() {
+    sort(false);
+  }
+
+  /**
+   * Tests whether this column has been closed.
+   *
+   * @return {@code true} if this column has been closed.
+   */
+  public boolean isClosed() {
+    return data == null;
+  }
+
+  /**
+   * Releases the native memory held by this column.
+   * <p>
+   * Where the runtime allows it, memory is released immediately, otherwise it
+   * is released once the garbage collector determines it is unreachable.
+   * <p>
+   * Calling this method on a column that has already been closed has no
+   * effect.
+   * <p>
+   * This method must not be called while any other operation on this column
+   * is running, including a {@code parallel*} operation started from another
+   * thread.  Closing is only checked for when an operation starts, so an
+   * operation that is still running may read memory that has already been
+   * released, which can crash the JVM rather than throw an exception.
+   */
+  @Override
+  public void close() {
+    if (data == null)
+      return;
+
+    for (var i = 0; i < chunks; i++) {
+      DirectMemory.free(data[i]);
+      DirectMemory.free(present[i]);
+      DirectMemory.free(nulls[i]);
+    }
+
+    data    = null;
+    present = null;
+    nulls   = null;
+    chunks  = 0;
+    size    = 0;
+  }
+
+  /**
+   * Verifies that this column is open and that the given index is in bounds.
+   *
+   * @param index Index to check.
+   *
+   * @return The given index.
+   */
+  protected long checkIndex(long index) {
+    checkOpen();
+    return Objects.checkIndex(index, size);
+  }
+
+  /**
+   * Verifies that this column has not been closed.
+   */
+  protected void checkOpen() {
+    if (data == null)
+      throw new IllegalStateException("Attempted to use a closed option column.");
+  }
+
+  /**
+   * Reserves the next slot at the end of this column, allocating a new chunk
+   * if necessary, and returns its index.
+   *
+   * @return The index of the newly appended slot.
+   */
+  protected long append() {
+    checkOpen();
+
+    if (size == (long) chunks << ChunkShift) {
+      if (chunks == data.length) {
+        var newLen = chunks << 1;
+        data    = Arrays.copyOf(data, newLen);
+        present = Arrays.copyOf(present, newLen);
+        nulls   = Arrays.copyOf(nulls, newLen);
+      }
+
+      data[chunks]    = DirectMemory.allocate(ChunkSize * width);
+      present[chunks] = DirectMemory.allocate(BitmapBytes);
+      nulls[chunks]   = DirectMemory.allocate(BitmapBytes);
+      chunks++;
+    }
+
+    return size++;
+  }
+
+  /**
+   * Sorts the values of the elements that are neither empty nor {@code null}
+   * in ascending order, and writes them to the given number of consecutive
+   * elements starting at the given index.
+   * <p>
+   * All values must be read before any are written, as the target range may
+   * overlap the current positions of the values.  The state bitmaps are
+   * updated afterwards by the caller.
+   *
+   * @param count Number of values in this column.
+   * @param at    Index of the first element to write the sorted values to.
+   */
+  protected abstract void sortValues(int count, long at);
+
+  /**
+   * Marks the element at the given index as present and not {@code null}.
+   *
+   * @param index Index of the element.
+   */
+  protected void markValue(long index) {
+    setBit(present, index);
+    clearBit(nulls, index);
+  }
+
+  /**
+   * Marks the element at the given index as empty.
+   *
+   * @param index Index of the element.
+   */
+  protected void markEmpty(long index) {
+    clearBit(present, index);
+    clearBit(nulls, index);
+  }
+
+  /**
+   * Fills the given new, empty column with as many elements as this column,
+   * in the same states, then calls the given action for every range of
+   * elements to write the values of the new column.
+   * <p>
+   * When run in parallel, ranges are split on bitmap word boundaries, so the
+   * action may update the states of the elements in its range without
+   * synchronization.  If the action throws, the new column is closed before
+   * the exception is rethrown.
+   *
+   * @param out      New, empty column to fill.
+   * @param parallel Whether to process the ranges in parallel.
+   * @param fill     Action writing the values of a range of the new column.
+   *
+   * @return The given column.
+   */
+  <C extends AbstractOptionColumn> C derive(C out, boolean parallel, Parallel.RangeAction fill) {
+    checkOpen();
+
+    AbstractOptionColumn target = out;
+
+    try {
+      target.allocate(size);
+
+      Parallel.RangeAction action = (from, to) -> {
+        target.copyStates(this, from, to);
+        fill.accept(from, to);
+      };
+
+      if (parallel)
+        Parallel.run(size, action);
+      else
+        action.accept(0, size);
+    } catch (RuntimeException | Error e) {
+      target.close();
+      throw e;
+    }
+
+    return out;
+  }
+
+  /**
+   * Returns the index of the first element in the range {@code [from, to)}
+   * that is neither empty nor {@code null}, or {@code -1} if there is no such
+   * element.
+   *
+   * @param from Index to start searching from.
+   * @param to   Index to stop searching at, exclusive.
+   *
+   * @return The index of the next element holding a value, or {@code -1}.
+   */
+  protected long nextValue(long from, long to) {
+    if (from >= to)
+      return -1;
+
+    var chunk = (int) (from >>> ChunkShift);
+    var off   = wordOffset(from);
+    var word  = (present[chunk].getLong(off) & ~nulls[chunk].getLong(off)) & (-1L << from);
+
+    while (true) {
+      if (word != 0) {
+        var out = ((long) chunk << ChunkShift) + ((long) off << 3) + Long.numberOfTrailingZeros(word);
+        return out < to ? out : -1;
+      }
+
+      off += Long.BYTES;
+
+      if (off == BitmapBytes) {
+        off = 0;
+
+        if (++chunk == chunks)
+          return -1;
+      }
+
+      if (((long) chunk << ChunkShift) + ((long) off << 3) >= to)
+        return -1;
+
+      word = present[chunk].getLong(off) & ~nulls[chunk].getLong(off);
+    }
+  }
+
+  /**
+   * Returns the value chunk containing the element at the given index.
+   */
+  protected ByteBuffer chunk(long index) {
+    return data[(int) (index >>> ChunkShift)];
+  }
+
+  /**
+   * Returns the byte offset of the element at the given index within its
+   * value chunk.
+   */
+  protected int offset(long index) {
+    return ((int) index & ChunkMask) * width;
+  }
+
+  /**
+   * Allocates zeroed chunks for the given number of elements on this empty
+   * column, leaving every element empty.
+   */
+  private void allocate(long count) {
+    var need = (int) ((count + ChunkMask) >>> ChunkShift);
+
+    if (need > data.length) {
+      data    = Arrays.copyOf(data, need);
+      present = Arrays.copyOf(present, need);
+      nulls   = Arrays.copyOf(nulls, need);
+    }
+
+    for (; chunks < need; chunks++) {
+      data[chunks]    = DirectMemory.allocate(ChunkSize * width);
+      present[chunks] = DirectMemory.allocate(BitmapBytes);
+      nulls[chunks]   = DirectMemory.allocate(BitmapBytes);
+    }
+
+    size = count;
+  }
+
+  /**
+   * Copies the state bitmaps for the elements in the range {@code [from, to)}
+   * from the given column of the same size, a word at a time, where
+   * {@code from} is a multiple of 64.
+   */
+  private void copyStates(AbstractOptionColumn src, long from, long to) {
+    for (var i = from; i < to; i += Long.SIZE) {
+      var chunk = (int) (i >>> ChunkShift);
+      var off   = wordOffset(i);
+
+      present[chunk].putLong(off, src.present[chunk].getLong(off));
+      nulls[chunk].putLong(off, src.nulls[chunk].getLong(off));
+    }
+  }
+
+  private void sort(boolean emptyFirst) {
+    var presentCount = countPresent();
+    var nullCount    = countNull();
+    var valueCount   = presentCount - nullCount;
+    var emptyCount   = size - presentCount;
+
+    if (valueCount > MaxSortValues)
+      throw new IllegalStateException("Cannot sort more than " + MaxSortValues + " values, column holds " + valueCount);
+
+    var start = emptyFirst ? emptyCount : 0;
+
+    sortValues((int) valueCount, start + nullCount);
+
+    fillStates(start, start + nullCount, true, true);
+    fillStates(start + nullCount, start + presentCount, true, false);
+
+    if (emptyFirst)
+      fillStates(0, emptyCount, false, false);
+    else
+      fillStates(presentCount, size, false, false);
+  }
+
+  private void fillStates(long from, long to, boolean isPresent, boolean isNull) {
+    fillBits(present, from, to, isPresent);
+    fillBits(nulls, from, to, isNull);
+  }
+
+  /**
+   * Sets or clears the bits for the elements in the range {@code [from, to)},
+   * a word at a time.
+   */
+  private static void fillBits(ByteBuffer[] map, long from, long to, boolean value) {
+    while (from < to) {
+      var buf  = map[(int) (from >>> ChunkShift)];
+      var off  = wordOffset(from);
+      var end  = Math.min(to, (from | 63) + 1);
+      var mask = (-1L << from) & (-1L >>> -end);
+
+      buf.putLong(off, value ? buf.getLong(off) | mask : buf.getLong(off) & ~mask);
+      from = end;
+    }
+  }
+
+  private static boolean bit(ByteBuffer[] map, long index) {
+    return (map[(int) (index >>> ChunkShift)].getLong(wordOffset(index)) & (1L << index)) != 0;
+  }
+
+  private static void setBit(ByteBuffer[] map, long index) {
+    var buf = map[(int) (index >>> ChunkShift)];
+    var off = wordOffset(index);
+    buf.putLong(off, buf.getLong(off) | (1L << index));
+  }
+
+  private static void clearBit(ByteBuffer[] map, long index) {
+    var buf = map[(int) (index >>> ChunkShift)];
+    var off = wordOffset(index);
+    buf.putLong(off, buf.getLong(off) & ~(1L << index));
+  }
+
+  private static int wordOffset(long index) {
+    return (((int) index & ChunkMask) >>> 6) << 3;
+  }
+
+  private long count(ByteBuffer[] map) {
+    checkOpen();
+    return countRange(map, 0, size);
+  }
+
+  /**
+   * Counts the set bits for the elements in the range {@code [from, to)},
+   * where {@code from} is a multiple of 64.
+   */
+  private long countRange(ByteBuffer[] map, long from, long to) {
+    var out = 0L;
+
+    // Bits past the end of the column are never set, so whole words may be
+    // counted.
+    for (var i = from; i < to; i += Long.SIZE)
+      out += Long.bitCount(map[(int) (i >>> ChunkShift)].getLong(wordOffset(i)));
+
+    return out;
+  }
+}
@@ -0,0 +1,113 @@
+package io.foxcapades.lib.opt.collection;
+
+import java.util.Arrays;
+
+/**
+ * Bitmap helpers operating on {@code long[]} words.
+ * <p>
+ * Bit {@code i} is stored in word {@code i >>> 6} at position {@code i & 63}.
+ */
+final class Bits {
+  private Bits() {}
+
+  /**
+   * Returns the number of words required to hold the given number of bits.
+   */
+  static int words(int bits) {
+    return (bits + 63) >>> 6;
+  }
+
+  static boolean get(long[] words, int bit) {
+    return (words[bit >>> 6] & (1L << bit)) != 0;
+  }
+
+  static void set(long[] words, int bit) {
+    words[bit >>> 6] |= 1L << bit;
+  }
+
+  static void clear(long[] words, int bit) {
+    words[bit >>> 6] &= ~(1L << bit);
+  }
+
+  static void set(long[] words, int bit, boolean value) {
+    if (value)
+      set(words, bit);
+    else
+      clear(words, bit);
+  }
+
+  /**
+   * Sets or clears the bits in the range {@code [from, to)}.
+   */
+  static void fill(long[] words, int from, int to, boolean value) {
+    if (from >= to)
+      return;
+
+    var first = from >>> 6;
+    var last  = (to - 1) >>> 6;
+
+    var headMask = -1L << from;
+    var tailMask = -1L >>> -to;
+
+    if (first == last) {
+      fillWord(words, first, headMask & tailMask, value);
+      return;
+    }
+
+    fillWord(words, first, headMask, value);
+    Arrays.fill(words, first + 1, last, value ? -1L : 0L);
+    fillWord(words, last, tailMask, value);
+  }
+
+  /**
+   * Counts the set bits in the range {@code [from, to)}.
+   */
+  static int count(long[] words, int from, int to) {
+    if (from >= to)
+      return 0;
+
+    var first = from >>> 6;
+    var last  = (to - 1) >>> 6;
+
+    var headMask = -1L << from;
+    var tailMask = -1L >>> -to;
+
+    if (first == last)
+      return Long.bitCount(words[first] & headMask & tailMask);
+
+    var out = Long.bitCount(words[first] & headMask);
+
+    for (var i = first + 1; i < last; i++)
+      out += Long.bitCount(words[i]);
+
+    return out + Long.bitCount(words[last] & tailMask);
+  }
+
+  /**
+   * Returns the index of the first set bit at or after {@code from} and before
+   * {@code to}, or {@code -1} if there is no such bit.
+   */
+  static int next(long[] words, int from, int to) {
+    if (from >= to)
+      return -1;
+
+    var i    = from >>> 6;
+    var word = words[i] & (-1L << from);
+
+    while (true) {
+      if (word != 0) {
+        var out = (i << 6) + Long.numberOfTrailingZeros(word);
+        return out < to ? out : -1;
+      }
+
+      if (++i >= words.length || i << 6 >= to)
+        return -1;
+
+      word = words[i];
+    }
+  }
+
+  private static void fillWord(long[] words, int i, long mask, boolean value) {
+    words[i] = value ? words[i] | mask : words[i] & ~mask;
+  }
+}
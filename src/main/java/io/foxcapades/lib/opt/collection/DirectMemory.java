@@ -0,0 +1,77 @@
+package io.foxcapades.lib.opt.collection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Direct memory helpers.
+ * <p>
+ * Direct buffers are normally only released when they are garbage collected.
+ * {@code sun.misc.Unsafe#invokeCleaner}, from the {@code jdk.unsupported}
+ * module, is used to release buffers immediately when they are freed.
+ * <p>
+ * If the runtime does not provide it, a warning is logged once and freeing a
+ * buffer is a no-op, leaving its memory to the garbage collector.
+ */
+final class DirectMemory {
+  /**
+   * {@code Unsafe#invokeCleaner} bound to the {@code Unsafe} instance, or
+   * {@code null} if it is not available.
+   */
+  private static final MethodHandle InvokeCleaner;
+
+  static {
+    MethodHandle handle = null;
+
+    try {
+      var type  = Class.forName("sun.misc.Unsafe");
+      var field = type.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+
+      handle = MethodHandles.publicLookup()
+        .findVirtual(type, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+        .bindTo(field.get(null));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      System.getLogger(DirectMemory.class.getName()).log(
+        System.Logger.Level.WARNING,
+        "sun.misc.Unsafe#invokeCleaner is not available, option column memory will only be released by the garbage collector",
+        e
+      );
+    }
+
+    InvokeCleaner = handle;
+  }
+
+  private DirectMemory() {}
+
+  /**
+   * Allocates a new, zeroed, native byte order direct buffer.
+   */
+  static ByteBuffer allocate(int bytes) {
+    return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Releases the memory held by the given direct buffer, if possible.
+   * <p>
+   * The given buffer must not be used after calling this method.
+   *
+   * @throws IllegalArgumentException if the given buffer is a slice or
+   *                                  duplicate of another buffer.
+   */
+  static void free(ByteBuffer buffer) {
+    if (InvokeCleaner == null || buffer == null)
+      return;
+
+    try {
+      InvokeCleaner.invokeExact(buffer);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("failed to release direct buffer", e);
+    }
+  }
+}
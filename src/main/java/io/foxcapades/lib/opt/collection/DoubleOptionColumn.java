@@ -0,0 +1,334 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.NullableDoubleOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Double Option Column
+ * <p>
+ * Growable, off-heap column of {@code double} options.
+ * <p>
+ * Each element of an {@code DoubleOptionColumn} is in one of the three states of
+ * a {@link NullableDoubleOption}: empty, {@code null}, or present.  Values and
+ * element state are held in direct memory rather than on the Java heap, so
+ * even very large columns add almost nothing to garbage collection work.
+ * <p>
+ * Option views are created on demand by {@link #get(long)}.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * try (var col = new DoubleOptionColumn()) {
+ *   col.add(3.0);
+ *   col.addNull();
+ *   col.addEmpty();
+ *
+ *   assert col.get(1).isNull();
+ * }
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public class DoubleOptionColumn extends AbstractOptionColumn {
+
+  /**
+   * Constructs a new, empty {@code DoubleOptionColumn}.
+   */
+  public DoubleOptionColumn() {
+    super(Double.BYTES);
+  }
+
+  /**
+   * Returns an option view of the element at the given index.
+   *
+   * @param index Index of the element to retrieve.
+   *
+   * @return An option in the same state as the element at the given index.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public @NotNull NullableDoubleOption get(long index) {
+    if (isEmpty(index))
+      return Opt.standard().newNullableDouble();
+
+    if (isNull(index))
+      return Opt.standard().newNullDouble();
+
+    return Opt.standard().newNullableDouble(chunk(index).getDouble(offset(index)));
+  }
+
+  /**
+   * Unwraps the value of the element at the given index.
+   *
+   * @param index Index of the element to unwrap.
+   *
+   * @return The value of the element at the given index.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   * @throws NullPointerException      if the element at the given index is
+   *                                   {@code null}.
+   * @throws UnwrapException           if the element at the given index is
+   *                                   empty.
+   */
+  public double unwrap(long index) throws UnwrapException {
+    if (isPresent(index) && !isNull(index))
+      return chunk(index).getDouble(offset(index));
+
+    return get(index).unwrap();
+  }
+
+  /**
+   * Returns the value of the element at the given index if it is neither
+   * empty nor {@code null}, otherwise returns the given fallback value.
+   *
+   * @param index Index of the element.
+   * @param other Fallback value.
+   *
+   * @return The value of the element at the given index or {@code other}.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public double or(long index, double other) {
+    return isPresent(index) && !isNull(index) ? chunk(index).getDouble(offset(index)) : other;
+  }
+
+  /**
+   * Sets the element at the given index to the given value.
+   *
+   * @param index Index of the element to set.
+   * @param value Value to set.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public void set(long index, double value) {
+    checkIndex(index);
+    chunk(index).putDouble(offset(index), value);
+    markValue(index);
+  }
+
+  /**
+   * Appends the given value to the end of this column.
+   *
+   * @param value Value to append.
+   *
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public void add(double value) {
+    var index = append();
+    chunk(index).putDouble(offset(index), value);
+    markValue(index);
+  }
+
+  /**
+   * Counts the elements in this column that are neither empty nor
+   * {@code null} and whose values pass the given predicate.
+   *
+   * @param fn Predicate to test the values with.
+   *
+   * @return The number of values that passed the given predicate.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public long count(@NotNull DoublePredicate fn) {
+    Objects.requireNonNull(fn);
+    checkOpen();
+
+    return countRange(fn, 0, size);
+  }
+
+  /**
+   * Counts the elements in this column that are neither empty nor
+   * {@code null} and whose values pass the given predicate, in parallel.
+   * <p>
+   * The given predicate may be called concurrently from multiple threads.
+   *
+   * @param fn Predicate to test the values with.
+   *
+   * @return The number of values that passed the given predicate.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public long parallelCount(@NotNull DoublePredicate fn) {
+    Objects.requireNonNull(fn);
+    checkOpen();
+
+    return Parallel.reduce(size, (from, to) -> countRange(fn, from, to), Long::sum);
+  }
+
+  /**
+   * Returns a new column containing the results of applying the given function
+   * to the values of the elements in this column that are neither empty nor
+   * {@code null}.
+   * <p>
+   * Empty and {@code null} elements keep their state, and the given function
+   * is not called for them.
+   * <p>
+   * The returned column holds its own native memory and should be closed when
+   * no longer needed.
+   *
+   * @param fn Mapping function.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given function is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull DoubleOptionColumn map(@NotNull DoubleUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new DoubleOptionColumn();
+    return derive(out, false, (from, to) -> mapRange(fn, out, from, to));
+  }
+
+  /**
+   * Parallel version of {@link #map(DoubleUnaryOperator)}.
+   * <p>
+   * The given function may be called concurrently from multiple threads.
+   *
+   * @param fn Mapping function.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given function is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull DoubleOptionColumn parallelMap(@NotNull DoubleUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new DoubleOptionColumn();
+    return derive(out, true, (from, to) -> mapRange(fn, out, from, to));
+  }
+
+  /**
+   * Returns a new column in which every element whose value does not pass the
+   * given predicate has been made empty.
+   * <p>
+   * Empty and {@code null} elements keep their state, and the given predicate
+   * is not called for them.
+   * <p>
+   * The returned column holds its own native memory and should be closed when
+   * no longer needed.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull DoubleOptionColumn filter(@NotNull DoublePredicate fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new DoubleOptionColumn();
+    return derive(out, false, (from, to) -> filterRange(fn, out, from, to));
+  }
+
+  /**
+   * Parallel version of {@link #filter(DoublePredicate)}.
+   * <p>
+   * The given predicate may be called concurrently from multiple threads.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull DoubleOptionColumn parallelFilter(@NotNull DoublePredicate fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new DoubleOptionColumn();
+    return derive(out, true, (from, to) -> filterRange(fn, out, from, to));
+  }
+
+  /**
+   * Reduces the values of the elements in this column that are neither empty
+   * nor {@code null}, in parallel.
+   * <p>
+   * Each worker folds the values in its range into the identity value with
+   * the given operator, and the partial results are merged in index order
+   * with the same operator.  As with
+   * {@link java.util.stream.DoubleStream#reduce(double, DoubleBinaryOperator)}, the identity value
+   * must be an identity for the operator, and the operator must be
+   * associative, non-interfering and stateless.
+   *
+   * @param identity Identity value.
+   * @param op       Operator that combines two values.
+   *
+   * @return The result of the reduction, or the identity value if this column
+   * holds no values.
+   *
+   * @throws NullPointerException  if the given operator is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public double parallelReduce(double identity, @NotNull DoubleBinaryOperator op) {
+    Objects.requireNonNull(op);
+    checkOpen();
+
+    return Parallel.reduce(size, (from, to) -> reduceRange(identity, op, from, to), op::applyAsDouble);
+  }
+
+  @Override
+  protected void sortValues(int count, long at) {
+    // Sorted as keys ordered the same as Double.compare.
+    var buf = new long[count];
+    var n   = 0;
+
+    for (var i = nextValue(0, size); i > -1; i = nextValue(i + 1, size))
+      buf[n++] = Radix.toKey(chunk(i).getDouble(offset(i)));
+
+    Radix.sort(buf, count);
+
+    for (var i = 0; i < count; i++) {
+      var index = at + i;
+      chunk(index).putDouble(offset(index), Radix.fromKey(buf[i]));
+    }
+  }
+
+  private long countRange(DoublePredicate fn, long from, long to) {
+    var out = 0L;
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to))
+      if (fn.test(chunk(i).getDouble(offset(i))))
+        out++;
+
+    return out;
+  }
+
+  private void mapRange(DoubleUnaryOperator fn, DoubleOptionColumn out, long from, long to) {
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to))
+      out.chunk(i).putDouble(out.offset(i), fn.applyAsDouble(chunk(i).getDouble(offset(i))));
+  }
+
+  private void filterRange(DoublePredicate fn, DoubleOptionColumn out, long from, long to) {
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to)) {
+      var value = chunk(i).getDouble(offset(i));
+
+      if (fn.test(value))
+        out.chunk(i).putDouble(out.offset(i), value);
+      else
+        out.markEmpty(i);
+    }
+  }
+
+  private Double reduceRange(double identity, DoubleBinaryOperator op, long from, long to) {
+    var out = identity;
+
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to))
+      out = op.applyAsDouble(out, chunk(i).getDouble(offset(i)));
+
+    return out;
+  }
+}
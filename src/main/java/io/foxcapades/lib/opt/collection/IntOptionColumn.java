@@ -0,0 +1,333 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.NullableIntOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Int Option Column
+ * <p>
+ * Growable, off-heap column of {@code int} options.
+ * <p>
+ * Each element of an {@code IntOptionColumn} is in one of the three states of
+ * a {@link NullableIntOption}: empty, {@code null}, or present.  Values and
+ * element state are held in direct memory rather than on the Java heap, so
+ * even very large columns add almost nothing to garbage collection work.
+ * <p>
+ * Option views are created on demand by {@link #get(long)}.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * try (var col = new IntOptionColumn()) {
+ *   col.add(3);
+ *   col.addNull();
+ *   col.addEmpty();
+ *
+ *   assert col.get(1).isNull();
+ * }
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public class IntOptionColumn extends AbstractOptionColumn {
+
+  /**
+   * Constructs a new, empty {@code IntOptionColumn}.
+   */
+  public IntOptionColumn() {
+    super(Integer.BYTES);
+  }
+
+  /**
+   * Returns an option view of the element at the given index.
+   *
+   * @param index Index of the element to retrieve.
+   *
+   * @return An option in the same state as the element at the given index.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public @NotNull NullableIntOption get(long index) {
+    if (isEmpty(index))
+      return Opt.standard().newNullableInt();
+
+    if (isNull(index))
+      return Opt.standard().newNullInt();
+
+    return Opt.standard().newNullableInt(chunk(index).getInt(offset(index)));
+  }
+
+  /**
+   * Unwraps the value of the element at the given index.
+   *
+   * @param index Index of the element to unwrap.
+   *
+   * @return The value of the element at the given index.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   * @throws NullPointerException      if the element at the given index is
+   *                                   {@code null}.
+   * @throws UnwrapException           if the element at the given index is
+   *                                   empty.
+   */
+  public int unwrap(long index) throws UnwrapException {
+    if (isPresent(index) && !isNull(index))
+      return chunk(index).getInt(offset(index));
+
+    return get(index).unwrap();
+  }
+
+  /**
+   * Returns the value of the element at the given index if it is neither
+   * empty nor {@code null}, otherwise returns the given fallback value.
+   *
+   * @param index Index of the element.
+   * @param other Fallback value.
+   *
+   * @return The value of the element at the given index or {@code other}.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public int or(long index, int other) {
+    return isPresent(index) && !isNull(index) ? chunk(index).getInt(offset(index)) : other;
+  }
+
+  /**
+   * Sets the element at the given index to the given value.
+   *
+   * @param index Index of the element to set.
+   * @param value Value to set.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public void set(long index, int value) {
+    checkIndex(index);
+    chunk(index).putInt(offset(index), value);
+    markValue(index);
+  }
+
+  /**
+   * Appends the given value to the end of this column.
+   *
+   * @param value Value to append.
+   *
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public void add(int value) {
+    var index = append();
+    chunk(index).putInt(offset(index), value);
+    markValue(index);
+  }
+
+  /**
+   * Counts the elements in this column that are neither empty nor
+   * {@code null} and whose values pass the given predicate.
+   *
+   * @param fn Predicate to test the values with.
+   *
+   * @return The number of values that passed the given predicate.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public long count(@NotNull IntPredicate fn) {
+    Objects.requireNonNull(fn);
+    checkOpen();
+
+    return countRange(fn, 0, size);
+  }
+
+  /**
+   * Counts the elements in this column that are neither empty nor
+   * {@code null} and whose values pass the given predicate, in parallel.
+   * <p>
+   * The given predicate may be called concurrently from multiple threads.
+   *
+   * @param fn Predicate to test the values with.
+   *
+   * @return The number of values that passed the given predicate.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public long parallelCount(@NotNull IntPredicate fn) {
+    Objects.requireNonNull(fn);
+    checkOpen();
+
+    return Parallel.reduce(size, (from, to) -> countRange(fn, from, to), Long::sum);
+  }
+
+  /**
+   * Returns a new column containing the results of applying the given function
+   * to the values of the elements in this column that are neither empty nor
+   * {@code null}.
+   * <p>
+   * Empty and {@code null} elements keep their state, and the given function
+   * is not called for them.
+   * <p>
+   * The returned column holds its own native memory and should be closed when
+   * no longer needed.
+   *
+   * @param fn Mapping function.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given function is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull IntOptionColumn map(@NotNull IntUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new IntOptionColumn();
+    return derive(out, false, (from, to) -> mapRange(fn, out, from, to));
+  }
+
+  /**
+   * Parallel version of {@link #map(IntUnaryOperator)}.
+   * <p>
+   * The given function may be called concurrently from multiple threads.
+   *
+   * @param fn Mapping function.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given function is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull IntOptionColumn parallelMap(@NotNull IntUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new IntOptionColumn();
+    return derive(out, true, (from, to) -> mapRange(fn, out, from, to));
+  }
+
+  /**
+   * Returns a new column in which every element whose value does not pass the
+   * given predicate has been made empty.
+   * <p>
+   * Empty and {@code null} elements keep their state, and the given predicate
+   * is not called for them.
+   * <p>
+   * The returned column holds its own native memory and should be closed when
+   * no longer needed.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull IntOptionColumn filter(@NotNull IntPredicate fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new IntOptionColumn();
+    return derive(out, false, (from, to) -> filterRange(fn, out, from, to));
+  }
+
+  /**
+   * Parallel version of {@link #filter(IntPredicate)}.
+   * <p>
+   * The given predicate may be called concurrently from multiple threads.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull IntOptionColumn parallelFilter(@NotNull IntPredicate fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new IntOptionColumn();
+    return derive(out, true, (from, to) -> filterRange(fn, out, from, to));
+  }
+
+  /**
+   * Reduces the values of the elements in this column that are neither empty
+   * nor {@code null}, in parallel.
+   * <p>
+   * Each worker folds the values in its range into the identity value with
+   * the given operator, and the partial results are merged in index order
+   * with the same operator.  As with
+   * {@link java.util.stream.IntStream#reduce(int, IntBinaryOperator)}, the identity value
+   * must be an identity for the operator, and the operator must be
+   * associative, non-interfering and stateless.
+   *
+   * @param identity Identity value.
+   * @param op       Operator that combines two values.
+   *
+   * @return The result of the reduction, or the identity value if this column
+   * holds no values.
+   *
+   * @throws NullPointerException  if the given operator is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public int parallelReduce(int identity, @NotNull IntBinaryOperator op) {
+    Objects.requireNonNull(op);
+    checkOpen();
+
+    return Parallel.reduce(size, (from, to) -> reduceRange(identity, op, from, to), op::applyAsInt);
+  }
+
+  @Override
+  protected void sortValues(int count, long at) {
+    var buf = new int[count];
+    var n   = 0;
+
+    for (var i = nextValue(0, size); i > -1; i = nextValue(i + 1, size))
+      buf[n++] = chunk(i).getInt(offset(i));
+
+    Radix.sort(buf, count);
+
+    for (var i = 0; i < count; i++) {
+      var index = at + i;
+      chunk(index).putInt(offset(index), buf[i]);
+    }
+  }
+
+  private long countRange(IntPredicate fn, long from, long to) {
+    var out = 0L;
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to))
+      if (fn.test(chunk(i).getInt(offset(i))))
+        out++;
+
+    return out;
+  }
+
+  private void mapRange(IntUnaryOperator fn, IntOptionColumn out, long from, long to) {
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to))
+      out.chunk(i).putInt(out.offset(i), fn.applyAsInt(chunk(i).getInt(offset(i))));
+  }
+
+  private void filterRange(IntPredicate fn, IntOptionColumn out, long from, long to) {
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to)) {
+      var value = chunk(i).getInt(offset(i));
+
+      if (fn.test(value))
+        out.chunk(i).putInt(out.offset(i), value);
+      else
+        out.markEmpty(i);
+    }
+  }
+
+  private Integer reduceRange(int identity, IntBinaryOperator op, long from, long to) {
+    var out = identity;
+
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to))
+      out = op.applyAsInt(out, chunk(i).getInt(offset(i)));
+
+    return out;
+  }
+}
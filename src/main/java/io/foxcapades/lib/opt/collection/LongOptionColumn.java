@@ -0,0 +1,333 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.NullableLongOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Long Option Column
+ * <p>
+ * Growable, off-heap column of {@code long} options.
+ * <p>
+ * Each element of an {@code LongOptionColumn} is in one of the three states of
+ * a {@link NullableLongOption}: empty, {@code null}, or present.  Values and
+ * element state are held in direct memory rather than on the Java heap, so
+ * even very large columns add almost nothing to garbage collection work.
+ * <p>
+ * Option views are created on demand by {@link #get(long)}.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * try (var col = new LongOptionColumn()) {
+ *   col.add(3L);
+ *   col.addNull();
+ *   col.addEmpty();
+ *
+ *   assert col.get(1).isNull();
+ * }
+ * }</pre>
+ *
+ * @since 1.2.0
+ */
+public class LongOptionColumn extends AbstractOptionColumn {
+
+  /**
+   * Constructs a new, empty {@code LongOptionColumn}.
+   */
+  public LongOptionColumn() {
+    super(Long.BYTES);
+  }
+
+  /**
+   * Returns an option view of the element at the given index.
+   *
+   * @param index Index of the element to retrieve.
+   *
+   * @return An option in the same state as the element at the given index.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public @NotNull NullableLongOption get(long index) {
+    if (isEmpty(index))
+      return Opt.standard().newNullableLong();
+
+    if (isNull(index))
+      return Opt.standard().newNullLong();
+
+    return Opt.standard().newNullableLong(chunk(index).getLong(offset(index)));
+  }
+
+  /**
+   * Unwraps the value of the element at the given index.
+   *
+   * @param index Index of the element to unwrap.
+   *
+   * @return The value of the element at the given index.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   * @throws NullPointerException      if the element at the given index is
+   *                                   {@code null}.
+   * @throws UnwrapException           if the element at the given index is
+   *                                   empty.
+   */
+  public long unwrap(long index) throws UnwrapException {
+    if (isPresent(index) && !isNull(index))
+      return chunk(index).getLong(offset(index));
+
+    return get(index).unwrap();
+  }
+
+  /**
+   * Returns the value of the element at the given index if it is neither
+   * empty nor {@code null}, otherwise returns the given fallback value.
+   *
+   * @param index Index of the element.
+   * @param other Fallback value.
+   *
+   * @return The value of the element at the given index or {@code other}.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public long or(long index, long other) {
+    return isPresent(index) && !isNull(index) ? chunk(index).getLong(offset(index)) : other;
+  }
+
+  /**
+   * Sets the element at the given index to the given value.
+   *
+   * @param index Index of the element to set.
+   * @param value Value to set.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws IllegalStateException     if this column has been closed.
+   */
+  public void set(long index, long value) {
+    checkIndex(index);
+    chunk(index).putLong(offset(index), value);
+    markValue(index);
+  }
+
+  /**
+   * Appends the given value to the end of this column.
+   *
+   * @param value Value to append.
+   *
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public void add(long value) {
+    var index = append();
+    chunk(index).putLong(offset(index), value);
+    markValue(index);
+  }
+
+  /**
+   * Counts the elements in this column that are neither empty nor
+   * {@code null} and whose values pass the given predicate.
+   *
+   * @param fn Predicate to test the values with.
+   *
+   * @return The number of values that passed the given predicate.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public long count(@NotNull LongPredicate fn) {
+    Objects.requireNonNull(fn);
+    checkOpen();
+
+    return countRange(fn, 0, size);
+  }
+
+  /**
+   * Counts the elements in this column that are neither empty nor
+   * {@code null} and whose values pass the given predicate, in parallel.
+   * <p>
+   * The given predicate may be called concurrently from multiple threads.
+   *
+   * @param fn Predicate to test the values with.
+   *
+   * @return The number of values that passed the given predicate.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public long parallelCount(@NotNull LongPredicate fn) {
+    Objects.requireNonNull(fn);
+    checkOpen();
+
+    return Parallel.reduce(size, (from, to) -> countRange(fn, from, to), Long::sum);
+  }
+
+  /**
+   * Returns a new column containing the results of applying the given function
+   * to the values of the elements in this column that are neither empty nor
+   * {@code null}.
+   * <p>
+   * Empty and {@code null} elements keep their state, and the given function
+   * is not called for them.
+   * <p>
+   * The returned column holds its own native memory and should be closed when
+   * no longer needed.
+   *
+   * @param fn Mapping function.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given function is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull LongOptionColumn map(@NotNull LongUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new LongOptionColumn();
+    return derive(out, false, (from, to) -> mapRange(fn, out, from, to));
+  }
+
+  /**
+   * Parallel version of {@link #map(LongUnaryOperator)}.
+   * <p>
+   * The given function may be called concurrently from multiple threads.
+   *
+   * @param fn Mapping function.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given function is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull LongOptionColumn parallelMap(@NotNull LongUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new LongOptionColumn();
+    return derive(out, true, (from, to) -> mapRange(fn, out, from, to));
+  }
+
+  /**
+   * Returns a new column in which every element whose value does not pass the
+   * given predicate has been made empty.
+   * <p>
+   * Empty and {@code null} elements keep their state, and the given predicate
+   * is not called for them.
+   * <p>
+   * The returned column holds its own native memory and should be closed when
+   * no longer needed.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull LongOptionColumn filter(@NotNull LongPredicate fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new LongOptionColumn();
+    return derive(out, false, (from, to) -> filterRange(fn, out, from, to));
+  }
+
+  /**
+   * Parallel version of {@link #filter(LongPredicate)}.
+   * <p>
+   * The given predicate may be called concurrently from multiple threads.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new column of the same size as this column.
+   *
+   * @throws NullPointerException  if the given predicate is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public @NotNull LongOptionColumn parallelFilter(@NotNull LongPredicate fn) {
+    Objects.requireNonNull(fn);
+
+    var out = new LongOptionColumn();
+    return derive(out, true, (from, to) -> filterRange(fn, out, from, to));
+  }
+
+  /**
+   * Reduces the values of the elements in this column that are neither empty
+   * nor {@code null}, in parallel.
+   * <p>
+   * Each worker folds the values in its range into the identity value with
+   * the given operator, and the partial results are merged in index order
+   * with the same operator.  As with
+   * {@link java.util.stream.LongStream#reduce(long, LongBinaryOperator)}, the identity value
+   * must be an identity for the operator, and the operator must be
+   * associative, non-interfering and stateless.
+   *
+   * @param identity Identity value.
+   * @param op       Operator that combines two values.
+   *
+   * @return The result of the reduction, or the identity value if this column
+   * holds no values.
+   *
+   * @throws NullPointerException  if the given operator is {@code null}.
+   * @throws IllegalStateException if this column has been closed.
+   */
+  public long parallelReduce(long identity, @NotNull LongBinaryOperator op) {
+    Objects.requireNonNull(op);
+    checkOpen();
+
+    return Parallel.reduce(size, (from, to) -> reduceRange(identity, op, from, to), op::applyAsLong);
+  }
+
+  @Override
+  protected void sortValues(int count, long at) {
+    var buf = new long[count];
+    var n   = 0;
+
+    for (var i = nextValue(0, size); i > -1; i = nextValue(i + 1, size))
+      buf[n++] = chunk(i).getLong(offset(i));
+
+    Radix.sort(buf, count);
+
+    for (var i = 0; i < count; i++) {
+      var index = at + i;
+      chunk(index).putLong(offset(index), buf[i]);
+    }
+  }
+
+  private long countRange(LongPredicate fn, long from, long to) {
+    var out = 0L;
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to))
+      if (fn.test(chunk(i).getLong(offset(i))))
+        out++;
+
+    return out;
+  }
+
+  private void mapRange(LongUnaryOperator fn, LongOptionColumn out, long from, long to) {
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to))
+      out.chunk(i).putLong(out.offset(i), fn.applyAsLong(chunk(i).getLong(offset(i))));
+  }
+
+  private void filterRange(LongPredicate fn, LongOptionColumn out, long from, long to) {
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to)) {
+      var value = chunk(i).getLong(offset(i));
+
+      if (fn.test(value))
+        out.chunk(i).putLong(out.offset(i), value);
+      else
+        out.markEmpty(i);
+    }
+  }
+
+  private Long reduceRange(long identity, LongBinaryOperator op, long from, long to) {
+    var out = identity;
+
+    for (var i = nextValue(from, to); i > -1; i = nextValue(i + 1, to))
+      out = op.applyAsLong(out, chunk(i).getLong(offset(i)));
+
+    return out;
+  }
+}
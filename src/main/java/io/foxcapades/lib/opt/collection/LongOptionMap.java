@@ -0,0 +1,359 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Long Option Map
+ * <p>
+ * Hash map from primitive {@code long} keys to nullable values, queried as
+ * {@link NullableOption}s.
+ * <p>
+ * Unlike a {@link Map}, a {@code LongOptionMap} distinguishes between a key
+ * that is absent and a key that is mapped to {@code null} in a single lookup.
+ * {@link #lookup(long)} returns an empty option for absent keys, a
+ * {@code null} option for keys mapped to {@code null}, and a full option for
+ * keys mapped to a value.
+ * <p>
+ * Reads do not allocate: the empty and {@code null} options are the standard
+ * factory's singletons, and the option for a present value is created once per
+ * entry and reused until that entry is replaced or removed.
+ * <p>
+ * Entries are stored using open addressing with linear probing in parallel
+ * key, value and state arrays.  This class is not thread safe.
+ *
+ * @param <V> Type of the values in the map.
+ *
+ * @since 1.2.0
+ */
+public class LongOptionMap<V> {
+  private static final int DefaultCapacity = 16;
+
+  private static final byte Free = 0;
+
+  private static final byte Null = 1;
+
+  private static final byte Present = 2;
+
+  private long[] keys;
+
+  private Object[] values;
+
+  private byte[] states;
+
+  private NullableOption<?>[] views;
+
+  private int mask;
+
+  private int size;
+
+  /**
+   * Constructs a new, empty {@code LongOptionMap}.
+   */
+  public LongOptionMap() {
+    this(DefaultCapacity / 2);
+  }
+
+  /**
+   * Constructs a new, empty {@code LongOptionMap} sized to hold the given number of
+   * entries without resizing.
+   *
+   * @param expectedSize Expected number of entries.
+   *
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public LongOptionMap(int expectedSize) {
+    if (expectedSize < 0)
+      throw new IllegalArgumentException("Illegal size: " + expectedSize);
+
+    allocate(tableSize(expectedSize));
+  }
+
+  /**
+   * Returns the number of entries in this map.
+   *
+   * @return The number of entries in this map.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Tests whether this map contains no entries.
+   *
+   * @return {@code true} if this map contains no entries.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Tests whether this map contains an entry for the given key.
+   *
+   * @param key Key to test for.
+   *
+   * @return {@code true} if this map contains an entry for the given key, even
+   * if that entry is mapped to {@code null}.
+   */
+  public boolean containsKey(long key) {
+    return find(key) > -1;
+  }
+
+  /**
+   * Looks up the value mapped to the given key.
+   *
+   * @param key Key to look up.
+   *
+   * @return An empty option if this map contains no entry for the given key,
+   * a {@code null} option if the given key is mapped to {@code null}, or a
+   * full option wrapping the value mapped to the given key.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull NullableOption<V> lookup(long key) {
+    var slot = find(key);
+
+    if (slot < 0)
+      return Opt.standard().newNullable();
+
+    if (states[slot] == Null)
+      return Opt.standard().newNullable(null);
+
+    var out = views[slot];
+
+    if (out == null)
+      views[slot] = out = Opt.standard().newNullable(values[slot]);
+
+    return (NullableOption<V>) out;
+  }
+
+  /**
+   * Maps the given key to the given value, replacing any existing entry for
+   * the key.
+   *
+   * @param key   Key to map.
+   * @param value Value to map the key to.  May be {@code null}.
+   *
+   * @return An option in the state of the previous entry for the given key.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull NullableOption<V> put(long key, @Nullable V value) {
+    var slot = find(key);
+
+    if (slot > -1) {
+      var prev = states[slot] == Null
+        ? Opt.standard().<V>newNullable(null)
+        : views[slot] != null
+          ? (NullableOption<V>) views[slot]
+          : Opt.standard().newNullable((V) values[slot]);
+
+      store(slot, value);
+      return prev;
+    }
+
+    if ((size + 1) << 1 > states.length)
+      rehash(states.length << 1);
+
+    insert(key, value);
+    return Opt.standard().newNullable();
+  }
+
+  /**
+   * Copies all the entries of the given map into this map.
+   *
+   * @param map Map whose entries should be copied.
+   *
+   * @throws NullPointerException if the given map is {@code null} or contains a
+   *                              {@code null} key.
+   */
+  public void putAll(@NotNull Map<? extends Long, ? extends V> map) {
+    var target = tableSize(size + map.size());
+
+    if (target > states.length)
+      rehash(target);
+
+    for (var e : map.entrySet())
+      put(e.getKey(), e.getValue());
+  }
+
+  /**
+   * Removes the entry for the given key, if present.
+   *
+   * @param key Key whose entry should be removed.
+   *
+   * @return An option in the state of the removed entry, or an empty option if
+   * this map contained no entry for the given key.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull NullableOption<V> remove(long key) {
+    var slot = find(key);
+
+    if (slot < 0)
+      return Opt.standard().newNullable();
+
+    var out = states[slot] == Null
+      ? Opt.standard().<V>newNullable(null)
+      : views[slot] != null
+        ? (NullableOption<V>) views[slot]
+        : Opt.standard().newNullable((V) values[slot]);
+
+    delete(slot);
+    return out;
+  }
+
+  /**
+   * Removes all entries from this map.
+   */
+  public void clear() {
+    Arrays.fill(values, null);
+    Arrays.fill(states, Free);
+    Arrays.fill(views, null);
+    size = 0;
+  }
+
+  /**
+   * Calls the given function with every entry in this map, in no particular
+   * order.
+   *
+   * @param fn Function to call.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(@NotNull EntryConsumer<? super V> fn) {
+    Objects.requireNonNull(fn);
+
+    for (var i = 0; i < states.length; i++)
+      if (states[i] != Free)
+        fn.accept(keys[i], (V) values[i]);
+  }
+
+  private int find(long key) {
+    var i = hash(key) & mask;
+
+    while (states[i] != Free) {
+      if (keys[i] == key)
+        return i;
+
+      i = (i + 1) & mask;
+    }
+
+    return -1;
+  }
+
+  private void insert(long key, Object value) {
+    var i = hash(key) & mask;
+
+    while (states[i] != Free)
+      i = (i + 1) & mask;
+
+    keys[i] = key;
+    store(i, value);
+    size++;
+  }
+
+  private void store(int slot, Object value) {
+    values[slot] = value;
+    states[slot] = value == null ? Null : Present;
+    views[slot]  = null;
+  }
+
+  /**
+   * Removes the entry in the given slot, shifting any following entries in the
+   * same probe run back so that no tombstone is needed.
+   */
+  private void delete(int slot) {
+    var i = slot;
+    var j = slot;
+
+    while (true) {
+      j = (j + 1) & mask;
+
+      if (states[j] == Free)
+        break;
+
+      var home = hash(keys[j]) & mask;
+
+      // Skip entries whose home slot lies cyclically in (i, j].
+      if (i <= j ? i < home && home <= j : i < home || home <= j)
+        continue;
+
+      keys[i]   = keys[j];
+      values[i] = values[j];
+      states[i] = states[j];
+      views[i]  = views[j];
+      i = j;
+    }
+
+    keys[i]   = 0;
+    values[i] = null;
+    states[i] = Free;
+    views[i]  = null;
+    size--;
+  }
+
+  private void rehash(int capacity) {
+    var oldKeys   = keys;
+    var oldValues = values;
+    var oldStates = states;
+    var oldViews  = views;
+
+    allocate(capacity);
+
+    for (var i = 0; i < oldStates.length; i++) {
+      if (oldStates[i] == Free)
+        continue;
+
+      var j = hash(oldKeys[i]) & mask;
+      while (states[j] != Free)
+        j = (j + 1) & mask;
+
+      keys[j]   = oldKeys[i];
+      values[j] = oldValues[i];
+      states[j] = oldStates[i];
+      views[j]  = oldViews[i];
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys   = new long[capacity];
+    values = new Object[capacity];
+    states = new byte[capacity];
+    views  = new NullableOption<?>[capacity];
+    mask   = capacity - 1;
+  }
+
+  /**
+   * Returns the power of two table size required to hold the given number of
+   * entries at a load factor of at most one half.
+   */
+  private static int tableSize(int entries) {
+    return Math.max(DefaultCapacity, Integer.highestOneBit(Math.max(1, entries) * 2 - 1) << 1);
+  }
+
+  private static int hash(long key) {
+    var h = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Consumer of {@code LongOptionMap} entries.
+   *
+   * @param <V> Type of the entry values.
+   */
+  @FunctionalInterface
+  public interface EntryConsumer<V> {
+    /**
+     * Consumes a single map entry.
+     *
+     * @param key   Entry key.
+     * @param value Entry value.  May be {@code null}.
+     */
+    void accept(long key, V value);
+  }
+}
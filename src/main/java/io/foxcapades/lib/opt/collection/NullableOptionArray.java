@@ -0,0 +1,329 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Nullable Option Array
+ * <p>
+ * Growable, columnar array of nullable options.
+ * <p>
+ * Each element of a {@code NullableOptionArray} is in one of the three states
+ * of a {@link NullableOption}: empty, {@code null}, or present.  Values are held
+ * in a single backing array and element state is tracked in a presence bitmap
+ * and a null bitmap, so no {@code Option} instance is allocated per element.
+ * <p>
+ * As with {@code NullableOption}, {@code null} elements are considered to be
+ * present.
+ * <p>
+ * The bulk operations {@link #map(Function)}, {@link #filter(Predicate)} and
+ * {@link #count(Predicate)} operate directly on the backing arrays and follow
+ * the same rules as their {@link NullableOption} counterparts.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <T> Type of the values in the array.
+ *
+ * @since 1.2.0
+ */
+public class NullableOptionArray<T> extends AbstractOptionArray<T, NullableOption<T>> {
+
+  /**
+   * Null bitmap.  A set bit means the element at that index is {@code null}.
+   * <p>
+   * Null bits are only ever set for elements whose presence bit is also set.
+   */
+  protected long[] nulls;
+
+  /**
+   * Constructs a new, empty {@code NullableOptionArray} with a default initial
+   * capacity.
+   */
+  public NullableOptionArray() {
+    this(DefaultCapacity);
+  }
+
+  /**
+   * Constructs a new, empty {@code NullableOptionArray} with the given initial
+   * capacity.
+   *
+   * @param capacity Initial capacity.
+   *
+   * @throws IllegalArgumentException if the given capacity is negative.
+   */
+  public NullableOptionArray(int capacity) {
+    super(capacity);
+    nulls = new long[present.length];
+  }
+
+  /**
+   * Constructs a new {@code NullableOptionArray} around the given backing
+   * arrays.
+   *
+   * @param values  Element values.
+   * @param present Presence bitmap.
+   * @param nulls   Null bitmap.
+   * @param size    Number of elements.
+   */
+  protected NullableOptionArray(Object[] values, long[] present, long[] nulls, int size) {
+    super(values, present, size);
+    this.nulls = nulls;
+  }
+
+  /**
+   * Tests whether the element at the given index is {@code null}.
+   *
+   * @param index Index of the element to test.
+   *
+   * @return {@code true} if the element at the given index is {@code null}.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public boolean isNull(int index) {
+    return Bits.get(nulls, Objects.checkIndex(index, size));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull NullableOption<T> get(int index) {
+    return isPresent(index)
+      ? Opt.standard().newNullable((T) values[index])
+      : Opt.standard().newNullable();
+  }
+
+  /**
+   * Sets the element at the given index to the given value.
+   * <p>
+   * If the given value is {@code null}, the element will be set to
+   * {@code null}.
+   *
+   * @param index Index of the element to set.
+   * @param value Value to set.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public void set(int index, @Nullable T value) {
+    Objects.checkIndex(index, size);
+    values[index] = value;
+    Bits.set(present, index);
+    Bits.set(nulls, index, value == null);
+  }
+
+  @Override
+  public void clear(int index) {
+    super.clear(index);
+    Bits.clear(nulls, index);
+  }
+
+  /**
+   * Appends the given value to the end of this array.
+   * <p>
+   * If the given value is {@code null}, a {@code null} element will be
+   * appended.
+   *
+   * @param value Value to append.
+   */
+  public void add(@Nullable T value) {
+    var index = append();
+
+    values[index] = value;
+    Bits.set(present, index);
+
+    if (value == null)
+      Bits.set(nulls, index);
+  }
+
+  /**
+   * Counts the {@code null} elements in this array.
+   *
+   * @return The number of {@code null} elements in this array.
+   */
+  public int countNull() {
+    return Bits.count(nulls, 0, size);
+  }
+
+  /**
+   * Returns a new array containing the results of applying the given function
+   * to the values of the non-empty elements in this array.
+   * <p>
+   * Empty elements remain empty, and elements for which the given function
+   * returns {@code null} become {@code null}.
+   * <p>
+   * As with {@link NullableOption#map(Function)}, the given function will be
+   * called for {@code null} elements.
+   *
+   * @param fn Mapping function.
+   *
+   * @param <R> Type of the values in the returned array.
+   *
+   * @return A new array of the same size as this array.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  public @NotNull <R> NullableOptionArray<R> map(@NotNull Function<? super T, ? extends R> fn) {
+    Objects.requireNonNull(fn);
+
+    var outValues = new Object[size];
+    var outNulls  = new long[Bits.words(size)];
+
+    mapRange(fn, outValues, outNulls, 0, size);
+
+    return new NullableOptionArray<>(outValues, Arrays.copyOf(present, outNulls.length), outNulls, size);
+  }
+
+  /**
+   * Parallel version of {@link #map(Function)}.
+   * <p>
+   * The given function may be called concurrently from multiple threads.
+   *
+   * @param fn Mapping function.
+   *
+   * @param <R> Type of the values in the returned array.
+   *
+   * @return A new array of the same size as this array.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  public @NotNull <R> NullableOptionArray<R> parallelMap(@NotNull Function<? super T, ? extends R> fn) {
+    Objects.requireNonNull(fn);
+
+    var outValues = new Object[size];
+    var outNulls  = new long[Bits.words(size)];
+
+    Parallel.run(size, (from, to) -> mapRange(fn, outValues, outNulls, (int) from, (int) to));
+
+    return new NullableOptionArray<>(outValues, Arrays.copyOf(present, outNulls.length), outNulls, size);
+  }
+
+  /**
+   * Returns a new array in which every non-empty element whose value does not
+   * pass the given predicate has been made empty.
+   * <p>
+   * As with {@link NullableOption#filter(Predicate)}, the given predicate will
+   * be called for {@code null} elements.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new array of the same size as this array.
+   *
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  public @NotNull NullableOptionArray<T> filter(@NotNull Predicate<? super T> fn) {
+    Objects.requireNonNull(fn);
+
+    var outValues  = new Object[size];
+    var outPresent = new long[Bits.words(size)];
+    var outNulls   = new long[outPresent.length];
+
+    filterRange(fn, outValues, outPresent, outNulls, 0, size);
+
+    return new NullableOptionArray<>(outValues, outPresent, outNulls, size);
+  }
+
+  /**
+   * Parallel version of {@link #filter(Predicate)}.
+   * <p>
+   * The given predicate may be called concurrently from multiple threads.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new array of the same size as this array.
+   *
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  public @NotNull NullableOptionArray<T> parallelFilter(@NotNull Predicate<? super T> fn) {
+    Objects.requireNonNull(fn);
+
+    var outValues  = new Object[size];
+    var outPresent = new long[Bits.words(size)];
+    var outNulls   = new long[outPresent.length];
+
+    Parallel.run(size, (from, to) -> filterRange(fn, outValues, outPresent, outNulls, (int) from, (int) to));
+
+    return new NullableOptionArray<>(outValues, outPresent, outNulls, size);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mapRange(
+    Function<? super T, ?> fn,
+    Object[] outValues,
+    long[] outNulls,
+    int from,
+    int to
+  ) {
+    for (var i = Bits.next(present, from, to); i > -1; i = Bits.next(present, i + 1, to)) {
+      var value = fn.apply((T) values[i]);
+
+      if (value == null)
+        Bits.set(outNulls, i);
+      else
+        outValues[i] = value;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void filterRange(
+    Predicate<? super T> fn,
+    Object[] outValues,
+    long[] outPresent,
+    long[] outNulls,
+    int from,
+    int to
+  ) {
+    for (var i = Bits.next(present, from, to); i > -1; i = Bits.next(present, i + 1, to)) {
+      if (fn.test((T) values[i])) {
+        outValues[i] = values[i];
+        Bits.set(outPresent, i);
+
+        if (Bits.get(nulls, i))
+          Bits.set(outNulls, i);
+      }
+    }
+  }
+
+  /**
+   * Sorts this array by state, placing {@code null} elements directly before
+   * the elements holding a value, then sorts the values with the given
+   * comparator.
+   * <p>
+   * The given comparator is never called with a {@code null} value.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void sort(Comparator<? super T> cmp, boolean emptyFirst) {
+    var presentCount = countPresent();
+    var nullCount    = countNull();
+    var buf          = new Object[presentCount - nullCount];
+    var n            = 0;
+
+    for (var i = Bits.next(present, 0, size); i > -1; i = Bits.next(present, i + 1, size))
+      if (!Bits.get(nulls, i))
+        buf[n++] = values[i];
+
+    Arrays.sort((T[]) buf, cmp);
+
+    var start = emptyFirst ? size - presentCount : 0;
+
+    Arrays.fill(values, 0, size, null);
+    System.arraycopy(buf, 0, values, start + nullCount, buf.length);
+
+    Bits.fill(present, 0, size, false);
+    Bits.fill(present, start, start + presentCount, true);
+    Bits.fill(nulls, 0, size, false);
+    Bits.fill(nulls, start, start + nullCount, true);
+  }
+
+  @Override
+  protected void resize(int capacity) {
+    super.resize(capacity);
+    nulls = Arrays.copyOf(nulls, present.length);
+  }
+}
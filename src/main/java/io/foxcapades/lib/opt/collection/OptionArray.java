@@ -0,0 +1,231 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.Opt;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Option Array
+ * <p>
+ * Growable, columnar array of non-null options.
+ * <p>
+ * Each element of an {@code OptionArray} is in one of the two states of a
+ * {@link NonNullOption}: empty or present.  Values are held in a single
+ * backing array and element state is tracked in a presence bitmap, so no
+ * {@code Option} instance is allocated per element.
+ * <p>
+ * The bulk operations {@link #map(Function)}, {@link #filter(Predicate)} and
+ * {@link #count(Predicate)} operate directly on the backing arrays and follow
+ * the same rules as their {@link NonNullOption} counterparts.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <T> Type of the values in the array.
+ *
+ * @since 1.2.0
+ */
+public class OptionArray<T> extends AbstractOptionArray<T, NonNullOption<T>> {
+
+  /**
+   * Constructs a new, empty {@code OptionArray} with a default initial
+   * capacity.
+   */
+  public OptionArray() {
+    super(DefaultCapacity);
+  }
+
+  /**
+   * Constructs a new, empty {@code OptionArray} with the given initial
+   * capacity.
+   *
+   * @param capacity Initial capacity.
+   *
+   * @throws IllegalArgumentException if the given capacity is negative.
+   */
+  public OptionArray(int capacity) {
+    super(capacity);
+  }
+
+  /**
+   * Constructs a new {@code OptionArray} around the given backing arrays.
+   *
+   * @param values  Element values.
+   * @param present Presence bitmap.
+   * @param size    Number of elements.
+   */
+  protected OptionArray(Object[] values, long[] present, int size) {
+    super(values, present, size);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull NonNullOption<T> get(int index) {
+    return isPresent(index)
+      ? Opt.standard().newNonNull((T) values[index])
+      : Opt.standard().newNonNull();
+  }
+
+  /**
+   * Sets the element at the given index to the given value.
+   * <p>
+   * If the given value is {@code null}, the element will be set to empty.
+   *
+   * @param index Index of the element to set.
+   * @param value Value to set.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public void set(int index, @Nullable T value) {
+    Objects.checkIndex(index, size);
+    values[index] = value;
+    Bits.set(present, index, value != null);
+  }
+
+  /**
+   * Appends the given value to the end of this array.
+   * <p>
+   * If the given value is {@code null}, an empty element will be appended.
+   *
+   * @param value Value to append.
+   */
+  public void add(@Nullable T value) {
+    var index = append();
+
+    if (value != null) {
+      values[index] = value;
+      Bits.set(present, index);
+    }
+  }
+
+  /**
+   * Returns a new array containing the results of applying the given function
+   * to the values of the non-empty elements in this array.
+   * <p>
+   * Empty elements remain empty, and elements for which the given function
+   * returns {@code null} become empty.
+   *
+   * @param fn Mapping function.
+   *
+   * @param <R> Type of the values in the returned array.
+   *
+   * @return A new array of the same size as this array.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  public @NotNull <R> OptionArray<R> map(@NotNull Function<? super T, ? extends R> fn) {
+    Objects.requireNonNull(fn);
+
+    var outValues  = new Object[size];
+    var outPresent = new long[Bits.words(size)];
+
+    mapRange(fn, outValues, outPresent, 0, size);
+
+    return new OptionArray<>(outValues, outPresent, size);
+  }
+
+  /**
+   * Parallel version of {@link #map(Function)}.
+   * <p>
+   * The given function may be called concurrently from multiple threads.
+   *
+   * @param fn Mapping function.
+   *
+   * @param <R> Type of the values in the returned array.
+   *
+   * @return A new array of the same size as this array.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  public @NotNull <R> OptionArray<R> parallelMap(@NotNull Function<? super T, ? extends R> fn) {
+    Objects.requireNonNull(fn);
+
+    var outValues  = new Object[size];
+    var outPresent = new long[Bits.words(size)];
+
+    Parallel.run(size, (from, to) -> mapRange(fn, outValues, outPresent, (int) from, (int) to));
+
+    return new OptionArray<>(outValues, outPresent, size);
+  }
+
+  /**
+   * Returns a new array in which every non-empty element whose value does not
+   * pass the given predicate has been made empty.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new array of the same size as this array.
+   *
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  public @NotNull OptionArray<T> filter(@NotNull Predicate<? super T> fn) {
+    Objects.requireNonNull(fn);
+
+    var outValues  = new Object[size];
+    var outPresent = new long[Bits.words(size)];
+
+    filterRange(fn, outValues, outPresent, 0, size);
+
+    return new OptionArray<>(outValues, outPresent, size);
+  }
+
+  /**
+   * Parallel version of {@link #filter(Predicate)}.
+   * <p>
+   * The given predicate may be called concurrently from multiple threads.
+   *
+   * @param fn Filter predicate.
+   *
+   * @return A new array of the same size as this array.
+   *
+   * @throws NullPointerException if the given predicate is {@code null}.
+   */
+  public @NotNull OptionArray<T> parallelFilter(@NotNull Predicate<? super T> fn) {
+    Objects.requireNonNull(fn);
+
+    var outValues  = new Object[size];
+    var outPresent = new long[Bits.words(size)];
+
+    Parallel.run(size, (from, to) -> filterRange(fn, outValues, outPresent, (int) from, (int) to));
+
+    return new OptionArray<>(outValues, outPresent, size);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mapRange(
+    Function<? super T, ?> fn,
+    Object[] outValues,
+    long[] outPresent,
+    int from,
+    int to
+  ) {
+    for (var i = Bits.next(present, from, to); i > -1; i = Bits.next(present, i + 1, to)) {
+      var value = fn.apply((T) values[i]);
+
+      if (value != null) {
+        outValues[i] = value;
+        Bits.set(outPresent, i);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void filterRange(
+    Predicate<? super T> fn,
+    Object[] outValues,
+    long[] outPresent,
+    int from,
+    int to
+  ) {
+    for (var i = Bits.next(present, from, to); i > -1; i = Bits.next(present, i + 1, to)) {
+      if (fn.test((T) values[i])) {
+        outValues[i] = values[i];
+        Bits.set(outPresent, i);
+      }
+    }
+  }
+}
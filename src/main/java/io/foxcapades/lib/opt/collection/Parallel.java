@@ -0,0 +1,129 @@
+package io.foxcapades.lib.opt.collection;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Fork/join helpers for splitting index ranges across worker threads.
+ * <p>
+ * Ranges are only ever split at multiples of {@link #Granularity} elements.
+ * That keeps every split on a bitmap word boundary, so bitmap words are never
+ * shared between workers.  Splits are not aligned to cache lines, since array
+ * headers offset the element data, so workers may still touch neighbouring
+ * elements of the same cache line at split edges.
+ */
+final class Parallel {
+  /**
+   * Minimum split size, in elements: eight bitmap words.
+   */
+  static final int Granularity = 512;
+
+  /**
+   * Target number of leaf tasks per worker thread, to balance uneven work.
+   */
+  private static final int LeavesPerWorker = 4;
+
+  private Parallel() {}
+
+  /**
+   * Function over a range of element indices.
+   *
+   * @param <R> Type of the range result.
+   */
+  @FunctionalInterface
+  interface RangeFunction<R> {
+    R apply(long from, long to);
+  }
+
+  /**
+   * Action over a range of element indices.
+   */
+  @FunctionalInterface
+  interface RangeAction {
+    void accept(long from, long to);
+  }
+
+  /**
+   * Runs the given action over every range in {@code [0, size)}, in parallel.
+   */
+  static void run(long size, RangeAction action) {
+    reduce(size, (from, to) -> {
+      action.accept(from, to);
+      return null;
+    }, (a, b) -> null);
+  }
+
+  /**
+   * Applies the given function to every range in {@code [0, size)}, in
+   * parallel, combining the range results in index order.
+   */
+  static <R> R reduce(long size, RangeFunction<R> leaf, BinaryOperator<R> combiner) {
+    var threshold = threshold(size);
+
+    if (size <= threshold)
+      return leaf.apply(0, size);
+
+    return new Task<>(0, size, threshold, leaf, combiner).invoke();
+  }
+
+  /**
+   * Returns the largest index that is a multiple of {@link #Granularity} and
+   * falls near the middle of the given range, or {@code -1} if the range
+   * cannot be split.
+   */
+  static long split(long from, long to) {
+    var mid = (from + ((to - from) >>> 1)) & -Granularity;
+
+    if (mid <= from)
+      mid = (from & -Granularity) + Granularity;
+
+    return mid < to ? mid : -1;
+  }
+
+  private static long threshold(long size) {
+    var pool  = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : ForkJoinPool.commonPool();
+    var parts = (long) pool.getParallelism() * LeavesPerWorker;
+    var out   = (size + parts - 1) / parts;
+
+    return Math.max(Granularity, (out + Granularity - 1) & -Granularity);
+  }
+
+  private static final class Task<R> extends RecursiveTask<R> {
+    private static final long serialVersionUID = 1L;
+
+    private final long from;
+
+    private final long to;
+
+    private final long threshold;
+
+    private final RangeFunction<R> leaf;
+
+    private final BinaryOperator<R> combiner;
+
+    Task(long from, long to, long threshold, RangeFunction<R> leaf, BinaryOperator<R> combiner) {
+      this.from      = from;
+      this.to        = to;
+      this.threshold = threshold;
+      this.leaf      = leaf;
+      this.combiner  = combiner;
+    }
+
+    @Override
+    protected R compute() {
+      long mid;
+
+      if (to - from <= threshold || (mid = split(from, to)) < 0)
+        return leaf.apply(from, to);
+
+      var left = new Task<>(from, mid, threshold, leaf, combiner);
+      left.fork();
+
+      var right = new Task<>(mid, to, threshold, leaf, combiner).compute();
+
+      return combiner.apply(left.join(), right);
+    }
+  }
+}
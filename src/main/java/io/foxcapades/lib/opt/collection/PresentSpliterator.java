@@ -0,0 +1,92 @@
+package io.foxcapades.lib.opt.collection;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the values of the non-empty elements of an option array.
+ * <p>
+ * Sizes are exact: the number of remaining values is computed from the
+ * presence bitmap whenever a spliterator is created.  Splits only happen on
+ * {@link Parallel#Granularity} boundaries.
+ *
+ * @param <T> Type of the values in the array.
+ */
+final class PresentSpliterator<T> implements Spliterator<T> {
+  private final Object[] values;
+
+  private final long[] present;
+
+  private int index;
+
+  private final int end;
+
+  private long remaining;
+
+  PresentSpliterator(Object[] values, long[] present, int from, int to) {
+    this.values    = values;
+    this.present   = present;
+    this.index     = from;
+    this.end       = to;
+    this.remaining = Bits.count(present, from, to);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean tryAdvance(Consumer<? super T> action) {
+    Objects.requireNonNull(action);
+
+    var i = Bits.next(present, index, end);
+
+    if (i < 0) {
+      index = end;
+      return false;
+    }
+
+    index = i + 1;
+    remaining--;
+    action.accept((T) values[i]);
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEachRemaining(Consumer<? super T> action) {
+    Objects.requireNonNull(action);
+
+    for (var i = Bits.next(present, index, end); i > -1; i = Bits.next(present, i + 1, end))
+      action.accept((T) values[i]);
+
+    index     = end;
+    remaining = 0;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    if (end - index <= Parallel.Granularity)
+      return null;
+
+    var mid = (int) Parallel.split(index, end);
+
+    if (mid < 0)
+      return null;
+
+    var prefix = new PresentSpliterator<T>(values, present, index, mid);
+
+    index     = mid;
+    remaining -= prefix.remaining;
+
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return remaining;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED;
+  }
+}
@@ -0,0 +1,159 @@
+package io.foxcapades.lib.opt.collection;
+
+import java.util.Arrays;
+
+/**
+ * Least significant digit radix sorts for primitive values, one byte per pass.
+ * <p>
+ * The digit counts for every pass are taken in a single scan up front, and
+ * passes where every value has the same digit are skipped, so narrow value
+ * ranges sort in fewer passes.
+ */
+final class Radix {
+  /**
+   * {@code int} arrays shorter than this are sorted with
+   * {@link Arrays#sort(int[])}, which is faster for small inputs.
+   */
+  private static final int IntThreshold = 512;
+
+  /**
+   * {@code long} arrays shorter than this are sorted with
+   * {@link Arrays#sort(long[])}, as they take twice as many passes.
+   */
+  private static final int LongThreshold = 2048;
+
+  private static final int Buckets = 256;
+
+  private Radix() {}
+
+  /**
+   * Sorts the first {@code n} values of the given array in ascending order.
+   */
+  static void sort(int[] a, int n) {
+    if (n < IntThreshold) {
+      Arrays.sort(a, 0, n);
+      return;
+    }
+
+    var counts = new int[Integer.BYTES][Buckets];
+
+    for (var i = 0; i < n; i++) {
+      // Flipping the sign bit orders negative values before positive ones.
+      var v = a[i] ^ Integer.MIN_VALUE;
+      counts[0][v & 0xFF]++;
+      counts[1][(v >>> 8) & 0xFF]++;
+      counts[2][(v >>> 16) & 0xFF]++;
+      counts[3][v >>> 24]++;
+    }
+
+    var src = a;
+    var dst = new int[n];
+
+    for (var pass = 0; pass < Integer.BYTES; pass++) {
+      var count = counts[pass];
+      var shift = pass << 3;
+
+      if (count[((src[0] ^ Integer.MIN_VALUE) >>> shift) & 0xFF] == n)
+        continue;
+
+      offsets(count);
+
+      for (var i = 0; i < n; i++) {
+        var v = src[i];
+        dst[count[((v ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++] = v;
+      }
+
+      var tmp = src;
+      src = dst;
+      dst = tmp;
+    }
+
+    if (src != a)
+      System.arraycopy(src, 0, a, 0, n);
+  }
+
+  /**
+   * Sorts the first {@code n} values of the given array in ascending order.
+   */
+  static void sort(long[] a, int n) {
+    if (n < LongThreshold) {
+      Arrays.sort(a, 0, n);
+      return;
+    }
+
+    var counts = new int[Long.BYTES][Buckets];
+
+    for (var i = 0; i < n; i++) {
+      var v  = a[i] ^ Long.MIN_VALUE;
+      var lo = (int) v;
+      var hi = (int) (v >>> 32);
+      counts[0][lo & 0xFF]++;
+      counts[1][(lo >>> 8) & 0xFF]++;
+      counts[2][(lo >>> 16) & 0xFF]++;
+      counts[3][lo >>> 24]++;
+      counts[4][hi & 0xFF]++;
+      counts[5][(hi >>> 8) & 0xFF]++;
+      counts[6][(hi >>> 16) & 0xFF]++;
+      counts[7][hi >>> 24]++;
+    }
+
+    var src = a;
+    var dst = new long[n];
+
+    for (var pass = 0; pass < Long.BYTES; pass++) {
+      var count = counts[pass];
+      var shift = pass << 3;
+
+      if (count[(int) ((src[0] ^ Long.MIN_VALUE) >>> shift) & 0xFF] == n)
+        continue;
+
+      offsets(count);
+
+      for (var i = 0; i < n; i++) {
+        var v = src[i];
+        dst[count[(int) ((v ^ Long.MIN_VALUE) >>> shift) & 0xFF]++] = v;
+      }
+
+      var tmp = src;
+      src = dst;
+      dst = tmp;
+    }
+
+    if (src != a)
+      System.arraycopy(src, 0, a, 0, n);
+  }
+
+  /**
+   * Converts the given {@code double} to a {@code long} that sorts in the same
+   * order as {@link Double#compare(double, double)}.
+   * <p>
+   * This conversion is its own inverse, see {@link #fromKey(long)}.
+   */
+  static long toKey(double value) {
+    var bits = Double.doubleToLongBits(value);
+
+    // Negative values are ordered by reversed magnitude.
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /**
+   * Converts a key created by {@link #toKey(double)} back into its
+   * {@code double} value.
+   */
+  static double fromKey(long key) {
+    return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+  }
+
+  /**
+   * Replaces the given digit counts with the starting offset of each digit.
+   */
+  private static void offsets(int[] count) {
+    var sum = 0;
+
+    for (var d = 0; d < Buckets; d++) {
+      var c = count[d];
+      count[d] = sum;
+      sum += c;
+    }
+  }
+}
@@ -0,0 +1,284 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Sparse Option Vector
+ * <p>
+ * Fixed length vector of nullable options optimized for data that is mostly
+ * empty.
+ * <p>
+ * Only the non-empty elements of the vector are stored, as a sorted array of
+ * element indices paired with an array of element values.  Empty elements take
+ * no space at all, while non-empty elements ({@code null} included) cost one
+ * index and one value slot each.
+ * <p>
+ * Element lookups use a binary search over the stored indices, so
+ * {@link #get(int)} runs in {@code O(log n)} time where {@code n} is the number
+ * of non-empty elements.  Setting elements in ascending index order appends to
+ * the end of the index array in amortized constant time, while setting an
+ * element before the last stored index requires shifting the entries after it.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <T> Type of the values in the vector.
+ *
+ * @since 1.2.0
+ */
+public class SparseOptionVector<T> {
+  private static final int DefaultCapacity = 8;
+
+  /**
+   * Length of the vector.
+   */
+  private final int size;
+
+  /**
+   * Sorted indices of the non-empty elements.
+   */
+  private int[] indices;
+
+  /**
+   * Values of the non-empty elements, {@code null} for {@code null} elements.
+   */
+  private Object[] values;
+
+  /**
+   * Number of non-empty elements.
+   */
+  private int entries;
+
+  /**
+   * Constructs a new {@code SparseOptionVector} of the given length with every
+   * element empty.
+   *
+   * @param size Length of the vector.
+   *
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public SparseOptionVector(int size) {
+    if (size < 0)
+      throw new IllegalArgumentException("Illegal size: " + size);
+
+    this.size    = size;
+    this.indices = new int[DefaultCapacity];
+    this.values  = new Object[DefaultCapacity];
+  }
+
+  /**
+   * Returns the length of this vector.
+   *
+   * @return The length of this vector.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Tests whether the element at the given index is not empty.
+   *
+   * @param index Index of the element to test.
+   *
+   * @return {@code true} if the element at the given index is not empty.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public boolean isPresent(int index) {
+    return find(index) > -1;
+  }
+
+  /**
+   * Tests whether the element at the given index is empty.
+   *
+   * @param index Index of the element to test.
+   *
+   * @return {@code true} if the element at the given index is empty.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public boolean isEmpty(int index) {
+    return find(index) < 0;
+  }
+
+  /**
+   * Tests whether the element at the given index is {@code null}.
+   *
+   * @param index Index of the element to test.
+   *
+   * @return {@code true} if the element at the given index is {@code null}.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public boolean isNull(int index) {
+    var slot = find(index);
+    return slot > -1 && values[slot] == null;
+  }
+
+  /**
+   * Returns an option view of the element at the given index.
+   *
+   * @param index Index of the element to retrieve.
+   *
+   * @return An option in the same state as the element at the given index.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull NullableOption<T> get(int index) {
+    var slot = find(index);
+
+    return slot < 0
+      ? Opt.standard().newNullable()
+      : Opt.standard().newNullable((T) values[slot]);
+  }
+
+  /**
+   * Unwraps the value of the element at the given index.
+   *
+   * @param index Index of the element to unwrap.
+   *
+   * @return The value of the element at the given index.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   * @throws UnwrapException           if the element at the given index is
+   *                                   empty.
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable T unwrap(int index) throws UnwrapException {
+    var slot = find(index);
+
+    if (slot < 0)
+      throw Opt.standard().newUnwrapException(Opt.standard().newNullable());
+
+    return (T) values[slot];
+  }
+
+  /**
+   * Sets the element at the given index to the given value.
+   * <p>
+   * If the given value is {@code null}, the element will be set to
+   * {@code null}.
+   *
+   * @param index Index of the element to set.
+   * @param value Value to set.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public void set(int index, @Nullable T value) {
+    Objects.checkIndex(index, size);
+
+    // Fast path for elements set in ascending index order.
+    if (entries == 0 || indices[entries - 1] < index) {
+      insert(entries, index, value);
+      return;
+    }
+
+    var slot = Arrays.binarySearch(indices, 0, entries, index);
+
+    if (slot > -1)
+      values[slot] = value;
+    else
+      insert(-slot - 1, index, value);
+  }
+
+  /**
+   * Sets the element at the given index to empty.
+   *
+   * @param index Index of the element to clear.
+   *
+   * @throws IndexOutOfBoundsException if the given index is out of bounds.
+   */
+  public void clear(int index) {
+    var slot = find(index);
+
+    if (slot < 0)
+      return;
+
+    var tail = entries - slot - 1;
+    System.arraycopy(indices, slot + 1, indices, slot, tail);
+    System.arraycopy(values, slot + 1, values, slot, tail);
+    values[--entries] = null;
+  }
+
+  /**
+   * Counts the non-empty elements in this vector.
+   *
+   * @return The number of non-empty elements in this vector.
+   */
+  public int countPresent() {
+    return entries;
+  }
+
+  /**
+   * Counts the {@code null} elements in this vector.
+   *
+   * @return The number of {@code null} elements in this vector.
+   */
+  public int countNull() {
+    var out = 0;
+
+    for (var i = 0; i < entries; i++)
+      if (values[i] == null)
+        out++;
+
+    return out;
+  }
+
+  /**
+   * Calls the given function with the value and index of every non-empty
+   * element in this vector, in index order.
+   * <p>
+   * Empty elements are skipped without being visited, so iteration time
+   * depends only on the number of non-empty elements.
+   *
+   * @param fn Function to call.
+   *
+   * @throws NullPointerException if the given function is {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachPresent(@NotNull ObjIntConsumer<? super T> fn) {
+    Objects.requireNonNull(fn);
+
+    for (var i = 0; i < entries; i++)
+      fn.accept((T) values[i], indices[i]);
+  }
+
+  /**
+   * Trims the storage of this vector to the number of non-empty elements.
+   */
+  public void trimToSize() {
+    if (indices.length > entries) {
+      indices = Arrays.copyOf(indices, entries);
+      values  = Arrays.copyOf(values, entries);
+    }
+  }
+
+  private int find(int index) {
+    Objects.checkIndex(index, size);
+    return Arrays.binarySearch(indices, 0, entries, index);
+  }
+
+  private void insert(int slot, int index, Object value) {
+    if (entries == indices.length) {
+      var newCap = Math.max(DefaultCapacity, entries + (entries >> 1));
+      indices = Arrays.copyOf(indices, newCap);
+      values  = Arrays.copyOf(values, newCap);
+    }
+
+    var tail = entries - slot;
+    System.arraycopy(indices, slot, indices, slot + 1, tail);
+    System.arraycopy(values, slot, values, slot + 1, tail);
+
+    indices[slot] = index;
+    values[slot]  = value;
+    entries++;
+  }
+}
@@ -0,0 +1,342 @@
+package io.foxcapades.lib.opt.flow;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base implementation of a single subscriber {@link Flow.Processor} that
+ * transforms or drops each item it receives.
+ *
+ * <h2>Backpressure</h2>
+ * Items are requested from upstream in batches rather than one downstream
+ * request at a time.  Once both sides are subscribed, a full batch is
+ * requested, and another three quarters of a batch is requested each time
+ * three quarters of a batch has been used.  An item counts as used once it
+ * has been sent downstream or dropped, so dropped items never use up
+ * downstream demand.  At most one batch of items is buffered.
+ * <p>
+ * Items are transformed and sent downstream by a single drain loop, which is
+ * run by whichever thread signals new items or demand, so downstream signals
+ * are always serialized.
+ *
+ * <h2>Subscribers</h2>
+ * A processor accepts a single subscriber.  Later subscribers are sent an
+ * {@code IllegalStateException} through {@code onError}.
+ *
+ * @param <I> Type of the items received from upstream.
+ * @param <O> Type of the items sent downstream.
+ *
+ * @since 1.2.0
+ */
+public abstract class AbstractOptionProcessor<I, O> implements Flow.Processor<I, O> {
+  /**
+   * Batch size used when no batch size is given.
+   */
+  protected static final int DefaultBatchSize = 256;
+
+  private final int batchSize;
+
+  /**
+   * Number of used items after which more items are requested from upstream.
+   */
+  private final int limit;
+
+  private final Queue<I> queue = new ConcurrentLinkedQueue<>();
+
+  private final AtomicLong requested = new AtomicLong();
+
+  private final AtomicInteger wip = new AtomicInteger();
+
+  private volatile Flow.Subscription upstream;
+
+  private volatile Flow.Subscriber<? super O> downstream;
+
+  /**
+   * Whether a subscriber has claimed this processor, guarded by this.
+   */
+  private boolean subscribed;
+
+  private volatile boolean done;
+
+  private volatile boolean cancelled;
+
+  /**
+   * Upstream failure, set before {@link #done}.
+   */
+  private Throwable error;
+
+  /**
+   * Failure that must be sent downstream before any queued items, such as an
+   * invalid request.
+   */
+  private volatile Throwable fatal;
+
+  //
+  // Drain loop state, only accessed while holding wip.
+  //
+
+  private boolean started;
+
+  private int consumed;
+
+  /**
+   * Transformed item that is waiting for downstream demand.
+   */
+  private O held;
+
+  /**
+   * @param batchSize Number of items to request from upstream at a time.
+   *
+   * @throws IllegalArgumentException if the given batch size is less than
+   * {@code 1}.
+   */
+  protected AbstractOptionProcessor(int batchSize) {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("batch size must be at least 1, was " + batchSize);
+
+    this.batchSize = batchSize;
+    this.limit     = batchSize - (batchSize >> 2);
+  }
+
+  /**
+   * Transforms an item received from upstream into the item that should be
+   * sent downstream.
+   *
+   * @param item Item received from upstream.
+   *
+   * @return The item to send downstream, or {@code null} to drop the item.
+   */
+  @Nullable
+  protected abstract O transform(@NotNull I item);
+
+  /**
+   * Returns the number of items this processor requests from upstream at a
+   * time.
+   *
+   * @return The batch size of this processor.
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  @Override
+  public void subscribe(@NotNull Flow.Subscriber<? super O> subscriber) {
+    Objects.requireNonNull(subscriber);
+
+    boolean first;
+
+    synchronized (this) {
+      first = !subscribed;
+      subscribed = true;
+    }
+
+    if (!first) {
+      subscriber.onSubscribe(Rejected.Instance);
+      subscriber.onError(new IllegalStateException(getClass().getSimpleName() + " only accepts a single subscriber"));
+      return;
+    }
+
+    // Published only after onSubscribe returns so that the drain loop can't
+    // signal the subscriber before its onSubscribe.
+    subscriber.onSubscribe(new Downstream());
+    downstream = subscriber;
+    drain();
+  }
+
+  @Override
+  public void onSubscribe(@NotNull Flow.Subscription subscription) {
+    Objects.requireNonNull(subscription);
+
+    synchronized (this) {
+      if (upstream != null || cancelled) {
+        subscription.cancel();
+        return;
+      }
+
+      upstream = subscription;
+    }
+
+    drain();
+  }
+
+  @Override
+  public void onNext(@NotNull I item) {
+    queue.offer(Objects.requireNonNull(item));
+    drain();
+  }
+
+  @Override
+  public void onError(@NotNull Throwable throwable) {
+    error = Objects.requireNonNull(throwable);
+    done  = true;
+    drain();
+  }
+
+  @Override
+  public void onComplete() {
+    done = true;
+    drain();
+  }
+
+  private void drain() {
+    if (wip.getAndIncrement() != 0)
+      return;
+
+    var missed = 1;
+
+    for (;;) {
+      var down = downstream;
+      var up   = upstream;
+
+      if (down != null && up != null && drainReady(down, up))
+        return;
+
+      missed = wip.addAndGet(-missed);
+
+      if (missed == 0)
+        return;
+    }
+  }
+
+  /**
+   * Sends as many items downstream as there is demand for.
+   *
+   * @return {@code true} if the processor has terminated and draining should
+   * stop for good.
+   */
+  private boolean drainReady(Flow.Subscriber<? super O> down, Flow.Subscription up) {
+    if (!started) {
+      started = true;
+      up.request(batchSize);
+    }
+
+    var req  = requested.get();
+    var sent = 0L;
+
+    for (;;) {
+      if (cancelled) {
+        queue.clear();
+        held = null;
+        return true;
+      }
+
+      var fail = fatal;
+      if (fail != null) {
+        cancelled = true;
+        queue.clear();
+        held = null;
+        up.cancel();
+        down.onError(fail);
+        return true;
+      }
+
+      var out = held;
+
+      if (out == null) {
+        var isDone = done;
+        var in     = queue.poll();
+
+        if (in == null) {
+          if (isDone) {
+            cancelled = true;
+
+            if (error == null)
+              down.onComplete();
+            else
+              down.onError(error);
+
+            return true;
+          }
+
+          break;
+        }
+
+        try {
+          out = transform(in);
+        } catch (Throwable e) {
+          cancelled = true;
+          queue.clear();
+          up.cancel();
+          down.onError(e);
+          return true;
+        }
+
+        if (out == null) {
+          replenish(up);
+          continue;
+        }
+      }
+
+      if (sent == req) {
+        held = out;
+        break;
+      }
+
+      held = null;
+      down.onNext(out);
+      sent++;
+      replenish(up);
+    }
+
+    if (sent != 0 && req != Long.MAX_VALUE)
+      requested.addAndGet(-sent);
+
+    return false;
+  }
+
+  private void replenish(Flow.Subscription up) {
+    if (++consumed == limit) {
+      consumed = 0;
+      up.request(limit);
+    }
+  }
+
+  private final class Downstream implements Flow.Subscription {
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        fatal = new IllegalArgumentException("request count must be positive, was " + n);
+      } else {
+        long cur, next;
+        do {
+          cur  = requested.get();
+          next = cur + n;
+
+          // Demand past Long.MAX_VALUE is treated as unbounded.
+          if (next < 0)
+            next = Long.MAX_VALUE;
+        } while (!requested.compareAndSet(cur, next));
+      }
+
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+
+      var up = upstream;
+      if (up != null)
+        up.cancel();
+
+      drain();
+    }
+  }
+
+  private enum Rejected implements Flow.Subscription {
+    Instance;
+
+    @Override
+    public void request(long n) {}
+
+    @Override
+    public void cancel() {}
+  }
+}
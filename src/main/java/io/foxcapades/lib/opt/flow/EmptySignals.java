@@ -0,0 +1,18 @@
+package io.foxcapades.lib.opt.flow;
+
+/**
+ * How an {@link OptionProcessor} handles empty options.
+ *
+ * @since 1.2.0
+ */
+public enum EmptySignals {
+  /**
+   * Empty options are sent downstream like any other option.
+   */
+  Forward,
+
+  /**
+   * Empty options are dropped without using up any downstream demand.
+   */
+  Drop,
+}
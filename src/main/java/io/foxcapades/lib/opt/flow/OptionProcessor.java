@@ -0,0 +1,111 @@
+package io.foxcapades.lib.opt.flow;
+
+import io.foxcapades.lib.opt.Option;
+import io.foxcapades.lib.opt.OptionPipeline;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * Option Processor
+ * <p>
+ * {@link Flow.Processor} that applies an {@link OptionPipeline} to each option
+ * it receives, with the same {@code map}, {@code filter}, and {@code flatMap}
+ * semantics as calling the pipeline's stages on the option directly.
+ * <pre>{@code
+ * var processor = new OptionProcessor<>(
+ *   OptionPipeline.<String>nullable().map(String::trim).filter(s -> !s.isEmpty()),
+ *   EmptySignals.Drop
+ * );
+ *
+ * publisher.subscribe(processor);
+ * processor.presentValues().subscribe(subscriber);
+ * }</pre>
+ * <p>
+ * See {@link AbstractOptionProcessor} for the backpressure and subscriber
+ * rules.
+ *
+ * @param <T> Type of the values wrapped by the received options.
+ * @param <R> Type of the values wrapped by the emitted options.
+ *
+ * @since 1.2.0
+ */
+public class OptionProcessor<T, R> extends AbstractOptionProcessor<Option<T>, Option<R>> {
+  private final OptionPipeline<T, R> pipeline;
+
+  private final EmptySignals empties;
+
+  /**
+   * Constructs a new processor that forwards empty options and uses the
+   * default batch size.
+   *
+   * @param pipeline Pipeline to apply to each received option.
+   *
+   * @throws NullPointerException if the given pipeline is {@code null}.
+   */
+  public OptionProcessor(@NotNull OptionPipeline<T, R> pipeline) {
+    this(pipeline, EmptySignals.Forward, DefaultBatchSize);
+  }
+
+  /**
+   * Constructs a new processor that uses the default batch size.
+   *
+   * @param pipeline Pipeline to apply to each received option.
+   * @param empties  How to handle options that are empty after the pipeline
+   *                 has been applied.
+   *
+   * @throws NullPointerException if either argument is {@code null}.
+   */
+  public OptionProcessor(@NotNull OptionPipeline<T, R> pipeline, @NotNull EmptySignals empties) {
+    this(pipeline, empties, DefaultBatchSize);
+  }
+
+  /**
+   * Constructs a new processor.
+   *
+   * @param pipeline  Pipeline to apply to each received option.
+   * @param empties   How to handle options that are empty after the pipeline
+   *                  has been applied.
+   * @param batchSize Number of options to request from upstream at a time.
+   *
+   * @throws NullPointerException     if either object argument is {@code null}.
+   * @throws IllegalArgumentException if the given batch size is less than
+   *                                  {@code 1}.
+   */
+  public OptionProcessor(
+    @NotNull OptionPipeline<T, R> pipeline,
+    @NotNull EmptySignals empties,
+    int batchSize
+  ) {
+    super(batchSize);
+    this.pipeline = Objects.requireNonNull(pipeline);
+    this.empties  = Objects.requireNonNull(empties);
+  }
+
+  /**
+   * Subscribes a new {@link PresentValueProcessor} to this processor and
+   * returns it.
+   * <p>
+   * As this processor only accepts a single subscriber, the returned
+   * publisher takes its place.
+   *
+   * @return A publisher of the non-{@code null} values of the options emitted
+   * by this processor.
+   */
+  @NotNull
+  public Flow.Publisher<R> presentValues() {
+    var out = new PresentValueProcessor<R>(getBatchSize());
+    subscribe(out);
+    return out;
+  }
+
+  @Nullable
+  @Override
+  protected Option<R> transform(@NotNull Option<T> item) {
+    var out = pipeline.applyTo(item);
+
+    return out.isEmpty() && empties == EmptySignals.Drop ? null : out;
+  }
+}
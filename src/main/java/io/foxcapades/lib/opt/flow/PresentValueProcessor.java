@@ -0,0 +1,52 @@
+package io.foxcapades.lib.opt.flow;
+
+import io.foxcapades.lib.opt.Option;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Present Value Processor
+ * <p>
+ * {@link Flow.Processor} that unwraps the options it receives, and publishes
+ * only the non-{@code null} values of the present options.
+ * <p>
+ * {@code Flow} signals can't carry {@code null}, so options wrapping
+ * {@code null} are dropped along with empty options.  Dropped options do not
+ * use up any downstream demand.
+ * <p>
+ * See {@link AbstractOptionProcessor} for the backpressure and subscriber
+ * rules.
+ *
+ * @param <T> Type of the values wrapped by the received options.
+ *
+ * @since 1.2.0
+ */
+public class PresentValueProcessor<T> extends AbstractOptionProcessor<Option<? extends T>, T> {
+
+  /**
+   * Constructs a new processor that uses the default batch size.
+   */
+  public PresentValueProcessor() {
+    this(DefaultBatchSize);
+  }
+
+  /**
+   * Constructs a new processor.
+   *
+   * @param batchSize Number of options to request from upstream at a time.
+   *
+   * @throws IllegalArgumentException if the given batch size is less than
+   * {@code 1}.
+   */
+  public PresentValueProcessor(int batchSize) {
+    super(batchSize);
+  }
+
+  @Nullable
+  @Override
+  protected T transform(@NotNull Option<? extends T> item) {
+    return item.isPresent() ? item.unwrap() : null;
+  }
+}
@@ -0,0 +1,226 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Singleton type representing an empty {@link BooleanOption}.
+ */
+public record EmptyBooleanOption() implements BooleanOption {
+  private static final BooleanOption instance = new EmptyBooleanOption();
+
+  /**
+   * Returns the singleton {@code EmptyBooleanOption} instance.
+   *
+   * @return The singleton {@code EmptyBooleanOption} instance.
+   */
+  public static @NotNull BooleanOption instance() {
+    return instance;
+  }
+
+  @Override
+  public boolean isTrue() {
+    return false;
+  }
+
+  @Override
+  public boolean isFalse() {
+    return false;
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public boolean unwrapBoolean() throws UnwrapException {
+    throw Opt.standard().newUnwrapException(this);
+  }
+
+  @Override
+  public @NotNull BooleanOption and(@NotNull BooleanOption other) {
+    return other.isFalse() ? other : this;
+  }
+
+  @Override
+  public @NotNull BooleanOption or(@NotNull BooleanOption other) {
+    return other.isTrue() ? other : this;
+  }
+
+  @Override
+  public @NotNull BooleanOption xor(@NotNull BooleanOption other) {
+    Objects.requireNonNull(other);
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption not() {
+    return this;
+  }
+
+  @Override
+  public @Nullable Boolean unwrap() throws UnwrapException {
+    throw Opt.standard().newUnwrapException(this);
+  }
+
+  @Override
+  public @Nullable Boolean or(@Nullable Boolean other) {
+    return other;
+  }
+
+  @Override
+  public @Nullable Boolean orGet(@NotNull Supplier<? extends Boolean> fn) {
+    return fn.get();
+  }
+
+  @Override
+  public <E extends Throwable> @Nullable Boolean orThrow(@NotNull E err) throws E {
+    throw Objects.requireNonNull(err);
+  }
+
+  @Override
+  public <E extends Throwable> @Nullable Boolean orElseThrow(@NotNull Supplier<? extends E> fn) throws E {
+    throw Objects.requireNonNull(fn.get());
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> map(@NotNull Function<? super Boolean, ? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return EmptyNullable.instance();
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> map(
+    @NotNull Function<? super Boolean, ? extends R> ifPresent,
+    @NotNull Supplier<? extends R> ifEmpty
+  ) {
+    Objects.requireNonNull(ifPresent);
+    return Opt.standard().newNullable(ifEmpty.get());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull <R> Option<R> flatMap(@NotNull Function<? super Boolean, ? extends Option<? extends R>> fn) {
+    Objects.requireNonNull(fn);
+    return (Option<R>) EmptyNullable.instance();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull <R> Option<R> flatMap(
+    @NotNull Function<? super Boolean, ? extends Option<? extends R>> ifPresent,
+    @NotNull Supplier<? extends Option<? extends R>> ifEmpty
+  ) {
+    Objects.requireNonNull(ifPresent);
+    return (Option<R>) Objects.requireNonNull(ifEmpty.get());
+  }
+
+  @Override
+  public @NotNull Stream<Boolean> stream() {
+    return Stream.empty();
+  }
+
+  @Override
+  public @NotNull Iterator<Boolean> iterator() {
+    return Collections.emptyIterator();
+  }
+
+  @Override
+  public @NotNull Spliterator<Boolean> spliterator() {
+    return Spliterators.emptySpliterator();
+  }
+
+  @Override
+  public void forEach(@NotNull Consumer<? super Boolean> fn) {
+    Objects.requireNonNull(fn);
+  }
+
+  @Override
+  public @NotNull BooleanOption ifPresent(@NotNull Consumer<? super Boolean> fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption ifEmpty(@NotNull Runnable fn) {
+    fn.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption ifNull(@NotNull Runnable fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption with(@NotNull Consumer<? super Boolean> ifPresent, @NotNull Runnable ifEmpty) {
+    Objects.requireNonNull(ifPresent);
+    ifEmpty.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption filter(@NotNull Predicate<? super Boolean> fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NonNullOption<Boolean> toNonNullable() {
+    return EmptyNonNull.instance();
+  }
+
+  @Override
+  public boolean valueEquals(@Nullable Object value) {
+    return false;
+  }
+
+  @Override
+  public @NotNull Option<Boolean> orOption(@NotNull Option<Boolean> other) {
+    return Objects.requireNonNull(other);
+  }
+
+  @Override
+  public @NotNull Option<Boolean> orOption(@NotNull Supplier<Option<Boolean>> supplier) {
+    return Objects.requireNonNull(supplier.get());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equals(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashCode(this);
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("BooleanOption", this);
+  }
+}
@@ -0,0 +1,145 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import io.foxcapades.lib.opt.DoubleOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * Singleton type representing an empty {@link DoubleOption}.
+ */
+public record EmptyDoubleOption() implements DoubleOption {
+  private static final DoubleOption instance = new EmptyDoubleOption();
+
+  /**
+   * Returns the singleton {@code EmptyDoubleOption} instance.
+   *
+   * @return The singleton {@code EmptyDoubleOption} instance.
+   */
+  public static @NotNull DoubleOption instance() {
+    return instance;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public double unwrap() throws UnwrapException {
+    throw Opt.standard().newUnwrapException(boxed());
+  }
+
+  @Override
+  public double or(double other) {
+    return other;
+  }
+
+  @Override
+  public double orGet(@NotNull DoubleSupplier fn) {
+    return fn.getAsDouble();
+  }
+
+  @Override
+  public <E extends Throwable> double orThrow(@NotNull E err) throws E {
+    throw Objects.requireNonNull(err);
+  }
+
+  @Override
+  public <E extends Throwable> double orElseThrow(@NotNull Supplier<? extends E> fn) throws E {
+    throw Objects.requireNonNull(fn.get());
+  }
+
+  @Override
+  public @NotNull DoubleOption orOption(@NotNull DoubleOption other) {
+    return Objects.requireNonNull(other);
+  }
+
+  @Override
+  public @NotNull DoubleOption map(@NotNull DoubleUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull <R> NonNullOption<R> mapToObj(@NotNull DoubleFunction<? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return EmptyNonNull.instance();
+  }
+
+  @Override
+  public @NotNull DoubleOption flatMap(@NotNull DoubleFunction<? extends DoubleOption> fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull DoubleStream stream() {
+    return DoubleStream.empty();
+  }
+
+  @Override
+  public @NotNull DoubleOption ifPresent(@NotNull DoubleConsumer fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull DoubleOption ifEmpty(@NotNull Runnable fn) {
+    fn.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull DoubleOption with(@NotNull DoubleConsumer ifPresent, @NotNull Runnable ifEmpty) {
+    Objects.requireNonNull(ifPresent);
+    ifEmpty.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull DoubleOption filter(@NotNull DoublePredicate fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public boolean valueEquals(double value) {
+    return false;
+  }
+
+  @Override
+  public @NotNull NonNullOption<Double> boxed() {
+    return EmptyNonNull.instance();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsDouble(OptionEquality.Empty, 0, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.EmptyHash;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("DoubleOption", OptionEquality.Empty, null);
+  }
+}
@@ -0,0 +1,145 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import io.foxcapades.lib.opt.IntOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Singleton type representing an empty {@link IntOption}.
+ */
+public record EmptyIntOption() implements IntOption {
+  private static final IntOption instance = new EmptyIntOption();
+
+  /**
+   * Returns the singleton {@code EmptyIntOption} instance.
+   *
+   * @return The singleton {@code EmptyIntOption} instance.
+   */
+  public static @NotNull IntOption instance() {
+    return instance;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public int unwrap() throws UnwrapException {
+    throw Opt.standard().newUnwrapException(boxed());
+  }
+
+  @Override
+  public int or(int other) {
+    return other;
+  }
+
+  @Override
+  public int orGet(@NotNull IntSupplier fn) {
+    return fn.getAsInt();
+  }
+
+  @Override
+  public <E extends Throwable> int orThrow(@NotNull E err) throws E {
+    throw Objects.requireNonNull(err);
+  }
+
+  @Override
+  public <E extends Throwable> int orElseThrow(@NotNull Supplier<? extends E> fn) throws E {
+    throw Objects.requireNonNull(fn.get());
+  }
+
+  @Override
+  public @NotNull IntOption orOption(@NotNull IntOption other) {
+    return Objects.requireNonNull(other);
+  }
+
+  @Override
+  public @NotNull IntOption map(@NotNull IntUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull <R> NonNullOption<R> mapToObj(@NotNull IntFunction<? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return EmptyNonNull.instance();
+  }
+
+  @Override
+  public @NotNull IntOption flatMap(@NotNull IntFunction<? extends IntOption> fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull IntStream stream() {
+    return IntStream.empty();
+  }
+
+  @Override
+  public @NotNull IntOption ifPresent(@NotNull IntConsumer fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull IntOption ifEmpty(@NotNull Runnable fn) {
+    fn.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull IntOption with(@NotNull IntConsumer ifPresent, @NotNull Runnable ifEmpty) {
+    Objects.requireNonNull(ifPresent);
+    ifEmpty.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull IntOption filter(@NotNull IntPredicate fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public boolean valueEquals(int value) {
+    return false;
+  }
+
+  @Override
+  public @NotNull NonNullOption<Integer> boxed() {
+    return EmptyNonNull.instance();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsInt(OptionEquality.Empty, 0, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.EmptyHash;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("IntOption", OptionEquality.Empty, null);
+  }
+}
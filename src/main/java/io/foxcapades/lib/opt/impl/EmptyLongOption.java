@@ -0,0 +1,145 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import io.foxcapades.lib.opt.LongOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * Singleton type representing an empty {@link LongOption}.
+ */
+public record EmptyLongOption() implements LongOption {
+  private static final LongOption instance = new EmptyLongOption();
+
+  /**
+   * Returns the singleton {@code EmptyLongOption} instance.
+   *
+   * @return The singleton {@code EmptyLongOption} instance.
+   */
+  public static @NotNull LongOption instance() {
+    return instance;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public long unwrap() throws UnwrapException {
+    throw Opt.standard().newUnwrapException(boxed());
+  }
+
+  @Override
+  public long or(long other) {
+    return other;
+  }
+
+  @Override
+  public long orGet(@NotNull LongSupplier fn) {
+    return fn.getAsLong();
+  }
+
+  @Override
+  public <E extends Throwable> long orThrow(@NotNull E err) throws E {
+    throw Objects.requireNonNull(err);
+  }
+
+  @Override
+  public <E extends Throwable> long orElseThrow(@NotNull Supplier<? extends E> fn) throws E {
+    throw Objects.requireNonNull(fn.get());
+  }
+
+  @Override
+  public @NotNull LongOption orOption(@NotNull LongOption other) {
+    return Objects.requireNonNull(other);
+  }
+
+  @Override
+  public @NotNull LongOption map(@NotNull LongUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull <R> NonNullOption<R> mapToObj(@NotNull LongFunction<? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return EmptyNonNull.instance();
+  }
+
+  @Override
+  public @NotNull LongOption flatMap(@NotNull LongFunction<? extends LongOption> fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull LongStream stream() {
+    return LongStream.empty();
+  }
+
+  @Override
+  public @NotNull LongOption ifPresent(@NotNull LongConsumer fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull LongOption ifEmpty(@NotNull Runnable fn) {
+    fn.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull LongOption with(@NotNull LongConsumer ifPresent, @NotNull Runnable ifEmpty) {
+    Objects.requireNonNull(ifPresent);
+    ifEmpty.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull LongOption filter(@NotNull LongPredicate fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public boolean valueEquals(long value) {
+    return false;
+  }
+
+  @Override
+  public @NotNull NonNullOption<Long> boxed() {
+    return EmptyNonNull.instance();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsLong(OptionEquality.Empty, 0, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.EmptyHash;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("LongOption", OptionEquality.Empty, null);
+  }
+}
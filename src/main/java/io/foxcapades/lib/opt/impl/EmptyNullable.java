@@ -4,7 +4,11 @@ import io.foxcapades.lib.opt.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -54,7 +58,7 @@ public record EmptyNullable<T>() implements NullableOption<T> {
 
   @Override
   public @Nullable T unwrap() throws UnwrapException {
-    throw new UnwrapException(this);
+    throw Opt.standard().newUnwrapException(this);
   }
 
   @Override
@@ -109,6 +113,21 @@ public record EmptyNullable<T>() implements NullableOption<T> {
     return Stream.empty();
   }
 
+  @Override
+  public @NotNull Iterator<T> iterator() {
+    return Collections.emptyIterator();
+  }
+
+  @Override
+  public @NotNull Spliterator<T> spliterator() {
+    return Spliterators.emptySpliterator();
+  }
+
+  @Override
+  public void forEach(@NotNull Consumer<? super T> fn) {
+    Objects.requireNonNull(fn);
+  }
+
   @Override
   public @NotNull NullableOption<T> ifPresent(@NotNull Consumer<? super T> fn) {
     Objects.requireNonNull(fn);
@@ -154,4 +173,19 @@ public record EmptyNullable<T>() implements NullableOption<T> {
   public @NotNull Option<T> orOption(@NotNull Supplier<Option<T>> supplier) {
     return Objects.requireNonNull(supplier.get());
   }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equals(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashCode(this);
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableOption", this);
+  }
 }
@@ -0,0 +1,167 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NullableDoubleOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import io.foxcapades.lib.opt.DoubleOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * Singleton type representing an empty {@link NullableDoubleOption}.
+ */
+public record EmptyNullableDoubleOption() implements NullableDoubleOption {
+  private static final NullableDoubleOption instance = new EmptyNullableDoubleOption();
+
+  /**
+   * Returns the singleton {@code EmptyNullableDoubleOption} instance.
+   *
+   * @return The singleton {@code EmptyNullableDoubleOption} instance.
+   */
+  public static @NotNull NullableDoubleOption instance() {
+    return instance;
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public double unwrap() throws UnwrapException {
+    throw Opt.standard().newUnwrapException(boxed());
+  }
+
+  @Override
+  public double or(double other) {
+    return other;
+  }
+
+  @Override
+  public double orGet(@NotNull DoubleSupplier fn) {
+    return fn.getAsDouble();
+  }
+
+  @Override
+  public <E extends Throwable> double orThrow(@NotNull E err) throws E {
+    throw Objects.requireNonNull(err);
+  }
+
+  @Override
+  public <E extends Throwable> double orElseThrow(@NotNull Supplier<? extends E> fn) throws E {
+    throw Objects.requireNonNull(fn.get());
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption orOption(@NotNull NullableDoubleOption other) {
+    return Objects.requireNonNull(other);
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption map(@NotNull DoubleUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> mapToObj(@NotNull DoubleFunction<? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return EmptyNullable.instance();
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption flatMap(@NotNull DoubleFunction<? extends NullableDoubleOption> fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull DoubleStream stream() {
+    return DoubleStream.empty();
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption ifPresent(@NotNull DoubleConsumer fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption ifNull(@NotNull Runnable fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption ifEmpty(@NotNull Runnable fn) {
+    fn.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption with(
+    @NotNull DoubleConsumer ifPresent,
+    @NotNull Runnable ifNull,
+    @NotNull Runnable ifEmpty
+  ) {
+    Objects.requireNonNull(ifPresent);
+    Objects.requireNonNull(ifNull);
+    ifEmpty.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption filter(@NotNull DoublePredicate fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public boolean valueEquals(double value) {
+    return false;
+  }
+
+  @Override
+  public @NotNull DoubleOption toNonNullable() {
+    return EmptyDoubleOption.instance();
+  }
+
+  @Override
+  public @NotNull NullableOption<Double> boxed() {
+    return EmptyNullable.instance();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsDouble(OptionEquality.Empty, 0, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.EmptyHash;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableDoubleOption", OptionEquality.Empty, null);
+  }
+}
@@ -0,0 +1,167 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NullableIntOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import io.foxcapades.lib.opt.IntOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Singleton type representing an empty {@link NullableIntOption}.
+ */
+public record EmptyNullableIntOption() implements NullableIntOption {
+  private static final NullableIntOption instance = new EmptyNullableIntOption();
+
+  /**
+   * Returns the singleton {@code EmptyNullableIntOption} instance.
+   *
+   * @return The singleton {@code EmptyNullableIntOption} instance.
+   */
+  public static @NotNull NullableIntOption instance() {
+    return instance;
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public int unwrap() throws UnwrapException {
+    throw Opt.standard().newUnwrapException(boxed());
+  }
+
+  @Override
+  public int or(int other) {
+    return other;
+  }
+
+  @Override
+  public int orGet(@NotNull IntSupplier fn) {
+    return fn.getAsInt();
+  }
+
+  @Override
+  public <E extends Throwable> int orThrow(@NotNull E err) throws E {
+    throw Objects.requireNonNull(err);
+  }
+
+  @Override
+  public <E extends Throwable> int orElseThrow(@NotNull Supplier<? extends E> fn) throws E {
+    throw Objects.requireNonNull(fn.get());
+  }
+
+  @Override
+  public @NotNull NullableIntOption orOption(@NotNull NullableIntOption other) {
+    return Objects.requireNonNull(other);
+  }
+
+  @Override
+  public @NotNull NullableIntOption map(@NotNull IntUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> mapToObj(@NotNull IntFunction<? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return EmptyNullable.instance();
+  }
+
+  @Override
+  public @NotNull NullableIntOption flatMap(@NotNull IntFunction<? extends NullableIntOption> fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull IntStream stream() {
+    return IntStream.empty();
+  }
+
+  @Override
+  public @NotNull NullableIntOption ifPresent(@NotNull IntConsumer fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableIntOption ifNull(@NotNull Runnable fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableIntOption ifEmpty(@NotNull Runnable fn) {
+    fn.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableIntOption with(
+    @NotNull IntConsumer ifPresent,
+    @NotNull Runnable ifNull,
+    @NotNull Runnable ifEmpty
+  ) {
+    Objects.requireNonNull(ifPresent);
+    Objects.requireNonNull(ifNull);
+    ifEmpty.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableIntOption filter(@NotNull IntPredicate fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public boolean valueEquals(int value) {
+    return false;
+  }
+
+  @Override
+  public @NotNull IntOption toNonNullable() {
+    return EmptyIntOption.instance();
+  }
+
+  @Override
+  public @NotNull NullableOption<Integer> boxed() {
+    return EmptyNullable.instance();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsInt(OptionEquality.Empty, 0, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.EmptyHash;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableIntOption", OptionEquality.Empty, null);
+  }
+}
@@ -0,0 +1,167 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NullableLongOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import io.foxcapades.lib.opt.LongOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * Singleton type representing an empty {@link NullableLongOption}.
+ */
+public record EmptyNullableLongOption() implements NullableLongOption {
+  private static final NullableLongOption instance = new EmptyNullableLongOption();
+
+  /**
+   * Returns the singleton {@code EmptyNullableLongOption} instance.
+   *
+   * @return The singleton {@code EmptyNullableLongOption} instance.
+   */
+  public static @NotNull NullableLongOption instance() {
+    return instance;
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public long unwrap() throws UnwrapException {
+    throw Opt.standard().newUnwrapException(boxed());
+  }
+
+  @Override
+  public long or(long other) {
+    return other;
+  }
+
+  @Override
+  public long orGet(@NotNull LongSupplier fn) {
+    return fn.getAsLong();
+  }
+
+  @Override
+  public <E extends Throwable> long orThrow(@NotNull E err) throws E {
+    throw Objects.requireNonNull(err);
+  }
+
+  @Override
+  public <E extends Throwable> long orElseThrow(@NotNull Supplier<? extends E> fn) throws E {
+    throw Objects.requireNonNull(fn.get());
+  }
+
+  @Override
+  public @NotNull NullableLongOption orOption(@NotNull NullableLongOption other) {
+    return Objects.requireNonNull(other);
+  }
+
+  @Override
+  public @NotNull NullableLongOption map(@NotNull LongUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> mapToObj(@NotNull LongFunction<? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return EmptyNullable.instance();
+  }
+
+  @Override
+  public @NotNull NullableLongOption flatMap(@NotNull LongFunction<? extends NullableLongOption> fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull LongStream stream() {
+    return LongStream.empty();
+  }
+
+  @Override
+  public @NotNull NullableLongOption ifPresent(@NotNull LongConsumer fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption ifNull(@NotNull Runnable fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption ifEmpty(@NotNull Runnable fn) {
+    fn.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption with(
+    @NotNull LongConsumer ifPresent,
+    @NotNull Runnable ifNull,
+    @NotNull Runnable ifEmpty
+  ) {
+    Objects.requireNonNull(ifPresent);
+    Objects.requireNonNull(ifNull);
+    ifEmpty.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption filter(@NotNull LongPredicate fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public boolean valueEquals(long value) {
+    return false;
+  }
+
+  @Override
+  public @NotNull LongOption toNonNullable() {
+    return EmptyLongOption.instance();
+  }
+
+  @Override
+  public @NotNull NullableOption<Long> boxed() {
+    return EmptyNullable.instance();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsLong(OptionEquality.Empty, 0, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.EmptyHash;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableLongOption", OptionEquality.Empty, null);
+  }
+}
@@ -0,0 +1,132 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.BooleanOption;
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Non-Empty Non-Null Boolean Option
+ * <p>
+ * Implementation of {@link BooleanOption} wrapping either {@code true} or
+ * {@code false}.
+ * <p>
+ * This type has exactly 2 instances, {@link #True} and {@link #False}.
+ */
+public final class FullBooleanOption extends FullOption<Boolean, BooleanOption> implements BooleanOption {
+  /**
+   * Option wrapping the value {@code true}.
+   */
+  public static final BooleanOption True = new FullBooleanOption(true);
+
+  /**
+   * Option wrapping the value {@code false}.
+   */
+  public static final BooleanOption False = new FullBooleanOption(false);
+
+  private final boolean bool;
+
+  private FullBooleanOption(boolean value) {
+    super(value);
+    this.bool = value;
+  }
+
+  /**
+   * Returns the {@code FullBooleanOption} instance for the given value.
+   *
+   * @param value Value to wrap.
+   *
+   * @return The {@code FullBooleanOption} instance for the given value.
+   */
+  public static @NotNull BooleanOption of(boolean value) {
+    return value ? True : False;
+  }
+
+  @Override
+  public boolean isTrue() {
+    return bool;
+  }
+
+  @Override
+  public boolean isFalse() {
+    return !bool;
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public boolean unwrapBoolean() {
+    return bool;
+  }
+
+  @Override
+  public @NotNull BooleanOption and(@NotNull BooleanOption other) {
+    Objects.requireNonNull(other);
+    return bool ? other : this;
+  }
+
+  @Override
+  public @NotNull BooleanOption or(@NotNull BooleanOption other) {
+    Objects.requireNonNull(other);
+    return bool ? this : other;
+  }
+
+  @Override
+  public @NotNull BooleanOption xor(@NotNull BooleanOption other) {
+    if (other.isTrue())
+      return of(!bool);
+    if (other.isFalse())
+      return this;
+
+    return other;
+  }
+
+  @Override
+  public @NotNull BooleanOption not() {
+    return of(!bool);
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> map(@NotNull Function<? super Boolean, ? extends R> fn) {
+    return Opt.standard().newNullable(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> map(
+    @NotNull Function<? super Boolean, ? extends R> ifPresent,
+    @NotNull Supplier<? extends R> ignored
+  ) {
+    Objects.requireNonNull(ignored);
+    return Opt.standard().newNullable(ifPresent.apply(value));
+  }
+
+  @Override
+  public @NotNull BooleanOption filter(@NotNull Predicate<? super Boolean> fn) {
+    return fn.test(value) ? this : EmptyBooleanOption.instance();
+  }
+
+  @Override
+  public @NotNull NonNullOption<Boolean> toNonNullable() {
+    return Opt.standard().newNonNull(value);
+  }
+
+  @Override
+  public @NotNull BooleanOption ifNull(@NotNull Runnable fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("BooleanOption", this);
+  }
+}
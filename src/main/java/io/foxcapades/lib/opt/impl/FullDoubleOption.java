@@ -0,0 +1,150 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.DoubleOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * Non-Empty Double Option.
+ * <p>
+ * Non singleton implementation of {@link DoubleOption} wrapping a primitive
+ * {@code double} value.
+ */
+public class FullDoubleOption implements DoubleOption {
+  /**
+   * Value wrapped by this option.
+   */
+  protected final double value;
+
+  /**
+   * Constructs a new non-empty option wrapping the given value.
+   *
+   * @param value Value to wrap.
+   */
+  public FullDoubleOption(double value) {
+    this.value = value;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public double unwrap() {
+    return value;
+  }
+
+  @Override
+  public double or(double ignored) {
+    return value;
+  }
+
+  @Override
+  public double orGet(@NotNull DoubleSupplier ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> double orThrow(@NotNull E ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> double orElseThrow(@NotNull Supplier<? extends E> ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public @NotNull DoubleOption orOption(@NotNull DoubleOption other) {
+    Objects.requireNonNull(other);
+    return this;
+  }
+
+  @Override
+  public @NotNull DoubleOption map(@NotNull DoubleUnaryOperator fn) {
+    return Opt.standard().newNonNullDouble(fn.applyAsDouble(value));
+  }
+
+  @Override
+  public @NotNull <R> NonNullOption<R> mapToObj(@NotNull DoubleFunction<? extends R> fn) {
+    return Opt.standard().newNonNullOfNullable(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull DoubleOption flatMap(@NotNull DoubleFunction<? extends DoubleOption> fn) {
+    return Objects.requireNonNull(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull DoubleStream stream() {
+    return DoubleStream.of(value);
+  }
+
+  @Override
+  public @NotNull DoubleOption ifPresent(@NotNull DoubleConsumer fn) {
+    fn.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull DoubleOption ifEmpty(@NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    return this;
+  }
+
+  @Override
+  public @NotNull DoubleOption with(@NotNull DoubleConsumer ifPresent, @NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    ifPresent.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull DoubleOption filter(@NotNull DoublePredicate fn) {
+    return fn.test(value) ? this : Opt.standard().newNonNullDouble();
+  }
+
+  @Override
+  public boolean valueEquals(double value) {
+    return Double.compare(this.value, value) == 0;
+  }
+
+  @Override
+  public @NotNull NonNullOption<Double> boxed() {
+    return Opt.standard().newNonNull(value);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsDouble(OptionEquality.Value, value, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashDouble(value);
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("DoubleOption", OptionEquality.Value, value);
+  }
+}
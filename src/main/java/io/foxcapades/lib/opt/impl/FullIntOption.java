@@ -0,0 +1,150 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.IntOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Non-Empty Int Option.
+ * <p>
+ * Non singleton implementation of {@link IntOption} wrapping a primitive
+ * {@code int} value.
+ */
+public class FullIntOption implements IntOption {
+  /**
+   * Value wrapped by this option.
+   */
+  protected final int value;
+
+  /**
+   * Constructs a new non-empty option wrapping the given value.
+   *
+   * @param value Value to wrap.
+   */
+  public FullIntOption(int value) {
+    this.value = value;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public int unwrap() {
+    return value;
+  }
+
+  @Override
+  public int or(int ignored) {
+    return value;
+  }
+
+  @Override
+  public int orGet(@NotNull IntSupplier ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> int orThrow(@NotNull E ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> int orElseThrow(@NotNull Supplier<? extends E> ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public @NotNull IntOption orOption(@NotNull IntOption other) {
+    Objects.requireNonNull(other);
+    return this;
+  }
+
+  @Override
+  public @NotNull IntOption map(@NotNull IntUnaryOperator fn) {
+    return Opt.standard().newNonNullInt(fn.applyAsInt(value));
+  }
+
+  @Override
+  public @NotNull <R> NonNullOption<R> mapToObj(@NotNull IntFunction<? extends R> fn) {
+    return Opt.standard().newNonNullOfNullable(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull IntOption flatMap(@NotNull IntFunction<? extends IntOption> fn) {
+    return Objects.requireNonNull(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull IntStream stream() {
+    return IntStream.of(value);
+  }
+
+  @Override
+  public @NotNull IntOption ifPresent(@NotNull IntConsumer fn) {
+    fn.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull IntOption ifEmpty(@NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    return this;
+  }
+
+  @Override
+  public @NotNull IntOption with(@NotNull IntConsumer ifPresent, @NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    ifPresent.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull IntOption filter(@NotNull IntPredicate fn) {
+    return fn.test(value) ? this : Opt.standard().newNonNullInt();
+  }
+
+  @Override
+  public boolean valueEquals(int value) {
+    return this.value == value;
+  }
+
+  @Override
+  public @NotNull NonNullOption<Integer> boxed() {
+    return Opt.standard().newNonNull(value);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsInt(OptionEquality.Value, value, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashInt(value);
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("IntOption", OptionEquality.Value, value);
+  }
+}
@@ -0,0 +1,150 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.LongOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * Non-Empty Long Option.
+ * <p>
+ * Non singleton implementation of {@link LongOption} wrapping a primitive
+ * {@code long} value.
+ */
+public class FullLongOption implements LongOption {
+  /**
+   * Value wrapped by this option.
+   */
+  protected final long value;
+
+  /**
+   * Constructs a new non-empty option wrapping the given value.
+   *
+   * @param value Value to wrap.
+   */
+  public FullLongOption(long value) {
+    this.value = value;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public long unwrap() {
+    return value;
+  }
+
+  @Override
+  public long or(long ignored) {
+    return value;
+  }
+
+  @Override
+  public long orGet(@NotNull LongSupplier ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> long orThrow(@NotNull E ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> long orElseThrow(@NotNull Supplier<? extends E> ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public @NotNull LongOption orOption(@NotNull LongOption other) {
+    Objects.requireNonNull(other);
+    return this;
+  }
+
+  @Override
+  public @NotNull LongOption map(@NotNull LongUnaryOperator fn) {
+    return Opt.standard().newNonNullLong(fn.applyAsLong(value));
+  }
+
+  @Override
+  public @NotNull <R> NonNullOption<R> mapToObj(@NotNull LongFunction<? extends R> fn) {
+    return Opt.standard().newNonNullOfNullable(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull LongOption flatMap(@NotNull LongFunction<? extends LongOption> fn) {
+    return Objects.requireNonNull(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull LongStream stream() {
+    return LongStream.of(value);
+  }
+
+  @Override
+  public @NotNull LongOption ifPresent(@NotNull LongConsumer fn) {
+    fn.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull LongOption ifEmpty(@NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    return this;
+  }
+
+  @Override
+  public @NotNull LongOption with(@NotNull LongConsumer ifPresent, @NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    ifPresent.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull LongOption filter(@NotNull LongPredicate fn) {
+    return fn.test(value) ? this : Opt.standard().newNonNullLong();
+  }
+
+  @Override
+  public boolean valueEquals(long value) {
+    return this.value == value;
+  }
+
+  @Override
+  public @NotNull NonNullOption<Long> boxed() {
+    return Opt.standard().newNonNull(value);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsLong(OptionEquality.Value, value, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashLong(value);
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("LongOption", OptionEquality.Value, value);
+  }
+}
@@ -61,4 +61,9 @@ public class FullNonNullOption<T> extends FullOption<T, NonNullOption<T>> implem
   public @NotNull NullableOption<T> toNullable(boolean emptyToNull) {
     return Opt.standard().newNullable(value);
   }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NonNullOption", this);
+  }
 }
@@ -0,0 +1,172 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NullableDoubleOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.DoubleOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * Non-Empty Non-Null Nullable Double Option.
+ * <p>
+ * Non singleton implementation of {@link NullableDoubleOption} wrapping a
+ * primitive {@code double} value.
+ */
+public class FullNullableDoubleOption implements NullableDoubleOption {
+  /**
+   * Value wrapped by this option.
+   */
+  protected final double value;
+
+  /**
+   * Constructs a new non-empty option wrapping the given value.
+   *
+   * @param value Value to wrap.
+   */
+  public FullNullableDoubleOption(double value) {
+    this.value = value;
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public double unwrap() {
+    return value;
+  }
+
+  @Override
+  public double or(double ignored) {
+    return value;
+  }
+
+  @Override
+  public double orGet(@NotNull DoubleSupplier ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> double orThrow(@NotNull E ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> double orElseThrow(@NotNull Supplier<? extends E> ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption orOption(@NotNull NullableDoubleOption other) {
+    Objects.requireNonNull(other);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption map(@NotNull DoubleUnaryOperator fn) {
+    return Opt.standard().newNullableDouble(fn.applyAsDouble(value));
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> mapToObj(@NotNull DoubleFunction<? extends R> fn) {
+    return Opt.standard().newNullable(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption flatMap(@NotNull DoubleFunction<? extends NullableDoubleOption> fn) {
+    return Objects.requireNonNull(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull DoubleStream stream() {
+    return DoubleStream.of(value);
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption ifPresent(@NotNull DoubleConsumer fn) {
+    fn.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption ifNull(@NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption ifEmpty(@NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption with(
+    @NotNull DoubleConsumer ifPresent,
+    @NotNull Runnable ifNull,
+    @NotNull Runnable ifEmpty
+  ) {
+    Objects.requireNonNull(ifNull);
+    Objects.requireNonNull(ifEmpty);
+    ifPresent.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption filter(@NotNull DoublePredicate fn) {
+    return fn.test(value) ? this : Opt.standard().newNullableDouble();
+  }
+
+  @Override
+  public boolean valueEquals(double value) {
+    return Double.compare(this.value, value) == 0;
+  }
+
+  @Override
+  public @NotNull DoubleOption toNonNullable() {
+    return Opt.standard().newNonNullDouble(value);
+  }
+
+  @Override
+  public @NotNull NullableOption<Double> boxed() {
+    return Opt.standard().newNullable(value);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsDouble(OptionEquality.Value, value, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashDouble(value);
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableDoubleOption", OptionEquality.Value, value);
+  }
+}
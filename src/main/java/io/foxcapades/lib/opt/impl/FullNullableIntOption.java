@@ -0,0 +1,172 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NullableIntOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.IntOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Non-Empty Non-Null Nullable Int Option.
+ * <p>
+ * Non singleton implementation of {@link NullableIntOption} wrapping a
+ * primitive {@code int} value.
+ */
+public class FullNullableIntOption implements NullableIntOption {
+  /**
+   * Value wrapped by this option.
+   */
+  protected final int value;
+
+  /**
+   * Constructs a new non-empty option wrapping the given value.
+   *
+   * @param value Value to wrap.
+   */
+  public FullNullableIntOption(int value) {
+    this.value = value;
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public int unwrap() {
+    return value;
+  }
+
+  @Override
+  public int or(int ignored) {
+    return value;
+  }
+
+  @Override
+  public int orGet(@NotNull IntSupplier ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> int orThrow(@NotNull E ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> int orElseThrow(@NotNull Supplier<? extends E> ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public @NotNull NullableIntOption orOption(@NotNull NullableIntOption other) {
+    Objects.requireNonNull(other);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableIntOption map(@NotNull IntUnaryOperator fn) {
+    return Opt.standard().newNullableInt(fn.applyAsInt(value));
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> mapToObj(@NotNull IntFunction<? extends R> fn) {
+    return Opt.standard().newNullable(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull NullableIntOption flatMap(@NotNull IntFunction<? extends NullableIntOption> fn) {
+    return Objects.requireNonNull(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull IntStream stream() {
+    return IntStream.of(value);
+  }
+
+  @Override
+  public @NotNull NullableIntOption ifPresent(@NotNull IntConsumer fn) {
+    fn.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableIntOption ifNull(@NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableIntOption ifEmpty(@NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableIntOption with(
+    @NotNull IntConsumer ifPresent,
+    @NotNull Runnable ifNull,
+    @NotNull Runnable ifEmpty
+  ) {
+    Objects.requireNonNull(ifNull);
+    Objects.requireNonNull(ifEmpty);
+    ifPresent.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableIntOption filter(@NotNull IntPredicate fn) {
+    return fn.test(value) ? this : Opt.standard().newNullableInt();
+  }
+
+  @Override
+  public boolean valueEquals(int value) {
+    return this.value == value;
+  }
+
+  @Override
+  public @NotNull IntOption toNonNullable() {
+    return Opt.standard().newNonNullInt(value);
+  }
+
+  @Override
+  public @NotNull NullableOption<Integer> boxed() {
+    return Opt.standard().newNullable(value);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsInt(OptionEquality.Value, value, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashInt(value);
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableIntOption", OptionEquality.Value, value);
+  }
+}
@@ -0,0 +1,172 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NullableLongOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.LongOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * Non-Empty Non-Null Nullable Long Option.
+ * <p>
+ * Non singleton implementation of {@link NullableLongOption} wrapping a
+ * primitive {@code long} value.
+ */
+public class FullNullableLongOption implements NullableLongOption {
+  /**
+   * Value wrapped by this option.
+   */
+  protected final long value;
+
+  /**
+   * Constructs a new non-empty option wrapping the given value.
+   *
+   * @param value Value to wrap.
+   */
+  public FullNullableLongOption(long value) {
+    this.value = value;
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public long unwrap() {
+    return value;
+  }
+
+  @Override
+  public long or(long ignored) {
+    return value;
+  }
+
+  @Override
+  public long orGet(@NotNull LongSupplier ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> long orThrow(@NotNull E ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public <E extends Throwable> long orElseThrow(@NotNull Supplier<? extends E> ignored) {
+    Objects.requireNonNull(ignored);
+    return value;
+  }
+
+  @Override
+  public @NotNull NullableLongOption orOption(@NotNull NullableLongOption other) {
+    Objects.requireNonNull(other);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption map(@NotNull LongUnaryOperator fn) {
+    return Opt.standard().newNullableLong(fn.applyAsLong(value));
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> mapToObj(@NotNull LongFunction<? extends R> fn) {
+    return Opt.standard().newNullable(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull NullableLongOption flatMap(@NotNull LongFunction<? extends NullableLongOption> fn) {
+    return Objects.requireNonNull(fn.apply(value));
+  }
+
+  @Override
+  public @NotNull LongStream stream() {
+    return LongStream.of(value);
+  }
+
+  @Override
+  public @NotNull NullableLongOption ifPresent(@NotNull LongConsumer fn) {
+    fn.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption ifNull(@NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption ifEmpty(@NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption with(
+    @NotNull LongConsumer ifPresent,
+    @NotNull Runnable ifNull,
+    @NotNull Runnable ifEmpty
+  ) {
+    Objects.requireNonNull(ifNull);
+    Objects.requireNonNull(ifEmpty);
+    ifPresent.accept(value);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption filter(@NotNull LongPredicate fn) {
+    return fn.test(value) ? this : Opt.standard().newNullableLong();
+  }
+
+  @Override
+  public boolean valueEquals(long value) {
+    return this.value == value;
+  }
+
+  @Override
+  public @NotNull LongOption toNonNullable() {
+    return Opt.standard().newNonNullLong(value);
+  }
+
+  @Override
+  public @NotNull NullableOption<Long> boxed() {
+    return Opt.standard().newNullable(value);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsLong(OptionEquality.Value, value, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashLong(value);
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableLongOption", OptionEquality.Value, value);
+  }
+}
@@ -69,4 +69,9 @@ public class FullNullableOption<T> extends FullOption<T, NullableOption<T>> impl
 
     return this;
   }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableOption", this);
+  }
 }
@@ -5,7 +5,9 @@ import io.foxcapades.lib.opt.UnwrapException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -96,6 +98,21 @@ public abstract class FullOption<T, I extends Option<T>> implements Option<T> {
     return Stream.of(value);
   }
 
+  @Override
+  public @NotNull Iterator<T> iterator() {
+    return new SingletonSpliterator<>(value);
+  }
+
+  @Override
+  public @NotNull Spliterator<T> spliterator() {
+    return new SingletonSpliterator<>(value);
+  }
+
+  @Override
+  public void forEach(@NotNull Consumer<? super T> fn) {
+    fn.accept(value);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public @NotNull I ifPresent(@NotNull Consumer<? super T> fn) {
@@ -137,4 +154,14 @@ public abstract class FullOption<T, I extends Option<T>> implements Option<T> {
     Objects.requireNonNull(supplier);
     return this;
   }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equals(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashValue(value);
+  }
 }
@@ -0,0 +1,134 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.Option;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Lazily evaluated, memoizing {@link NonNullOption}.
+ * <p>
+ * Options returned by the supplier that are not {@code NonNullOption}s are
+ * converted to a {@code NonNullOption}, with options wrapping {@code null}
+ * becoming empty.
+ *
+ * @param <T> Type of the wrapped value.
+ *
+ * @see LazyOption
+ *
+ * @since 1.2.0
+ */
+public class LazyNonNullOption<T> extends LazyOption<T, NonNullOption<T>> implements NonNullOption<T> {
+
+  /**
+   * Constructs a new lazy option that will resolve to the option returned by
+   * the given supplier.
+   *
+   * @param supplier Supplier of the option to resolve to.
+   *
+   * @throws NullPointerException if the given supplier is {@code null}.
+   */
+  public LazyNonNullOption(@NotNull Supplier<? extends Option<T>> supplier) {
+    super(supplier);
+  }
+
+  @Override
+  protected @NotNull NonNullOption<T> convert(@NotNull Option<T> option) {
+    if (option instanceof NonNullOption<T> n)
+      return n;
+
+    if (option instanceof NullableOption<T> n)
+      return n.toNonNullable();
+
+    return option.isPresent()
+      ? Opt.standard().newNonNullOfNullable(option.unwrap())
+      : Opt.standard().newNonNull();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.
+   */
+  @Override
+  public @NotNull NullableOption<T> toNullable() {
+    return new LazyNullableOption<>(() -> resolve().toNullable());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.
+   */
+  @Override
+  public @NotNull NullableOption<T> toNullable(boolean emptyToNull) {
+    return new LazyNullableOption<>(() -> resolve().toNullable(emptyToNull));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.
+   */
+  @Override
+  public @NotNull <R> NonNullOption<R> map(@NotNull Function<? super T, ? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return new LazyNonNullOption<>(() -> resolve().map(fn));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.
+   */
+  @Override
+  public @NotNull <R> NonNullOption<R> map(
+    @NotNull Function<? super T, ? extends R> ifPresent,
+    @NotNull Supplier<? extends R> ifEmpty
+  ) {
+    Objects.requireNonNull(ifPresent);
+    Objects.requireNonNull(ifEmpty);
+    return new LazyNonNullOption<>(() -> resolve().map(ifPresent, ifEmpty));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.
+   */
+  @Override
+  public @NotNull NonNullOption<T> filter(@NotNull Predicate<? super T> fn) {
+    Objects.requireNonNull(fn);
+    return new LazyNonNullOption<>(() -> resolve().filter(fn));
+  }
+
+  @Override
+  public @NotNull NonNullOption<T> ifPresent(@NotNull Consumer<? super T> fn) {
+    resolve().ifPresent(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NonNullOption<T> ifEmpty(@NotNull Runnable fn) {
+    resolve().ifEmpty(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NonNullOption<T> with(@NotNull Consumer<? super T> ifPresent, @NotNull Runnable ifEmpty) {
+    resolve().with(ifPresent, ifEmpty);
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NonNullOption", this);
+  }
+}
@@ -0,0 +1,134 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NonNullOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.Option;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Lazily evaluated, memoizing {@link NullableOption}.
+ * <p>
+ * Options returned by the supplier that are not {@code NullableOption}s are
+ * converted to a {@code NullableOption} in the same state.
+ *
+ * @param <T> Type of the wrapped value.
+ *
+ * @see LazyOption
+ *
+ * @since 1.2.0
+ */
+public class LazyNullableOption<T> extends LazyOption<T, NullableOption<T>> implements NullableOption<T> {
+
+  /**
+   * Constructs a new lazy option that will resolve to the option returned by
+   * the given supplier.
+   *
+   * @param supplier Supplier of the option to resolve to.
+   *
+   * @throws NullPointerException if the given supplier is {@code null}.
+   */
+  public LazyNullableOption(@NotNull Supplier<? extends Option<T>> supplier) {
+    super(supplier);
+  }
+
+  @Override
+  protected @NotNull NullableOption<T> convert(@NotNull Option<T> option) {
+    if (option instanceof NullableOption<T> n)
+      return n;
+
+    if (option instanceof NonNullOption<T> n)
+      return n.toNullable();
+
+    return option.isPresent()
+      ? Opt.standard().newNullable(option.unwrap())
+      : Opt.standard().newNullable();
+  }
+
+  @Override
+  public boolean isNull() {
+    return resolve().isNull();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.
+   */
+  @Override
+  public @NotNull NonNullOption<T> toNonNullable() {
+    return new LazyNonNullOption<>(() -> resolve().toNonNullable());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.
+   */
+  @Override
+  public @NotNull <R> NullableOption<R> map(@NotNull Function<? super T, ? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return new LazyNullableOption<>(() -> resolve().map(fn));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.
+   */
+  @Override
+  public @NotNull <R> NullableOption<R> map(
+    @NotNull Function<? super T, ? extends R> ifPresent,
+    @NotNull Supplier<? extends R> ifEmpty
+  ) {
+    Objects.requireNonNull(ifPresent);
+    Objects.requireNonNull(ifEmpty);
+    return new LazyNullableOption<>(() -> resolve().map(ifPresent, ifEmpty));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.
+   */
+  @Override
+  public @NotNull NullableOption<T> filter(@NotNull Predicate<? super T> fn) {
+    Objects.requireNonNull(fn);
+    return new LazyNullableOption<>(() -> resolve().filter(fn));
+  }
+
+  @Override
+  public @NotNull NullableOption<T> ifPresent(@NotNull Consumer<? super T> fn) {
+    resolve().ifPresent(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableOption<T> ifEmpty(@NotNull Runnable fn) {
+    resolve().ifEmpty(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableOption<T> ifNull(@NotNull Runnable fn) {
+    resolve().ifNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableOption<T> with(@NotNull Consumer<? super T> ifPresent, @NotNull Runnable ifEmpty) {
+    resolve().with(ifPresent, ifEmpty);
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableOption", this);
+  }
+}
@@ -0,0 +1,244 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.Option;
+import io.foxcapades.lib.opt.UnwrapException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Base implementation of a lazily evaluated, memoizing option.
+ * <p>
+ * A lazy option wraps a supplier of an option that is called at most once, the
+ * first time the state or value of the lazy option is needed.  From then on the
+ * lazy option behaves exactly like the option returned by the supplier.
+ * <p>
+ * Lazy options are thread safe.  Resolution is double-checked: the resolved
+ * option is read through a {@link VarHandle} with acquire semantics, and only
+ * while it is unset do callers take a private lock to call the supplier.  The
+ * lock is a {@link ReentrantLock} rather than the option's monitor, so callers
+ * synchronizing on the option cannot block its evaluation, and virtual threads
+ * waiting for evaluation do not pin their carrier thread.  Once the option has
+ * been resolved, reads are lock-free.
+ * <p>
+ * If the supplier throws an exception, the exception is passed to the caller
+ * and nothing is memoized; the supplier will be called again the next time the
+ * option is used.
+ * <p>
+ * The {@code map}, {@code filter}, and {@code flatMap} methods do not force
+ * evaluation; they return new lazy options that will resolve this option when
+ * they are themselves resolved.
+ *
+ * @param <T> Type of the wrapped value.
+ * @param <O> Type of the resolved option.
+ *
+ * @since 1.2.0
+ */
+public abstract class LazyOption<T, O extends Option<T>> implements Option<T> {
+  private static final VarHandle Resolved;
+
+  static {
+    try {
+      Resolved = MethodHandles.lookup().findVarHandle(LazyOption.class, "resolved", Option.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  /**
+   * Guards calls to the supplier.
+   */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Supplier of the option to resolve to.  Cleared once resolved.
+   */
+  private Supplier<? extends Option<T>> supplier;
+
+  /**
+   * Resolved option, accessed through {@link #Resolved}.
+   */
+  @SuppressWarnings("unused")
+  private O resolved;
+
+  /**
+   * Constructs a new lazy option that will resolve to the option returned by
+   * the given supplier.
+   *
+   * @param supplier Supplier of the option to resolve to.
+   *
+   * @throws NullPointerException if the given supplier is {@code null}.
+   */
+  protected LazyOption(@NotNull Supplier<? extends Option<T>> supplier) {
+    this.supplier = Objects.requireNonNull(supplier);
+  }
+
+  /**
+   * Converts the option returned by the supplier into this lazy option's
+   * resolved option type.
+   *
+   * @param option Option returned by the supplier.
+   *
+   * @return An option of the resolved type in the same state as the given
+   * option.
+   */
+  protected abstract @NotNull O convert(@NotNull Option<T> option);
+
+  /**
+   * Tests whether this option has been resolved.
+   *
+   * @return {@code true} if the supplier has already been called and its
+   * result memoized.
+   */
+  public boolean isResolved() {
+    return Resolved.getAcquire(this) != null;
+  }
+
+  /**
+   * Resolves this option, calling the supplier if it has not yet been called.
+   *
+   * @return The resolved option.
+   *
+   * @throws NullPointerException if the supplier returns {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public @NotNull O resolve() {
+    var out = (O) Resolved.getAcquire(this);
+    return out != null ? out : init();
+  }
+
+  @SuppressWarnings("unchecked")
+  private O init() {
+    lock.lock();
+
+    try {
+      var out = (O) Resolved.getAcquire(this);
+
+      if (out == null) {
+        var raw = Objects.requireNonNull(supplier.get(), "lazy option supplier returned null");
+
+        // Collapse chains of lazy options so that each is resolved only once.
+        if (raw instanceof LazyOption<?, ?> lazy)
+          raw = (Option<T>) lazy.resolve();
+
+        out = convert(raw);
+        Resolved.setRelease(this, out);
+        supplier = null;
+      }
+
+      return out;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isPresent() {
+    return resolve().isPresent();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return resolve().isEmpty();
+  }
+
+  @Override
+  public T unwrap() throws UnwrapException {
+    return resolve().unwrap();
+  }
+
+  @Override
+  public T or(@Nullable T other) {
+    return resolve().or(other);
+  }
+
+  @Override
+  public T orGet(@NotNull Supplier<? extends T> fn) {
+    return resolve().orGet(fn);
+  }
+
+  @Override
+  public <E extends Throwable> T orThrow(@NotNull E err) throws E {
+    return resolve().orThrow(err);
+  }
+
+  @Override
+  public <E extends Throwable> T orElseThrow(@NotNull Supplier<? extends E> fn) throws E {
+    return resolve().orElseThrow(fn);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.  The returned option is a lazy
+   * nullable option in the same state as the option returned by the given
+   * function.
+   */
+  @Override
+  public @NotNull <R> Option<R> flatMap(@NotNull Function<? super T, ? extends Option<? extends R>> fn) {
+    Objects.requireNonNull(fn);
+    return new LazyNullableOption<>(() -> resolve().flatMap(fn));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This method does not force evaluation.  The returned option is a lazy
+   * nullable option in the same state as the option returned by whichever
+   * function is called.
+   */
+  @Override
+  public @NotNull <R> Option<R> flatMap(
+    @NotNull Function<? super T, ? extends Option<? extends R>> ifPresent,
+    @NotNull Supplier<? extends Option<? extends R>> ifEmpty
+  ) {
+    Objects.requireNonNull(ifPresent);
+    Objects.requireNonNull(ifEmpty);
+    return new LazyNullableOption<>(() -> resolve().flatMap(ifPresent, ifEmpty));
+  }
+
+  @Override
+  public @NotNull Stream<T> stream() {
+    return resolve().stream();
+  }
+
+  @Override
+  public @NotNull Iterator<T> iterator() {
+    return resolve().iterator();
+  }
+
+  @Override
+  public @NotNull Spliterator<T> spliterator() {
+    return resolve().spliterator();
+  }
+
+  @Override
+  public void forEach(@NotNull Consumer<? super T> fn) {
+    resolve().forEach(fn);
+  }
+
+  @Override
+  public boolean valueEquals(@Nullable Object value) {
+    return resolve().valueEquals(value);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equals(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashCode(this);
+  }
+}
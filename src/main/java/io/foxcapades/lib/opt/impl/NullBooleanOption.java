@@ -0,0 +1,232 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Singleton type representing a {@link BooleanOption} wrapping {@code null}.
+ */
+public record NullBooleanOption() implements BooleanOption {
+  private static final BooleanOption instance = new NullBooleanOption();
+
+  /**
+   * Returns the singleton {@code NullBooleanOption} instance.
+   *
+   * @return The singleton {@code NullBooleanOption} instance.
+   */
+  public static @NotNull BooleanOption instance() {
+    return instance;
+  }
+
+  @Override
+  public boolean isTrue() {
+    return false;
+  }
+
+  @Override
+  public boolean isFalse() {
+    return false;
+  }
+
+  @Override
+  public boolean isNull() {
+    return true;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public boolean unwrapBoolean() {
+    throw new NullPointerException("Attempted to unwrap the null value of a BooleanOption as a boolean.");
+  }
+
+  @Override
+  public @NotNull BooleanOption and(@NotNull BooleanOption other) {
+    if (other.isFalse() || other.isEmpty())
+      return other;
+
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption or(@NotNull BooleanOption other) {
+    if (other.isTrue() || other.isEmpty())
+      return other;
+
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption xor(@NotNull BooleanOption other) {
+    return other.isEmpty() ? other : this;
+  }
+
+  @Override
+  public @NotNull BooleanOption not() {
+    return this;
+  }
+
+  @Override
+  public @Nullable Boolean unwrap() {
+    return null;
+  }
+
+  @Override
+  public @Nullable Boolean or(@Nullable Boolean other) {
+    return null;
+  }
+
+  @Override
+  public @Nullable Boolean orGet(@NotNull Supplier<? extends Boolean> fn) {
+    Objects.requireNonNull(fn);
+    return null;
+  }
+
+  @Override
+  public <E extends Throwable> @Nullable Boolean orThrow(@NotNull E err) {
+    Objects.requireNonNull(err);
+    return null;
+  }
+
+  @Override
+  public <E extends Throwable> @Nullable Boolean orElseThrow(@NotNull Supplier<? extends E> fn) {
+    Objects.requireNonNull(fn);
+    return null;
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> map(@NotNull Function<? super Boolean, ? extends R> fn) {
+    final var val = fn.apply(null);
+    return val == null ? NullOption.instance() : Opt.standard().newNullable(val);
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> map(
+    @NotNull Function<? super Boolean, ? extends R> ifPresent,
+    @NotNull Supplier<? extends R> ignored
+  ) {
+    Objects.requireNonNull(ignored);
+    return map(ifPresent);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NotNull <R> Option<R> flatMap(@NotNull Function<? super Boolean, ? extends Option<? extends R>> fn) {
+    return (Option<R>) Objects.requireNonNull(fn.apply(null));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <R> @NotNull Option<R> flatMap(
+    @NotNull Function<? super Boolean, ? extends Option<? extends R>> ifPresent,
+    @NotNull Supplier<? extends Option<? extends R>> ignored
+  ) {
+    Objects.requireNonNull(ignored);
+    return (Option<R>) Objects.requireNonNull(ifPresent.apply(null));
+  }
+
+  @Override
+  public @NotNull Stream<Boolean> stream() {
+    return Stream.of((Boolean) null);
+  }
+
+  @Override
+  public @NotNull Iterator<Boolean> iterator() {
+    return new SingletonSpliterator<>(null);
+  }
+
+  @Override
+  public @NotNull Spliterator<Boolean> spliterator() {
+    return new SingletonSpliterator<>(null);
+  }
+
+  @Override
+  public void forEach(@NotNull Consumer<? super Boolean> fn) {
+    fn.accept(null);
+  }
+
+  @Override
+  public @NotNull BooleanOption ifPresent(@NotNull Consumer<? super Boolean> fn) {
+    fn.accept(null);
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption ifEmpty(@NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption ifNull(@NotNull Runnable fn) {
+    fn.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption with(@NotNull Consumer<? super Boolean> ifPresent, @NotNull Runnable ignored) {
+    Objects.requireNonNull(ignored);
+    ifPresent.accept(null);
+    return this;
+  }
+
+  @Override
+  public @NotNull BooleanOption filter(@NotNull Predicate<? super Boolean> fn) {
+    return fn.test(null) ? this : EmptyBooleanOption.instance();
+  }
+
+  @Override
+  public @NotNull NonNullOption<Boolean> toNonNullable() {
+    return EmptyNonNull.instance();
+  }
+
+  @Override
+  public boolean valueEquals(@Nullable Object value) {
+    return value == null;
+  }
+
+  @Override
+  public @NotNull Option<Boolean> orOption(@NotNull Option<Boolean> other) {
+    Objects.requireNonNull(other);
+    return this;
+  }
+
+  @Override
+  public @NotNull Option<Boolean> orOption(@NotNull Supplier<Option<Boolean>> supplier) {
+    Objects.requireNonNull(supplier);
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equals(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashCode(this);
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("BooleanOption", this);
+  }
+}
@@ -0,0 +1,167 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NullableDoubleOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.DoubleOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * Singleton type representing a {@link NullableDoubleOption} wrapping
+ * {@code null}.
+ */
+public record NullDoubleOption() implements NullableDoubleOption {
+  private static final NullableDoubleOption instance = new NullDoubleOption();
+
+  /**
+   * Returns the singleton {@code NullDoubleOption} instance.
+   *
+   * @return The singleton {@code NullDoubleOption} instance.
+   */
+  public static @NotNull NullableDoubleOption instance() {
+    return instance;
+  }
+
+  @Override
+  public boolean isNull() {
+    return true;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public double unwrap() {
+    throw new NullPointerException("Attempted to unwrap the null value of a NullableDoubleOption as a double.");
+  }
+
+  @Override
+  public double or(double other) {
+    return other;
+  }
+
+  @Override
+  public double orGet(@NotNull DoubleSupplier fn) {
+    return fn.getAsDouble();
+  }
+
+  @Override
+  public <E extends Throwable> double orThrow(@NotNull E err) throws E {
+    throw Objects.requireNonNull(err);
+  }
+
+  @Override
+  public <E extends Throwable> double orElseThrow(@NotNull Supplier<? extends E> fn) throws E {
+    throw Objects.requireNonNull(fn.get());
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption orOption(@NotNull NullableDoubleOption other) {
+    Objects.requireNonNull(other);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption map(@NotNull DoubleUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> mapToObj(@NotNull DoubleFunction<? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return NullOption.instance();
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption flatMap(@NotNull DoubleFunction<? extends NullableDoubleOption> fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull DoubleStream stream() {
+    return DoubleStream.empty();
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption ifPresent(@NotNull DoubleConsumer fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption ifNull(@NotNull Runnable fn) {
+    fn.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption ifEmpty(@NotNull Runnable fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption with(
+    @NotNull DoubleConsumer ifPresent,
+    @NotNull Runnable ifNull,
+    @NotNull Runnable ifEmpty
+  ) {
+    Objects.requireNonNull(ifPresent);
+    Objects.requireNonNull(ifEmpty);
+    ifNull.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableDoubleOption filter(@NotNull DoublePredicate fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public boolean valueEquals(double value) {
+    return false;
+  }
+
+  @Override
+  public @NotNull DoubleOption toNonNullable() {
+    return EmptyDoubleOption.instance();
+  }
+
+  @Override
+  public @NotNull NullableOption<Double> boxed() {
+    return NullOption.instance();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsDouble(OptionEquality.Null, 0, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.NullHash;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableDoubleOption", OptionEquality.Null, null);
+  }
+}
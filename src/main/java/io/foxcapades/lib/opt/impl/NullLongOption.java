@@ -0,0 +1,167 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.NullableLongOption;
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.LongOption;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * Singleton type representing a {@link NullableLongOption} wrapping
+ * {@code null}.
+ */
+public record NullLongOption() implements NullableLongOption {
+  private static final NullableLongOption instance = new NullLongOption();
+
+  /**
+   * Returns the singleton {@code NullLongOption} instance.
+   *
+   * @return The singleton {@code NullLongOption} instance.
+   */
+  public static @NotNull NullableLongOption instance() {
+    return instance;
+  }
+
+  @Override
+  public boolean isNull() {
+    return true;
+  }
+
+  @Override
+  public boolean isPresent() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public long unwrap() {
+    throw new NullPointerException("Attempted to unwrap the null value of a NullableLongOption as a long.");
+  }
+
+  @Override
+  public long or(long other) {
+    return other;
+  }
+
+  @Override
+  public long orGet(@NotNull LongSupplier fn) {
+    return fn.getAsLong();
+  }
+
+  @Override
+  public <E extends Throwable> long orThrow(@NotNull E err) throws E {
+    throw Objects.requireNonNull(err);
+  }
+
+  @Override
+  public <E extends Throwable> long orElseThrow(@NotNull Supplier<? extends E> fn) throws E {
+    throw Objects.requireNonNull(fn.get());
+  }
+
+  @Override
+  public @NotNull NullableLongOption orOption(@NotNull NullableLongOption other) {
+    Objects.requireNonNull(other);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption map(@NotNull LongUnaryOperator fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull <R> NullableOption<R> mapToObj(@NotNull LongFunction<? extends R> fn) {
+    Objects.requireNonNull(fn);
+    return NullOption.instance();
+  }
+
+  @Override
+  public @NotNull NullableLongOption flatMap(@NotNull LongFunction<? extends NullableLongOption> fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull LongStream stream() {
+    return LongStream.empty();
+  }
+
+  @Override
+  public @NotNull NullableLongOption ifPresent(@NotNull LongConsumer fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption ifNull(@NotNull Runnable fn) {
+    fn.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption ifEmpty(@NotNull Runnable fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption with(
+    @NotNull LongConsumer ifPresent,
+    @NotNull Runnable ifNull,
+    @NotNull Runnable ifEmpty
+  ) {
+    Objects.requireNonNull(ifPresent);
+    Objects.requireNonNull(ifEmpty);
+    ifNull.run();
+    return this;
+  }
+
+  @Override
+  public @NotNull NullableLongOption filter(@NotNull LongPredicate fn) {
+    Objects.requireNonNull(fn);
+    return this;
+  }
+
+  @Override
+  public boolean valueEquals(long value) {
+    return false;
+  }
+
+  @Override
+  public @NotNull LongOption toNonNullable() {
+    return EmptyLongOption.instance();
+  }
+
+  @Override
+  public @NotNull NullableOption<Long> boxed() {
+    return NullOption.instance();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equalsLong(OptionEquality.Null, 0, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.NullHash;
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableLongOption", OptionEquality.Null, null);
+  }
+}
@@ -4,7 +4,9 @@ import io.foxcapades.lib.opt.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -105,6 +107,21 @@ public record NullOption<T>() implements NullableOption<T> {
     return Stream.of((T) null);
   }
 
+  @Override
+  public @NotNull Iterator<T> iterator() {
+    return new SingletonSpliterator<>(null);
+  }
+
+  @Override
+  public @NotNull Spliterator<T> spliterator() {
+    return new SingletonSpliterator<>(null);
+  }
+
+  @Override
+  public void forEach(@NotNull Consumer<? super T> fn) {
+    fn.accept(null);
+  }
+
   @Override
   public @NotNull NullableOption<T> ifPresent(@NotNull Consumer<? super T> fn) {
     fn.accept(null);
@@ -174,4 +191,19 @@ public record NullOption<T>() implements NullableOption<T> {
     Objects.requireNonNull(supplier);
     return this;
   }
+
+  @Override
+  public boolean equals(Object obj) {
+    return OptionEquality.equals(this, obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return OptionEquality.hashCode(this);
+  }
+
+  @Override
+  public String toString() {
+    return OptionEquality.toString("NullableOption", this);
+  }
 }
@@ -0,0 +1,142 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.DoubleOption;
+import io.foxcapades.lib.opt.IntOption;
+import io.foxcapades.lib.opt.LongOption;
+import io.foxcapades.lib.opt.NullableDoubleOption;
+import io.foxcapades.lib.opt.NullableIntOption;
+import io.foxcapades.lib.opt.NullableLongOption;
+import io.foxcapades.lib.opt.Option;
+
+import java.util.Objects;
+
+/**
+ * Shared {@code equals}, {@code hashCode} and {@code toString} rules for the
+ * option implementations.
+ * <p>
+ * Options are equal when they are in the same state and, if present, wrap equal
+ * values.  Whether an option is a {@code NullableOption} or a
+ * {@code NonNullOption} is not part of its state, so a present nullable option
+ * and a present non-null option wrapping equal values are equal, as are all
+ * empty options.  A {@code null} value is only equal to another {@code null}
+ * value.
+ * <p>
+ * Primitive options follow the same rules, but are only equal to primitive
+ * options of the same value type, as they do not implement {@link Option}.
+ * Their hash codes match the hash codes of their {@link Option} counterparts.
+ */
+final class OptionEquality {
+  static final byte Empty = 0;
+
+  static final byte Null = 1;
+
+  static final byte Value = 2;
+
+  /**
+   * Hash code of every empty option.
+   */
+  static final int EmptyHash = 0;
+
+  /**
+   * Hash code of every option wrapping {@code null}.
+   */
+  static final int NullHash = 31;
+
+  private OptionEquality() {}
+
+  static boolean equals(Option<?> self, Object other) {
+    if (self == other)
+      return true;
+
+    if (!(other instanceof Option<?> that))
+      return false;
+
+    if (self.isEmpty())
+      return that.isEmpty();
+
+    return that.isPresent() && Objects.equals(self.unwrap(), that.unwrap());
+  }
+
+  static int hashCode(Option<?> self) {
+    return self.isEmpty() ? EmptyHash : hashValue(self.unwrap());
+  }
+
+  static int hashValue(Object value) {
+    return 31 + Objects.hashCode(value);
+  }
+
+  static int hashInt(int value) {
+    return 31 + Integer.hashCode(value);
+  }
+
+  static int hashLong(long value) {
+    return 31 + Long.hashCode(value);
+  }
+
+  static int hashDouble(double value) {
+    return 31 + Double.hashCode(value);
+  }
+
+  static String toString(String kind, Option<?> self) {
+    return self.isEmpty() ? kind + ".empty" : kind + '[' + self.unwrap() + ']';
+  }
+
+  static boolean equalsInt(byte state, int value, Object other) {
+    if (other instanceof IntOption that)
+      return that.isEmpty() ? state == Empty : state == Value && that.unwrap() == value;
+
+    if (other instanceof NullableIntOption that)
+      return stateOf(that) == state && (state != Value || that.unwrap() == value);
+
+    return false;
+  }
+
+  static boolean equalsLong(byte state, long value, Object other) {
+    if (other instanceof LongOption that)
+      return that.isEmpty() ? state == Empty : state == Value && that.unwrap() == value;
+
+    if (other instanceof NullableLongOption that)
+      return stateOf(that) == state && (state != Value || that.unwrap() == value);
+
+    return false;
+  }
+
+  /**
+   * Double values are compared as by {@link Double#equals(Object)}, so
+   * {@code NaN} is equal to itself and {@code 0.0} is not equal to
+   * {@code -0.0}.
+   */
+  static boolean equalsDouble(byte state, double value, Object other) {
+    if (other instanceof DoubleOption that)
+      return that.isEmpty() ? state == Empty : state == Value && sameDouble(that.unwrap(), value);
+
+    if (other instanceof NullableDoubleOption that)
+      return stateOf(that) == state && (state != Value || sameDouble(that.unwrap(), value));
+
+    return false;
+  }
+
+  static String toString(String kind, byte state, Object value) {
+    return switch (state) {
+      case Empty -> kind + ".empty";
+      case Null  -> kind + "[null]";
+      default    -> kind + '[' + value + ']';
+    };
+  }
+
+  private static boolean sameDouble(double a, double b) {
+    return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+  }
+
+  private static byte stateOf(NullableIntOption option) {
+    return option.isEmpty() ? Empty : option.isNull() ? Null : Value;
+  }
+
+  private static byte stateOf(NullableLongOption option) {
+    return option.isEmpty() ? Empty : option.isNull() ? Null : Value;
+  }
+
+  private static byte stateOf(NullableDoubleOption option) {
+    return option.isEmpty() ? Empty : option.isNull() ? Null : Value;
+  }
+}
@@ -0,0 +1,88 @@
+package io.foxcapades.lib.opt.impl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Combined {@link Iterator} and {@link Spliterator} over a single value.
+ * <p>
+ * Used by non-empty options to implement {@code iterator()} and
+ * {@code spliterator()} without going through a collection or stream.
+ *
+ * @param <T> Type of the value.
+ *
+ * @since 1.2.0
+ */
+public final class SingletonSpliterator<T> implements Iterator<T>, Spliterator<T> {
+  private static final int BaseCharacteristics = SIZED | SUBSIZED | IMMUTABLE | ORDERED;
+
+  private final T value;
+
+  private boolean consumed;
+
+  /**
+   * Constructs a new iterator over the given value.
+   *
+   * @param value Value to iterate over.  May be {@code null}.
+   */
+  public SingletonSpliterator(@Nullable T value) {
+    this.value = value;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !consumed;
+  }
+
+  @Override
+  public T next() {
+    if (consumed)
+      throw new NoSuchElementException();
+
+    consumed = true;
+    return value;
+  }
+
+  @Override
+  public void forEachRemaining(@NotNull Consumer<? super T> action) {
+    Objects.requireNonNull(action);
+
+    if (!consumed) {
+      consumed = true;
+      action.accept(value);
+    }
+  }
+
+  @Override
+  public boolean tryAdvance(@NotNull Consumer<? super T> action) {
+    Objects.requireNonNull(action);
+
+    if (consumed)
+      return false;
+
+    consumed = true;
+    action.accept(value);
+    return true;
+  }
+
+  @Override
+  public @Nullable Spliterator<T> trySplit() {
+    return null;
+  }
+
+  @Override
+  public long estimateSize() {
+    return consumed ? 0 : 1;
+  }
+
+  @Override
+  public int characteristics() {
+    return value == null ? BaseCharacteristics : BaseCharacteristics | NONNULL;
+  }
+}
@@ -0,0 +1,48 @@
+package io.foxcapades.lib.opt.json;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * JSON Codec
+ * <p>
+ * Reads and writes non-{@code null} values of a single type as JSON, used by
+ * {@link JsonReader#nextNullable(JsonCodec)}, {@link JsonWriter#field(String,
+ * io.foxcapades.lib.opt.Option, JsonCodec)} and {@link JsonObjectCodec} to
+ * handle the values of present options.
+ * <p>
+ * {@code null} values are handled by the callers, so codecs never see a JSON
+ * {@code null} or a {@code null} value.
+ * <p>
+ * Built-in codecs are provided by {@link JsonCodecs}, and codecs for objects
+ * with option fields are built with {@link JsonObjectCodec#builder}.
+ *
+ * @param <T> Type of the values handled by this codec.
+ *
+ * @since 1.2.0
+ */
+public interface JsonCodec<T> {
+
+  /**
+   * Reads the next value from the given reader.
+   *
+   * @param in Reader to read from.
+   *
+   * @return The value that was read.
+   *
+   * @throws JsonException if the input is malformed or the next value is not
+   *                       of the expected type.
+   */
+  @NotNull
+  T read(@NotNull JsonReader in);
+
+  /**
+   * Writes the given value to the given writer.
+   *
+   * @param value Value to write.
+   * @param out   Writer to write to.
+   *
+   * @throws JsonException if a value may not be written to the given writer at
+   *                       its current position.
+   */
+  void write(@NotNull T value, @NotNull JsonWriter out);
+}
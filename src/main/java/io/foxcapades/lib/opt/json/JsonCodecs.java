@@ -0,0 +1,191 @@
+package io.foxcapades.lib.opt.json;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JSON Codecs
+ * <p>
+ * Built-in {@link JsonCodec} implementations.
+ * <p>
+ * Number codecs read any JSON number that fits their type; the integral
+ * codecs accept numbers written with a fraction or exponent as long as their
+ * value is a whole number.
+ *
+ * @since 1.2.0
+ */
+public final class JsonCodecs {
+  private JsonCodecs() {}
+
+  /**
+   * Returns a codec for JSON strings.
+   *
+   * @return A string codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static JsonCodec<String> strings() {
+    return Strings.Instance;
+  }
+
+  /**
+   * Returns a codec for JSON booleans.
+   *
+   * @return A boolean codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static JsonCodec<Boolean> booleans() {
+    return Booleans.Instance;
+  }
+
+  /**
+   * Returns a codec for JSON numbers in the range of an {@code int}.
+   *
+   * @return An int codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static JsonCodec<Integer> ints() {
+    return Ints.Instance;
+  }
+
+  /**
+   * Returns a codec for JSON numbers in the range of a {@code long}.
+   *
+   * @return A long codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static JsonCodec<Long> longs() {
+    return Longs.Instance;
+  }
+
+  /**
+   * Returns a codec for JSON numbers as doubles.
+   * <p>
+   * NaN and infinite values cannot be written.
+   *
+   * @return A double codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static JsonCodec<Double> doubles() {
+    return Doubles.Instance;
+  }
+
+  /**
+   * Returns a codec for JSON arrays whose elements are all handled by the given
+   * codec.
+   * <p>
+   * Elements may not be {@code null}; wrap the element codec with
+   * {@link JsonReader#nextNullable(JsonCodec)} in a custom codec to handle
+   * arrays containing {@code null}.
+   *
+   * @param elements Codec for the array elements.
+   * @param <T>      Type of the array elements.
+   *
+   * @return A list codec.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> JsonCodec<List<T>> lists(@NotNull JsonCodec<T> elements) {
+    return new Lists<>(Objects.requireNonNull(elements));
+  }
+
+  private enum Strings implements JsonCodec<String> {
+    Instance;
+
+    @Override
+    public @NotNull String read(@NotNull JsonReader in) {
+      return in.nextString();
+    }
+
+    @Override
+    public void write(@NotNull String value, @NotNull JsonWriter out) {
+      out.value(value);
+    }
+  }
+
+  private enum Booleans implements JsonCodec<Boolean> {
+    Instance;
+
+    @Override
+    public @NotNull Boolean read(@NotNull JsonReader in) {
+      return in.nextBoolean();
+    }
+
+    @Override
+    public void write(@NotNull Boolean value, @NotNull JsonWriter out) {
+      out.value((boolean) value);
+    }
+  }
+
+  private enum Ints implements JsonCodec<Integer> {
+    Instance;
+
+    @Override
+    public @NotNull Integer read(@NotNull JsonReader in) {
+      return in.nextInt();
+    }
+
+    @Override
+    public void write(@NotNull Integer value, @NotNull JsonWriter out) {
+      out.value((long) value);
+    }
+  }
+
+  private enum Longs implements JsonCodec<Long> {
+    Instance;
+
+    @Override
+    public @NotNull Long read(@NotNull JsonReader in) {
+      return in.nextLong();
+    }
+
+    @Override
+    public void write(@NotNull Long value, @NotNull JsonWriter out) {
+      out.value((long) value);
+    }
+  }
+
+  private enum Doubles implements JsonCodec<Double> {
+    Instance;
+
+    @Override
+    public @NotNull Double read(@NotNull JsonReader in) {
+      return in.nextDouble();
+    }
+
+    @Override
+    public void write(@NotNull Double value, @NotNull JsonWriter out) {
+      out.value((double) value);
+    }
+  }
+
+  private record Lists<T>(JsonCodec<T> elements) implements JsonCodec<List<T>> {
+    @Override
+    public @NotNull List<T> read(@NotNull JsonReader in) {
+      var out = new ArrayList<T>();
+
+      in.beginArray();
+      while (in.hasNext())
+        out.add(elements.read(in));
+      in.endArray();
+
+      return out;
+    }
+
+    @Override
+    public void write(@NotNull List<T> value, @NotNull JsonWriter out) {
+      out.beginArray();
+      for (var element : value)
+        elements.write(element, out);
+      out.endArray();
+    }
+  }
+}
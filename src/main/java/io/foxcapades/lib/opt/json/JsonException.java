@@ -0,0 +1,51 @@
+package io.foxcapades.lib.opt.json;
+
+/**
+ * Exception thrown when JSON input is malformed, or does not hold the type of
+ * value that was asked for.
+ *
+ * @since 1.2.0
+ */
+public class JsonException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Offset of the input character at which the problem was found, or
+   * {@code -1} if the problem was not found in the input.
+   */
+  private final long offset;
+
+  /**
+   * Constructs a new {@code JsonException} for a problem found at the given
+   * input offset.
+   *
+   * @param message Description of the problem.
+   * @param offset  Offset of the input character at which the problem was
+   *                found.
+   */
+  public JsonException(String message, long offset) {
+    super(message + " at offset " + offset);
+    this.offset = offset;
+  }
+
+  /**
+   * Constructs a new {@code JsonException} for a problem not tied to an input
+   * offset, such as invalid output.
+   *
+   * @param message Description of the problem.
+   */
+  public JsonException(String message) {
+    super(message);
+    this.offset = -1;
+  }
+
+  /**
+   * Returns the offset of the input character at which the problem was found.
+   *
+   * @return The input offset of the problem, or {@code -1} if the problem was
+   * not found in the input.
+   */
+  public long getOffset() {
+    return offset;
+  }
+}
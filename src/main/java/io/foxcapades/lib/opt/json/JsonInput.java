@@ -0,0 +1,231 @@
+package io.foxcapades.lib.opt.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Forward only source of characters for a {@link JsonReader}.
+ * <p>
+ * Sources hold at most a small fixed size buffer, so input is never read into
+ * memory as a whole.
+ */
+abstract class JsonInput {
+  /**
+   * Returned by {@link #peek()} and {@link #next()} at the end of the input.
+   */
+  static final int End = -1;
+
+  /**
+   * Returns the next character without consuming it.
+   *
+   * @return The next character, or {@link #End}.
+   */
+  abstract int peek();
+
+  /**
+   * Consumes and returns the next character.
+   *
+   * @return The next character, or {@link #End}.
+   */
+  abstract int next();
+
+  static final class OfCharSequence extends JsonInput {
+    private final CharSequence chars;
+
+    private int pos;
+
+    OfCharSequence(CharSequence chars) {
+      this.chars = chars;
+    }
+
+    @Override
+    int peek() {
+      return pos < chars.length() ? chars.charAt(pos) : End;
+    }
+
+    @Override
+    int next() {
+      return pos < chars.length() ? chars.charAt(pos++) : End;
+    }
+  }
+
+  static final class OfReader extends JsonInput {
+    private static final int BufferSize = 8192;
+
+    private final Reader reader;
+
+    private final char[] buffer = new char[BufferSize];
+
+    private int pos;
+
+    private int limit;
+
+    OfReader(Reader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    int peek() {
+      return pos < limit || fill() ? buffer[pos] : End;
+    }
+
+    @Override
+    int next() {
+      return pos < limit || fill() ? buffer[pos++] : End;
+    }
+
+    private boolean fill() {
+      try {
+        int n;
+
+        do {
+          n = reader.read(buffer, 0, BufferSize);
+        } while (n == 0);
+
+        if (n < 0)
+          return false;
+
+        pos   = 0;
+        limit = n;
+        return true;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Decodes UTF-8 from a buffer one character at a time, advancing the buffer
+   * position only past consumed characters.
+   */
+  static final class OfByteBuffer extends JsonInput {
+    private static final int None = -2;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Character decoded by the last peek, or {@link #None}.
+     */
+    private int peeked = None;
+
+    /**
+     * Number of bytes that make up the peeked character.
+     */
+    private int peekedBytes;
+
+    /**
+     * Low surrogate of a supplementary character whose high surrogate has been
+     * consumed, or {@link #None}.
+     */
+    private int low = None;
+
+    OfByteBuffer(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    int peek() {
+      if (peeked == None)
+        decode();
+
+      return peeked;
+    }
+
+    @Override
+    int next() {
+      var out = peek();
+
+      if (out != End) {
+        buffer.position(buffer.position() + peekedBytes);
+
+        if (peekedBytes == 4)
+          low = Character.lowSurrogate(codePointAt(buffer.position() - 4));
+      }
+
+      peeked = None;
+      return out;
+    }
+
+    private void decode() {
+      if (low != None) {
+        peeked      = low;
+        peekedBytes = 0;
+        low         = None;
+        return;
+      }
+
+      if (!buffer.hasRemaining()) {
+        peeked      = End;
+        peekedBytes = 0;
+        return;
+      }
+
+      var pos  = buffer.position();
+      var lead = buffer.get(pos) & 0xFF;
+
+      if (lead < 0x80) {
+        peeked      = lead;
+        peekedBytes = 1;
+        return;
+      }
+
+      var cp = codePointAt(pos);
+
+      if (cp >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+        peeked      = Character.highSurrogate(cp);
+        peekedBytes = 4;
+      } else {
+        peeked      = cp;
+        peekedBytes = cp < 0x800 ? 2 : 3;
+      }
+    }
+
+    /**
+     * Decodes the multibyte sequence starting at the given buffer index,
+     * rejecting anything that is not well-formed UTF-8.
+     */
+    private int codePointAt(int pos) {
+      var lead  = buffer.get(pos) & 0xFF;
+      var limit = buffer.limit();
+      int need, cp, lo, hi;
+
+      // Valid byte ranges per Unicode table 3-7.
+      if (lead >= 0xC2 && lead <= 0xDF) {
+        need = 1;
+        cp   = lead & 0x1F;
+        lo   = 0x80;
+        hi   = 0xBF;
+      } else if (lead >= 0xE0 && lead <= 0xEF) {
+        need = 2;
+        cp   = lead & 0x0F;
+        lo   = lead == 0xE0 ? 0xA0 : 0x80;
+        hi   = lead == 0xED ? 0x9F : 0xBF;
+      } else if (lead >= 0xF0 && lead <= 0xF4) {
+        need = 3;
+        cp   = lead & 0x07;
+        lo   = lead == 0xF0 ? 0x90 : 0x80;
+        hi   = lead == 0xF4 ? 0x8F : 0xBF;
+      } else {
+        throw new JsonException("Invalid UTF-8", pos);
+      }
+
+      for (var i = pos + 1; need > 0; need--, i++) {
+        if (i >= limit)
+          throw new JsonException("Truncated UTF-8", pos);
+
+        var b = buffer.get(i) & 0xFF;
+
+        if (b < lo || b > hi)
+          throw new JsonException("Invalid UTF-8", pos);
+
+        cp = (cp << 6) | (b & 0x3F);
+        lo = 0x80;
+        hi = 0xBF;
+      }
+
+      return cp;
+    }
+  }
+}
@@ -0,0 +1,244 @@
+package io.foxcapades.lib.opt.json;
+
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.Option;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * JSON Object Codec
+ * <p>
+ * Codec for JSON objects whose members are bound to option fields of a Java
+ * object, keeping the difference between a member that is missing and a
+ * member that is {@code null}:
+ *
+ * <table>
+ *   <tr><th>JSON member</th><th>Option</th></tr>
+ *   <tr><td>missing</td><td>empty</td></tr>
+ *   <tr><td>{@code null}</td><td>wrapping {@code null}</td></tr>
+ *   <tr><td>any other value</td><td>wrapping the value</td></tr>
+ * </table>
+ * <p>
+ * Writing does the reverse, omitting the members of empty options.  This makes
+ * the codec suited to partial updates, where a missing member means "leave as
+ * is" and {@code null} means "clear":
+ * <pre>{@code
+ * class Patch {
+ *   NullableOption<String> name;
+ *   NullableOption<String> email;
+ * }
+ *
+ * var codec = JsonObjectCodec.builder(Patch::new)
+ *   .field("name", JsonCodecs.strings(), p -> p.name, (p, v) -> p.name = v)
+ *   .field("email", JsonCodecs.strings(), p -> p.email, (p, v) -> p.email = v)
+ *   .build();
+ *
+ * var patch = codec.read(JsonReader.of("{\"email\":null}"));
+ *
+ * patch.name.isEmpty(); // true
+ * patch.email.isNull(); // true
+ * }</pre>
+ * <p>
+ * Members are read in a single pass in whatever order they appear.  Unknown
+ * members are skipped, and if a member appears more than once the last value
+ * wins.  Every field setter is called exactly once per read.
+ * <p>
+ * Instances are immutable and thread safe as long as the given functions are.
+ *
+ * @param <T> Type of the bound object.
+ *
+ * @since 1.2.0
+ */
+public final class JsonObjectCodec<T> implements JsonCodec<T> {
+  private final Supplier<? extends T> factory;
+
+  private final Field<T, ?>[] fields;
+
+  private final Map<String, Field<T, ?>> byName;
+
+  private JsonObjectCodec(Supplier<? extends T> factory, Field<T, ?>[] fields) {
+    this.factory = factory;
+    this.fields  = fields;
+    this.byName  = new HashMap<>(fields.length * 2);
+
+    for (var field : fields)
+      byName.put(field.name, field);
+  }
+
+  /**
+   * Returns a new builder for a codec that reads into objects created by the
+   * given factory.
+   *
+   * @param factory Supplier of new, empty instances of the bound type.
+   * @param <T>     Type of the bound object.
+   *
+   * @return A new builder.
+   *
+   * @throws NullPointerException if the given factory is {@code null}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static <T> Builder<T> builder(@NotNull Supplier<? extends T> factory) {
+    return new Builder<>(Objects.requireNonNull(factory));
+  }
+
+  /**
+   * Reads an object, calling the setter of every field with the option read
+   * for its member, or an empty option if the member is missing.
+   * <p>
+   * The whole object is read before the factory is called, and setters are
+   * only called once the object has been read successfully.
+   *
+   * @param in Reader to read from.
+   *
+   * @return A new object from this codec's factory.
+   *
+   * @throws JsonException if the input is malformed, the next value is not an
+   *                       object, or a member value could not be read by its
+   *                       field codec.
+   */
+  @Override
+  public @NotNull T read(@NotNull JsonReader in) {
+    var values = new NullableOption<?>[fields.length];
+
+    in.beginObject();
+
+    while (in.hasNext()) {
+      var field = byName.get(in.nextName());
+
+      if (field == null)
+        in.skipValue();
+      else
+        values[field.index] = field.read(in);
+    }
+
+    in.endObject();
+
+    var out = factory.get();
+
+    for (var i = 0; i < fields.length; i++)
+      fields[i].set(out, values[i]);
+
+    return out;
+  }
+
+  /**
+   * Writes an object with a member for every field whose getter returns a
+   * non-empty option, in the order the fields were added to the builder.
+   *
+   * @param value Object to write.
+   * @param out   Writer to write to.
+   *
+   * @throws JsonException if a value may not be written to the given writer at
+   *                       its current position.
+   */
+  @Override
+  public void write(@NotNull T value, @NotNull JsonWriter out) {
+    out.beginObject();
+
+    for (var field : fields)
+      field.write(value, out);
+
+    out.endObject();
+  }
+
+  /**
+   * Builder for {@link JsonObjectCodec} instances.
+   *
+   * @param <T> Type of the bound object.
+   *
+   * @since 1.2.0
+   */
+  public static final class Builder<T> {
+    private final Supplier<? extends T> factory;
+
+    private final List<Field<T, ?>> fields = new ArrayList<>();
+
+    private Builder(Supplier<? extends T> factory) {
+      this.factory = factory;
+    }
+
+    /**
+     * Binds a JSON member to an option field.
+     *
+     * @param name   Member name.
+     * @param codec  Codec for non-{@code null} member values.
+     * @param getter Function returning the option to write for the member.
+     * @param setter Function accepting the option read for the member.
+     * @param <V>    Type of the member value.
+     *
+     * @return This builder.
+     *
+     * @throws NullPointerException     if any of the arguments are
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if a member with the given name has
+     *                                  already been added.
+     */
+    @NotNull
+    @Contract("_, _, _, _ -> this")
+    public <V> Builder<T> field(
+      @NotNull String name,
+      @NotNull JsonCodec<V> codec,
+      @NotNull Function<? super T, ? extends Option<? extends V>> getter,
+      @NotNull BiConsumer<? super T, ? super NullableOption<V>> setter
+    ) {
+      Objects.requireNonNull(name);
+      Objects.requireNonNull(codec);
+      Objects.requireNonNull(getter);
+      Objects.requireNonNull(setter);
+
+      for (var field : fields)
+        if (field.name.equals(name))
+          throw new IllegalArgumentException("duplicate member name " + name);
+
+      fields.add(new Field<>(name, fields.size(), codec, getter, setter));
+      return this;
+    }
+
+    /**
+     * Builds a codec from the fields added so far.
+     *
+     * @return A new codec.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public JsonObjectCodec<T> build() {
+      return new JsonObjectCodec<>(factory, (Field<T, ?>[]) fields.toArray(new Field<?, ?>[0]));
+    }
+  }
+
+  private record Field<T, V>(
+    String name,
+    int index,
+    JsonCodec<V> codec,
+    Function<? super T, ? extends Option<? extends V>> getter,
+    BiConsumer<? super T, ? super NullableOption<V>> setter
+  ) {
+    NullableOption<V> read(JsonReader in) {
+      return in.nextNullable(codec);
+    }
+
+    /**
+     * Passes the given option to the setter, or an empty option if the member
+     * was missing.
+     */
+    @SuppressWarnings("unchecked")
+    void set(T target, NullableOption<?> value) {
+      setter.accept(target, value == null ? Opt.standard().newNullable() : (NullableOption<V>) value);
+    }
+
+    void write(T source, JsonWriter out) {
+      out.field(name, getter.apply(source), codec);
+    }
+  }
+}
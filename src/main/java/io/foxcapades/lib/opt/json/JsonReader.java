@@ -0,0 +1,733 @@
+package io.foxcapades.lib.opt.json;
+
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * JSON Reader
+ * <p>
+ * Streaming, pull based JSON reader that tokenizes its input in a single pass
+ * without building a tree, so large documents never have to be held in memory.
+ * <p>
+ * Values are read in document order with the {@code begin*}, {@code end*} and
+ * {@code next*} methods, and {@link #peek()} tells which kind of token comes
+ * next:
+ * <pre>{@code
+ * var reader = JsonReader.of(body);
+ *
+ * reader.beginObject();
+ * while (reader.hasNext()) {
+ *   switch (reader.nextName()) {
+ *     case "name" -> name = reader.nextNullable(JsonCodecs.strings());
+ *     default     -> reader.skipValue();
+ *   }
+ * }
+ * reader.endObject();
+ * }</pre>
+ * <p>
+ * {@link #nextNullable(JsonCodec)} reads a value or a JSON {@code null} into a
+ * {@link NullableOption}.  {@link JsonObjectCodec} builds on it to read whole
+ * objects, leaving members that are missing from the input empty.
+ * <p>
+ * Input must be a single, strictly valid JSON value.  Syntax errors and reads
+ * of the wrong kind of token throw a {@link JsonException} holding the offset
+ * of the input character where the problem was found.  Errors reading from a
+ * {@code Reader} are thrown as an {@link UncheckedIOException}.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @since 1.2.0
+ */
+public final class JsonReader {
+  private static final byte EmptyDocument = 0;
+
+  private static final byte NonEmptyDocument = 1;
+
+  private static final byte EmptyArray = 2;
+
+  private static final byte NonEmptyArray = 3;
+
+  private static final byte EmptyObject = 4;
+
+  private static final byte NonEmptyObject = 5;
+
+  /**
+   * Object scope after a member name, before its value.
+   */
+  private static final byte DanglingName = 6;
+
+  private final JsonInput input;
+
+  /**
+   * Number of input characters consumed so far.
+   */
+  private long offset;
+
+  private byte[] scopes = new byte[16];
+
+  private int depth = 1;
+
+  /**
+   * Next token, or {@code null} if it has not been peeked yet.
+   */
+  private JsonToken peeked;
+
+  private boolean peekedBoolean;
+
+  /**
+   * Whether the peeked number has no fraction or exponent.
+   */
+  private boolean peekedIntegral;
+
+  /**
+   * Text of the peeked number, or scratch space for strings.
+   */
+  private final StringBuilder text = new StringBuilder();
+
+  private JsonReader(JsonInput input) {
+    this.input = input;
+    scopes[0]  = EmptyDocument;
+  }
+
+  /**
+   * Returns a reader over the given characters.
+   *
+   * @param json JSON input.
+   *
+   * @return A new {@code JsonReader}.
+   *
+   * @throws NullPointerException if the given input is {@code null}.
+   */
+  @NotNull
+  public static JsonReader of(@NotNull CharSequence json) {
+    return new JsonReader(new JsonInput.OfCharSequence(Objects.requireNonNull(json)));
+  }
+
+  /**
+   * Returns a reader over the characters of the given {@code Reader}.
+   * <p>
+   * The given reader is read in blocks as the JSON reader needs them, so it
+   * may be read past the end of the JSON value.  It is not closed by the JSON
+   * reader.
+   *
+   * @param json JSON input.
+   *
+   * @return A new {@code JsonReader}.
+   *
+   * @throws NullPointerException if the given input is {@code null}.
+   */
+  @NotNull
+  public static JsonReader of(@NotNull Reader json) {
+    return new JsonReader(new JsonInput.OfReader(Objects.requireNonNull(json)));
+  }
+
+  /**
+   * Returns a reader over the UTF-8 bytes between the given buffer's position
+   * and limit.
+   * <p>
+   * Bytes are decoded as they are read, without copying the buffer, and the
+   * buffer position is advanced past each character as it is consumed.
+   * Malformed UTF-8 throws a {@code JsonException} holding the buffer index of
+   * the malformed sequence.
+   *
+   * @param json JSON input.
+   *
+   * @return A new {@code JsonReader}.
+   *
+   * @throws NullPointerException if the given input is {@code null}.
+   */
+  @NotNull
+  public static JsonReader of(@NotNull ByteBuffer json) {
+    return new JsonReader(new JsonInput.OfByteBuffer(Objects.requireNonNull(json)));
+  }
+
+  /**
+   * Returns the kind of the next token without consuming it.
+   *
+   * @return The kind of the next token.
+   *
+   * @throws JsonException if the input is malformed.
+   */
+  @NotNull
+  public JsonToken peek() {
+    if (peeked == null)
+      peeked = doPeek();
+
+    return peeked;
+  }
+
+  /**
+   * Tests whether the current array or object has another element or member.
+   *
+   * @return {@code true} if the next token is not the end of an array, object,
+   * or document.
+   *
+   * @throws JsonException if the input is malformed.
+   */
+  public boolean hasNext() {
+    var token = peek();
+    return token != JsonToken.EndObject && token != JsonToken.EndArray && token != JsonToken.EndDocument;
+  }
+
+  /**
+   * Consumes the start of an object.
+   *
+   * @throws JsonException if the next token is not the start of an object.
+   */
+  public void beginObject() {
+    consume(JsonToken.BeginObject);
+    push(EmptyObject);
+  }
+
+  /**
+   * Consumes the end of the current object.
+   *
+   * @throws JsonException if the next token is not the end of an object.
+   */
+  public void endObject() {
+    consume(JsonToken.EndObject);
+    depth--;
+  }
+
+  /**
+   * Consumes the start of an array.
+   *
+   * @throws JsonException if the next token is not the start of an array.
+   */
+  public void beginArray() {
+    consume(JsonToken.BeginArray);
+    push(EmptyArray);
+  }
+
+  /**
+   * Consumes the end of the current array.
+   *
+   * @throws JsonException if the next token is not the end of an array.
+   */
+  public void endArray() {
+    consume(JsonToken.EndArray);
+    depth--;
+  }
+
+  /**
+   * Consumes and returns the next member name.
+   *
+   * @return The member name.
+   *
+   * @throws JsonException if the next token is not a member name.
+   */
+  @NotNull
+  public String nextName() {
+    consume(JsonToken.Name);
+    return readString(true);
+  }
+
+  /**
+   * Consumes and returns the next string value.
+   *
+   * @return The string value.
+   *
+   * @throws JsonException if the next token is not a string.
+   */
+  @NotNull
+  public String nextString() {
+    consume(JsonToken.String);
+    return readString(true);
+  }
+
+  /**
+   * Consumes and returns the next boolean value.
+   *
+   * @return The boolean value.
+   *
+   * @throws JsonException if the next token is not a boolean.
+   */
+  public boolean nextBoolean() {
+    consume(JsonToken.Boolean);
+    return peekedBoolean;
+  }
+
+  /**
+   * Consumes the next {@code null} value.
+   *
+   * @throws JsonException if the next token is not {@code null}.
+   */
+  public void nextNull() {
+    consume(JsonToken.Null);
+  }
+
+  /**
+   * Consumes and returns the next number value as a {@code double}.
+   *
+   * @return The number value.
+   *
+   * @throws JsonException if the next token is not a number.
+   */
+  public double nextDouble() {
+    expect(JsonToken.Number);
+
+    var out = Double.parseDouble(text.toString());
+    peeked = null;
+    return out;
+  }
+
+  /**
+   * Consumes and returns the next number value as a {@code long}.
+   * <p>
+   * Numbers written with a fraction or exponent are accepted if their value
+   * is a whole number, such as {@code 1.0} or {@code 1e3}.
+   *
+   * @return The number value.
+   *
+   * @throws JsonException if the next token is not a number, or is not a whole
+   *                       number in the range of a {@code long}.
+   */
+  public long nextLong() {
+    expect(JsonToken.Number);
+
+    var out = parseLong();
+    peeked = null;
+    return out;
+  }
+
+  /**
+   * Consumes and returns the next number value as an {@code int}.
+   * <p>
+   * Numbers written with a fraction or exponent are accepted if their value
+   * is a whole number, such as {@code 1.0} or {@code 1e3}.
+   *
+   * @return The number value.
+   *
+   * @throws JsonException if the next token is not a number, or is not a whole
+   *                       number in the range of an {@code int}.
+   */
+  public int nextInt() {
+    expect(JsonToken.Number);
+
+    var out = parseLong();
+    if (out != (int) out)
+      throw new JsonException("Number " + text + " is out of range for an int", offset);
+
+    peeked = null;
+    return (int) out;
+  }
+
+  /**
+   * Reads the next value with the given codec, or consumes a {@code null}
+   * value.
+   * <pre>{@code
+   * NullableOption<String> name = reader.nextNullable(JsonCodecs.strings());
+   * }</pre>
+   *
+   * @param codec Codec used to read non-{@code null} values.
+   * @param <T>   Type of the value.
+   *
+   * @return An option wrapping {@code null} if the next value is
+   * {@code null}, otherwise an option wrapping the value read by the given
+   * codec.
+   *
+   * @throws JsonException if the input is malformed or the given codec fails
+   *                       to read the value.
+   */
+  @NotNull
+  public <T> NullableOption<T> nextNullable(@NotNull JsonCodec<T> codec) {
+    Objects.requireNonNull(codec);
+
+    if (peek() == JsonToken.Null) {
+      nextNull();
+      return Opt.standard().newNullable(null);
+    }
+
+    return Opt.standard().newNullable(codec.read(this));
+  }
+
+  /**
+   * Consumes and discards the next value, including all of its nested values
+   * if it is an array or object.
+   *
+   * @throws JsonException if the input is malformed, or the next token is not
+   *                       the start of a value.
+   */
+  public void skipValue() {
+    var level = 0;
+
+    do {
+      switch (peek()) {
+        case BeginObject -> {
+          beginObject();
+          level++;
+        }
+        case BeginArray -> {
+          beginArray();
+          level++;
+        }
+        case EndObject -> {
+          if (level == 0)
+            throw unexpected("a value");
+          endObject();
+          level--;
+        }
+        case EndArray -> {
+          if (level == 0)
+            throw unexpected("a value");
+          endArray();
+          level--;
+        }
+        case Name -> {
+          peeked = null;
+          readString(false);
+        }
+        case String -> {
+          peeked = null;
+          readString(false);
+        }
+        case Number, Boolean, Null -> peeked = null;
+        case EndDocument -> throw unexpected("a value");
+      }
+    } while (level > 0);
+  }
+
+  private void consume(JsonToken token) {
+    expect(token);
+    peeked = null;
+  }
+
+  private void expect(JsonToken token) {
+    if (peek() != token)
+      throw unexpected(token.name());
+  }
+
+  private JsonException unexpected(String wanted) {
+    return new JsonException("Expected " + wanted + " but was " + peeked, offset);
+  }
+
+  private void push(byte scope) {
+    if (depth == scopes.length)
+      scopes = Arrays.copyOf(scopes, depth << 1);
+
+    scopes[depth++] = scope;
+  }
+
+  private JsonToken doPeek() {
+    var top = depth - 1;
+
+    switch (scopes[top]) {
+      case EmptyArray -> {
+        scopes[top] = NonEmptyArray;
+
+        if (skipWhitespace() == ']') {
+          read();
+          return JsonToken.EndArray;
+        }
+
+        return peekValue();
+      }
+
+      case NonEmptyArray -> {
+        var c = skipWhitespace();
+
+        if (c == ']') {
+          read();
+          return JsonToken.EndArray;
+        }
+
+        if (c != ',')
+          throw syntax("Expected ',' or ']'");
+
+        read();
+        return peekValue();
+      }
+
+      case EmptyObject, NonEmptyObject -> {
+        var c = skipWhitespace();
+
+        if (c == '}') {
+          read();
+          return JsonToken.EndObject;
+        }
+
+        if (scopes[top] == NonEmptyObject) {
+          if (c != ',')
+            throw syntax("Expected ',' or '}'");
+
+          read();
+          c = skipWhitespace();
+        }
+
+        if (c != '"')
+          throw syntax("Expected a member name");
+
+        read();
+        scopes[top] = DanglingName;
+        return JsonToken.Name;
+      }
+
+      case DanglingName -> {
+        if (skipWhitespace() != ':')
+          throw syntax("Expected ':'");
+
+        read();
+        scopes[top] = NonEmptyObject;
+        return peekValue();
+      }
+
+      case EmptyDocument -> {
+        scopes[top] = NonEmptyDocument;
+        return peekValue();
+      }
+
+      default -> {
+        if (skipWhitespace() != JsonInput.End)
+          throw syntax("Expected the end of the input");
+
+        return JsonToken.EndDocument;
+      }
+    }
+  }
+
+  private JsonToken peekValue() {
+    var c = skipWhitespace();
+
+    switch (c) {
+      case '{' -> {
+        read();
+        return JsonToken.BeginObject;
+      }
+      case '[' -> {
+        read();
+        return JsonToken.BeginArray;
+      }
+      case '"' -> {
+        read();
+        return JsonToken.String;
+      }
+      case 't' -> {
+        readLiteral("true");
+        peekedBoolean = true;
+        return JsonToken.Boolean;
+      }
+      case 'f' -> {
+        readLiteral("false");
+        peekedBoolean = false;
+        return JsonToken.Boolean;
+      }
+      case 'n' -> {
+        readLiteral("null");
+        return JsonToken.Null;
+      }
+      case JsonInput.End -> throw syntax("Unexpected end of input");
+      default -> {
+        if (c != '-' && !isDigit(c))
+          throw syntax("Unexpected character '" + (char) c + "'");
+
+        readNumber();
+        return JsonToken.Number;
+      }
+    }
+  }
+
+  private int read() {
+    var c = input.next();
+
+    if (c != JsonInput.End)
+      offset++;
+
+    return c;
+  }
+
+  /**
+   * Consumes whitespace and returns the next character without consuming it.
+   */
+  private int skipWhitespace() {
+    while (true) {
+      var c = input.peek();
+
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+        return c;
+
+      read();
+    }
+  }
+
+  private void readLiteral(String literal) {
+    for (var i = 0; i < literal.length(); i++) {
+      if (input.peek() != literal.charAt(i))
+        throw syntax("Invalid literal, expected '" + literal + "'");
+
+      read();
+    }
+
+    if (isWordChar(input.peek()))
+      throw syntax("Invalid literal, expected '" + literal + "'");
+  }
+
+  /**
+   * Reads a number into {@link #text}, validating it against the JSON number
+   * grammar.
+   */
+  private void readNumber() {
+    text.setLength(0);
+    peekedIntegral = true;
+
+    if (input.peek() == '-')
+      text.append((char) read());
+
+    var c = input.peek();
+
+    if (c == '0') {
+      text.append((char) read());
+    } else if (isDigit(c)) {
+      readDigits();
+    } else {
+      throw syntax("Invalid number");
+    }
+
+    if (input.peek() == '.') {
+      peekedIntegral = false;
+      text.append((char) read());
+
+      if (!isDigit(input.peek()))
+        throw syntax("Invalid number");
+
+      readDigits();
+    }
+
+    c = input.peek();
+
+    if (c == 'e' || c == 'E') {
+      peekedIntegral = false;
+      text.append((char) read());
+
+      c = input.peek();
+      if (c == '+' || c == '-')
+        text.append((char) read());
+
+      if (!isDigit(input.peek()))
+        throw syntax("Invalid number");
+
+      readDigits();
+    }
+
+    c = input.peek();
+    if (isWordChar(c) || c == '.')
+      throw syntax("Invalid number");
+  }
+
+  private void readDigits() {
+    while (isDigit(input.peek()))
+      text.append((char) read());
+  }
+
+  private long parseLong() {
+    if (peekedIntegral) {
+      try {
+        return Long.parseLong(text, 0, text.length(), 10);
+      } catch (NumberFormatException e) {
+        throw new JsonException("Number " + text + " is out of range for a long", offset);
+      }
+    }
+
+    var d = Double.parseDouble(text.toString());
+    var l = (long) d;
+
+    // Doubles at or past 2^63 saturate to Long.MAX_VALUE, which is not
+    // exactly representable as a double.
+    if (l != d || l == Long.MAX_VALUE)
+      throw new JsonException("Number " + text + " is not a whole number in the range of a long", offset);
+
+    return l;
+  }
+
+  /**
+   * Reads the rest of a string whose opening quote has been consumed.
+   *
+   * @param keep Whether the string value is needed.
+   *
+   * @return The string value, or {@code null} if it was not needed.
+   */
+  private String readString(boolean keep) {
+    text.setLength(0);
+
+    while (true) {
+      var c = read();
+
+      if (c == '"')
+        return keep ? text.toString() : null;
+
+      if (c == '\\') {
+        c = readEscape();
+      } else if (c == JsonInput.End) {
+        throw syntax("Unterminated string");
+      } else if (c < 0x20) {
+        throw syntax("Unescaped control character in string");
+      }
+
+      if (keep)
+        text.append((char) c);
+    }
+  }
+
+  private int readEscape() {
+    var c = read();
+
+    return switch (c) {
+      case '"', '\\', '/' -> c;
+      case 'b' -> '\b';
+      case 'f' -> '\f';
+      case 'n' -> '\n';
+      case 'r' -> '\r';
+      case 't' -> '\t';
+      case 'u' -> {
+        var out = 0;
+
+        for (var i = 0; i < 4; i++) {
+          var digit = hexValue(input.peek());
+
+          if (digit < 0)
+            throw syntax("Invalid unicode escape");
+
+          read();
+          out = (out << 4) | digit;
+        }
+
+        yield out;
+      }
+      default -> throw syntax("Invalid escape sequence");
+    };
+  }
+
+  private JsonException syntax(String message) {
+    return new JsonException(message, offset);
+  }
+
+  /**
+   * Returns the value of the given ASCII hex digit, or {@code -1} if it is not
+   * one.  Unlike {@link Character#digit(int, int)}, non-ASCII digits are not
+   * accepted.
+   */
+  private static int hexValue(int c) {
+    if (c >= '0' && c <= '9')
+      return c - '0';
+    if (c >= 'a' && c <= 'f')
+      return c - 'a' + 10;
+    if (c >= 'A' && c <= 'F')
+      return c - 'A' + 10;
+
+    return -1;
+  }
+
+  private static boolean isDigit(int c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isWordChar(int c) {
+    return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || isDigit(c) || c == '_' || c == '+' || c == '-';
+  }
+}
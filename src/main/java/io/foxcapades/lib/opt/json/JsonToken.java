@@ -0,0 +1,28 @@
+package io.foxcapades.lib.opt.json;
+
+/**
+ * Kinds of token returned by {@link JsonReader#peek()}.
+ *
+ * @since 1.2.0
+ */
+public enum JsonToken {
+  BeginObject,
+  EndObject,
+  BeginArray,
+  EndArray,
+
+  /**
+   * Name of an object member.
+   */
+  Name,
+
+  String,
+  Number,
+  Boolean,
+  Null,
+
+  /**
+   * End of the input, after the top level value.
+   */
+  EndDocument,
+}
@@ -0,0 +1,407 @@
+package io.foxcapades.lib.opt.json;
+
+import io.foxcapades.lib.opt.Option;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * JSON Writer
+ * <p>
+ * Streaming JSON writer that appends compact JSON text to an
+ * {@link Appendable} as values are written, without building a tree.
+ * <p>
+ * Separators are written automatically, and {@link #field(String, Option,
+ * JsonCodec)} writes an option as an object member, omitting the member
+ * entirely when the option is empty:
+ * <pre>{@code
+ * var out = new StringBuilder();
+ *
+ * JsonWriter.of(out)
+ *   .beginObject()
+ *   .field("name", Opt.nullable("fox"), JsonCodecs.strings())
+ *   .field("age", Opt.nullable(null), JsonCodecs.ints())
+ *   .field("email", Opt.nullable(), JsonCodecs.strings())
+ *   .endObject();
+ *
+ * // {"name":"fox","age":null}
+ * }</pre>
+ * <p>
+ * Writing a token where it is not valid JSON, such as a value where a member
+ * name is expected, throws a {@link JsonException}.  Errors appending to the
+ * underlying {@code Appendable} are thrown as an {@link UncheckedIOException}.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @since 1.2.0
+ */
+public final class JsonWriter {
+  private static final byte EmptyDocument = 0;
+
+  private static final byte NonEmptyDocument = 1;
+
+  private static final byte EmptyArray = 2;
+
+  private static final byte NonEmptyArray = 3;
+
+  private static final byte EmptyObject = 4;
+
+  private static final byte NonEmptyObject = 5;
+
+  /**
+   * Object scope after a member name, before its value.
+   */
+  private static final byte DanglingName = 6;
+
+  private static final char[] Hex = "0123456789abcdef".toCharArray();
+
+  private final Appendable out;
+
+  private byte[] scopes = new byte[16];
+
+  private int depth = 1;
+
+  private JsonWriter(Appendable out) {
+    this.out  = out;
+    scopes[0] = EmptyDocument;
+  }
+
+  /**
+   * Returns a writer that appends to the given target.
+   *
+   * @param out Target to write JSON text to.
+   *
+   * @return A new {@code JsonWriter}.
+   *
+   * @throws NullPointerException if the given target is {@code null}.
+   */
+  @NotNull
+  public static JsonWriter of(@NotNull Appendable out) {
+    return new JsonWriter(Objects.requireNonNull(out));
+  }
+
+  /**
+   * Writes the start of an object.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if a value may not be written here.
+   */
+  @NotNull
+  @Contract("-> this")
+  public JsonWriter beginObject() {
+    beforeValue();
+    push(EmptyObject);
+    return append('{');
+  }
+
+  /**
+   * Writes the end of the current object.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if the current scope is not an object, or a member
+   *                       name was written without a value.
+   */
+  @NotNull
+  @Contract("-> this")
+  public JsonWriter endObject() {
+    var scope = scopes[depth - 1];
+
+    if (scope != EmptyObject && scope != NonEmptyObject)
+      throw new JsonException(scope == DanglingName ? "Member name written without a value" : "Not in an object");
+
+    depth--;
+    return append('}');
+  }
+
+  /**
+   * Writes the start of an array.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if a value may not be written here.
+   */
+  @NotNull
+  @Contract("-> this")
+  public JsonWriter beginArray() {
+    beforeValue();
+    push(EmptyArray);
+    return append('[');
+  }
+
+  /**
+   * Writes the end of the current array.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if the current scope is not an array.
+   */
+  @NotNull
+  @Contract("-> this")
+  public JsonWriter endArray() {
+    var scope = scopes[depth - 1];
+
+    if (scope != EmptyArray && scope != NonEmptyArray)
+      throw new JsonException("Not in an array");
+
+    depth--;
+    return append(']');
+  }
+
+  /**
+   * Writes an object member name.
+   *
+   * @param name Member name.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if the current scope is not an object, or the
+   *                       previous member name has no value yet.
+   */
+  @NotNull
+  @Contract("_ -> this")
+  public JsonWriter name(@NotNull String name) {
+    Objects.requireNonNull(name);
+
+    var top = depth - 1;
+
+    switch (scopes[top]) {
+      case NonEmptyObject -> append(',');
+      case EmptyObject -> {}
+      default -> throw new JsonException("Member names may only be written in an object");
+    }
+
+    scopes[top] = DanglingName;
+    string(name);
+    return append(':');
+  }
+
+  /**
+   * Writes a string value.
+   *
+   * @param value String value.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if a value may not be written here.
+   */
+  @NotNull
+  @Contract("_ -> this")
+  public JsonWriter value(@NotNull String value) {
+    Objects.requireNonNull(value);
+    beforeValue();
+    string(value);
+    return this;
+  }
+
+  /**
+   * Writes a boolean value.
+   *
+   * @param value Boolean value.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if a value may not be written here.
+   */
+  @NotNull
+  @Contract("_ -> this")
+  public JsonWriter value(boolean value) {
+    beforeValue();
+    return append(value ? "true" : "false");
+  }
+
+  /**
+   * Writes a number value.
+   *
+   * @param value Number value.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if a value may not be written here.
+   */
+  @NotNull
+  @Contract("_ -> this")
+  public JsonWriter value(long value) {
+    beforeValue();
+    return append(Long.toString(value));
+  }
+
+  /**
+   * Writes a number value.
+   *
+   * @param value Number value.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if the given value is NaN or infinite, or a value
+   *                       may not be written here.
+   */
+  @NotNull
+  @Contract("_ -> this")
+  public JsonWriter value(double value) {
+    if (!Double.isFinite(value))
+      throw new JsonException("JSON numbers must be finite, got " + value);
+
+    beforeValue();
+    return append(Double.toString(value));
+  }
+
+  /**
+   * Writes a {@code null} value.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if a value may not be written here.
+   */
+  @NotNull
+  @Contract("-> this")
+  public JsonWriter nullValue() {
+    beforeValue();
+    return append("null");
+  }
+
+  /**
+   * Writes the given option as a value.
+   * <p>
+   * Options wrapping {@code null} are written as {@code null}, and other
+   * present options are written with the given codec.
+   *
+   * @param option Option to write.
+   * @param codec  Codec used to write non-{@code null} values.
+   * @param <T>    Type of the option value.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if the given option is empty, or a value may not be
+   *                       written here.
+   */
+  @NotNull
+  @Contract("_, _ -> this")
+  public <T> JsonWriter value(@NotNull Option<? extends T> option, @NotNull JsonCodec<T> codec) {
+    Objects.requireNonNull(codec);
+
+    if (option.isEmpty())
+      throw new JsonException("Empty options have no JSON value");
+
+    T value = option.unwrap();
+
+    if (value == null)
+      return nullValue();
+
+    codec.write(value, this);
+    return this;
+  }
+
+  /**
+   * Writes the given option as an object member, or nothing if the option is
+   * empty.
+   * <p>
+   * Options wrapping {@code null} are written as {@code null}, and other
+   * present options are written with the given codec.  Read back with
+   * {@link JsonReader#nextNullable(JsonCodec)} or a {@link JsonObjectCodec},
+   * all three option states round trip.
+   *
+   * @param name   Member name.
+   * @param option Option to write.
+   * @param codec  Codec used to write non-{@code null} values.
+   * @param <T>    Type of the option value.
+   *
+   * @return This writer.
+   *
+   * @throws JsonException if the current scope is not an object, or the
+   *                       previous member name has no value yet.
+   */
+  @NotNull
+  @Contract("_, _, _ -> this")
+  public <T> JsonWriter field(
+    @NotNull String name,
+    @NotNull Option<? extends T> option,
+    @NotNull JsonCodec<T> codec
+  ) {
+    if (option.isEmpty())
+      return this;
+
+    return name(name).value(option, codec);
+  }
+
+  private void beforeValue() {
+    var top = depth - 1;
+
+    switch (scopes[top]) {
+      case EmptyDocument -> scopes[top] = NonEmptyDocument;
+      case EmptyArray -> scopes[top] = NonEmptyArray;
+      case NonEmptyArray -> append(',');
+      case DanglingName -> scopes[top] = NonEmptyObject;
+      case NonEmptyDocument -> throw new JsonException("Only one top level value may be written");
+      default -> throw new JsonException("Expected a member name");
+    }
+  }
+
+  private void push(byte scope) {
+    if (depth == scopes.length)
+      scopes = Arrays.copyOf(scopes, depth << 1);
+
+    scopes[depth++] = scope;
+  }
+
+  /**
+   * Writes a quoted string, appending runs of characters that need no
+   * escaping in one call.
+   */
+  private void string(String value) {
+    try {
+      out.append('"');
+
+      var start = 0;
+      var len   = value.length();
+
+      for (var i = 0; i < len; i++) {
+        var c = value.charAt(i);
+
+        if (c >= 0x20 && c != '"' && c != '\\')
+          continue;
+
+        out.append(value, start, i);
+        start = i + 1;
+
+        switch (c) {
+          case '"'  -> out.append("\\\"");
+          case '\\' -> out.append("\\\\");
+          case '\b' -> out.append("\\b");
+          case '\f' -> out.append("\\f");
+          case '\n' -> out.append("\\n");
+          case '\r' -> out.append("\\r");
+          case '\t' -> out.append("\\t");
+          default   -> out.append("\\u00").append(Hex[c >> 4]).append(Hex[c & 0xF]);
+        }
+      }
+
+      out.append(value, start, len).append('"');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private JsonWriter append(char c) {
+    try {
+      out.append(c);
+      return this;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private JsonWriter append(String s) {
+    try {
+      out.append(s);
+      return this;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -1,5 +1,11 @@
 module foxcapades.lib.opt {
   exports io.foxcapades.lib.opt;
+  exports io.foxcapades.lib.opt.cache;
+  exports io.foxcapades.lib.opt.codec;
+  exports io.foxcapades.lib.opt.collection;
+  exports io.foxcapades.lib.opt.flow;
+  exports io.foxcapades.lib.opt.json;
 
+  requires jdk.unsupported;
   requires org.jetbrains.annotations;
 }
\ No newline at end of file
@@ -0,0 +1,199 @@
+package io.foxcapades.lib.opt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncOption")
+public class AsyncOptionTest {
+
+  /**
+   * Executor that runs tasks inline and counts them.
+   */
+  private static final class CountingExecutor implements Executor {
+    private final S.Counter counter = new S.Counter();
+
+    @Override
+    public void execute(Runnable command) {
+      counter.inc();
+      command.run();
+    }
+  }
+
+  @Nested
+  @DisplayName("#mapAsync(Function)")
+  public class MapAsync {
+
+    @Test
+    @DisplayName("runs the function on the executor.")
+    public void t1() {
+      var exec = new CountingExecutor();
+      var out  = AsyncOption.of(CompletableFuture.completedFuture(Opt.nonNull(2)), exec)
+        .mapAsync(i -> i * 3)
+        .toFuture()
+        .join();
+
+      assertEquals(6, out.unwrap());
+      assertEquals(1, exec.counter.get());
+    }
+
+    @Test
+    @DisplayName("does not schedule anything for empty options.")
+    public void t2() {
+      var exec = new CountingExecutor();
+      var out  = AsyncOption.of(CompletableFuture.completedFuture(Opt.<Integer>nullable()), exec)
+        .mapAsync(i -> i * 3)
+        .toFuture()
+        .join();
+
+      assertTrue(out.isEmpty());
+      assertEquals(0, exec.counter.get());
+    }
+
+    @Test
+    @DisplayName("keeps the option's null semantics.")
+    public void t3() {
+      var exec = new CountingExecutor();
+
+      assertTrue(AsyncOption.of(CompletableFuture.completedFuture(Opt.nullable("a")), exec)
+        .mapAsync(s -> (String) null).toFuture().join().isPresent());
+      assertTrue(AsyncOption.of(CompletableFuture.completedFuture(Opt.nonNull("a")), exec)
+        .mapAsync(s -> (String) null).toFuture().join().isEmpty());
+    }
+
+    @Test
+    @DisplayName("runs the function with the caller's scoped binding.")
+    public void t4() throws Exception {
+      var scoped  = new Opt();
+      var pool    = Executors.newSingleThreadExecutor();
+      var pending = new CompletableFuture<Option<Integer>>();
+
+      try {
+        var out = Opt.callWith(scoped, () -> AsyncOption.of(pending, pool)
+          .mapAsync(i -> Opt.standard())
+          .toFuture());
+
+        pending.complete(Opt.nonNull(1));
+
+        assertSame(scoped, out.get().unwrap());
+      } finally {
+        pool.shutdown();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("#flatMapAsync(Function)")
+  public class FlatMapAsync {
+
+    @Test
+    @DisplayName("flattens the option the returned stage completes with.")
+    public void t1() {
+      var pending = new CompletableFuture<Option<String>>();
+      var out     = AsyncOption.completed(Opt.nonNull(1))
+        .flatMapAsync(i -> pending)
+        .toFuture();
+
+      assertFalse(out.isDone());
+      pending.complete(Opt.nonNull("x"));
+      assertEquals("x", out.join().unwrap());
+    }
+
+    @Test
+    @DisplayName("does not call the function for empty options.")
+    public void t2() {
+      var counter = new S.Counter();
+      var out     = AsyncOption.completed(Opt.<Integer>nonNull())
+        .flatMapAsync(i -> {
+          counter.inc();
+          return CompletableFuture.completedFuture(Opt.nonNull(i));
+        })
+        .toFuture()
+        .join();
+
+      assertTrue(out.isEmpty());
+      assertEquals(0, counter.get());
+    }
+  }
+
+  @Nested
+  @DisplayName("#orGetAsync(Supplier)")
+  public class OrGetAsync {
+
+    @Test
+    @DisplayName("only schedules the supplier for empty options.")
+    public void t1() {
+      var exec = new CountingExecutor();
+
+      assertEquals(1, AsyncOption.of(CompletableFuture.completedFuture(Opt.nonNull(1)), exec).orGetAsync(() -> 2).join());
+      assertEquals(0, exec.counter.get());
+      assertEquals(2, AsyncOption.of(CompletableFuture.completedFuture(Opt.<Integer>nonNull()), exec).orGetAsync(() -> 2).join());
+      assertEquals(1, exec.counter.get());
+    }
+
+    @Test
+    @DisplayName("runs the supplier with the caller's scoped binding.")
+    public void t2() throws Exception {
+      var scoped  = new Opt();
+      var pool    = Executors.newSingleThreadExecutor();
+      var pending = new CompletableFuture<Option<Opt>>();
+
+      try {
+        var out = Opt.callWith(scoped, () -> AsyncOption.of(pending, pool).orGetAsync(Opt::standard));
+
+        pending.complete(Opt.nonNull());
+
+        assertSame(scoped, out.get());
+      } finally {
+        pool.shutdown();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("#sequenceAsync(Collection)")
+  public class SequenceAsync {
+
+    @Test
+    @DisplayName("combines the values in order once all complete.")
+    public void t1() {
+      var a   = new CompletableFuture<Option<Integer>>();
+      var b   = new CompletableFuture<Option<Integer>>();
+      var out = AsyncOption.sequenceAsync(List.of(AsyncOption.of(a), AsyncOption.of(b))).toFuture();
+
+      b.complete(Opt.nonNull(2));
+      assertFalse(out.isDone());
+      a.complete(Opt.nonNull(1));
+      assertEquals(List.of(1, 2), out.join().unwrap());
+    }
+
+    @Test
+    @DisplayName("completes as soon as any option is empty.")
+    public void t2() {
+      var a   = new CompletableFuture<Option<Integer>>();
+      var out = AsyncOption.sequenceAsync(List.of(AsyncOption.of(a), AsyncOption.completed(Opt.<Integer>nonNull())))
+        .toFuture();
+
+      assertTrue(out.isDone());
+      assertTrue(out.join().isEmpty());
+    }
+
+    @Test
+    @DisplayName("completes exceptionally when any input fails.")
+    public void t3() {
+      var a   = new CompletableFuture<Option<Integer>>();
+      var out = AsyncOption.sequenceAsync(List.of(AsyncOption.of(a))).toFuture();
+
+      a.completeExceptionally(new IllegalStateException());
+      assertThrows(CompletionException.class, out::join);
+    }
+  }
+}
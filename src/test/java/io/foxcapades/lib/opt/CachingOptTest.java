@@ -0,0 +1,115 @@
+package io.foxcapades.lib.opt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CachingOpt")
+public class CachingOptTest {
+  private final CachingOpt opt = new CachingOpt();
+
+  @Nested
+  @DisplayName("#newNullable(T)")
+  public class NewNullable {
+
+    @Test
+    @DisplayName("returns the same option for cached values.")
+    public void t1() {
+      assertSame(opt.newNullable(42), opt.newNullable(42));
+      assertSame(opt.newNullable(-128L), opt.newNullable(-128L));
+      assertSame(opt.newNullable((short) 7), opt.newNullable((short) 7));
+      assertSame(opt.newNullable((byte) 7), opt.newNullable((byte) 7));
+      assertSame(opt.newNullable('a'), opt.newNullable('a'));
+      assertSame(opt.newNullable(true), opt.newNullable(true));
+      assertSame(opt.newNullable(""), opt.newNullable(new String()));
+      assertSame(opt.newNullable(TimeUnit.DAYS), opt.newNullable(TimeUnit.DAYS));
+    }
+
+    @Test
+    @DisplayName("returns new options for values outside of the cache.")
+    public void t2() {
+      assertNotSame(opt.newNullable(128), opt.newNullable(128));
+      assertNotSame(opt.newNullable("a"), opt.newNullable("a"));
+      assertEquals(1000, opt.newNullable(1000).unwrap());
+    }
+
+    @Test
+    @DisplayName("returns a null option for null values.")
+    public void t3() {
+      assertTrue(opt.newNullable(null).isNull());
+    }
+
+    @Test
+    @DisplayName("returns the same option for registered constants.")
+    public void t4() {
+      var hello = new String("hello");
+      opt.register(hello);
+
+      assertSame(opt.newNullable(hello), opt.newNullable(hello));
+      assertSame(hello, opt.newNullable(hello).unwrap());
+    }
+
+    @Test
+    @DisplayName("does not substitute registered constants for equal instances.")
+    public void t5() {
+      var registered = new ArrayList<>(List.of(1));
+      var other      = new ArrayList<>(List.of(1));
+
+      opt.register(registered);
+
+      assertSame(other, opt.newNullable(other).unwrap());
+      assertSame(other, opt.newNonNull(other).unwrap());
+      assertNotSame(opt.newNullable(other), opt.newNullable(other));
+      assertSame(opt.newNullable(registered), opt.newNullable(registered));
+    }
+  }
+
+  @Nested
+  @DisplayName("#newNonNull(T)")
+  public class NewNonNull {
+
+    @Test
+    @DisplayName("returns the same option for cached values.")
+    public void t1() {
+      assertSame(opt.newNonNull(0), opt.newNonNull(0));
+      assertSame(opt.newNonNullOfNullable(0), opt.newNonNull(0));
+      assertEquals(0, opt.newNonNull(0).unwrap());
+    }
+
+    @Test
+    @DisplayName("throws a NullPointerException for null values.")
+    public void t2() {
+      assertThrows(NullPointerException.class, () -> opt.newNonNull(null));
+    }
+
+    @Test
+    @DisplayName("returns an empty option from newNonNullOfNullable for null values.")
+    public void t3() {
+      assertTrue(opt.newNonNullOfNullable(null).isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("#newUnwrapException(Option)")
+  public class NewUnwrapException {
+
+    @Test
+    @DisplayName("creates stackless exceptions when enabled on the instance.")
+    public void t1() {
+      Opt.runWith(new CachingOpt(true), () -> {
+        var err = assertThrows(UnwrapException.class, () -> Opt.nonNull().unwrap());
+
+        assertEquals(0, err.getStackTrace().length);
+        assertSame(Opt.nonNull(1), Opt.nonNull(1));
+      });
+
+      assertTrue(opt.newUnwrapException(opt.newNonNull(1)).getStackTrace().length > 0);
+    }
+  }
+}
@@ -0,0 +1,410 @@
+package io.foxcapades.lib.opt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Opt")
+public class OptTest {
+
+  @Nested
+  @DisplayName("#runWith(Opt, Runnable)")
+  public class RunWith {
+
+    @Test
+    @DisplayName("binds the given instance for the duration of the task.")
+    public void t1() {
+      var global = Opt.standard();
+      var scoped = new Opt();
+      var seen   = new AtomicReference<Opt>();
+
+      Opt.runWith(scoped, () -> seen.set(Opt.standard()));
+
+      assertSame(scoped, seen.get());
+      assertSame(global, Opt.standard());
+    }
+
+    @Test
+    @DisplayName("uses the innermost binding when nested.")
+    public void t2() {
+      var outer = new Opt();
+      var inner = new Opt();
+
+      Opt.runWith(outer, () -> {
+        Opt.runWith(inner, () -> assertSame(inner, Opt.standard()));
+        assertSame(outer, Opt.standard());
+      });
+    }
+
+    @Test
+    @DisplayName("restores the previous binding when the task throws.")
+    public void t3() {
+      var global = Opt.standard();
+
+      assertThrows(IllegalStateException.class, () -> Opt.runWith(new Opt(), () -> {
+        throw new IllegalStateException();
+      }));
+
+      assertSame(global, Opt.standard());
+    }
+
+    @Test
+    @DisplayName("is not inherited by threads started within the scope.")
+    public void t4() throws Exception {
+      var global = Opt.standard();
+      var seen   = new AtomicReference<Opt>();
+
+      Opt.runWith(new Opt(), () -> {
+        var th = new Thread(() -> seen.set(Opt.standard()));
+        th.start();
+        try {
+          th.join();
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+      });
+
+      assertSame(global, seen.get());
+    }
+
+    @Test
+    @DisplayName("is not visible to other threads.")
+    public void t5() throws Exception {
+      var global = Opt.standard();
+      var seen   = new AtomicReference<Opt>();
+      var th     = new Thread(() -> seen.set(Opt.standard()));
+
+      Opt.runWith(new Opt(), () -> {
+        th.start();
+        try {
+          th.join();
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+      });
+
+      assertSame(global, seen.get());
+    }
+
+    @Test
+    @DisplayName("throws a NullPointerException when given a null instance.")
+    public void t6() {
+      assertThrows(NullPointerException.class, () -> Opt.runWith(null, () -> {}));
+    }
+  }
+
+  @Nested
+  @DisplayName("#callWith(Opt, Supplier)")
+  public class CallWith {
+
+    @Test
+    @DisplayName("returns the value of the given supplier.")
+    public void t1() {
+      var scoped = new Opt();
+
+      assertSame(scoped, Opt.callWith(scoped, Opt::standard));
+    }
+  }
+
+  @Nested
+  @DisplayName("#wrap(Runnable) / #wrap(Callable) / #propagating(Executor)")
+  public class Wrap {
+
+    @Test
+    @DisplayName("carries the current binding to pool threads for the wrapped task only.")
+    public void t1() throws Exception {
+      var global = Opt.standard();
+      var scoped = new Opt();
+      var pool   = Executors.newSingleThreadExecutor();
+
+      try {
+        // The pool thread is started inside the scope.
+        var wrapped = Opt.callWith(scoped, () -> {
+          try {
+            assertSame(global, pool.submit(Opt::standard).get());
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+
+          return Opt.wrap((Callable<Opt>) Opt::standard);
+        });
+
+        assertSame(scoped, pool.submit(wrapped).get());
+        assertSame(global, pool.submit(Opt::standard).get());
+
+        var seen = new AtomicReference<Opt>();
+        var task = Opt.callWith(scoped, () -> Opt.wrap(() -> seen.set(Opt.standard())));
+
+        pool.submit(task).get();
+        assertSame(scoped, seen.get());
+      } finally {
+        pool.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("returns the given task when no binding is active.")
+    public void t2() {
+      Runnable task = () -> {};
+
+      assertSame(task, Opt.wrap(task));
+    }
+
+    @Test
+    @DisplayName("propagating executors carry each submitter's binding.")
+    public void t3() throws Exception {
+      var global = Opt.standard();
+      var scoped = new Opt();
+      var pool   = Executors.newSingleThreadExecutor();
+      var exec   = Opt.propagating(pool);
+
+      try {
+        var inScope = new CompletableFuture<Opt>();
+        var outside = new CompletableFuture<Opt>();
+
+        Opt.runWith(scoped, () -> exec.execute(() -> inScope.complete(Opt.standard())));
+        exec.execute(() -> outside.complete(Opt.standard()));
+
+        assertSame(scoped, inScope.get());
+        assertSame(global, outside.get());
+      } finally {
+        pool.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("wrapped executors keep the binding active when they were wrapped.")
+    public void t4() throws Exception {
+      var scoped = new Opt();
+      var pool   = Executors.newSingleThreadExecutor();
+
+      try {
+        var exec = Opt.callWith(scoped, () -> Opt.wrap(pool));
+        var seen = new CompletableFuture<Opt>();
+
+        exec.execute(() -> seen.complete(Opt.standard()));
+
+        assertSame(scoped, seen.get());
+        assertSame(pool, Opt.wrap(pool));
+      } finally {
+        pool.shutdown();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("#zip(Option, Option, BiFunction)")
+  public class Zip {
+
+    @Test
+    @DisplayName("returns a non-null option when both inputs are non-null options.")
+    public void t1() {
+      NonNullOption<String> out = Opt.zip(Opt.nonNull(1), Opt.nonNull(2), (a, b) -> a + "" + b);
+
+      assertEquals("12", out.unwrap());
+      assertTrue(Opt.zip(Opt.nonNull(1), Opt.nonNull(2), (a, b) -> null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("passes null values through and wraps null results for nullable options.")
+    public void t2() {
+      var counter = new S.Counter();
+      var out     = Opt.zip(Opt.<Integer>nullable(null), Opt.nonNull(2), (a, b) -> counter.inc(a));
+
+      assertTrue(out instanceof NullableOption);
+      assertTrue(out.isPresent());
+      assertNull(out.unwrap());
+      assertEquals(1, counter.get());
+    }
+
+    @Test
+    @DisplayName("returns an empty option without calling the function when any input is empty.")
+    public void t3() {
+      var counter = new S.Counter();
+
+      assertTrue(Opt.zip(Opt.nullable(1), Opt.<Integer>nullable(), (a, b) -> counter.inc(a)).isEmpty());
+      assertTrue(Opt.zip(Opt.<Integer>nonNull(), Opt.nonNull(1), (a, b) -> counter.inc(a)) instanceof NonNullOption);
+      assertTrue(Opt.zip(Opt.<Integer>nonNull(), Opt.nullable(1), (a, b) -> counter.inc(a)) instanceof NullableOption);
+      assertEquals(0, counter.get());
+    }
+
+    @Test
+    @DisplayName("zip3 and zip4 combine every value.")
+    public void t4() {
+      assertEquals(6, Opt.zip3(Opt.nonNull(1), Opt.nonNull(2), Opt.nonNull(3), (a, b, c) -> a + b + c).unwrap());
+      assertEquals(10, Opt.zip4(Opt.nullable(1), Opt.nullable(2), Opt.nullable(3), Opt.nullable(4), (a, b, c, d) -> a + b + c + d).unwrap());
+      assertTrue(Opt.zip4(Opt.nonNull(1), Opt.nonNull(2), Opt.nonNull(3), Opt.<Integer>nonNull(), (a, b, c, d) -> a).isEmpty());
+    }
+
+    @Test
+    @DisplayName("#zipWith(Option, BiFunction) matches zip.")
+    public void t5() {
+      assertEquals(3, Opt.nonNull(1).zipWith(Opt.nonNull(2), Integer::sum).unwrap());
+      assertTrue(Opt.nonNull(1).zipWith(Opt.<Integer>nullable(), Integer::sum).isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("#combine(Option[], Function)")
+  public class Combine {
+
+    @Test
+    @DisplayName("passes every value to the function in order.")
+    public void t1() {
+      var out = Opt.combine(new Option<?>[] { Opt.nonNull("a"), Opt.nullable(null), Opt.nonNull(3) }, Arrays::toString);
+
+      assertTrue(out instanceof NullableOption);
+      assertEquals("[a, null, 3]", out.unwrap());
+    }
+
+    @Test
+    @DisplayName("returns a non-null option for non-null inputs.")
+    public void t2() {
+      NonNullOption<Integer> out = Opt.combine(new NonNullOption<?>[] { Opt.nonNull(1), Opt.nonNull(2) }, v -> v.length);
+
+      assertEquals(2, out.unwrap());
+      assertTrue(Opt.combine(new NonNullOption<?>[] { Opt.nonNull(1), Opt.nonNull() }, v -> v.length).isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("#sequence(Collection)")
+  public class Sequence {
+
+    @Test
+    @DisplayName("returns every value in order, including nulls.")
+    public void t1() {
+      var out = Opt.sequence(List.of(Opt.nonNull(1), Opt.<Integer>nullable(null), Opt.nullable(3)));
+
+      assertEquals(Arrays.asList(1, null, 3), out.unwrap());
+    }
+
+    @Test
+    @DisplayName("returns an empty option when any input is empty.")
+    public void t2() {
+      assertTrue(Opt.sequence(List.of(Opt.nonNull(1), Opt.<Integer>nullable())).isEmpty());
+      assertTrue(Opt.sequence(new Option<?>[] { Opt.nonNull(1), Opt.nonNull() }).isEmpty());
+    }
+
+    @Test
+    @DisplayName("returns an empty list for an empty input.")
+    public void t3() {
+      assertEquals(List.of(), Opt.sequence(new ArrayDeque<Option<Integer>>()).unwrap());
+    }
+  }
+
+  @Nested
+  @DisplayName("#traverse(Collection, Function)")
+  public class Traverse {
+
+    @Test
+    @DisplayName("stops calling the function at the first empty option.")
+    public void t1() {
+      var counter = new S.Counter();
+      var out     = Opt.traverse(new ArrayDeque<>(List.of(1, 2, -3, 4)), i -> {
+        counter.inc();
+        return i < 0 ? Opt.<Integer>nonNull() : Opt.nonNull(i);
+      });
+
+      assertTrue(out.isEmpty());
+      assertEquals(3, counter.get());
+    }
+
+    @Test
+    @DisplayName("maps arrays and lists alike.")
+    public void t2() {
+      assertEquals(List.of("1", "2"), Opt.traverse(new Integer[] { 1, 2 }, i -> Opt.nonNull("" + i)).unwrap());
+      assertEquals(List.of("1", "2"), Opt.traverse(List.of(1, 2), i -> Opt.nonNull("" + i)).unwrap());
+    }
+
+    @Test
+    @DisplayName("throws when the function returns null.")
+    public void t3() {
+      assertThrows(NullPointerException.class, () -> Opt.traverse(List.of(1), i -> null));
+    }
+  }
+
+  @Nested
+  @DisplayName("#parallelTraverse(Collection, Function)")
+  public class ParallelTraverse {
+
+    @Test
+    @DisplayName("matches the sequential result.")
+    public void t1() {
+      var input = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+      assertEquals(
+        Opt.traverse(input, i -> Opt.nullable(i % 7 == 0 ? null : i)).unwrap(),
+        Opt.parallelTraverse(input, i -> Opt.nullable(i % 7 == 0 ? null : i)).unwrap()
+      );
+      assertTrue(Opt.parallelTraverse(input, i -> i == 9_000 ? Opt.nullable() : Opt.nullable(i)).isEmpty());
+      assertEquals(input, Opt.parallelSequence(input.stream().map(Opt::nonNull).collect(Collectors.toList())).unwrap());
+    }
+
+    @Test
+    @DisplayName("calls the function with the caller's binding on every worker.")
+    public void t2() {
+      var scoped = new Opt();
+      var values = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+      var out = Opt.callWith(scoped, () -> Opt.parallelTraverse(values, v -> Opt.nonNull(Opt.standard())));
+
+      assertTrue(out.unwrap().stream().allMatch(o -> o == scoped));
+    }
+  }
+
+  @Nested
+  @DisplayName("#newUnwrapException(Option)")
+  public class NewUnwrapException {
+
+    @Test
+    @DisplayName("creates fully diagnostic exceptions by default.")
+    public void t1() {
+      var err = assertThrows(UnwrapException.class, () -> Opt.nullable().unwrap());
+
+      assertTrue(err.getStackTrace().length > 0);
+      assertNotSame(err, assertThrows(UnwrapException.class, () -> Opt.nullable().unwrap()));
+    }
+
+    @Test
+    @DisplayName("reuses a stackless exception for empty singletons when enabled on the instance.")
+    public void t2() {
+      Opt.runWith(new Opt(true), () -> {
+        var err = assertThrows(UnwrapException.class, () -> Opt.nonNull().unwrap());
+
+        assertEquals(0, err.getStackTrace().length);
+        assertSame(err, assertThrows(UnwrapException.class, () -> Opt.nonNullInt().unwrap()));
+        assertSame(Opt.nonNull(), err.getOption());
+      });
+    }
+
+    @Test
+    @DisplayName("creates stackless exceptions for every instance when enabled globally.")
+    public void t3() {
+      Opt.setStacklessUnwrapExceptions(true);
+
+      try {
+        var custom = new Opt().newUnwrapException(Opt.nonNull(1));
+
+        assertEquals(0, custom.getStackTrace().length);
+        assertThrows(IllegalStateException.class, () -> custom.initCause(new RuntimeException()));
+      } finally {
+        Opt.setStacklessUnwrapExceptions(false);
+      }
+
+      assertTrue(new Opt().newUnwrapException(Opt.nonNull(1)).getStackTrace().length > 0);
+    }
+  }
+}
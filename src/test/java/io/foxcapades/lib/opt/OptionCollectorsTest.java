@@ -0,0 +1,124 @@
+package io.foxcapades.lib.opt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OptionCollectors")
+public class OptionCollectorsTest {
+
+  private static Stream<NullableOption<String>> sample() {
+    return Stream.of(
+      Opt.nullable("a"),
+      Opt.nullable(),
+      Opt.nullable(null),
+      Opt.nullable("b")
+    );
+  }
+
+  @Nested
+  @DisplayName("#flatten()")
+  public class Flatten {
+
+    @Test
+    @DisplayName("yields the same values as flatMap(Option::stream).")
+    public void t1() {
+      assertEquals(
+        sample().flatMap(Option::stream).collect(Collectors.toList()),
+        sample().<String>mapMulti(OptionCollectors.flatten()).collect(Collectors.toList())
+      );
+    }
+  }
+
+  @Nested
+  @DisplayName("#presentValues()")
+  public class PresentValues {
+
+    @Test
+    @DisplayName("collects the values of non-empty options in order.")
+    public void t1() {
+      assertEquals(Arrays.asList("a", null, "b"), sample().collect(OptionCollectors.presentValues()));
+    }
+
+    @Test
+    @DisplayName("preserves encounter order for parallel streams.")
+    public void t2() {
+      var out = IntStream.range(0, 10_000)
+        .parallel()
+        .mapToObj(i -> i % 3 == 0 ? Opt.<Integer>nonNull() : Opt.nonNull(i))
+        .collect(OptionCollectors.presentValues());
+
+      assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().collect(Collectors.toList()), out);
+    }
+  }
+
+  @Nested
+  @DisplayName("#partitionByState()")
+  public class PartitionByState {
+
+    @Test
+    @DisplayName("counts empty and null options and collects values.")
+    public void t1() {
+      var out = sample().collect(OptionCollectors.partitionByState());
+
+      assertEquals(1, out.empty());
+      assertEquals(1, out.nulls());
+      assertEquals(List.of("a", "b"), out.values());
+    }
+  }
+
+  @Nested
+  @DisplayName("#toOptionArray() and #toNullableOptionArray()")
+  public class ToArray {
+
+    @Test
+    @DisplayName("collect options into columnar arrays.")
+    public void t1() {
+      var nonNull  = sample().collect(OptionCollectors.toOptionArray());
+      var nullable = sample().collect(OptionCollectors.toNullableOptionArray());
+
+      assertEquals(4, nonNull.size());
+      assertEquals(2, nonNull.countPresent());
+      assertTrue(nonNull.isEmpty(2));
+
+      assertEquals(4, nullable.size());
+      assertEquals(3, nullable.countPresent());
+      assertTrue(nullable.isNull(2));
+      assertEquals("b", nullable.unwrap(3));
+    }
+
+    @Test
+    @DisplayName("combine partial results in encounter order.")
+    public void t2() {
+      var out = IntStream.range(0, 5_000)
+        .parallel()
+        .mapToObj(i -> i % 2 == 0 ? Opt.<Integer>nullable() : Opt.nullable(i))
+        .collect(OptionCollectors.toNullableOptionArray());
+
+      assertEquals(5_000, out.size());
+      assertEquals(2_500, out.countPresent());
+      assertEquals(4_999, out.unwrap(4_999));
+    }
+  }
+
+  @Nested
+  @DisplayName("#firstPresent()")
+  public class FirstPresent {
+
+    @Test
+    @DisplayName("returns the first non-empty option.")
+    public void t1() {
+      assertEquals("a", sample().collect(OptionCollectors.firstPresent()).unwrap());
+      assertTrue(sample().skip(1).collect(OptionCollectors.firstPresent()).isNull());
+      assertTrue(Stream.<Option<String>>empty().collect(OptionCollectors.firstPresent()).isEmpty());
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package io.foxcapades.lib.opt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OptionComparators")
+public class OptionComparatorsTest {
+
+  private static List<NullableOption<String>> sample() {
+    return new ArrayList<>(List.of(
+      Opt.nullable("b"),
+      Opt.nullable(),
+      Opt.nullable(null),
+      Opt.nullable("a")
+    ));
+  }
+
+  private static Comparator<String> nullHostile(S.Counter counter) {
+    return (a, b) -> {
+      counter.inc();
+      return Objects.requireNonNull(a).compareTo(Objects.requireNonNull(b));
+    };
+  }
+
+  @Test
+  @DisplayName("emptyFirst orders empty options first and passes nulls to the value comparator.")
+  public void t1() {
+    var list = sample();
+
+    list.sort(OptionComparators.emptyFirst(Comparator.nullsFirst(Comparator.<String>naturalOrder())));
+
+    assertEquals(List.of(Opt.nullable(), Opt.nullable(null), Opt.nullable("a"), Opt.nullable("b")), list);
+  }
+
+  @Test
+  @DisplayName("emptyLast orders empty options last.")
+  public void t2() {
+    var list = sample();
+
+    list.sort(OptionComparators.emptyLast(Comparator.nullsLast(Comparator.<String>reverseOrder())));
+
+    assertEquals(List.of(Opt.nullable("b"), Opt.nullable("a"), Opt.nullable(null), Opt.nullable()), list);
+  }
+
+  @Test
+  @DisplayName("nullFirst orders null options first and empty options last without comparing nulls.")
+  public void t3() {
+    var list    = sample();
+    var counter = new S.Counter();
+
+    list.sort(OptionComparators.nullFirst(nullHostile(counter)));
+
+    assertEquals(List.of(Opt.nullable(null), Opt.nullable("a"), Opt.nullable("b"), Opt.nullable()), list);
+    assertTrue(counter.get() > 0);
+  }
+
+  @Test
+  @DisplayName("nullLast orders null options and then empty options last without comparing nulls.")
+  public void t4() {
+    var list = sample();
+
+    list.sort(OptionComparators.nullLast(nullHostile(new S.Counter())));
+
+    assertEquals(List.of(Opt.nullable("a"), Opt.nullable("b"), Opt.nullable(null), Opt.nullable()), list);
+  }
+
+  @Test
+  @DisplayName("work with mixed option kinds and key extractors.")
+  public void t5() {
+    record Row(Option<Integer> score) {}
+
+    var rows = new ArrayList<>(List.of(new Row(Opt.nonNull(2)), new Row(Opt.nullable()), new Row(Opt.nullable(1))));
+
+    rows.sort(Comparator.comparing(Row::score, OptionComparators.emptyFirst(Integer::compare)));
+
+    assertTrue(rows.get(0).score().isEmpty());
+    assertEquals(1, rows.get(1).score().unwrap());
+    assertEquals(2, rows.get(2).score().unwrap());
+  }
+}
@@ -833,6 +833,124 @@ public abstract class OptionContractTest {
     }
   }
 
+  @Nested
+  @DisplayName("#iterator()")
+  protected class Iterator1 {
+
+    @Nested
+    @DisplayName(FNEO)
+    protected class Full {
+
+      @Test
+      @DisplayName("returns an iterator over only the wrapped value")
+      void t1() {
+        for (var opt : fullOptions("marrow")) {
+          var it = opt.iterator();
+
+          assertTrue(it.hasNext());
+          assertSame(opt.unwrap(), it.next());
+          assertFalse(it.hasNext());
+          assertThrows(java.util.NoSuchElementException.class, it::next);
+        }
+      }
+
+      @Test
+      @DisplayName("may be used in an enhanced for loop")
+      void t2() {
+        for (var opt : fullOptions(12)) {
+          var count = 0;
+
+          for (var value : opt) {
+            assertSame(opt.unwrap(), value);
+            count++;
+          }
+
+          assertEquals(1, count);
+        }
+      }
+    }
+
+    @Nested
+    @DisplayName(FEO)
+    protected class Empty {
+
+      @Test
+      @DisplayName("returns an empty iterator")
+      void t1() {
+        for (var opt : emptyOptions())
+          assertFalse(opt.iterator().hasNext());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("#spliterator()")
+  protected class Spliterator1 {
+
+    @Nested
+    @DisplayName(FNEO)
+    protected class Full {
+
+      @Test
+      @DisplayName("returns a sized, immutable spliterator over the wrapped value")
+      void t1() {
+        for (var opt : fullOptions(3.5)) {
+          var split = opt.spliterator();
+
+          assertEquals(1, split.getExactSizeIfKnown());
+          assertTrue(split.hasCharacteristics(java.util.Spliterator.SIZED | java.util.Spliterator.SUBSIZED | java.util.Spliterator.IMMUTABLE));
+          assertTrue(split.tryAdvance(v -> assertSame(opt.unwrap(), v)));
+          assertFalse(split.tryAdvance(v -> fail(FNEO)));
+        }
+      }
+    }
+
+    @Nested
+    @DisplayName(FEO)
+    protected class Empty {
+
+      @Test
+      @DisplayName("returns an empty spliterator")
+      void t1() {
+        for (var opt : emptyOptions())
+          assertEquals(0, opt.spliterator().getExactSizeIfKnown());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("#forEach(Consumer<T>)")
+  protected class ForEach1 {
+
+    @Test
+    @DisplayName("calls the given consumer once with the wrapped value.")
+    void t1() {
+      for (var opt : fullOptions("kiln")) {
+        var counter = new S.Counter();
+
+        opt.forEach(v -> {
+          assertSame(opt.unwrap(), v);
+          counter.inc();
+        });
+        assertEquals(1, counter.get());
+      }
+    }
+
+    @Test
+    @DisplayName("does not call the given consumer on an empty option.")
+    void t2() {
+      for (var opt : emptyOptions())
+        opt.forEach(v -> fail(FEO));
+    }
+
+    @Test
+    @DisplayName(NullFun)
+    void t3() {
+      for (var opt : allOptions("ash"))
+        assertThrows(NullPointerException.class, () -> opt.forEach(null), opt.getClass().getSimpleName());
+    }
+  }
+
   @Nested
   @DisplayName("#ifPresent(Consumer<T>)")
   protected class IfPresent1 {
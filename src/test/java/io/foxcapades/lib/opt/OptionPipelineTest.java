@@ -0,0 +1,147 @@
+package io.foxcapades.lib.opt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OptionPipeline")
+public class OptionPipelineTest {
+
+  private static final List<String> inputs = Arrays.asList(null, "", " ", "3", " 12 ", "x", "-4");
+
+  private static Integer parse(String s) {
+    try {
+      return Integer.parseInt(s);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static <R> void assertSameState(Option<R> expected, Option<R> actual) {
+    assertEquals(expected.isPresent(), actual.isPresent());
+    assertEquals(expected instanceof NullableOption, actual instanceof NullableOption);
+
+    if (expected.isPresent())
+      assertEquals(expected.unwrap(), actual.unwrap());
+  }
+
+  @Nested
+  @DisplayName("#apply(Object)")
+  public class Apply {
+
+    @Test
+    @DisplayName("matches the step-by-step chain for nullable inputs.")
+    public void t1() {
+      var pipeline = OptionPipeline.<String>nullable()
+        .map(s -> s == null ? null : s.trim())
+        .filter(s -> s == null || !s.isEmpty())
+        .map(OptionPipelineTest::parse)
+        .flatMap(i -> i == null ? Opt.<Integer>nonNull() : Opt.nonNull(i * 2));
+
+      for (var in : inputs) {
+        var expected = Opt.nullable(in)
+          .map(s -> s == null ? null : s.trim())
+          .filter(s -> s == null || !s.isEmpty())
+          .map(OptionPipelineTest::parse)
+          .flatMap(i -> i == null ? Opt.<Integer>nonNull() : Opt.nonNull(i * 2));
+
+        assertSameState(expected, pipeline.apply(in));
+      }
+    }
+
+    @Test
+    @DisplayName("matches the step-by-step chain for non-null inputs.")
+    public void t2() {
+      var pipeline = OptionPipeline.<String>nonNull()
+        .map(String::trim)
+        .map(OptionPipelineTest::parse)
+        .flatMap(i -> Opt.nullable(i < 0 ? null : i))
+        .map(i -> i == null ? "null" : "" + i);
+
+      for (var in : inputs) {
+        var expected = Opt.nonNullOfNullable(in)
+          .map(String::trim)
+          .map(OptionPipelineTest::parse)
+          .flatMap(i -> Opt.nullable(i < 0 ? null : i))
+          .map(i -> i == null ? "null" : "" + i);
+
+        assertSameState(expected, pipeline.apply(in));
+      }
+    }
+
+    @Test
+    @DisplayName("does not call stages after the state becomes empty.")
+    public void t3() {
+      var counter  = new S.Counter();
+      var pipeline = OptionPipeline.<String>nonNull()
+        .filter(s -> false)
+        .map(counter::inc);
+
+      assertTrue(pipeline.apply("a").isEmpty());
+      assertTrue(pipeline.apply(null).isEmpty());
+      assertEquals(0, counter.get());
+    }
+  }
+
+  @Nested
+  @DisplayName("#applyTo(Option)")
+  public class ApplyTo {
+
+    @Test
+    @DisplayName("keeps the kind of the input option.")
+    public void t1() {
+      var pipeline = OptionPipeline.<String>nonNull().map(s -> (String) null);
+
+      assertTrue(pipeline.applyTo(Opt.nullable("a")).isPresent());
+      assertTrue(pipeline.applyTo(Opt.nonNull("a")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("returns options unchanged by the pipeline as is.")
+    public void t2() {
+      var input = Opt.nullable("a");
+      var inner = Opt.nonNull(1);
+
+      assertSame(input, OptionPipeline.<String>nullable().filter(s -> true).applyTo(input));
+      assertSame(inner, OptionPipeline.<String>nullable().flatMap(s -> inner).applyTo(input));
+    }
+
+    @Test
+    @DisplayName("falls back to the option's own methods for unknown option types.")
+    public void t3() {
+      var counter = new S.Counter();
+      var custom  = (Function<Integer, Option<Integer>>) i -> Opt.lazyNullable(() -> Opt.nullable(i));
+      var foreign = new Option<Integer>() {
+        private final Option<Integer> inner = Opt.nonNull(5);
+        public boolean isPresent() { return inner.isPresent(); }
+        public boolean isEmpty() { return inner.isEmpty(); }
+        public Integer unwrap() { return inner.unwrap(); }
+        public Integer or(Integer other) { return inner.or(other); }
+        public Integer orGet(java.util.function.Supplier<? extends Integer> fn) { return inner.orGet(fn); }
+        public <E extends Throwable> Integer orThrow(E err) throws E { return inner.orThrow(err); }
+        public <E extends Throwable> Integer orElseThrow(java.util.function.Supplier<? extends E> fn) throws E { return inner.orElseThrow(fn); }
+        public <R> Option<R> map(Function<? super Integer, ? extends R> fn) { counter.inc(); return inner.map(fn); }
+        public <R> Option<R> map(Function<? super Integer, ? extends R> a, java.util.function.Supplier<? extends R> b) { return inner.map(a, b); }
+        public <R> Option<R> flatMap(Function<? super Integer, ? extends Option<? extends R>> fn) { return inner.flatMap(fn); }
+        public <R> Option<R> flatMap(Function<? super Integer, ? extends Option<? extends R>> a, java.util.function.Supplier<? extends Option<? extends R>> b) { return inner.flatMap(a, b); }
+        public java.util.stream.Stream<Integer> stream() { return inner.stream(); }
+        public Option<Integer> ifPresent(java.util.function.Consumer<? super Integer> fn) { return this; }
+        public Option<Integer> ifEmpty(Runnable fn) { return this; }
+        public Option<Integer> with(java.util.function.Consumer<? super Integer> a, Runnable b) { return this; }
+        public Option<Integer> filter(java.util.function.Predicate<? super Integer> fn) { return inner.filter(fn); }
+        public boolean valueEquals(Object value) { return inner.valueEquals(value); }
+      };
+
+      var out = OptionPipeline.<Integer>nullable().map(i -> i + 1).flatMap(custom).applyTo(foreign);
+
+      assertEquals(1, counter.get());
+      assertEquals(6, out.unwrap());
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package io.foxcapades.lib.opt.cache;
+
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.S;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrentOptionCache")
+public class ConcurrentOptionCacheTest {
+
+  @Nested
+  @DisplayName("#get(Object, Function)")
+  public class Get {
+
+    @Test
+    @DisplayName("caches all three option states.")
+    public void t1() {
+      var cache   = new ConcurrentOptionCache<String, String>(10);
+      var counter = new S.Counter();
+
+      for (var i = 0; i < 3; i++) {
+        assertEquals("v", cache.get("a", k -> counter.inc(Opt.nonNull("v"))).unwrap());
+        assertTrue(cache.get("b", k -> counter.inc(Opt.<String>nullable(null))).isNull());
+        assertTrue(cache.get("c", k -> counter.inc(Opt.<String>nonNull())).isEmpty());
+      }
+
+      assertEquals(3, counter.get());
+      assertEquals(new ConcurrentOptionCache.Stats(6, 3, 0), cache.stats());
+    }
+
+    @Test
+    @DisplayName("expires present and negative entries separately.")
+    public void t2() {
+      var now     = new AtomicLong();
+      var cache   = new ConcurrentOptionCache<String, String>(10, Duration.ofNanos(100), Duration.ofNanos(10), 1, now::get);
+      var counter = new S.Counter();
+
+      cache.get("a", k -> counter.inc(Opt.nonNull("v")));
+      cache.get("b", k -> counter.inc(Opt.<String>nonNull()));
+
+      now.set(50);
+      cache.get("a", k -> counter.inc(Opt.nonNull("v")));
+      cache.get("b", k -> counter.inc(Opt.<String>nonNull()));
+      assertEquals(3, counter.get());
+
+      now.set(100);
+      cache.get("a", k -> counter.inc(Opt.nonNull("v")));
+      assertEquals(4, counter.get());
+    }
+
+    @Test
+    @DisplayName("does not cache loader failures.")
+    public void t3() {
+      var cache = new ConcurrentOptionCache<String, String>(10);
+
+      assertThrows(IllegalStateException.class, () -> cache.get("a", k -> {
+        throw new IllegalStateException();
+      }));
+      assertEquals(0, cache.size());
+      assertEquals("v", cache.get("a", k -> Opt.nonNull("v")).unwrap());
+    }
+
+    @Test
+    @DisplayName("loads each key once for concurrent callers.")
+    public void t4() throws Exception {
+      var cache   = new ConcurrentOptionCache<String, String>(10);
+      var counter = new S.Counter();
+      var started = new CountDownLatch(1);
+      var release = new CountDownLatch(1);
+
+      var loader = new FutureTask<>(() -> cache.get("a", k -> {
+        counter.inc();
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        return Opt.nonNull("v");
+      }));
+      new Thread(loader).start();
+      started.await();
+
+      var waiter = new FutureTask<>(() -> cache.get("a", k -> counter.inc(Opt.nonNull("x"))));
+      new Thread(waiter).start();
+      release.countDown();
+
+      assertEquals("v", loader.get(10, TimeUnit.SECONDS).unwrap());
+      assertEquals("v", waiter.get(10, TimeUnit.SECONDS).unwrap());
+      assertEquals(1, counter.get());
+    }
+  }
+
+  @Nested
+  @DisplayName("eviction")
+  public class Eviction {
+
+    @Test
+    @DisplayName("evicts the least recently used entry.")
+    public void t1() {
+      var cache   = new ConcurrentOptionCache<Integer, Integer>(2, null, null, 1, System::nanoTime);
+      var counter = new S.Counter();
+
+      cache.get(1, k -> counter.inc(Opt.nonNull(k)));
+      cache.get(2, k -> counter.inc(Opt.nonNull(k)));
+      cache.get(1, k -> counter.inc(Opt.nonNull(k)));
+      cache.get(3, k -> counter.inc(Opt.nonNull(k)));
+
+      assertEquals(2, cache.size());
+      assertEquals(1, cache.stats().evictions());
+
+      cache.get(1, k -> counter.inc(Opt.nonNull(k)));
+      assertEquals(3, counter.get());
+      cache.get(2, k -> counter.inc(Opt.nonNull(k)));
+      assertEquals(4, counter.get());
+    }
+
+    @Test
+    @DisplayName("never evicts an entry that is still loading.")
+    public void t2() throws Exception {
+      var cache   = new ConcurrentOptionCache<Integer, Integer>(1, null, null, 1, System::nanoTime);
+      var counter = new S.Counter();
+      var started = new CountDownLatch(1);
+      var release = new CountDownLatch(1);
+
+      var loader = new FutureTask<>(() -> cache.get(1, k -> {
+        counter.inc();
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        return Opt.nonNull(k);
+      }));
+      new Thread(loader).start();
+      started.await();
+
+      cache.get(2, k -> Opt.nonNull(k));
+      assertEquals(1, cache.stats().evictions());
+
+      var waiter = new FutureTask<>(() -> cache.get(1, k -> counter.inc(Opt.nonNull(k))));
+      new Thread(waiter).start();
+      release.countDown();
+
+      assertEquals(1, loader.get(10, TimeUnit.SECONDS).unwrap());
+      assertEquals(1, waiter.get(10, TimeUnit.SECONDS).unwrap());
+      assertEquals(1, counter.get());
+    }
+  }
+
+  @Nested
+  @DisplayName("#put(Object, Option) / #invalidate(Object)")
+  public class PutInvalidate {
+
+    @Test
+    @DisplayName("replaces and removes entries.")
+    public void t1() {
+      var cache = new ConcurrentOptionCache<String, String>(10);
+
+      cache.put("a", Opt.nullable(null));
+      assertTrue(cache.get("a", k -> Opt.nonNull("v")).isNull());
+
+      cache.invalidate("a");
+      assertEquals("v", cache.get("a", k -> Opt.nonNull("v")).unwrap());
+
+      cache.invalidateAll();
+      assertEquals(0, cache.size());
+    }
+  }
+}
@@ -0,0 +1,317 @@
+package io.foxcapades.lib.opt.codec;
+
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.Option;
+import io.foxcapades.lib.opt.collection.NullableOptionArray;
+import io.foxcapades.lib.opt.collection.OptionArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Option Codecs")
+public class OptionCodecTest {
+
+  private static final String Mixed = "aé€😀z";
+
+  private static List<ByteBuffer> buffers() {
+    return List.of(ByteBuffer.allocate(256), ByteBuffer.allocateDirect(256));
+  }
+
+  @Nested
+  @DisplayName("OptionCodec")
+  public class Options {
+
+    @Test
+    @DisplayName("round trips all three option states on heap and direct buffers.")
+    public void t1() {
+      var codec = OptionCodec.of(ValueCodecs.strings());
+
+      for (var buf : buffers()) {
+        codec.encode(Opt.nullable("hello"), buf);
+        codec.encode(Opt.nullable(null), buf);
+        codec.encode(Opt.nonNull(), buf);
+        buf.flip();
+
+        assertEquals(Opt.nullable("hello"), codec.decode(buf));
+        assertTrue(codec.decode(buf).isNull());
+        assertTrue(codec.decode(buf).isEmpty());
+        assertFalse(buf.hasRemaining());
+      }
+    }
+
+    @Test
+    @DisplayName("writes a single tag byte for empty and null options.")
+    public void t2() {
+      var codec = OptionCodec.of(ValueCodecs.ints());
+      var buf   = ByteBuffer.allocate(16);
+
+      codec.encode(Opt.nullable(), buf);
+      codec.encode(Opt.nullable(null), buf);
+      codec.encode(Opt.nullable(7), buf);
+
+      assertEquals(7, buf.position());
+      assertEquals(OptionCodec.Absent, buf.get(0));
+      assertEquals(OptionCodec.Null, buf.get(1));
+      assertEquals(OptionCodec.Present, buf.get(2));
+      assertEquals(1, codec.encodedSize(Opt.nullable(null)));
+      assertEquals(5, codec.encodedSize(Opt.nonNull(7)));
+    }
+
+    @Test
+    @DisplayName("nests options.")
+    public void t3() {
+      var codec = OptionCodec.of(OptionCodec.of(ValueCodecs.longs()));
+      var buf   = ByteBuffer.allocate(32);
+
+      codec.encode(Opt.nullable(Opt.nullable()), buf);
+      codec.encode(Opt.nullable(Opt.nullable(5L)), buf);
+      buf.flip();
+
+      assertTrue(codec.decode(buf).unwrap().isEmpty());
+      assertEquals(5L, codec.decode(buf).unwrap().unwrap());
+    }
+
+    @Test
+    @DisplayName("leaves the buffer position unchanged when a write or read fails.")
+    public void t4() {
+      var codec = OptionCodec.of(ValueCodecs.strings());
+      var buf   = ByteBuffer.allocate(8);
+
+      buf.put((byte) 9);
+      assertThrows(BufferOverflowException.class, () -> codec.encode(Opt.nullable("too long"), buf));
+      assertEquals(1, buf.position());
+
+      buf.flip();
+      assertThrows(IllegalArgumentException.class, () -> codec.decode(buf));
+      assertEquals(0, buf.position());
+
+      var partial = ByteBuffer.allocate(3).put(OptionCodec.Present).put((byte) 0).flip();
+      assertThrows(BufferUnderflowException.class, () -> codec.decode(partial));
+      assertEquals(0, partial.position());
+    }
+
+    @Test
+    @DisplayName("decodeNonNull rejects null options.")
+    public void t5() {
+      var codec = OptionCodec.of(ValueCodecs.ints());
+      var buf   = ByteBuffer.allocate(16);
+
+      codec.encode(Opt.nullable(null), buf);
+      codec.encode(Opt.nullable(3), buf);
+      buf.flip();
+
+      assertThrows(IllegalArgumentException.class, () -> codec.decodeNonNull(buf));
+      assertEquals(0, buf.position());
+
+      buf.get();
+      assertEquals(Opt.nonNull(3), codec.decodeNonNull(buf));
+    }
+  }
+
+  @Nested
+  @DisplayName("bulk encoding")
+  public class Bulk {
+
+    @Test
+    @DisplayName("encodeAll and decodeAll round trip option arrays.")
+    @SuppressWarnings("unchecked")
+    public void t1() {
+      var codec = OptionCodec.of(ValueCodecs.doubles());
+      var buf   = ByteBuffer.allocateDirect(64);
+
+      codec.encodeAll(new Option[]{ Opt.nonNull(1.5), Opt.nullable(), Opt.nullable(null) }, buf);
+      buf.flip();
+
+      var out = codec.decodeAll(buf);
+
+      assertEquals(3, out.length);
+      assertEquals(1.5, out[0].unwrap());
+      assertTrue(out[1].isEmpty());
+      assertTrue(out[2].isNull());
+    }
+
+    @Test
+    @DisplayName("option arrays share the bulk format with plain arrays.")
+    public void t2() {
+      var codec = OptionCodec.of(ValueCodecs.strings());
+      var arr   = new NullableOptionArray<String>();
+      var buf   = ByteBuffer.allocate(64);
+
+      arr.add("x");
+      arr.addEmpty();
+      arr.add(null);
+
+      codec.encodeArray(arr, buf);
+      buf.flip();
+
+      NullableOption<String>[] out = codec.decodeAll(buf.duplicate());
+      var back = codec.decodeArray(buf);
+
+      assertEquals("x", out[0].unwrap());
+      assertTrue(out[1].isEmpty());
+      assertTrue(out[2].isNull());
+      assertEquals("x", back.unwrap(0));
+      assertTrue(back.isEmpty(1));
+      assertTrue(back.isNull(2));
+    }
+
+    @Test
+    @DisplayName("encodes non-null option arrays.")
+    public void t3() {
+      var codec = OptionCodec.of(ValueCodecs.ints());
+      var arr   = new OptionArray<Integer>();
+      var buf   = ByteBuffer.allocate(32);
+
+      arr.add(4);
+      arr.addEmpty();
+
+      codec.encodeArray(arr, buf);
+
+      assertEquals(4 + 5 + 1, buf.position());
+    }
+
+    @Test
+    @DisplayName("rejects counts larger than the remaining bytes before allocating.")
+    public void t4() {
+      var codec = OptionCodec.of(ValueCodecs.ints());
+      var buf   = ByteBuffer.allocate(4).putInt(0, 0x7FFFFFF7);
+
+      assertThrows(BufferUnderflowException.class, () -> codec.decodeAll(buf));
+      assertEquals(0, buf.position());
+      assertThrows(BufferUnderflowException.class, () -> codec.decodeArray(buf));
+      assertEquals(0, buf.position());
+    }
+  }
+
+  @Nested
+  @DisplayName("ValueCodecs")
+  public class Values {
+
+    @Test
+    @DisplayName("strings are written as UTF-8.")
+    public void t1() {
+      for (var buf : buffers()) {
+        var codec = ValueCodecs.strings();
+        var bytes = Mixed.getBytes(StandardCharsets.UTF_8);
+
+        codec.encode(Mixed, buf);
+
+        assertEquals(4 + bytes.length, buf.position());
+        assertEquals(buf.position(), codec.encodedSize(Mixed));
+
+        buf.flip();
+        assertEquals(bytes.length, buf.getInt(0));
+
+        for (var i = 0; i < bytes.length; i++)
+          assertEquals(bytes[i], buf.get(4 + i));
+
+        assertEquals(Mixed, codec.decode(buf));
+      }
+    }
+
+    @Test
+    @DisplayName("strings handle unpaired surrogates and malformed input like the JDK.")
+    public void t2() {
+      var codec = ValueCodecs.strings();
+      var lone  = "a\ud800b";
+
+      var buf = ByteBuffer.allocateDirect(64);
+      codec.encode(lone, buf);
+      buf.flip();
+      assertEquals(new String(lone.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8), codec.decode(buf));
+
+      var bad = new byte[]{ 'a', (byte) 0xC3, 'b', (byte) 0xE2, (byte) 0x82, (byte) 0xF0, (byte) 0x9F, (byte) 0x98, (byte) 0x80 };
+      var direct = ByteBuffer.allocateDirect(64).putInt(bad.length).put(bad).flip();
+      var heap   = ByteBuffer.allocate(64).putInt(bad.length).put(bad).flip();
+
+      assertEquals(codec.decode(heap), codec.decode(direct));
+    }
+
+    @Test
+    @DisplayName("primitives round trip at their natural widths.")
+    public void t3() {
+      var buf = ByteBuffer.allocateDirect(64);
+
+      ValueCodecs.booleans().encode(true, buf);
+      ValueCodecs.bytes().encode((byte) -3, buf);
+      ValueCodecs.shorts().encode((short) 300, buf);
+      ValueCodecs.ints().encode(-70000, buf);
+      ValueCodecs.longs().encode(1L << 40, buf);
+      ValueCodecs.floats().encode(2.5f, buf);
+      ValueCodecs.doubles().encode(-0.25, buf);
+
+      assertEquals(1 + 1 + 2 + 4 + 8 + 4 + 8, buf.position());
+      buf.flip();
+
+      assertTrue(ValueCodecs.booleans().decode(buf));
+      assertEquals((byte) -3, ValueCodecs.bytes().decode(buf));
+      assertEquals((short) 300, ValueCodecs.shorts().decode(buf));
+      assertEquals(-70000, ValueCodecs.ints().decode(buf));
+      assertEquals(1L << 40, ValueCodecs.longs().decode(buf));
+      assertEquals(2.5f, ValueCodecs.floats().decode(buf));
+      assertEquals(-0.25, ValueCodecs.doubles().decode(buf));
+    }
+  }
+
+  @Nested
+  @DisplayName("primitive options")
+  public class Primitives {
+
+    @Test
+    @DisplayName("use the same format as the boxed codecs.")
+    public void t1() {
+      var boxed = ByteBuffer.allocate(32);
+      var prim  = ByteBuffer.allocate(32);
+      var codec = OptionCodec.of(ValueCodecs.ints());
+
+      codec.encode(Opt.nullable(5), boxed);
+      codec.encode(Opt.nullable(null), boxed);
+      codec.encode(Opt.nullable(), boxed);
+
+      OptionCodec.encodeInt(Opt.nullableInt(5), prim);
+      OptionCodec.encodeInt(Opt.nullInt(), prim);
+      OptionCodec.encodeInt(Opt.nonNullInt(), prim);
+
+      assertEquals(boxed.flip(), prim.flip());
+
+      assertEquals(5, OptionCodec.decodeInt(prim).unwrap());
+      assertTrue(OptionCodec.decodeInt(prim).isNull());
+      assertTrue(OptionCodec.decodeInt(prim).isEmpty());
+    }
+
+    @Test
+    @DisplayName("round trip long and double options.")
+    public void t2() {
+      var buf = ByteBuffer.allocateDirect(32);
+
+      OptionCodec.encodeLong(Opt.nonNullLong(9L), buf);
+      OptionCodec.encodeDouble(Opt.nullDouble(), buf);
+      buf.flip();
+
+      assertEquals(9L, OptionCodec.decodeLong(buf).unwrap());
+      assertTrue(OptionCodec.decodeDouble(buf).isNull());
+    }
+
+    @Test
+    @DisplayName("consume nothing when the value is cut off.")
+    public void t3() {
+      var buf = ByteBuffer.allocate(3).put(OptionCodec.Present).flip();
+
+      assertThrows(BufferUnderflowException.class, () -> OptionCodec.decodeLong(buf));
+      assertEquals(0, buf.position());
+
+      var out = ByteBuffer.allocate(4);
+      assertThrows(BufferOverflowException.class, () -> OptionCodec.encodeInt(Opt.nonNullInt(1), out));
+      assertEquals(0, out.position());
+    }
+  }
+}
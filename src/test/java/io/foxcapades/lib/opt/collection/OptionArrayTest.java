@@ -0,0 +1,356 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.S;
+import io.foxcapades.lib.opt.UnwrapException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Option Arrays")
+public class OptionArrayTest {
+
+  private static OptionArray<Integer> range(int size) {
+    var out = new OptionArray<Integer>(0);
+
+    for (var i = 0; i < size; i++)
+      out.add(i % 3 == 0 ? null : i);
+
+    return out;
+  }
+
+  @Nested
+  @DisplayName("OptionArray")
+  public class NonNull {
+
+    @Test
+    @DisplayName("grows as values are appended.")
+    public void t1() {
+      var arr = range(200);
+
+      assertEquals(200, arr.size());
+      assertTrue(arr.isEmpty(0));
+      assertTrue(arr.isPresent(1));
+      assertEquals(199, arr.unwrap(199));
+      assertEquals(133, arr.countPresent());
+      assertEquals(67, arr.countEmpty());
+    }
+
+    @Test
+    @DisplayName("hands out option views in the same state as the element.")
+    public void t2() {
+      var arr = range(3);
+
+      assertTrue(arr.get(0).isEmpty());
+      assertEquals(2, arr.get(2).unwrap());
+      assertThrows(UnwrapException.class, () -> arr.unwrap(0));
+      assertEquals(7, arr.or(0, 7));
+      assertThrows(IndexOutOfBoundsException.class, () -> arr.get(3));
+    }
+
+    @Test
+    @DisplayName("set and clear update element state.")
+    public void t3() {
+      var arr = range(3);
+
+      arr.set(0, 10);
+      arr.set(1, null);
+      arr.clear(2);
+
+      assertEquals(10, arr.unwrap(0));
+      assertTrue(arr.isEmpty(1));
+      assertTrue(arr.isEmpty(2));
+    }
+
+    @Test
+    @DisplayName("map only calls the function for present elements.")
+    public void t4() {
+      var counter = new S.Counter();
+      var out     = range(130).map(i -> counter.inc(i % 2 == 0 ? null : "" + i));
+
+      assertEquals(130, out.size());
+      assertEquals(86, counter.get());
+      assertTrue(out.isEmpty(0));
+      assertEquals("1", out.unwrap(1));
+      assertTrue(out.isEmpty(2));
+      assertEquals(43, out.countPresent());
+    }
+
+    @Test
+    @DisplayName("filter and count only test present elements.")
+    public void t5() {
+      var arr = range(130);
+      var out = arr.filter(i -> i > 100);
+
+      assertEquals(arr.count(i -> i > 100), out.countPresent());
+      assertTrue(out.isEmpty(1));
+      assertEquals(101, out.unwrap(101));
+    }
+
+    @Test
+    @DisplayName("forEachPresent visits present elements in index order.")
+    public void t6() {
+      var seen = new ArrayList<Integer>();
+
+      range(7).forEachPresent((v, i) -> {
+        assertEquals(i, v);
+        seen.add(i);
+      });
+
+      assertEquals(java.util.List.of(1, 2, 4, 5), seen);
+    }
+
+    @Test
+    @DisplayName("trimToSize keeps the array contents.")
+    public void t7() {
+      var arr = range(70);
+
+      arr.ensureCapacity(1000);
+      arr.trimToSize();
+
+      assertEquals(70, arr.size());
+      assertEquals(46, arr.countPresent());
+      assertEquals(68, arr.unwrap(68));
+
+      arr.add(70);
+      assertEquals(70, arr.unwrap(70));
+    }
+
+    @Test
+    @DisplayName("sorts by state and then by value.")
+    public void t8() {
+      var arr = range(70);
+
+      arr.sortEmptyLast(Comparator.reverseOrder());
+
+      assertEquals(68, arr.unwrap(0));
+      assertEquals(1, arr.unwrap(45));
+      assertTrue(arr.isEmpty(46));
+      assertTrue(arr.isPresent(45));
+
+      arr.sortEmptyFirst(Comparator.naturalOrder());
+
+      assertTrue(arr.isEmpty(23));
+      assertEquals(1, arr.unwrap(24));
+      assertEquals(68, arr.unwrap(69));
+      assertEquals(46, arr.countPresent());
+    }
+
+    @Test
+    @DisplayName("rejects capacities past the maximum array size.")
+    public void t9() {
+      var arr = range(3);
+
+      assertThrows(OutOfMemoryError.class, () -> arr.ensureCapacity(Integer.MAX_VALUE));
+      assertEquals(3, arr.size());
+    }
+  }
+
+  @Nested
+  @DisplayName("NullableOptionArray")
+  public class Nullable {
+
+    private NullableOptionArray<String> sample() {
+      var out = new NullableOptionArray<String>();
+
+      out.add("a");
+      out.add(null);
+      out.addEmpty();
+      out.add("b");
+
+      return out;
+    }
+
+    @Test
+    @DisplayName("tracks the empty, null and present states.")
+    public void t1() {
+      var arr = sample();
+
+      assertEquals(4, arr.size());
+      assertEquals(3, arr.countPresent());
+      assertEquals(1, arr.countNull());
+      assertTrue(arr.isNull(1));
+      assertTrue(arr.get(1).isNull());
+      assertTrue(arr.get(2).isEmpty());
+      assertEquals("b", arr.get(3).unwrap());
+    }
+
+    @Test
+    @DisplayName("set and clear update the null bitmap.")
+    public void t2() {
+      var arr = sample();
+
+      arr.set(0, null);
+      arr.set(1, "c");
+      arr.clear(3);
+
+      assertTrue(arr.isNull(0));
+      assertFalse(arr.isNull(1));
+      assertTrue(arr.isEmpty(3));
+      assertEquals(1, arr.countNull());
+    }
+
+    @Test
+    @DisplayName("map calls the function for null elements and keeps empties.")
+    public void t3() {
+      var counter = new S.Counter();
+      var out     = sample().map(s -> counter.inc(s == null ? "null" : null));
+
+      assertEquals(3, counter.get());
+      assertTrue(out.isNull(0));
+      assertEquals("null", out.unwrap(1));
+      assertTrue(out.isEmpty(2));
+      assertTrue(out.isNull(3));
+    }
+
+    @Test
+    @DisplayName("filter empties elements that fail the predicate.")
+    public void t4() {
+      var out = sample().filter(s -> s == null);
+
+      assertEquals(1, out.countPresent());
+      assertEquals(1, out.countNull());
+      assertTrue(out.isNull(1));
+    }
+
+    @Test
+    @DisplayName("growth preserves the null bitmap.")
+    public void t5() {
+      var arr = new NullableOptionArray<String>(1);
+
+      for (var i = 0; i < 300; i++)
+        arr.add(i % 5 == 0 ? null : "x");
+
+      arr.trimToSize();
+
+      assertEquals(60, arr.countNull());
+      assertEquals(300, arr.countPresent());
+      assertTrue(arr.isNull(295));
+    }
+
+    @Test
+    @DisplayName("sorts null elements directly before values.")
+    public void t6() {
+      var arr     = sample();
+      var counter = new S.Counter();
+
+      arr.add(null);
+      arr.sortEmptyLast((a, b) -> counter.inc(a.compareTo(b)));
+
+      assertTrue(arr.isNull(0));
+      assertTrue(arr.isNull(1));
+      assertEquals("a", arr.unwrap(2));
+      assertEquals("b", arr.unwrap(3));
+      assertTrue(arr.isEmpty(4));
+      assertEquals(1, counter.get());
+
+      arr.sortEmptyFirst(Comparator.reverseOrder());
+
+      assertTrue(arr.isEmpty(0));
+      assertTrue(arr.isNull(1));
+      assertTrue(arr.isNull(2));
+      assertEquals("b", arr.unwrap(3));
+      assertEquals("a", arr.unwrap(4));
+      assertEquals(2, arr.countNull());
+    }
+  }
+
+  @Nested
+  @DisplayName("parallel operations")
+  public class Parallel {
+
+    private static final int Size = 100_003;
+
+    private <R> R inPool(java.util.concurrent.Callable<R> fn) throws Exception {
+      var pool = new ForkJoinPool(4);
+
+      try {
+        return pool.submit(fn).get();
+      } finally {
+        pool.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("parallelMap and parallelFilter match their sequential forms.")
+    public void t1() throws Exception {
+      var arr = range(Size);
+
+      var seqMap = arr.map(i -> i % 2 == 0 ? null : -i);
+      var parMap = inPool(() -> arr.parallelMap(i -> i % 2 == 0 ? null : -i));
+      var seqFil = arr.filter(i -> i % 5 == 0);
+      var parFil = inPool(() -> arr.parallelFilter(i -> i % 5 == 0));
+
+      for (var i = 0; i < Size; i++) {
+        assertEquals(seqMap.or(i, null), parMap.or(i, null));
+        assertEquals(seqFil.or(i, null), parFil.or(i, null));
+      }
+    }
+
+    @Test
+    @DisplayName("parallel counts match their sequential forms.")
+    public void t2() throws Exception {
+      var arr = range(Size);
+
+      assertEquals(arr.countPresent(), (int) inPool(arr::parallelCountPresent));
+      assertEquals(arr.count(i -> i > 5000), (int) inPool(() -> arr.parallelCount(i -> i > 5000)));
+    }
+
+    @Test
+    @DisplayName("parallelReduce combines partial results in index order.")
+    public void t3() throws Exception {
+      var arr = range(Size);
+      var seq = new StringBuilder();
+
+      arr.forEachPresent((v, i) -> seq.append(v).append(','));
+
+      var par = inPool(() -> arr.parallelReduce("", (s, v) -> s + v + ',', String::concat));
+
+      assertEquals(seq.toString(), par);
+    }
+
+    @Test
+    @DisplayName("nullable arrays preserve null elements.")
+    public void t4() throws Exception {
+      var arr = new NullableOptionArray<Integer>();
+
+      for (var i = 0; i < Size; i++) {
+        if (i % 3 == 0)
+          arr.addEmpty();
+        else
+          arr.add(i % 3 == 1 ? null : i);
+      }
+
+      var mapped   = inPool(() -> arr.parallelMap(v -> v == null ? 0 : null));
+      var filtered = inPool(() -> arr.parallelFilter(v -> v == null));
+
+      assertEquals(arr.countPresent() - arr.countNull(), mapped.countNull());
+      assertEquals(arr.countNull(), filtered.countNull());
+      assertEquals(arr.countNull(), filtered.countPresent());
+    }
+
+    @Test
+    @DisplayName("spliterator reports exact sizes across splits.")
+    public void t5() {
+      var arr   = range(Size);
+      var split = arr.spliterator();
+
+      assertEquals(arr.countPresent(), split.getExactSizeIfKnown());
+
+      var prefix = split.trySplit();
+
+      assertNotNull(prefix);
+      assertEquals(arr.countPresent(), prefix.getExactSizeIfKnown() + split.getExactSizeIfKnown());
+      assertEquals(
+        (long) arr.parallelReduce(0L, (s, v) -> s + v, Long::sum),
+        StreamSupport.stream(arr.spliterator(), true).mapToLong(Integer::longValue).sum()
+      );
+    }
+  }
+}
@@ -0,0 +1,294 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.UnwrapException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Option Columns")
+public class OptionColumnTest {
+
+  @Nested
+  @DisplayName("IntOptionColumn")
+  public class Int {
+
+    @Test
+    @DisplayName("tracks the empty, null and present states.")
+    public void t1() {
+      try (var col = new IntOptionColumn()) {
+        col.add(3);
+        col.addNull();
+        col.addEmpty();
+
+        assertEquals(3, col.size());
+        assertEquals(3, col.get(0).unwrap());
+        assertTrue(col.get(1).isNull());
+        assertTrue(col.get(2).isEmpty());
+        assertEquals(3, col.unwrap(0));
+        assertThrows(NullPointerException.class, () -> col.unwrap(1));
+        assertThrows(UnwrapException.class, () -> col.unwrap(2));
+        assertEquals(4, col.or(2, 4));
+      }
+    }
+
+    @Test
+    @DisplayName("set, setNull and clear update element state.")
+    public void t2() {
+      try (var col = new IntOptionColumn()) {
+        col.addEmpty();
+        col.addEmpty();
+        col.add(1);
+
+        col.set(0, 5);
+        col.setNull(1);
+        col.clear(2);
+
+        assertEquals(5, col.unwrap(0));
+        assertTrue(col.isNull(1));
+        assertTrue(col.isEmpty(2));
+        assertEquals(2, col.countPresent());
+        assertEquals(1, col.countNull());
+      }
+    }
+
+    @Test
+    @DisplayName("spans multiple chunks.")
+    public void t3() {
+      try (var col = new IntOptionColumn()) {
+        var n = AbstractOptionColumn.ChunkSize * 2 + 98;
+
+        for (var i = 0; i < n; i++) {
+          if (i % 10 == 0)
+            col.addNull();
+          else if (i % 10 == 1)
+            col.addEmpty();
+          else
+            col.add(i);
+        }
+
+        assertEquals(n, col.size());
+        assertEquals(n - n / 10, col.countPresent());
+        assertEquals(n / 10, col.countNull());
+        assertEquals(n - 1, col.unwrap(n - 1));
+        assertEquals(n - 2 * (n / 10), col.count(i -> true));
+        assertEquals(1, col.count(i -> i == AbstractOptionColumn.ChunkSize + 2));
+        assertEquals(col.countPresent(), col.parallelCountPresent());
+        assertEquals(col.count(i -> i % 7 == 0), col.parallelCount(i -> i % 7 == 0));
+      }
+    }
+
+    @Test
+    @DisplayName("rejects access once closed.")
+    public void t4() {
+      var col = new IntOptionColumn();
+      col.add(1);
+      col.close();
+      col.close();
+
+      assertTrue(col.isClosed());
+      assertThrows(IllegalStateException.class, () -> col.get(0));
+      assertThrows(IllegalStateException.class, () -> col.add(1));
+    }
+
+    @Test
+    @DisplayName("sorts by state and then radix sorts values across chunks.")
+    public void t5() {
+      try (var col = new IntOptionColumn()) {
+        var rand     = new Random(7);
+        var n        = AbstractOptionColumn.ChunkSize + 1000;
+        var expected = new ArrayList<Integer>();
+
+        for (var i = 0; i < n; i++) {
+          if (i % 10 == 0) {
+            col.addNull();
+          } else if (i % 10 == 1) {
+            col.addEmpty();
+          } else {
+            var v = rand.nextInt();
+            col.add(v);
+            expected.add(v);
+          }
+        }
+
+        expected.sort(null);
+        var nulls = n / 10 + 1;
+
+        col.sortEmptyLast();
+
+        for (var i = 0; i < nulls; i++)
+          assertTrue(col.isNull(i));
+
+        for (var i = 0; i < expected.size(); i++)
+          assertEquals(expected.get(i), col.unwrap(nulls + i));
+
+        for (var i = nulls + expected.size(); i < n; i++)
+          assertTrue(col.isEmpty(i));
+
+        col.sortEmptyFirst();
+
+        var empties = n - nulls - expected.size();
+
+        assertTrue(col.isEmpty(empties - 1));
+        assertTrue(col.isNull(empties));
+        assertTrue(col.isNull(empties + nulls - 1));
+        assertEquals(expected.get(0), col.unwrap(empties + nulls));
+        assertEquals(expected.get(expected.size() - 1), col.unwrap(n - 1));
+        assertEquals(nulls, col.countNull());
+        assertEquals(n - empties, col.countPresent());
+      }
+    }
+
+    @Test
+    @DisplayName("maps, filters and reduces values in parallel across chunks.")
+    public void t6() {
+      try (var col = new IntOptionColumn()) {
+        var n = AbstractOptionColumn.ChunkSize * 2 + 98;
+
+        for (var i = 0; i < n; i++) {
+          if (i % 10 == 0)
+            col.addNull();
+          else if (i % 10 == 1)
+            col.addEmpty();
+          else
+            col.add(i);
+        }
+
+        try (
+          var mapped   = col.map(i -> -i);
+          var pMapped  = col.parallelMap(i -> -i);
+          var filtered = col.filter(i -> i % 3 == 0);
+          var pFilter  = col.parallelFilter(i -> i % 3 == 0)
+        ) {
+          for (var column : new IntOptionColumn[]{ mapped, pMapped, filtered, pFilter })
+            assertEquals(n, column.size());
+
+          for (var i = 0; i < n; i++) {
+            assertEquals(col.isNull(i), pMapped.isNull(i));
+            assertEquals(col.isPresent(i), pMapped.isPresent(i));
+            assertEquals(mapped.get(i), pMapped.get(i));
+            assertEquals(col.get(i).filter(v -> v % 3 == 0), pFilter.get(i));
+            assertEquals(filtered.get(i), pFilter.get(i));
+          }
+
+          assertEquals(-(n - 1), pMapped.unwrap(n - 1));
+          assertEquals(col.count(i -> i % 3 == 0), pFilter.count(i -> true));
+          assertEquals(col.countNull(), pFilter.countNull());
+        }
+
+        var sum = 0L;
+        for (var i = 0; i < n; i++)
+          sum += col.or(i, 0);
+
+        assertEquals((int) sum, col.parallelReduce(0, Integer::sum));
+        assertEquals(n - 1, col.parallelReduce(Integer.MIN_VALUE, Math::max));
+      }
+    }
+
+    @Test
+    @DisplayName("passes on function failures and rejects bulk operations once closed.")
+    public void t7() {
+      try (var col = new IntOptionColumn()) {
+        col.add(1);
+
+        assertThrows(IllegalStateException.class, () -> col.parallelMap(i -> {
+          throw new IllegalStateException();
+        }));
+
+        col.close();
+
+        assertThrows(IllegalStateException.class, () -> col.map(i -> i));
+        assertThrows(IllegalStateException.class, () -> col.parallelReduce(0, Integer::sum));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("LongOptionColumn and DoubleOptionColumn")
+  public class LongDouble {
+
+    @Test
+    @DisplayName("round trip their values.")
+    public void t1() {
+      try (var longs = new LongOptionColumn(); var doubles = new DoubleOptionColumn()) {
+        longs.add(Long.MAX_VALUE);
+        longs.addNull();
+        doubles.add(Double.NaN);
+        doubles.add(1.5);
+
+        assertEquals(Long.MAX_VALUE, longs.get(0).unwrap());
+        assertTrue(longs.get(1).isNull());
+        assertTrue(doubles.get(0).valueEquals(Double.NaN));
+        assertEquals(1, doubles.count(d -> d > 1));
+      }
+    }
+
+    @Test
+    @DisplayName("sort their values in natural order.")
+    public void t2() {
+      try (var longs = new LongOptionColumn(); var doubles = new DoubleOptionColumn()) {
+        longs.add(Long.MAX_VALUE);
+        longs.addEmpty();
+        longs.add(Long.MIN_VALUE);
+        longs.addNull();
+        longs.add(0);
+
+        doubles.add(Double.NaN);
+        doubles.add(0.0);
+        doubles.addEmpty();
+        doubles.add(-0.0);
+        doubles.add(Double.NEGATIVE_INFINITY);
+
+        longs.sortEmptyLast();
+        doubles.sortEmptyFirst();
+
+        assertTrue(longs.isNull(0));
+        assertEquals(Long.MIN_VALUE, longs.unwrap(1));
+        assertEquals(0, longs.unwrap(2));
+        assertEquals(Long.MAX_VALUE, longs.unwrap(3));
+        assertTrue(longs.isEmpty(4));
+
+        assertTrue(doubles.isEmpty(0));
+        assertEquals(Double.NEGATIVE_INFINITY, doubles.unwrap(1));
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(doubles.unwrap(2)));
+        assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(doubles.unwrap(3)));
+        assertTrue(Double.isNaN(doubles.unwrap(4)));
+      }
+    }
+
+    @Test
+    @DisplayName("map, filter and reduce their values.")
+    public void t3() {
+      try (var longs = new LongOptionColumn(); var doubles = new DoubleOptionColumn()) {
+        for (var i = 0; i < 2000; i++) {
+          longs.add(i);
+          doubles.add(i);
+        }
+
+        longs.addNull();
+        doubles.addEmpty();
+
+        try (
+          var lMapped   = longs.parallelMap(l -> l * 2);
+          var lFiltered = longs.filter(l -> l < 10);
+          var dMapped   = doubles.map(d -> d / 2);
+          var dFiltered = doubles.parallelFilter(d -> d >= 1990)
+        ) {
+          assertEquals(3998, lMapped.unwrap(1999));
+          assertTrue(lMapped.isNull(2000));
+          assertEquals(11, lFiltered.countPresent());
+          assertEquals(0.5, dMapped.unwrap(1));
+          assertTrue(dMapped.isEmpty(2000));
+          assertEquals(10, dFiltered.countPresent());
+        }
+
+        assertEquals(1999L * 2000 / 2, longs.parallelReduce(0, Long::sum));
+        assertEquals(1999L * 2000 / 2, doubles.parallelReduce(0, Double::sum));
+      }
+    }
+  }
+}
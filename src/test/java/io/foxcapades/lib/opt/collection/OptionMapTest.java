@@ -0,0 +1,150 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.impl.EmptyNullable;
+import io.foxcapades.lib.opt.impl.NullOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Option Maps")
+public class OptionMapTest {
+
+  @Nested
+  @DisplayName("OptionMap")
+  public class Objects {
+
+    @Test
+    @DisplayName("#lookup(Object) distinguishes absent keys from null values.")
+    public void t1() {
+      var map = new OptionMap<String, String>();
+
+      map.put("a", "x");
+      map.put("b", null);
+
+      assertSame(EmptyNullable.instance(), map.lookup("c"));
+      assertSame(NullOption.instance(), map.lookup("b"));
+      assertEquals("x", map.lookup("a").unwrap());
+      assertTrue(map.containsKey("b"));
+      assertFalse(map.containsKey("c"));
+      assertEquals(2, map.size());
+    }
+
+    @Test
+    @DisplayName("#lookup(Object) reuses the option for a present value.")
+    public void t2() {
+      var map = new OptionMap<String, String>();
+
+      map.put("a", "x");
+      var first = map.lookup("a");
+
+      assertSame(first, map.lookup("a"));
+
+      map.put("a", "y");
+      assertEquals("y", map.lookup("a").unwrap());
+      assertEquals("x", first.unwrap());
+    }
+
+    @Test
+    @DisplayName("#put(Object, Object) and #remove(Object) return the previous state.")
+    public void t3() {
+      var map = new OptionMap<String, String>();
+
+      assertTrue(map.put("a", null).isEmpty());
+      assertTrue(map.put("a", "x").isNull());
+      assertEquals("x", map.remove("a").unwrap());
+      assertTrue(map.remove("a").isEmpty());
+      assertTrue(map.isEmpty());
+    }
+
+    @Test
+    @DisplayName("survives growth and removal of colliding keys.")
+    public void t4() {
+      var map = new OptionMap<Integer, Integer>();
+
+      for (var i = 0; i < 1000; i++)
+        map.put(i, i % 7 == 0 ? null : i);
+
+      for (var i = 0; i < 1000; i += 2)
+        map.remove(i);
+
+      assertEquals(500, map.size());
+
+      for (var i = 0; i < 1000; i++) {
+        var opt = map.lookup(i);
+
+        if (i % 2 == 0)
+          assertTrue(opt.isEmpty());
+        else if (i % 7 == 0)
+          assertTrue(opt.isNull());
+        else
+          assertEquals(i, opt.unwrap());
+      }
+    }
+
+    @Test
+    @DisplayName("#putAll(Map) copies null values.")
+    public void t5() {
+      var src = new HashMap<String, Integer>();
+      src.put("a", 1);
+      src.put("b", null);
+
+      var map = new OptionMap<String, Integer>();
+      map.putAll(src);
+
+      var seen = new HashMap<String, Integer>();
+      map.forEach(seen::put);
+
+      assertEquals(src, seen);
+      assertTrue(map.lookup("b").isNull());
+
+      map.clear();
+      assertTrue(map.lookup("a").isEmpty());
+    }
+
+    @Test
+    @DisplayName("rejects null keys.")
+    public void t6() {
+      assertThrows(NullPointerException.class, () -> new OptionMap<String, String>().lookup(null));
+    }
+  }
+
+  @Nested
+  @DisplayName("LongOptionMap")
+  public class Longs {
+
+    @Test
+    @DisplayName("stores three-state values under primitive keys.")
+    public void t1() {
+      var map = new LongOptionMap<String>(4);
+
+      for (var i = 0L; i < 100; i++)
+        map.put(i << 32, i % 3 == 0 ? null : "v" + i);
+
+      assertEquals(100, map.size());
+      assertTrue(map.lookup(0).isNull());
+      assertEquals("v1", map.lookup(1L << 32).unwrap());
+      assertTrue(map.lookup(1).isEmpty());
+      assertEquals("v1", map.remove(1L << 32).unwrap());
+      assertEquals("v2", map.lookup(2L << 32).unwrap());
+      assertEquals(99, map.size());
+    }
+
+    @Test
+    @DisplayName("#putAll(Map) copies every entry.")
+    public void t2() {
+      var map = new LongOptionMap<String>();
+      map.putAll(Map.of(1L, "a", 2L, "b"));
+
+      var sum = new long[1];
+      map.forEach((k, v) -> sum[0] += k);
+
+      assertEquals(3L, sum[0]);
+      assertEquals("b", map.lookup(2).unwrap());
+    }
+  }
+}
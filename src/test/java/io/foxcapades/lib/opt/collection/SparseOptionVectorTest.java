@@ -0,0 +1,78 @@
+package io.foxcapades.lib.opt.collection;
+
+import io.foxcapades.lib.opt.UnwrapException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SparseOptionVector")
+public class SparseOptionVectorTest {
+
+  @Test
+  @DisplayName("starts with every element empty.")
+  public void t1() {
+    var vec = new SparseOptionVector<String>(1_000_000);
+
+    assertEquals(1_000_000, vec.size());
+    assertEquals(0, vec.countPresent());
+    assertTrue(vec.get(999_999).isEmpty());
+    assertThrows(UnwrapException.class, () -> vec.unwrap(5));
+    assertThrows(IndexOutOfBoundsException.class, () -> vec.get(1_000_000));
+  }
+
+  @Test
+  @DisplayName("tracks null and present elements set in any order.")
+  public void t2() {
+    var vec = new SparseOptionVector<String>(100);
+
+    for (var i = 99; i >= 0; i -= 10)
+      vec.set(i, "v" + i);
+
+    vec.set(50, null);
+    vec.set(9, "x");
+
+    assertEquals(11, vec.countPresent());
+    assertEquals(1, vec.countNull());
+    assertTrue(vec.isNull(50));
+    assertTrue(vec.get(50).isNull());
+    assertEquals("x", vec.unwrap(9));
+    assertEquals("v99", vec.get(99).unwrap());
+    assertTrue(vec.isEmpty(98));
+  }
+
+  @Test
+  @DisplayName("clear removes stored elements.")
+  public void t3() {
+    var vec = new SparseOptionVector<Integer>(10);
+
+    vec.set(1, 1);
+    vec.set(2, 2);
+    vec.set(3, 3);
+    vec.clear(2);
+    vec.clear(4);
+
+    assertEquals(2, vec.countPresent());
+    assertTrue(vec.isEmpty(2));
+    assertEquals(3, vec.unwrap(3));
+  }
+
+  @Test
+  @DisplayName("forEachPresent visits only stored elements in index order.")
+  public void t4() {
+    var vec  = new SparseOptionVector<Integer>(1 << 20);
+    var seen = new ArrayList<Integer>();
+
+    vec.set(1 << 19, 2);
+    vec.set(7, 1);
+    vec.set(1 << 10, null);
+    vec.trimToSize();
+
+    vec.forEachPresent((v, i) -> seen.add(i));
+
+    assertEquals(List.of(7, 1 << 10, 1 << 19), seen);
+  }
+}
@@ -0,0 +1,228 @@
+package io.foxcapades.lib.opt.flow;
+
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.Option;
+import io.foxcapades.lib.opt.OptionPipeline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OptionProcessor")
+public class OptionProcessorTest {
+
+  /**
+   * Upstream subscription that records the demand requested from it.
+   */
+  private static final class Upstream implements Flow.Subscription {
+    private final List<Long> requests = new ArrayList<>();
+
+    private boolean cancelled;
+
+    @Override
+    public void request(long n) {
+      requests.add(n);
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+  }
+
+  /**
+   * Subscriber that records every signal and requests on demand.
+   */
+  private static final class Recorder<T> implements Flow.Subscriber<T> {
+    private final List<T> items = new ArrayList<>();
+
+    private Flow.Subscription subscription;
+
+    private Throwable error;
+
+    private boolean complete;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      complete = true;
+    }
+  }
+
+  private static <T, R> OptionProcessor<T, R> connect(
+    OptionProcessor<T, R> processor,
+    Upstream up,
+    Recorder<Option<R>> down
+  ) {
+    processor.onSubscribe(up);
+    processor.subscribe(down);
+    return processor;
+  }
+
+  @Nested
+  @DisplayName("backpressure")
+  public class Backpressure {
+
+    @Test
+    @DisplayName("requests upstream items in batches.")
+    public void t1() {
+      var up   = new Upstream();
+      var down = new Recorder<Option<Integer>>();
+      var proc = connect(new OptionProcessor<>(OptionPipeline.<Integer>nonNull(), EmptySignals.Forward, 8), up, down);
+
+      assertEquals(List.of(8L), up.requests);
+
+      down.subscription.request(100);
+      for (var i = 0; i < 6; i++)
+        proc.onNext(Opt.nonNull(i));
+
+      assertEquals(List.of(8L, 6L), up.requests);
+      assertEquals(6, down.items.size());
+    }
+
+    @Test
+    @DisplayName("buffers items until there is downstream demand.")
+    public void t2() {
+      var up   = new Upstream();
+      var down = new Recorder<Option<Integer>>();
+      var proc = connect(new OptionProcessor<>(OptionPipeline.<Integer>nonNull().map(i -> i * 2)), up, down);
+
+      proc.onNext(Opt.nonNull(1));
+      proc.onNext(Opt.nonNull(2));
+      proc.onComplete();
+
+      assertTrue(down.items.isEmpty());
+      down.subscription.request(1);
+      assertEquals(2, down.items.get(0).unwrap());
+      assertFalse(down.complete);
+      down.subscription.request(1);
+      assertEquals(4, down.items.get(1).unwrap());
+      assertTrue(down.complete);
+    }
+  }
+
+  @Nested
+  @DisplayName("empty options")
+  public class Empties {
+
+    @Test
+    @DisplayName("are forwarded by default.")
+    public void t1() {
+      var up   = new Upstream();
+      var down = new Recorder<Option<Integer>>();
+      var proc = connect(new OptionProcessor<>(OptionPipeline.<Integer>nonNull().filter(i -> i > 1)), up, down);
+
+      down.subscription.request(10);
+      proc.onNext(Opt.nonNull(1));
+      proc.onNext(Opt.nonNull(2));
+
+      assertEquals(2, down.items.size());
+      assertTrue(down.items.get(0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("are dropped without using downstream demand.")
+    public void t2() {
+      var up   = new Upstream();
+      var down = new Recorder<Option<Integer>>();
+      var proc = connect(new OptionProcessor<>(OptionPipeline.<Integer>nonNull().filter(i -> i > 1), EmptySignals.Drop), up, down);
+
+      down.subscription.request(1);
+      proc.onNext(Opt.nonNull(1));
+      proc.onNext(Opt.nonNull());
+      proc.onNext(Opt.nonNull(2));
+
+      assertEquals(1, down.items.size());
+      assertEquals(2, down.items.get(0).unwrap());
+    }
+  }
+
+  @Nested
+  @DisplayName("errors")
+  public class Errors {
+
+    @Test
+    @DisplayName("a failing stage cancels upstream and fails downstream.")
+    public void t1() {
+      var up   = new Upstream();
+      var down = new Recorder<Option<Integer>>();
+      var proc = connect(new OptionProcessor<>(OptionPipeline.<Integer>nonNull().map(i -> 1 / i)), up, down);
+
+      down.subscription.request(10);
+      proc.onNext(Opt.nonNull(0));
+
+      assertTrue(up.cancelled);
+      assertTrue(down.error instanceof ArithmeticException);
+    }
+
+    @Test
+    @DisplayName("a non-positive request fails downstream.")
+    public void t2() {
+      var up   = new Upstream();
+      var down = new Recorder<Option<Integer>>();
+      connect(new OptionProcessor<>(OptionPipeline.<Integer>nonNull()), up, down);
+
+      down.subscription.request(0);
+
+      assertTrue(up.cancelled);
+      assertTrue(down.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    @DisplayName("a second subscriber is rejected.")
+    public void t3() {
+      var proc   = new OptionProcessor<>(OptionPipeline.<Integer>nonNull());
+      var second = new Recorder<Option<Integer>>();
+
+      proc.subscribe(new Recorder<>());
+      proc.subscribe(second);
+
+      assertTrue(second.error instanceof IllegalStateException);
+    }
+  }
+
+  @Nested
+  @DisplayName("#presentValues()")
+  public class PresentValues {
+
+    @Test
+    @DisplayName("publishes only non-null present values.")
+    public void t1() {
+      var up   = new Upstream();
+      var proc = new OptionProcessor<>(OptionPipeline.<String>nullable());
+      var down = new Recorder<String>();
+
+      proc.onSubscribe(up);
+      proc.presentValues().subscribe(down);
+      down.subscription.request(10);
+
+      proc.onNext(Opt.nullable("a"));
+      proc.onNext(Opt.nullable(null));
+      proc.onNext(Opt.nullable());
+      proc.onNext(Opt.nullable("b"));
+      proc.onComplete();
+
+      assertEquals(List.of("a", "b"), down.items);
+      assertTrue(down.complete);
+    }
+  }
+}
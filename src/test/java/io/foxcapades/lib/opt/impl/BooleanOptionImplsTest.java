@@ -0,0 +1,160 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.BooleanOption;
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.UnwrapException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Boolean Option Implementations")
+public class BooleanOptionImplsTest {
+  private static final BooleanOption T = FullBooleanOption.True;
+  private static final BooleanOption F = FullBooleanOption.False;
+  private static final BooleanOption N = NullBooleanOption.instance();
+  private static final BooleanOption E = EmptyBooleanOption.instance();
+
+  private static final BooleanOption[] all = {T, F, N, E};
+
+  private static String name(BooleanOption o) {
+    return o == T ? "T" : o == F ? "F" : o == N ? "N" : "E";
+  }
+
+  private static void check(String op, BooleanOption[][] table, java.util.function.BinaryOperator<BooleanOption> fn) {
+    for (var i = 0; i < all.length; i++)
+      for (var j = 0; j < all.length; j++) {
+        var a = all[i];
+        var b = all[j];
+        assertSame(table[i][j], fn.apply(a, b), () -> name(a) + " " + op + " " + name(b));
+      }
+  }
+
+  @Nested
+  @DisplayName("logic operators")
+  public class Logic {
+
+    @Test
+    @DisplayName("#and(BooleanOption) follows Kleene logic.")
+    public void t1() {
+      check("and", new BooleanOption[][] {
+        //  T  F  N  E
+        {T, F, N, E}, // T
+        {F, F, F, F}, // F
+        {N, F, N, E}, // N
+        {E, F, E, E}, // E
+      }, BooleanOption::and);
+    }
+
+    @Test
+    @DisplayName("#or(BooleanOption) follows Kleene logic.")
+    public void t2() {
+      check("or", new BooleanOption[][] {
+        //  T  F  N  E
+        {T, T, T, T}, // T
+        {T, F, N, E}, // F
+        {T, N, N, E}, // N
+        {T, E, E, E}, // E
+      }, BooleanOption::or);
+    }
+
+    @Test
+    @DisplayName("#xor(BooleanOption) follows Kleene logic.")
+    public void t3() {
+      check("xor", new BooleanOption[][] {
+        //  T  F  N  E
+        {F, T, N, E}, // T
+        {T, F, N, E}, // F
+        {N, N, N, E}, // N
+        {E, E, E, E}, // E
+      }, BooleanOption::xor);
+    }
+
+    @Test
+    @DisplayName("#not() negates known values only.")
+    public void t4() {
+      assertSame(F, T.not());
+      assertSame(T, F.not());
+      assertSame(N, N.not());
+      assertSame(E, E.not());
+    }
+  }
+
+  @Nested
+  @DisplayName("#unwrapBoolean()")
+  public class UnwrapBoolean {
+
+    @Test
+    @DisplayName("returns the wrapped value.")
+    public void t1() {
+      assertTrue(T.unwrapBoolean());
+      assertFalse(F.unwrapBoolean());
+    }
+
+    @Test
+    @DisplayName("throws on null and empty options.")
+    public void t2() {
+      assertThrows(NullPointerException.class, N::unwrapBoolean);
+      assertThrows(UnwrapException.class, E::unwrapBoolean);
+    }
+  }
+
+  @Nested
+  @DisplayName("NullableOption behavior")
+  public class Nullable {
+
+    @Test
+    @DisplayName("reports the expected state.")
+    public void t1() {
+      assertTrue(T.isPresent());
+      assertFalse(T.isNull());
+      assertEquals(Boolean.TRUE, T.unwrap());
+      assertTrue(N.isPresent());
+      assertTrue(N.isNull());
+      assertNull(N.unwrap());
+      assertTrue(E.isEmpty());
+      assertThrows(UnwrapException.class, E::unwrap);
+    }
+
+    @Test
+    @DisplayName("filters to the empty singleton.")
+    public void t2() {
+      assertSame(T, T.filter(b -> b));
+      assertSame(E, F.filter(b -> b));
+      assertSame(E, N.filter(b -> b != null));
+    }
+
+    @Test
+    @DisplayName("maps null results to a null option.")
+    public void t3() {
+      assertTrue(N.map(b -> null).isNull());
+      assertEquals("x", N.map(b -> "x").unwrap());
+      assertTrue(E.map(b -> "x").isEmpty());
+      assertEquals("true", T.map(String::valueOf).unwrap());
+    }
+  }
+
+  @Nested
+  @DisplayName("Opt factory")
+  public class Factory {
+
+    @Test
+    @DisplayName("returns the preallocated instances.")
+    public void t1() {
+      assertSame(T, Opt.nullable(true));
+      assertSame(F, Opt.nullable(Boolean.FALSE));
+      assertSame(T, Opt.nullableBoolean(true));
+      assertSame(N, Opt.nullBoolean());
+      assertSame(E, Opt.nullableBoolean());
+    }
+
+    @Test
+    @DisplayName("converts other nullable options.")
+    public void t2() {
+      assertSame(T, Opt.nullableBoolean(new FullNullableOption<>(true)));
+      assertSame(N, Opt.nullableBoolean(NullOption.instance()));
+      assertSame(E, Opt.nullableBoolean(EmptyNullable.instance()));
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.S;
+import io.foxcapades.lib.opt.UnwrapException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Lazy Option Implementations")
+public class LazyOptionImplsTest {
+
+  @Nested
+  @DisplayName("LazyNullableOption")
+  public class Nullable {
+
+    @Test
+    @DisplayName("calls the supplier once, on first use.")
+    public void t1() {
+      var counter = new S.Counter();
+      var opt     = new LazyNullableOption<>(() -> counter.inc(Opt.nullable("value")));
+
+      assertFalse(opt.isResolved());
+      assertEquals(0, counter.get());
+
+      assertTrue(opt.isPresent());
+      assertEquals("value", opt.unwrap());
+      assertEquals("value", opt.or("other"));
+      assertTrue(opt.isResolved());
+      assertEquals(1, counter.get());
+    }
+
+    @Test
+    @DisplayName("behaves like the null and empty options it resolves to.")
+    public void t2() {
+      var nul   = Opt.lazyNullable(() -> Opt.<String>nullable(null));
+      var empty = Opt.lazyNullable(Opt::<String>nullable);
+
+      assertTrue(nul.isNull());
+      assertNull(nul.unwrap());
+      assertTrue(empty.isEmpty());
+      assertThrows(UnwrapException.class, empty::unwrap);
+    }
+
+    @Test
+    @DisplayName("converts non-null options returned by the supplier.")
+    public void t3() {
+      var opt = Opt.lazyNullable(() -> Opt.nonNull(3));
+
+      assertEquals(3, opt.unwrap());
+      assertSame(EmptyNullable.instance(), ((LazyNullableOption<Integer>) Opt.<Integer>lazyNullable(Opt::nonNull)).resolve());
+    }
+
+    @Test
+    @DisplayName("map, filter and flatMap do not force evaluation.")
+    public void t4() {
+      var counter = new S.Counter();
+      var opt     = Opt.lazyNullable(() -> counter.inc(Opt.nullable(2)));
+
+      var mapped  = opt.map(i -> counter.inc(i * 10));
+      var filter  = mapped.filter(i -> counter.inc(i > 5));
+      var flat    = filter.flatMap(i -> counter.inc(Opt.nonNull("" + i)));
+
+      assertEquals(0, counter.get());
+      assertEquals("20", flat.unwrap());
+      assertEquals(4, counter.get());
+      assertEquals("20", flat.unwrap());
+      assertEquals(4, counter.get());
+    }
+
+    @Test
+    @DisplayName("does not memoize supplier failures.")
+    public void t5() {
+      var counter = new S.Counter();
+      var opt     = Opt.lazyNullable(() -> {
+        counter.inc();
+        if (counter.get() == 1)
+          throw new IllegalStateException();
+        return Opt.nullable("ok");
+      });
+
+      assertThrows(IllegalStateException.class, opt::isPresent);
+      assertEquals("ok", opt.unwrap());
+      assertEquals(2, counter.get());
+    }
+
+    @Test
+    @DisplayName("rejects a null supplier result.")
+    public void t6() {
+      assertThrows(NullPointerException.class, () -> Opt.lazyNullable(() -> null).isPresent());
+    }
+  }
+
+  @Nested
+  @DisplayName("LazyNonNullOption")
+  public class NonNull {
+
+    @Test
+    @DisplayName("converts null options returned by the supplier to empty.")
+    public void t1() {
+      assertTrue(Opt.lazyNonNull(() -> Opt.nullable(null)).isEmpty());
+      assertEquals(1, Opt.lazyNonNull(() -> Opt.nullable(1)).unwrap());
+    }
+
+    @Test
+    @DisplayName("map stays lazy and drops null results.")
+    public void t2() {
+      var counter = new S.Counter();
+      var opt     = Opt.lazyNonNull(() -> counter.inc(Opt.nonNull("a"))).map(s -> null);
+
+      assertEquals(0, counter.get());
+      assertTrue(opt.isEmpty());
+      assertEquals(1, counter.get());
+    }
+
+    @Test
+    @DisplayName("toNullable stays lazy.")
+    public void t3() {
+      var counter = new S.Counter();
+      var opt     = Opt.lazyNonNull(() -> counter.inc(Opt.<String>nonNull())).toNullable(true);
+
+      assertEquals(0, counter.get());
+      assertTrue(opt.isNull());
+    }
+  }
+
+  @Nested
+  @DisplayName("concurrency")
+  public class Concurrency {
+
+    @Test
+    @DisplayName("evaluates the supplier at most once across threads.")
+    public void t1() throws Exception {
+      var calls = new AtomicInteger();
+      var start = new CountDownLatch(1);
+      var opt   = Opt.lazyNullable(() -> Opt.nullable(calls.incrementAndGet()));
+      var pool  = Executors.newFixedThreadPool(8);
+
+      try {
+        var results = new ArrayList<Future<Integer>>();
+
+        for (var i = 0; i < 8; i++)
+          results.add(pool.submit(() -> {
+            start.await();
+            return opt.unwrap();
+          }));
+
+        start.countDown();
+
+        for (var result : results)
+          assertEquals(1, result.get(10, TimeUnit.SECONDS));
+      } finally {
+        pool.shutdown();
+      }
+
+      assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("does not lock the option's monitor during evaluation.")
+    public void t2() throws Exception {
+      var opt = Opt.lazyNullable(() -> Opt.nullable(1));
+
+      synchronized (opt) {
+        var out = CompletableFuture.supplyAsync(opt::unwrap);
+
+        assertEquals(1, out.get(10, TimeUnit.SECONDS));
+      }
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.S;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Option Equality")
+public class OptionEqualityTest {
+
+  @Nested
+  @DisplayName("Option")
+  public class Options {
+
+    @Test
+    @DisplayName("present options wrapping equal values are equal regardless of kind.")
+    public void t1() {
+      var nullable = new FullNullableOption<>("hello");
+      var nonNull  = new FullNonNullOption<>(new String("hello"));
+
+      assertEquals(nullable, nonNull);
+      assertEquals(nonNull, nullable);
+      assertEquals(nullable.hashCode(), nonNull.hashCode());
+      assertNotEquals(nullable, new FullNullableOption<>("goodbye"));
+    }
+
+    @Test
+    @DisplayName("all empty options are equal, and not equal to present options.")
+    public void t2() {
+      var empties = List.of(
+        EmptyNullable.instance(),
+        EmptyNonNull.instance(),
+        EmptyBooleanOption.instance(),
+        Opt.lazyNullable(Opt::nullable)
+      );
+
+      for (var a : empties) {
+        for (var b : empties) {
+          assertEquals(a, b);
+          assertEquals(a.hashCode(), b.hashCode());
+        }
+      }
+
+      assertNotEquals(EmptyNullable.instance(), NullOption.instance());
+      assertNotEquals(EmptyNonNull.instance(), new FullNonNullOption<>(1));
+    }
+
+    @Test
+    @DisplayName("options wrapping null are only equal to other options wrapping null.")
+    public void t3() {
+      assertEquals(NullOption.instance(), NullBooleanOption.instance());
+      assertEquals(NullOption.instance(), new FullNullableOption<>(null));
+      assertEquals(NullOption.instance().hashCode(), NullBooleanOption.instance().hashCode());
+      assertNotEquals(NullOption.instance(), new FullNullableOption<>("null"));
+    }
+
+    @Test
+    @DisplayName("boolean options are equal to other options wrapping the same boolean.")
+    public void t4() {
+      assertEquals(Opt.nullable(true), new FullNonNullOption<>(true));
+      assertEquals(Opt.nullable(true).hashCode(), new FullNonNullOption<>(true).hashCode());
+      assertNotEquals(Opt.nullable(true), Opt.nullable(false));
+    }
+
+    @Test
+    @DisplayName("lazy options compare by their resolved option.")
+    public void t5() {
+      var counter = new S.Counter();
+      var lazy    = Opt.lazyNonNull(() -> Opt.nonNull(counter.inc("hi")));
+
+      assertEquals(new FullNullableOption<>("hi"), lazy);
+      assertEquals(lazy, new FullNullableOption<>("hi"));
+      assertEquals(new FullNullableOption<>("hi").hashCode(), lazy.hashCode());
+      assertEquals(1, counter.get());
+    }
+
+    @Test
+    @DisplayName("can be used as hash keys.")
+    public void t6() {
+      var map = new HashMap<Object, String>();
+
+      map.put(Opt.nullable("a"), "present");
+      map.put(Opt.nullable(null), "null");
+      map.put(Opt.nullable(), "empty");
+
+      assertEquals("present", map.get(Opt.nonNull("a")));
+      assertEquals("null", map.get(NullOption.instance()));
+      assertEquals("empty", map.get(Opt.nonNull()));
+
+      var set = new HashSet<>(List.of(Opt.nullable("a"), Opt.nonNull("a"), Opt.lazyNullable(() -> Opt.nullable("a"))));
+      assertEquals(1, set.size());
+    }
+
+    @Test
+    @DisplayName("describe their kind, state, and value.")
+    public void t7() {
+      assertEquals("NullableOption[hi]", Opt.nullable("hi").toString());
+      assertEquals("NullableOption[null]", Opt.nullable(null).toString());
+      assertEquals("NullableOption.empty", Opt.nullable().toString());
+      assertEquals("NonNullOption[1]", Opt.nonNull(1).toString());
+      assertEquals("NonNullOption.empty", Opt.nonNull().toString());
+      assertEquals("BooleanOption[true]", Opt.nullable(true).toString());
+    }
+  }
+
+  @Nested
+  @DisplayName("Primitive options")
+  public class Primitives {
+
+    @Test
+    @DisplayName("are equal to options of the same value type in the same state.")
+    public void t1() {
+      assertEquals(new FullIntOption(3), new FullNullableIntOption(3));
+      assertEquals(new FullNullableLongOption(3), new FullLongOption(3));
+      assertEquals(EmptyIntOption.instance(), EmptyNullableIntOption.instance());
+      assertEquals(NullLongOption.instance(), NullLongOption.instance());
+
+      assertNotEquals(new FullIntOption(3), new FullIntOption(4));
+      assertNotEquals(new FullIntOption(3), new FullLongOption(3));
+      assertNotEquals(NullIntOption.instance(), EmptyNullableIntOption.instance());
+      assertNotEquals(EmptyDoubleOption.instance(), NullDoubleOption.instance());
+    }
+
+    @Test
+    @DisplayName("compare doubles as Double.equals does.")
+    public void t2() {
+      assertEquals(new FullDoubleOption(Double.NaN), new FullNullableDoubleOption(Double.NaN));
+      assertNotEquals(new FullDoubleOption(0.0), new FullDoubleOption(-0.0));
+    }
+
+    @Test
+    @DisplayName("have the same hash codes as their boxed forms.")
+    public void t3() {
+      assertEquals(new FullIntOption(3).boxed().hashCode(), new FullIntOption(3).hashCode());
+      assertEquals(new FullLongOption(1L << 40).boxed().hashCode(), new FullLongOption(1L << 40).hashCode());
+      assertEquals(new FullDoubleOption(1.5).boxed().hashCode(), new FullDoubleOption(1.5).hashCode());
+      assertEquals(NullIntOption.instance().boxed().hashCode(), NullIntOption.instance().hashCode());
+      assertEquals(EmptyLongOption.instance().boxed().hashCode(), EmptyLongOption.instance().hashCode());
+    }
+
+    @Test
+    @DisplayName("describe their kind, state, and value.")
+    public void t4() {
+      assertEquals("IntOption[3]", new FullIntOption(3).toString());
+      assertEquals("NullableLongOption[null]", NullLongOption.instance().toString());
+      assertEquals("DoubleOption.empty", EmptyDoubleOption.instance().toString());
+    }
+  }
+}
@@ -0,0 +1,237 @@
+package io.foxcapades.lib.opt.impl;
+
+import io.foxcapades.lib.opt.Opt;
+import io.foxcapades.lib.opt.S;
+import io.foxcapades.lib.opt.UnwrapException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Primitive Option Implementations")
+public class PrimitiveOptionImplsTest {
+
+  @Nested
+  @DisplayName("IntOption")
+  public class Int {
+
+    @Test
+    @DisplayName("full options unwrap to the wrapped value.")
+    public void t1() {
+      var opt = new FullIntOption(3);
+
+      assertTrue(opt.isPresent());
+      assertFalse(opt.isEmpty());
+      assertEquals(3, opt.unwrap());
+      assertEquals(3, opt.or(4));
+      assertEquals(3, opt.orGet(() -> 4));
+      assertEquals(3, opt.orThrow(new RuntimeException()));
+      assertTrue(opt.valueEquals(3));
+    }
+
+    @Test
+    @DisplayName("empty options return fallback values.")
+    public void t2() {
+      var opt = EmptyIntOption.instance();
+
+      assertFalse(opt.isPresent());
+      assertTrue(opt.isEmpty());
+      assertEquals(4, opt.or(4));
+      assertEquals(4, opt.orGet(() -> 4));
+      assertFalse(opt.valueEquals(0));
+    }
+
+    @Test
+    @DisplayName("empty options throw an UnwrapException on unwrap.")
+    public void t3() {
+      var err = assertThrows(UnwrapException.class, () -> EmptyIntOption.instance().unwrap());
+      assertSame(EmptyNonNull.instance(), err.getOption());
+    }
+
+    @Test
+    @DisplayName("map and filter only call their functions on full options.")
+    public void t4() {
+      var counter = new S.Counter();
+
+      assertEquals(6, new FullIntOption(3).map(i -> i * 2).unwrap());
+      assertTrue(new FullIntOption(3).filter(i -> i > 5).isEmpty());
+      assertSame(EmptyIntOption.instance(), EmptyIntOption.instance().map(i -> counter.inc(i)));
+      assertSame(EmptyIntOption.instance(), EmptyIntOption.instance().filter(i -> counter.inc(true)));
+      assertEquals(0, counter.get());
+    }
+
+    @Test
+    @DisplayName("mapToObj converts null results to an empty option.")
+    public void t5() {
+      assertEquals("3", new FullIntOption(3).mapToObj(String::valueOf).unwrap());
+      assertTrue(new FullIntOption(3).mapToObj(i -> null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("stream contains zero or one values.")
+    public void t6() {
+      assertArrayEquals(new int[]{3}, new FullIntOption(3).stream().toArray());
+      assertEquals(0, EmptyIntOption.instance().stream().count());
+    }
+
+    @Test
+    @DisplayName("boxed returns an option in the same state.")
+    public void t7() {
+      assertEquals(3, new FullIntOption(3).boxed().unwrap());
+      assertSame(EmptyNonNull.instance(), EmptyIntOption.instance().boxed());
+    }
+
+    @Test
+    @DisplayName("with calls exactly one of the given functions.")
+    public void t8() {
+      var counter = new S.Counter();
+
+      new FullIntOption(3).with(i -> counter.inc(), () -> fail("ifEmpty called"));
+      EmptyIntOption.instance().with(i -> fail("ifPresent called"), counter::inc);
+
+      assertEquals(2, counter.get());
+    }
+  }
+
+  @Nested
+  @DisplayName("LongOption")
+  public class Long {
+
+    @Test
+    @DisplayName("full and empty options behave as expected.")
+    public void t1() {
+      assertEquals(5L, new FullLongOption(5L).map(l -> l + 1).or(0L) - 1);
+      assertEquals(7L, EmptyLongOption.instance().or(7L));
+      assertThrows(UnwrapException.class, () -> EmptyLongOption.instance().unwrap());
+      assertEquals(1, new FullLongOption(5L).stream().count());
+    }
+  }
+
+  @Nested
+  @DisplayName("DoubleOption")
+  public class Double {
+
+    @Test
+    @DisplayName("full and empty options behave as expected.")
+    public void t1() {
+      assertEquals(2.5, new FullDoubleOption(1.25).map(d -> d * 2).unwrap());
+      assertTrue(new FullDoubleOption(java.lang.Double.NaN).valueEquals(java.lang.Double.NaN));
+      assertEquals(7.0, EmptyDoubleOption.instance().orGet(() -> 7.0));
+      assertThrows(UnwrapException.class, () -> EmptyDoubleOption.instance().unwrap());
+    }
+  }
+
+  @Nested
+  @DisplayName("NullableIntOption")
+  public class NullableInt {
+
+    @Test
+    @DisplayName("distinguishes the empty, null and present states.")
+    public void t1() {
+      var full  = new FullNullableIntOption(3);
+      var nul   = NullIntOption.instance();
+      var empty = EmptyNullableIntOption.instance();
+
+      assertTrue(full.isPresent());
+      assertFalse(full.isNull());
+      assertTrue(nul.isPresent());
+      assertTrue(nul.isNull());
+      assertTrue(empty.isEmpty());
+      assertFalse(empty.isNull());
+    }
+
+    @Test
+    @DisplayName("unwrap throws on the empty and null states.")
+    public void t2() {
+      assertEquals(3, new FullNullableIntOption(3).unwrap());
+      assertThrows(NullPointerException.class, () -> NullIntOption.instance().unwrap());
+
+      var err = assertThrows(UnwrapException.class, () -> EmptyNullableIntOption.instance().unwrap());
+      assertSame(EmptyNullable.instance(), err.getOption());
+    }
+
+    @Test
+    @DisplayName("or returns the fallback for the empty and null states.")
+    public void t3() {
+      assertEquals(3, new FullNullableIntOption(3).or(4));
+      assertEquals(4, NullIntOption.instance().or(4));
+      assertEquals(4, EmptyNullableIntOption.instance().orGet(() -> 4));
+    }
+
+    @Test
+    @DisplayName("map and filter leave the empty and null states unchanged.")
+    public void t4() {
+      assertEquals(4, new FullNullableIntOption(3).map(i -> i + 1).unwrap());
+      assertSame(NullIntOption.instance(), NullIntOption.instance().map(i -> i + 1));
+      assertSame(NullIntOption.instance(), NullIntOption.instance().filter(i -> false));
+      assertTrue(new FullNullableIntOption(3).filter(i -> false).isEmpty());
+      assertTrue(NullIntOption.instance().mapToObj(String::valueOf).isNull());
+    }
+
+    @Test
+    @DisplayName("ifNull is only called on the null state.")
+    public void t5() {
+      var counter = new S.Counter();
+
+      NullIntOption.instance().ifNull(counter::inc);
+      new FullNullableIntOption(3).ifNull(counter::inc);
+      EmptyNullableIntOption.instance().ifNull(counter::inc);
+
+      assertEquals(1, counter.get());
+    }
+
+    @Test
+    @DisplayName("toNonNullable converts the null state to empty.")
+    public void t6() {
+      assertSame(EmptyIntOption.instance(), NullIntOption.instance().toNonNullable());
+      assertEquals(3, new FullNullableIntOption(3).toNonNullable().unwrap());
+    }
+
+    @Test
+    @DisplayName("converts to and from boxed options.")
+    public void t7() {
+      assertSame(NullOption.instance(), NullIntOption.instance().boxed());
+      assertSame(EmptyNullable.instance(), EmptyNullableIntOption.instance().boxed());
+      assertEquals(3, new FullNullableIntOption(3).boxed().unwrap());
+
+      assertSame(NullIntOption.instance(), Opt.nullableInt(Opt.nullable((Integer) null)));
+      assertSame(EmptyNullableIntOption.instance(), Opt.nullableInt(Opt.<Integer>nullable()));
+      assertEquals(3, Opt.nullableInt(Opt.nullable(3)).unwrap());
+    }
+  }
+
+  @Nested
+  @DisplayName("NullableLongOption and NullableDoubleOption")
+  public class NullableLongDouble {
+
+    @Test
+    @DisplayName("round trip through their boxed forms.")
+    public void t1() {
+      assertEquals(5L, Opt.nullableLong(Opt.nullableLong(5L).boxed()).unwrap());
+      assertTrue(Opt.nullableDouble(Opt.nullDouble().boxed()).isNull());
+      assertTrue(Opt.nullableDouble(Opt.nullableDouble().boxed()).isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("Opt factory")
+  public class Factory {
+
+    @Test
+    @DisplayName("returns the shared empty singletons.")
+    public void t1() {
+      assertSame(EmptyIntOption.instance(), Opt.nonNullInt());
+      assertSame(EmptyLongOption.instance(), Opt.nonNullLong());
+      assertSame(EmptyDoubleOption.instance(), Opt.nonNullDouble());
+    }
+
+    @Test
+    @DisplayName("returns full options wrapping the given values.")
+    public void t2() {
+      assertEquals(1, Opt.nonNullInt(1).unwrap());
+      assertEquals(2L, Opt.nonNullLong(2L).unwrap());
+      assertEquals(3.0, Opt.nonNullDouble(3.0).unwrap());
+    }
+  }
+}
@@ -0,0 +1,247 @@
+package io.foxcapades.lib.opt.json;
+
+import io.foxcapades.lib.opt.NullableOption;
+import io.foxcapades.lib.opt.Opt;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JSON")
+public class JsonTest {
+
+  private static final String Doc = "{ \"s\": \"a\\\"\\u00e9\\n😀\", \"n\": -12.5e1, \"b\": true, \"z\": null,\n"
+    + "  \"a\": [1, [], {}, \"x\"] }";
+
+  private static List<JsonReader> readers(String json) {
+    var bytes  = json.getBytes(StandardCharsets.UTF_8);
+    var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+    return List.of(
+      JsonReader.of(json),
+      JsonReader.of(new StringReader(json)),
+      JsonReader.of(ByteBuffer.wrap(bytes)),
+      JsonReader.of(direct)
+    );
+  }
+
+  static final class Patch {
+    NullableOption<String> name;
+    NullableOption<Integer> age;
+    NullableOption<List<String>> tags;
+  }
+
+  private static final JsonObjectCodec<Patch> PatchCodec = JsonObjectCodec.builder(Patch::new)
+    .field("name", JsonCodecs.strings(), p -> p.name, (p, v) -> p.name = v)
+    .field("age", JsonCodecs.ints(), p -> p.age, (p, v) -> p.age = v)
+    .field("tags", JsonCodecs.lists(JsonCodecs.strings()), p -> p.tags, (p, v) -> p.tags = v)
+    .build();
+
+  @Nested
+  @DisplayName("JsonReader")
+  public class Reader {
+
+    @Test
+    @DisplayName("reads the same tokens from every kind of input.")
+    public void t1() {
+      for (var in : readers(Doc)) {
+        in.beginObject();
+
+        assertEquals("s", in.nextName());
+        assertEquals("a\"é\n😀", in.nextString());
+        assertEquals("n", in.nextName());
+        assertEquals(-125, in.nextInt());
+        assertEquals("b", in.nextName());
+        assertTrue(in.nextBoolean());
+        assertEquals("z", in.nextName());
+        assertEquals(JsonToken.Null, in.peek());
+        in.nextNull();
+        assertEquals("a", in.nextName());
+
+        in.beginArray();
+        assertEquals(1L, in.nextLong());
+        in.skipValue();
+        in.skipValue();
+        assertEquals("x", in.nextString());
+        assertFalse(in.hasNext());
+        in.endArray();
+
+        in.endObject();
+        assertEquals(JsonToken.EndDocument, in.peek());
+      }
+    }
+
+    @Test
+    @DisplayName("reads values and nulls into nullable options.")
+    public void t2() {
+      var in = JsonReader.of("[null, \"v\"]");
+
+      in.beginArray();
+      assertTrue(in.nextNullable(JsonCodecs.strings()).isNull());
+      assertEquals(Opt.nullable("v"), in.nextNullable(JsonCodecs.strings()));
+      in.endArray();
+    }
+
+    @Test
+    @DisplayName("rejects malformed input with the offset of the problem.")
+    public void t3() {
+      for (var json : List.of("", "[1,]", "{\"a\" 1}", "01", "1.", "-", "tru", "nulls", "\"a", "\"\t\"", "{,}", "\"\\x\"", "[1 2]")) {
+        var e = assertThrows(JsonException.class, () -> JsonReader.of(json).skipValue(), json);
+        assertTrue(e.getOffset() >= 0, json);
+      }
+
+      var e = assertThrows(JsonException.class, () -> JsonReader.of("[true, nul]").skipValue());
+      assertEquals(10, e.getOffset());
+    }
+
+    @Test
+    @DisplayName("accepts only ASCII hex digits in unicode escapes.")
+    public void t7() {
+      assertEquals("A\u00ff", JsonReader.of("\"\\u0041\\u00fF\"").nextString());
+      assertThrows(JsonException.class, () -> JsonReader.of("\"\\u\u0660\u0660\u0664\u0661\"").nextString());
+    }
+
+    @Test
+    @DisplayName("rejects trailing data after the top level value.")
+    public void t4() {
+      var in = JsonReader.of("{} {}");
+
+      in.skipValue();
+      assertThrows(JsonException.class, in::peek);
+    }
+
+    @Test
+    @DisplayName("rejects reads of the wrong token or an out of range number.")
+    public void t5() {
+      assertThrows(JsonException.class, () -> JsonReader.of("\"1\"").nextInt());
+      assertThrows(JsonException.class, () -> JsonReader.of("2147483648").nextInt());
+      assertThrows(JsonException.class, () -> JsonReader.of("9223372036854775808").nextLong());
+      assertThrows(JsonException.class, () -> JsonReader.of("1.5").nextLong());
+      assertEquals(1000, JsonReader.of("1e3").nextInt());
+      assertEquals(Long.MIN_VALUE, JsonReader.of("-9223372036854775808").nextLong());
+    }
+
+    @Test
+    @DisplayName("rejects malformed UTF-8 byte input.")
+    public void t6() {
+      var buf = ByteBuffer.wrap(new byte[]{ '"', 'a', (byte) 0xC3, '"' });
+      var e   = assertThrows(JsonException.class, () -> JsonReader.of(buf).nextString());
+
+      assertEquals(2, e.getOffset());
+    }
+  }
+
+  @Nested
+  @DisplayName("JsonWriter")
+  public class Writer {
+
+    @Test
+    @DisplayName("writes compact JSON with escaped strings.")
+    public void t1() {
+      var out = new StringBuilder();
+
+      JsonWriter.of(out)
+        .beginObject()
+        .name("s").value("q\"\\\n\u0001é")
+        .name("a").beginArray().value(1).value(2.5).value(false).nullValue().endArray()
+        .name("o").beginObject().endObject()
+        .endObject();
+
+      assertEquals("{\"s\":\"q\\\"\\\\\\n\\u0001é\",\"a\":[1,2.5,false,null],\"o\":{}}", out.toString());
+    }
+
+    @Test
+    @DisplayName("omits empty options and writes null options as null.")
+    public void t2() {
+      var out = new StringBuilder();
+
+      JsonWriter.of(out)
+        .beginObject()
+        .field("a", Opt.nullable(), JsonCodecs.ints())
+        .field("b", Opt.nullable(null), JsonCodecs.ints())
+        .field("c", Opt.nonNull(3), JsonCodecs.ints())
+        .field("d", Opt.nonNull(), JsonCodecs.ints())
+        .endObject();
+
+      assertEquals("{\"b\":null,\"c\":3}", out.toString());
+    }
+
+    @Test
+    @DisplayName("rejects output that would not be valid JSON.")
+    public void t3() {
+      assertThrows(JsonException.class, () -> JsonWriter.of(new StringBuilder()).beginObject().value(1));
+      assertThrows(JsonException.class, () -> JsonWriter.of(new StringBuilder()).beginArray().name("a"));
+      assertThrows(JsonException.class, () -> JsonWriter.of(new StringBuilder()).beginArray().endObject());
+      assertThrows(JsonException.class, () -> JsonWriter.of(new StringBuilder()).beginObject().name("a").endObject());
+      assertThrows(JsonException.class, () -> JsonWriter.of(new StringBuilder()).value(1).value(2));
+      assertThrows(JsonException.class, () -> JsonWriter.of(new StringBuilder()).value(Double.NaN));
+    }
+  }
+
+  @Nested
+  @DisplayName("JsonObjectCodec")
+  public class ObjectCodec {
+
+    @Test
+    @DisplayName("reads missing members as empty and null members as null.")
+    public void t1() {
+      for (var in : readers("{\"age\": null, \"extra\": {\"x\": [1]}, \"name\": \"fox\"}")) {
+        var patch = PatchCodec.read(in);
+
+        assertEquals(Opt.nullable("fox"), patch.name);
+        assertTrue(patch.age.isNull());
+        assertTrue(patch.tags.isEmpty());
+      }
+    }
+
+    @Test
+    @DisplayName("round trips all three option states.")
+    public void t2() {
+      var patch = new Patch();
+      patch.name = Opt.nullable();
+      patch.age  = Opt.nullable(null);
+      patch.tags = Opt.nullable(List.of("a", "b"));
+
+      var out = new StringBuilder();
+      PatchCodec.write(patch, JsonWriter.of(out));
+
+      assertEquals("{\"age\":null,\"tags\":[\"a\",\"b\"]}", out.toString());
+
+      var back = PatchCodec.read(JsonReader.of(out));
+
+      assertTrue(back.name.isEmpty());
+      assertTrue(back.age.isNull());
+      assertEquals(List.of("a", "b"), back.tags.unwrap());
+    }
+
+    @Test
+    @DisplayName("keeps the last value of a repeated member.")
+    public void t3() {
+      var calls = new int[1];
+      var codec = JsonObjectCodec.builder(Patch::new)
+        .field("age", JsonCodecs.ints(), p -> p.age, (p, v) -> { p.age = v; calls[0]++; })
+        .build();
+
+      var patch = codec.read(JsonReader.of("{\"age\": 1, \"age\": 2}"));
+
+      assertEquals(2, patch.age.unwrap());
+      assertEquals(1, calls[0]);
+    }
+
+    @Test
+    @DisplayName("rejects duplicate member names when building.")
+    public void t4() {
+      var builder = JsonObjectCodec.builder(Patch::new)
+        .field("a", JsonCodecs.strings(), p -> p.name, (p, v) -> p.name = v);
+
+      assertThrows(IllegalArgumentException.class,
+        () -> builder.field("a", JsonCodecs.strings(), p -> p.name, (p, v) -> p.name = v));
+    }
+  }
+}